@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.backtest.BacktestExecutor;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.reports.TradingStatement;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+
+/**
+ * Measures {@link BacktestExecutor#execute(List, org.ta4j.core.num.Num)} over a
+ * range of moving average crossover strategies, including the generation of the
+ * trading statements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class BacktestExecutorBenchmark {
+
+    @Param({ BenchmarkSeries.BARS_10K, BenchmarkSeries.BARS_100K })
+    public int barCount;
+
+    @Param({ BenchmarkSeries.DOUBLE_NUM, BenchmarkSeries.DECIMAL_NUM, BenchmarkSeries.FIXED_POINT_NUM })
+    public String numType;
+
+    @Param({ "10", "100" })
+    public int strategyCount;
+
+    private BarSeries series;
+
+    @Setup
+    public void setUp() {
+        series = BenchmarkSeries.randomWalk(barCount, BenchmarkSeries.numFactory(numType));
+    }
+
+    @Benchmark
+    public List<TradingStatement> execute() {
+        var closePrice = new ClosePriceIndicator(series);
+        var strategies = new ArrayList<Strategy>(strategyCount);
+        for (int i = 0; i < strategyCount; i++) {
+            var shortSma = new SMAIndicator(closePrice, 5 + i % 10);
+            var longSma = new SMAIndicator(closePrice, 20 + i);
+            strategies.add(new BaseStrategy("sma_" + i, new CrossedUpIndicatorRule(shortSma, longSma),
+                    new CrossedDownIndicatorRule(shortSma, longSma)));
+        }
+        return new BacktestExecutor(series).execute(strategies, series.numFactory().hundred());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.FixedPointNumFactory;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Generates reproducible bar series for the benchmarks.
+ *
+ * <p>
+ * The series is a seeded random walk of one-minute bars, so that every run (and
+ * every fork) measures exactly the same data.
+ */
+final class BenchmarkSeries {
+
+    /** Fixed seed to keep the generated data identical between runs. */
+    static final long SEED = 42L;
+
+    /** Default series sizes used by the {@code barCount} parameters. */
+    static final String BARS_1K = "1000";
+    static final String BARS_10K = "10000";
+    static final String BARS_100K = "100000";
+    static final String BARS_1M = "1000000";
+
+    /** Names of the {@code numType} parameter values. */
+    static final String DOUBLE_NUM = "DoubleNum";
+    static final String DECIMAL_NUM = "DecimalNum";
+    static final String FIXED_POINT_NUM = "FixedPointNum";
+
+    private static final Instant START = Instant.parse("2000-01-03T00:00:00Z");
+    private static final Duration PERIOD = Duration.ofMinutes(1);
+
+    private BenchmarkSeries() {
+    }
+
+    /**
+     * @param numType {@link #DOUBLE_NUM}, {@link #DECIMAL_NUM} or
+     *                {@link #FIXED_POINT_NUM}
+     * @return the corresponding num factory
+     */
+    static NumFactory numFactory(String numType) {
+        return switch (numType) {
+        case DOUBLE_NUM -> DoubleNumFactory.getInstance();
+        case DECIMAL_NUM -> DecimalNumFactory.getInstance();
+        case FIXED_POINT_NUM -> FixedPointNumFactory.getInstance();
+        default -> throw new IllegalArgumentException("Unknown num type: " + numType);
+        };
+    }
+
+    /**
+     * Builds a random walk bar series.
+     *
+     * @param barCount   the number of bars
+     * @param numFactory the num factory of the series
+     * @return the bar series
+     */
+    static BarSeries randomWalk(int barCount, NumFactory numFactory) {
+        var series = new BaseBarSeriesBuilder().withName("benchmark_" + barCount).withNumFactory(numFactory).build();
+        var random = new SplittableRandom(SEED);
+        double close = 100;
+        for (int i = 0; i < barCount; i++) {
+            double open = close;
+            close = Math.max(1, open + random.nextDouble(-1, 1));
+            double high = Math.max(open, close) + random.nextDouble(0, 0.5);
+            double low = Math.min(open, close) - random.nextDouble(0, 0.5);
+            double volume = random.nextDouble(100, 10_000);
+            series.barBuilder()
+                    .timePeriod(PERIOD)
+                    .endTime(START.plus(PERIOD.multipliedBy(i + 1L)))
+                    .openPrice(round(open))
+                    .highPrice(round(high))
+                    .lowPrice(round(low))
+                    .closePrice(round(close))
+                    .volume(round(volume))
+                    .amount(round(volume * close))
+                    .trades(1 + random.nextInt(100))
+                    .add();
+        }
+        return series;
+    }
+
+    /** Rounds to four decimal places, like typical exchange prices. */
+    private static double round(double value) {
+        return Math.round(value * 10_000) / 10_000d;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.utils.DoubleIndicatorUtils;
+
+/**
+ * Measures the full-series primitive implementations of
+ * {@link DoubleIndicatorUtils}, to be compared with the {@code DoubleNum} runs
+ * of the {@link IndicatorBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DoubleIndicatorBenchmark {
+
+    @Param({ BenchmarkSeries.BARS_1K, BenchmarkSeries.BARS_10K, BenchmarkSeries.BARS_100K, BenchmarkSeries.BARS_1M })
+    public int barCount;
+
+    private BarSeries series;
+    private double[] close;
+
+    @Setup
+    public void setUp() {
+        series = BenchmarkSeries.randomWalk(barCount, BenchmarkSeries.numFactory(BenchmarkSeries.DOUBLE_NUM));
+        close = DoubleIndicatorUtils.closePrices(series);
+    }
+
+    @Benchmark
+    public double[] closePrices() {
+        return DoubleIndicatorUtils.closePrices(series);
+    }
+
+    @Benchmark
+    public double[] sma() {
+        return DoubleIndicatorUtils.sma(close, 50);
+    }
+
+    @Benchmark
+    public double[] ema() {
+        return DoubleIndicatorUtils.ema(close, 50);
+    }
+
+    @Benchmark
+    public double[] wma() {
+        return DoubleIndicatorUtils.wma(close, 50);
+    }
+
+    @Benchmark
+    public double[] gains() {
+        return DoubleIndicatorUtils.gains(close);
+    }
+}
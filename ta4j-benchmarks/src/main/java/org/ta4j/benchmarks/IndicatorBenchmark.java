@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.MACDIndicator;
+import org.ta4j.core.indicators.ParabolicSarIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.adx.ADXIndicator;
+import org.ta4j.core.indicators.averages.EMAIndicator;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsMiddleIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Measures the time to calculate a freshly built indicator over the whole
+ * series, i.e. a cold cache walked from the first to the last bar as done by a
+ * backtest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndicatorBenchmark {
+
+    @Param({ BenchmarkSeries.BARS_1K, BenchmarkSeries.BARS_10K, BenchmarkSeries.BARS_100K, BenchmarkSeries.BARS_1M })
+    public int barCount;
+
+    @Param({ BenchmarkSeries.DOUBLE_NUM, BenchmarkSeries.DECIMAL_NUM, BenchmarkSeries.FIXED_POINT_NUM })
+    public String numType;
+
+    private BarSeries series;
+
+    @Setup
+    public void setUp() {
+        series = BenchmarkSeries.randomWalk(barCount, BenchmarkSeries.numFactory(numType));
+    }
+
+    @Benchmark
+    public void closePrice(Blackhole bh) {
+        consume(new ClosePriceIndicator(series), bh);
+    }
+
+    @Benchmark
+    public void sma(Blackhole bh) {
+        consume(new SMAIndicator(new ClosePriceIndicator(series), 50), bh);
+    }
+
+    @Benchmark
+    public void ema(Blackhole bh) {
+        consume(new EMAIndicator(new ClosePriceIndicator(series), 50), bh);
+    }
+
+    @Benchmark
+    public void rsi(Blackhole bh) {
+        consume(new RSIIndicator(new ClosePriceIndicator(series), 14), bh);
+    }
+
+    @Benchmark
+    public void macd(Blackhole bh) {
+        consume(new MACDIndicator(new ClosePriceIndicator(series), 12, 26), bh);
+    }
+
+    @Benchmark
+    public void bollingerUpper(Blackhole bh) {
+        var closePrice = new ClosePriceIndicator(series);
+        var middle = new BollingerBandsMiddleIndicator(new SMAIndicator(closePrice, 20));
+        var deviation = new StandardDeviationIndicator(closePrice, 20);
+        consume(new BollingerBandsUpperIndicator(middle, deviation), bh);
+    }
+
+    @Benchmark
+    public void adx(Blackhole bh) {
+        consume(new ADXIndicator(series, 14), bh);
+    }
+
+    @Benchmark
+    public void parabolicSar(Blackhole bh) {
+        consume(new ParabolicSarIndicator(series), bh);
+    }
+
+    private void consume(Indicator<Num> indicator, Blackhole bh) {
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            bh.consume(indicator.getValue(i));
+        }
+    }
+}
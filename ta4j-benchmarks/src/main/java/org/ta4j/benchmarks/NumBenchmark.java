@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Compares the arithmetic of the {@link Num} implementations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumBenchmark {
+
+    @Param({ BenchmarkSeries.DOUBLE_NUM, BenchmarkSeries.DECIMAL_NUM, BenchmarkSeries.FIXED_POINT_NUM })
+    public String numType;
+
+    private NumFactory numFactory;
+    private Num a;
+    private Num b;
+    private Num fraction;
+
+    @Setup
+    public void setUp() {
+        numFactory = BenchmarkSeries.numFactory(numType);
+        a = numFactory.numOf("101.2345");
+        b = numFactory.numOf("99.8765");
+        fraction = numFactory.numOf("0.25");
+    }
+
+    @Benchmark
+    public Num plus() {
+        return a.plus(b);
+    }
+
+    @Benchmark
+    public Num multipliedBy() {
+        return a.multipliedBy(b);
+    }
+
+    @Benchmark
+    public Num dividedBy() {
+        return a.dividedBy(b);
+    }
+
+    @Benchmark
+    public Num sqrt() {
+        return a.sqrt();
+    }
+
+    @Benchmark
+    public Num log() {
+        return a.log();
+    }
+
+    @Benchmark
+    public Num pow() {
+        return a.pow(2);
+    }
+
+    @Benchmark
+    public Num powFractional() {
+        return a.pow(fraction);
+    }
+
+    @Benchmark
+    public boolean isGreaterThan() {
+        return a.isGreaterThan(b);
+    }
+
+    @Benchmark
+    public Num numOfInt() {
+        return numFactory.numOf(14);
+    }
+}
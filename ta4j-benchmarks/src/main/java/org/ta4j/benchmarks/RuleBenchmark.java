@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.backtest.BarSeriesManager;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.rules.AverageTrueRangeTrailingStopLossRule;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.rules.StopGainRule;
+import org.ta4j.core.rules.StopLossRule;
+import org.ta4j.core.rules.TrailingStopLossRule;
+
+/**
+ * Measures rule evaluation, both standalone (without an open position) and as
+ * part of a full {@link BarSeriesManager#run(Strategy)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RuleBenchmark {
+
+    @Param({ BenchmarkSeries.BARS_1K, BenchmarkSeries.BARS_10K, BenchmarkSeries.BARS_100K, BenchmarkSeries.BARS_1M })
+    public int barCount;
+
+    @Param({ BenchmarkSeries.DOUBLE_NUM, BenchmarkSeries.DECIMAL_NUM, BenchmarkSeries.FIXED_POINT_NUM })
+    public String numType;
+
+    private BarSeries series;
+
+    @Setup
+    public void setUp() {
+        series = BenchmarkSeries.randomWalk(barCount, BenchmarkSeries.numFactory(numType));
+    }
+
+    @Benchmark
+    public void crossedUpRule(Blackhole bh) {
+        var closePrice = new ClosePriceIndicator(series);
+        var rule = new CrossedUpIndicatorRule(new SMAIndicator(closePrice, 10), new SMAIndicator(closePrice, 50));
+        var tradingRecord = new BaseTradingRecord();
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            bh.consume(rule.isSatisfied(i, tradingRecord));
+        }
+    }
+
+    @Benchmark
+    public void smaCrossoverWithStops(Blackhole bh) {
+        var closePrice = new ClosePriceIndicator(series);
+        var shortSma = new SMAIndicator(closePrice, 10);
+        var longSma = new SMAIndicator(closePrice, 50);
+        Rule entry = new CrossedUpIndicatorRule(shortSma, longSma);
+        Rule exit = new CrossedDownIndicatorRule(shortSma, longSma).or(new StopLossRule(closePrice, 3))
+                .or(new StopGainRule(closePrice, 5));
+        bh.consume(new BarSeriesManager(series).run(new BaseStrategy(entry, exit)));
+    }
+
+    @Benchmark
+    public void trailingStopLoss(Blackhole bh) {
+        var closePrice = new ClosePriceIndicator(series);
+        Rule entry = new CrossedUpIndicatorRule(new SMAIndicator(closePrice, 10), new SMAIndicator(closePrice, 50));
+        Rule exit = new TrailingStopLossRule(closePrice, series.numFactory().numOf(5));
+        bh.consume(new BarSeriesManager(series).run(new BaseStrategy(entry, exit)));
+    }
+
+    @Benchmark
+    public void averageTrueRangeTrailingStopLoss(Blackhole bh) {
+        var closePrice = new ClosePriceIndicator(series);
+        Rule entry = new CrossedUpIndicatorRule(new SMAIndicator(closePrice, 10), new SMAIndicator(closePrice, 50));
+        Rule exit = new AverageTrueRangeTrailingStopLossRule(series, 14, 3);
+        bh.consume(new BarSeriesManager(series).run(new BaseStrategy(entry, exit)));
+    }
+}
@@ -24,9 +24,13 @@
 package org.ta4j.core;
 
 import java.util.List;
+import java.util.function.Function;
 
 import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.backtest.BarSeriesManager;
+import org.ta4j.core.backtest.BestStrategySearch;
+import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
 
 /**
@@ -61,6 +65,20 @@ public interface AnalysisCriterion {
      */
     Num calculate(BarSeries series, TradingRecord tradingRecord);
 
+    /**
+     * Calculates the criterion from a shared {@link AnalysisContext}. Criteria
+     * which rely on the cash flow, the returns or the values of other criteria
+     * should override this method to read them from the context instead of
+     * recalculating them.
+     *
+     * @param context the analysis context of a trading record, not null
+     * @return the criterion value for the positions
+     * @see AnalysisContext#calculate(List)
+     */
+    default Num calculate(AnalysisContext context) {
+        return calculate(context.getBarSeries(), context.getTradingRecord());
+    }
+
     /**
      * @param manager    the bar series manager with entry type of BUY
      * @param strategies a list of strategies
@@ -82,7 +100,7 @@ public interface AnalysisCriterion {
     default Strategy chooseBest(BarSeriesManager manager, TradeType tradeType, List<Strategy> strategies) {
 
         Strategy bestStrategy = strategies.get(0);
-        Num bestCriterionValue = calculate(manager.getBarSeries(), manager.run(bestStrategy));
+        Num bestCriterionValue = calculate(manager.getBarSeries(), manager.run(bestStrategy, tradeType));
 
         for (int i = 1; i < strategies.size(); i++) {
             Strategy currentStrategy = strategies.get(i);
@@ -97,6 +115,54 @@ public interface AnalysisCriterion {
         return bestStrategy;
     }
 
+    /**
+     * Runs the strategies concurrently and returns the {@code count} best ones.
+     * Runs which cannot end up among them (see
+     * {@link #calculateBestPossibleValue(BarSeries, TradingRecord)}) are abandoned
+     * early.
+     *
+     * @param manager    the bar series manager
+     * @param tradeType  the entry type (BUY or SELL) of the first trade in the
+     *                   trading session
+     * @param strategies a list of strategies
+     * @param count      the maximum number of strategies to return
+     * @return the best strategies (among the provided ones) according to the
+     *         criterion, the best one first
+     * @see BestStrategySearch
+     */
+    default List<Strategy> chooseBest(BarSeriesManager manager, TradeType tradeType, List<Strategy> strategies,
+            int count) {
+        return new BestStrategySearch(manager, this).search(tradeType, strategies, count);
+    }
+
+    /**
+     * Calculates the best value the criterion can still reach for a trading record
+     * which is still being recorded, whatever trades are added to it later. It
+     * allows to abandon backtests which cannot beat the strategies found so far.
+     *
+     * @param series        the bar series, not null
+     * @param tradingRecord the trading record recorded so far, not null
+     * @return the best reachable criterion value, or {@link NaN#NaN} if the
+     *         criterion cannot be bounded
+     */
+    default Num calculateBestPossibleValue(BarSeries series, TradingRecord tradingRecord) {
+        return NaN.NaN;
+    }
+
+    /**
+     * Returns the function calculating
+     * {@link #calculateBestPossibleValue(BarSeries, TradingRecord)} for the trading
+     * record of a single run, which grows between the calls. Criteria can keep
+     * their state between the calls instead of recalculating the whole trading
+     * record each time.
+     *
+     * @param series the bar series, not null
+     * @return the best reachable criterion value for the trading record of the run
+     */
+    default Function<TradingRecord, Num> bestPossibleValueTracker(BarSeries series) {
+        return tradingRecord -> calculateBestPossibleValue(series, tradingRecord);
+    }
+
     /**
      * @param criterionValue1 the first value
      * @param criterionValue2 the second value
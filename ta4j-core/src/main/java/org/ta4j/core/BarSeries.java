@@ -24,9 +24,11 @@
 package org.ta4j.core;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.num.NumFactory;
 
@@ -253,6 +255,67 @@ public interface BarSeries extends Serializable {
         addPrice(numFactory().numOf(price));
     }
 
+    /**
+     * Returns the index of the bar with the given end time.
+     *
+     * <p>
+     * The bars are searched by bisection on their end times, which increase with
+     * the index.
+     *
+     * @param endTime the end time of the bar
+     * @return the index of the bar, or -1 if there is no bar with this end time
+     */
+    default int indexOf(Instant endTime) {
+        final int index = ceilingIndex(endTime);
+        return index >= 0 && getBar(index).getEndTime().equals(endTime) ? index : -1;
+    }
+
+    /**
+     * Returns the index of the last bar ending at or before the given time.
+     *
+     * @param time the time
+     * @return the index of the bar, or -1 if all the bars end after the time
+     * @see #indexOf(Instant)
+     */
+    default int floorIndex(Instant time) {
+        final int index = firstIndexEndingAfter(time, false) - 1;
+        return index >= getBeginIndex() ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first bar ending at or after the given time.
+     *
+     * @param time the time
+     * @return the index of the bar, or -1 if all the bars end before the time
+     * @see #indexOf(Instant)
+     */
+    default int ceilingIndex(Instant time) {
+        final int index = firstIndexEndingAfter(time, true);
+        return index <= getEndIndex() ? index : -1;
+    }
+
+    /**
+     * @return the index of the first bar ending after (or at, if {@code inclusive})
+     *         the time, or the end index + 1 if there is none
+     */
+    private int firstIndexEndingAfter(Instant time, boolean inclusive) {
+        if (isEmpty()) {
+            return -1;
+        }
+        int low = getBeginIndex();
+        int high = getEndIndex() + 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = getBar(middle).getEndTime().compareTo(time);
+            if (comparison > 0 || (inclusive && comparison == 0)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
     /**
      * Returns a new {@link BarSeries} instance (= "subseries") that is a subset of
      * {@code this} BarSeries instance. It contains a copy of all {@link Bar bars}
@@ -268,7 +331,40 @@ public interface BarSeries extends Serializable {
      * @param endIndex   the endIndex (exclusive)
      * @return a new BarSeries with Bars from startIndex to endIndex-1
      * @throws IllegalArgumentException if endIndex <= startIndex or startIndex < 0
+     * @see #getSubSeriesView(int, int)
      */
     BarSeries getSubSeries(int startIndex, int endIndex);
 
+    /**
+     * Returns a read-only view of the bars between {@code startIndex} (inclusive)
+     * and {@code endIndex} (exclusive) of {@code this} instance. The bars are not
+     * copied, but the indices are the same as the ones of
+     * {@link #getSubSeries(int, int)}: index 0 of the view is the
+     * {@code startIndex} of {@code this}.
+     *
+     * @param startIndex the startIndex (inclusive)
+     * @param endIndex   the endIndex (exclusive)
+     * @return a view of the bars from startIndex to endIndex-1
+     * @throws IllegalArgumentException if endIndex <= startIndex or startIndex < 0
+     * @see BarSeriesView
+     */
+    default BarSeries getSubSeriesView(int startIndex, int endIndex) {
+        return new BarSeriesView(this, startIndex, endIndex);
+    }
+
+    /**
+     * Returns the registry which interns the indicators of this series, so that
+     * equal indicators share one cache. The built-in composite indicators resolve
+     * their sub-indicators through it.
+     *
+     * <p>
+     * The default implementation returns a new registry on each call, i.e. does not
+     * share any indicator.
+     *
+     * @return the indicator registry of this series
+     */
+    default IndicatorRegistry getIndicatorRegistry() {
+        return new IndicatorRegistry(this);
+    }
+
 }
@@ -0,0 +1,336 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.ta4j.core.indicators.IndicatorRegistry;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * A read-only view of a range of bars of a parent {@link BarSeries}.
+ *
+ * <p>
+ * Unlike {@link BarSeries#getSubSeries(int, int)}, the view does not copy the
+ * bars: it translates its indices (from 0) to the indices of the parent series
+ * and reads the bars of the parent. Creating a view is therefore cheap, even
+ * for thousands of views (e.g. walk-forward, bootstrapping or rolling-window
+ * analysis).
+ *
+ * <p>
+ * The indicators built on the view are calculated from the first bar of the
+ * view. To reuse the values already calculated on the parent series (which are
+ * also warmed up by the bars before the view), wrap the indicator of the parent
+ * with {@link #fromParent(Indicator)}.
+ *
+ * <p>
+ * Adding bars, trades or prices to the view is not supported.
+ */
+public class BarSeriesView implements BarSeries {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The parent series. */
+    private final BarSeries parent;
+
+    /** The index, in the parent series, of the first bar of the view. */
+    private final int offset;
+
+    /** The number of bars of the view. */
+    private final int barCount;
+
+    /** The registry of the indicators of the view (created on demand). */
+    private final IndicatorRegistry.Holder indicatorRegistry = new IndicatorRegistry.Holder();
+
+    /**
+     * Constructor. If {@code startIndex} is less than the begin index of the
+     * parent, the view starts with the first available bar of the parent. If
+     * {@code endIndex} is greater than the end index of the parent, the view ends
+     * with the last bar of the parent.
+     *
+     * @param parent     the parent series
+     * @param startIndex the index of the first bar of the view in the parent series
+     *                   (inclusive)
+     * @param endIndex   the index of the last bar of the view in the parent series
+     *                   (exclusive)
+     * @throws IllegalArgumentException if endIndex <= startIndex or startIndex < 0
+     */
+    public BarSeriesView(BarSeries parent, int startIndex, int endIndex) {
+        checkRange(startIndex, endIndex);
+        this.parent = Objects.requireNonNull(parent);
+        if (parent.isEmpty()) {
+            this.offset = startIndex;
+            this.barCount = 0;
+        } else {
+            this.offset = Math.max(startIndex, parent.getBeginIndex());
+            this.barCount = Math.max(Math.min(endIndex, parent.getEndIndex() + 1) - offset, 0);
+        }
+    }
+
+    /** Constructor of a view of a view, sharing the parent of the view. */
+    private BarSeriesView(BarSeriesView view, int startIndex, int endIndex) {
+        final int start = Math.min(startIndex, view.barCount);
+        this.parent = view.parent;
+        this.offset = view.offset + start;
+        this.barCount = Math.max(Math.min(endIndex, view.barCount) - start, 0);
+    }
+
+    private static void checkRange(int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+    }
+
+    /** @return the parent series */
+    public BarSeries getParent() {
+        return parent;
+    }
+
+    /**
+     * @param index an index of the view
+     * @return the corresponding index of the parent series
+     */
+    public int toParentIndex(int index) {
+        return offset + index;
+    }
+
+    /**
+     * Returns an indicator of the view whose values are the values of an indicator
+     * of the parent series, so that the values already calculated (and cached) on
+     * the parent series are reused.
+     *
+     * <p>
+     * The values at the begin of the view are calculated from the bars of the
+     * parent series before the view, so they may differ from the values of the same
+     * indicator built on the view. Its unstable bars are the unstable bars of the
+     * parent indicator which lie in the view.
+     *
+     * @param <T>             the type of the indicator values
+     * @param parentIndicator an indicator of the parent series
+     * @return the indicator of the view
+     * @throws IllegalArgumentException if the indicator is not built on the parent
+     *                                  series
+     */
+    public <T> Indicator<T> fromParent(Indicator<T> parentIndicator) {
+        if (parentIndicator.getBarSeries() != parent) {
+            throw new IllegalArgumentException("The indicator is not built on the parent series: " + parentIndicator);
+        }
+        return new ParentIndicator<>(this, parentIndicator);
+    }
+
+    @Override
+    public NumFactory numFactory() {
+        return parent.numFactory();
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public BarBuilder barBuilder() {
+        throw new UnsupportedOperationException("A bar series view is read-only");
+    }
+
+    @Override
+    public String getName() {
+        return parent.getName();
+    }
+
+    @Override
+    public Bar getBar(int i) {
+        if (i < 0 || i >= barCount) {
+            throw new IndexOutOfBoundsException(String.format("Size of series view: %s bars, index = %s", barCount, i));
+        }
+        return parent.getBar(offset + i);
+    }
+
+    @Override
+    public int getBarCount() {
+        return barCount;
+    }
+
+    @Override
+    public List<Bar> getBarData() {
+        return new BarList();
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return barCount == 0 ? -1 : 0;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return barCount - 1;
+    }
+
+    /** Searches the bars with the parent series. */
+    @Override
+    public int floorIndex(Instant time) {
+        final int parentIndex = parent.floorIndex(time);
+        if (barCount == 0 || parentIndex < offset) {
+            return -1;
+        }
+        return Math.min(parentIndex, offset + barCount - 1) - offset;
+    }
+
+    /** Searches the bars with the parent series. */
+    @Override
+    public int ceilingIndex(Instant time) {
+        final int parentIndex = parent.ceilingIndex(time);
+        if (parentIndex < 0 || parentIndex >= offset + barCount) {
+            return -1;
+        }
+        return Math.max(parentIndex, offset) - offset;
+    }
+
+    @Override
+    public int getMaximumBarCount() {
+        return barCount;
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setMaximumBarCount(int maximumBarCount) {
+        throw new UnsupportedOperationException("A bar series view is read-only");
+    }
+
+    @Override
+    public int getRemovedBarsCount() {
+        return 0;
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addBar(Bar bar, boolean replace) {
+        throw new UnsupportedOperationException("A bar series view is read-only");
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addTrade(Num tradeVolume, Num tradePrice) {
+        throw new UnsupportedOperationException("A bar series view is read-only");
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addPrice(Num price) {
+        throw new UnsupportedOperationException("A bar series view is read-only");
+    }
+
+    @Override
+    public BarSeries getSubSeries(int startIndex, int endIndex) {
+        checkRange(startIndex, endIndex);
+        if (startIndex >= barCount) {
+            return new BaseBarSeriesBuilder().withNumFactory(numFactory()).withName(getName()).build();
+        }
+        return parent.getSubSeries(offset + startIndex, offset + Math.min(endIndex, barCount));
+    }
+
+    @Override
+    public BarSeriesView getSubSeriesView(int startIndex, int endIndex) {
+        checkRange(startIndex, endIndex);
+        return new BarSeriesView(this, startIndex, endIndex);
+    }
+
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        return indicatorRegistry.get(this);
+    }
+
+    /** The bars of the view, read from the parent series. */
+    private final class BarList extends AbstractList<Bar> implements RandomAccess {
+
+        @Override
+        public Bar get(int index) {
+            return getBar(index);
+        }
+
+        @Override
+        public int size() {
+            return barCount;
+        }
+    }
+
+    /**
+     * An indicator of the view reading the values of an indicator of the parent.
+     */
+    private static final class ParentIndicator<T> implements Indicator<T> {
+
+        private final BarSeriesView view;
+        private final Indicator<T> parentIndicator;
+
+        private ParentIndicator(BarSeriesView view, Indicator<T> parentIndicator) {
+            this.view = view;
+            this.parentIndicator = parentIndicator;
+        }
+
+        @Override
+        public T getValue(int index) {
+            return parentIndicator.getValue(view.toParentIndex(index));
+        }
+
+        @Override
+        public int getCountOfUnstableBars() {
+            return Math.max(parentIndicator.getCountOfUnstableBars() - view.offset, 0);
+        }
+
+        @Override
+        public BarSeries getBarSeries() {
+            return view;
+        }
+
+        @Override
+        public String toString() {
+            return parentIndicator + "@" + view.offset;
+        }
+    }
+}
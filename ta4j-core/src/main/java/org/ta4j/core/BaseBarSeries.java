@@ -25,11 +25,13 @@ package org.ta4j.core;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.num.NumFactory;
 
@@ -40,9 +42,17 @@ public class BaseBarSeries implements BarSeries {
 
     private static final long serialVersionUID = -1878027009398790126L;
 
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /** The largest epoch second whose end times fit into a {@code long}. */
+    private static final long MAX_EPOCH_SECOND = Long.MAX_VALUE / NANOS_PER_SECOND - 1;
+
     /** The logger. */
     private final transient Logger log = LoggerFactory.getLogger(getClass());
 
+    /** The registry of the indicators of the bar series (created on demand). */
+    private final IndicatorRegistry.Holder indicatorRegistry = new IndicatorRegistry.Holder();
+
     /** The name of the bar series. */
     private final String name;
 
@@ -70,6 +80,14 @@ public class BaseBarSeries implements BarSeries {
      */
     private final boolean constrained;
 
+    /**
+     * The end times of the {@link #bars} in nanoseconds since the epoch, to search
+     * the bars by time. Maintained as the bars are added and removed, so the
+     * searches only read it. Null if an end time does not fit into a {@code long},
+     * in which case the bars are searched by their {@code Instant}s.
+     */
+    private long[] endTimes;
+
     /**
      * Constructor.
      *
@@ -89,6 +107,7 @@ public class BaseBarSeries implements BarSeries {
         this.numFactory = numFactory;
 
         this.bars = new ArrayList<>(bars);
+        this.endTimes = endTimesOf(this.bars);
         this.barBuilderFactory = Objects.requireNonNull(barBuilderFactory);
         if (bars.isEmpty()) {
             // Bar list empty
@@ -158,6 +177,11 @@ public class BaseBarSeries implements BarSeries {
         return this.numFactory;
     }
 
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        return indicatorRegistry.get(this);
+    }
+
     @Override
     public BarBuilder barBuilder() {
         return barBuilderFactory.createBarBuilder(this);
@@ -252,6 +276,7 @@ public class BaseBarSeries implements BarSeries {
         if (!this.bars.isEmpty()) {
             if (replace) {
                 this.bars.set(this.bars.size() - 1, bar);
+                setEndTime(this.bars.size() - 1, bar);
                 return;
             }
             final int lastBarIndex = this.bars.size() - 1;
@@ -264,6 +289,7 @@ public class BaseBarSeries implements BarSeries {
         }
 
         this.bars.add(bar);
+        setEndTime(this.bars.size() - 1, bar);
         if (this.seriesBeginIndex == -1) {
             // The begin index is set to 0 if not already initialized:
             this.seriesBeginIndex = 0;
@@ -272,6 +298,101 @@ public class BaseBarSeries implements BarSeries {
         removeExceedingBars();
     }
 
+    /**
+     * Searches the bars by bisection on an array of their end times, maintained as
+     * the bars are added.
+     */
+    @Override
+    public int floorIndex(final Instant time) {
+        if (this.endTimes == null) {
+            return BarSeries.super.floorIndex(time);
+        }
+        final int index = firstIndexEndingAfter(toEpochNanos(time)) - 1;
+        return index >= getBeginIndex() ? index : -1;
+    }
+
+    /**
+     * Searches the bars by bisection on an array of their end times, maintained as
+     * the bars are added.
+     */
+    @Override
+    public int ceilingIndex(final Instant time) {
+        if (this.endTimes == null) {
+            return BarSeries.super.ceilingIndex(time);
+        }
+        final long nanos = toEpochNanos(time);
+        final int index = firstIndexEndingAfter(nanos == Long.MIN_VALUE ? nanos : nanos - 1);
+        return index <= getEndIndex() ? index : -1;
+    }
+
+    /**
+     * @return the index of the first bar ending after the time (in nanoseconds
+     *         since the epoch), or the end index + 1 if there is none
+     */
+    private int firstIndexEndingAfter(final long time) {
+        if (getBarCount() == 0) {
+            return -1;
+        }
+        final long[] times = this.endTimes;
+        int low = Math.max(this.seriesBeginIndex, this.removedBarsCount) - this.removedBarsCount;
+        int high = this.seriesEndIndex - this.removedBarsCount + 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (times[middle] > time) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low + this.removedBarsCount;
+    }
+
+    /**
+     * @return the end times of the bars, with room for more bars, or null if an end
+     *         time does not fit into a {@code long}
+     */
+    private static long[] endTimesOf(final List<Bar> bars) {
+        final long[] times = new long[Math.max(16, bars.size())];
+        for (int i = 0; i < bars.size(); i++) {
+            final Instant endTime = bars.get(i).getEndTime();
+            if (!fitsEpochNanos(endTime)) {
+                return null;
+            }
+            times[i] = toEpochNanos(endTime);
+        }
+        return times;
+    }
+
+    /** Sets the end time of the bar that was just set or added to {@link #bars}. */
+    private void setEndTime(final int index, final Bar bar) {
+        if (this.endTimes == null) {
+            return;
+        }
+        if (!fitsEpochNanos(bar.getEndTime())) {
+            this.endTimes = null;
+            return;
+        }
+        if (index == this.endTimes.length) {
+            this.endTimes = Arrays.copyOf(this.endTimes, index * 2);
+        }
+        this.endTimes[index] = toEpochNanos(bar.getEndTime());
+    }
+
+    private static boolean fitsEpochNanos(final Instant time) {
+        return Math.abs(time.getEpochSecond()) <= MAX_EPOCH_SECOND;
+    }
+
+    /**
+     * @return the time in nanoseconds since the epoch, saturated to the range of a
+     *         {@code long}
+     */
+    private static long toEpochNanos(final Instant time) {
+        if (!fitsEpochNanos(time)) {
+            return time.getEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return time.getEpochSecond() * NANOS_PER_SECOND + time.getNano();
+    }
+
     @Override
     public void addTrade(final Number price, final Number amount) {
         addTrade(numFactory().numOf(price), numFactory().numOf(amount));
@@ -300,6 +421,9 @@ public class BaseBarSeries implements BarSeries {
             } else {
                 this.bars.subList(0, nbBarsToRemove).clear();
             }
+            if (this.endTimes != null) {
+                System.arraycopy(this.endTimes, nbBarsToRemove, this.endTimes, 0, this.bars.size());
+            }
             // Updating removed bars count
             this.removedBarsCount += nbBarsToRemove;
             this.seriesBeginIndex = Math.max(this.seriesBeginIndex, this.removedBarsCount);
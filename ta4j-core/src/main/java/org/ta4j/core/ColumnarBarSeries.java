@@ -0,0 +1,733 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ta4j.core.indicators.IndicatorRegistry;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * A {@link BarSeries} that stores its bars column by column in primitive arrays
+ * instead of a list of {@link BaseBar} objects.
+ *
+ * <p>
+ * Each bar takes 64 bytes (open, high, low, close, volume, amount, trades, end
+ * time and time period) regardless of the {@link Num} implementation, which
+ * makes long series much smaller and more cache-friendly than with
+ * {@link BaseBarSeries}. The prices are held as {@code double}, so this series
+ * is intended to be used with the {@link org.ta4j.core.num.DoubleNumFactory
+ * DoubleNumFactory}; with other factories the values are limited to the
+ * precision of a {@code double}.
+ *
+ * <p>
+ * {@link #getBar(int)} and {@link #getBarData()} return lightweight views on
+ * the columns: the {@link Num} values are created on access and changes made
+ * through {@link Bar#addTrade(Num, Num)} or {@link Bar#addPrice(Num)} are
+ * written back to the columns. A {@code null} price or volume is stored as
+ * {@link NaN}.
+ *
+ * <p>
+ * The columns grow on demand. Once {@link #setMaximumBarCount(int)} is reached,
+ * they are used as a ring buffer: adding a bar overwrites the oldest one in
+ * constant time.
+ */
+public class ColumnarBarSeries implements BarSeries {
+
+    private static final long serialVersionUID = 4326409843526383465L;
+
+    /** The default initial capacity of the columns. */
+    static final int DEFAULT_CAPACITY = 16;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /** The logger. */
+    private final transient Logger log = LoggerFactory.getLogger(getClass());
+
+    /** The registry of the indicators of the bar series (created on demand). */
+    private final IndicatorRegistry.Holder indicatorRegistry = new IndicatorRegistry.Holder();
+
+    /** The name of the bar series. */
+    private final String name;
+
+    private final NumFactory numFactory;
+    private final BarBuilderFactory barBuilderFactory;
+
+    /** The columns of the bar series. */
+    private double[] openPrices;
+    private double[] highPrices;
+    private double[] lowPrices;
+    private double[] closePrices;
+    private double[] volumes;
+    private double[] amounts;
+    private long[] trades;
+    private long[] endTimes; // nanoseconds since the epoch
+    private long[] timePeriods; // nanoseconds
+
+    /** The column slot of the first stored bar. */
+    private int head = 0;
+
+    /** The number of stored bars. */
+    private int size = 0;
+
+    /** The begin index of the bar series */
+    private int seriesBeginIndex = -1;
+
+    /** The end index of the bar series. */
+    private int seriesEndIndex = -1;
+
+    /** The maximum number of bars for the bar series. */
+    private int maximumBarCount = Integer.MAX_VALUE;
+
+    /** The number of removed bars. */
+    private int removedBarsCount = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param name              the name of the bar series
+     * @param initialCapacity   the initial capacity of the columns
+     * @param numFactory        the factory of numbers used in series {@link Num Num
+     *                          implementation}
+     * @param barBuilderFactory factory for creating bars of this series
+     */
+    ColumnarBarSeries(final String name, final int initialCapacity, final NumFactory numFactory,
+            final BarBuilderFactory barBuilderFactory) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative");
+        }
+        this.name = name;
+        this.numFactory = Objects.requireNonNull(numFactory);
+        this.barBuilderFactory = Objects.requireNonNull(barBuilderFactory);
+        allocate(initialCapacity);
+    }
+
+    /**
+     * @param series a bar series
+     * @param index  an out of bounds bar index
+     * @return a message for an OutOfBoundsException
+     */
+    private static String buildOutOfBoundsMessage(final ColumnarBarSeries series, final int index) {
+        return String.format("Size of series: %s bars, %s bars removed, index = %s", series.size,
+                series.removedBarsCount, index);
+    }
+
+    private static long toEpochNanos(final Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    private static Instant ofEpochNanos(final long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                Math.floorMod(epochNanos, NANOS_PER_SECOND));
+    }
+
+    private static double toDouble(final Num num) {
+        return num == null ? Double.NaN : num.doubleValue();
+    }
+
+    @Override
+    public ColumnarBarSeries getSubSeries(final int startIndex, final int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        if (size == 0) {
+            return new ColumnarBarSeries(name, 0, numFactory, barBuilderFactory);
+        }
+        final int start = Math.max(startIndex - removedBarsCount, 0);
+        final int end = Math.min(endIndex - removedBarsCount, seriesEndIndex + 1 - removedBarsCount);
+        final int length = Math.max(end - start, 0);
+        final var subSeries = new ColumnarBarSeries(name, length, numFactory, barBuilderFactory);
+        if (length > 0) {
+            final int firstSlot = slot(start);
+            final int firstPart = Math.min(length, capacity() - firstSlot);
+            subSeries.copyColumns(columns(), firstSlot, 0, firstPart);
+            subSeries.copyColumns(columns(), 0, firstPart, length - firstPart);
+            subSeries.size = length;
+            subSeries.seriesBeginIndex = 0;
+            subSeries.seriesEndIndex = length - 1;
+        }
+        return subSeries;
+    }
+
+    @Override
+    public NumFactory numFactory() {
+        return numFactory;
+    }
+
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        return indicatorRegistry.get(this);
+    }
+
+    @Override
+    public BarBuilder barBuilder() {
+        return barBuilderFactory.createBarBuilder(this);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Bar getBar(final int i) {
+        return new ColumnarBar(removedBarsCount + innerIndex(i));
+    }
+
+    @Override
+    public int getBarCount() {
+        if (seriesEndIndex < 0) {
+            return 0;
+        }
+        final int startIndex = Math.max(removedBarsCount, seriesBeginIndex);
+        return seriesEndIndex - startIndex + 1;
+    }
+
+    /**
+     * Returns a view on the stored bars. The view supports
+     * {@link List#set(int, Object)}, which copies the values of the given bar into
+     * the columns and returns a detached copy of the replaced bar.
+     */
+    @Override
+    public List<Bar> getBarData() {
+        return new BarDataView();
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return seriesBeginIndex;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return seriesEndIndex;
+    }
+
+    /** Searches the bars by bisection on the column of their end times. */
+    @Override
+    public int floorIndex(final Instant time) {
+        final int index = firstIndexEndingAfter(toEpochNanos(time)) - 1;
+        return index >= getBeginIndex() ? index : -1;
+    }
+
+    /** Searches the bars by bisection on the column of their end times. */
+    @Override
+    public int ceilingIndex(final Instant time) {
+        final int index = firstIndexEndingAfter(toEpochNanos(time) - 1);
+        return index <= getEndIndex() ? index : -1;
+    }
+
+    /**
+     * @return the index of the first bar ending after the time (in nanoseconds
+     *         since the epoch), or the end index + 1 if there is none
+     */
+    private int firstIndexEndingAfter(final long time) {
+        if (getBarCount() == 0) {
+            return -1;
+        }
+        int low = Math.max(seriesBeginIndex, removedBarsCount) - removedBarsCount;
+        int high = seriesEndIndex - removedBarsCount + 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (endTimes[slot(middle)] > time) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low + removedBarsCount;
+    }
+
+    @Override
+    public int getMaximumBarCount() {
+        return maximumBarCount;
+    }
+
+    @Override
+    public void setMaximumBarCount(final int maximumBarCount) {
+        if (maximumBarCount <= 0) {
+            throw new IllegalArgumentException("Maximum bar count must be strictly positive");
+        }
+        this.maximumBarCount = maximumBarCount;
+        if (size > maximumBarCount) {
+            removeFirstBars(size - maximumBarCount);
+        }
+        if (capacity() > maximumBarCount) {
+            resize(maximumBarCount);
+        }
+    }
+
+    @Override
+    public int getRemovedBarsCount() {
+        return removedBarsCount;
+    }
+
+    /**
+     * @throws NullPointerException if {@code bar} is {@code null}
+     */
+    @Override
+    public void addBar(final Bar bar, final boolean replace) {
+        Objects.requireNonNull(bar, "bar must not be null");
+        if (!numFactory.produces(bar.getClosePrice())) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot add Bar with data type: %s to series with datatype: %s",
+                            bar.getClosePrice().getClass(), numFactory.one().getClass()));
+        }
+        if (size > 0) {
+            if (replace) {
+                write(slot(size - 1), bar);
+                return;
+            }
+            final Instant seriesEndTime = ofEpochNanos(endTimes[slot(size - 1)]);
+            if (!bar.getEndTime().isAfter(seriesEndTime)) {
+                throw new IllegalArgumentException(
+                        String.format("Cannot add a bar with end time:%s that is <= to series end time: %s",
+                                bar.getEndTime(), seriesEndTime));
+            }
+        }
+        write(nextSlot(), bar);
+        appended();
+    }
+
+    /**
+     * Adds a bar given by its primitive values at the end of the series. Unlike
+     * {@link #addBar(Bar)}, no intermediate {@link Bar} object is created.
+     *
+     * @param timePeriod the time period of the bar
+     * @param endTime    the end time of the bar
+     * @param openPrice  the open price
+     * @param highPrice  the high price
+     * @param lowPrice   the low price
+     * @param closePrice the close price
+     * @param volume     the volume
+     * @param amount     the amount
+     * @param trades     the number of trades
+     * @throws IllegalArgumentException if {@code endTime} is not after the end time
+     *                                  of the last bar
+     */
+    public void addBar(final Duration timePeriod, final Instant endTime, final double openPrice, final double highPrice,
+            final double lowPrice, final double closePrice, final double volume, final double amount,
+            final long trades) {
+        final long endTimeNanos = toEpochNanos(Objects.requireNonNull(endTime, "End time cannot be null"));
+        if (size > 0 && endTimeNanos <= endTimes[slot(size - 1)]) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot add a bar with end time:%s that is <= to series end time: %s", endTime,
+                            ofEpochNanos(endTimes[slot(size - 1)])));
+        }
+        final int slot = nextSlot();
+        openPrices[slot] = openPrice;
+        highPrices[slot] = highPrice;
+        lowPrices[slot] = lowPrice;
+        closePrices[slot] = closePrice;
+        volumes[slot] = volume;
+        amounts[slot] = amount;
+        this.trades[slot] = trades;
+        endTimes[slot] = endTimeNanos;
+        timePeriods[slot] = Objects.requireNonNull(timePeriod, "Time period cannot be null").toNanos();
+        appended();
+    }
+
+    @Override
+    public void addTrade(final Num tradeVolume, final Num tradePrice) {
+        getLastBar().addTrade(tradeVolume, tradePrice);
+    }
+
+    @Override
+    public void addPrice(final Num price) {
+        getLastBar().addPrice(price);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the open price of the bar at {@code index} as {@code double}
+     */
+    public double getOpenPriceAsDouble(final int index) {
+        return openPrices[slot(innerIndex(index))];
+    }
+
+    /**
+     * @param index the bar index
+     * @return the high price of the bar at {@code index} as {@code double}
+     */
+    public double getHighPriceAsDouble(final int index) {
+        return highPrices[slot(innerIndex(index))];
+    }
+
+    /**
+     * @param index the bar index
+     * @return the low price of the bar at {@code index} as {@code double}
+     */
+    public double getLowPriceAsDouble(final int index) {
+        return lowPrices[slot(innerIndex(index))];
+    }
+
+    /**
+     * @param index the bar index
+     * @return the close price of the bar at {@code index} as {@code double}
+     */
+    public double getClosePriceAsDouble(final int index) {
+        return closePrices[slot(innerIndex(index))];
+    }
+
+    /**
+     * @param index the bar index
+     * @return the volume of the bar at {@code index} as {@code double}
+     */
+    public double getVolumeAsDouble(final int index) {
+        return volumes[slot(innerIndex(index))];
+    }
+
+    /**
+     * @param index the bar index
+     * @return the amount of the bar at {@code index} as {@code double}
+     */
+    public double getAmountAsDouble(final int index) {
+        return amounts[slot(innerIndex(index))];
+    }
+
+    /**
+     * Translates a bar index into an index of the stored bars, with the same rules
+     * as {@link BaseBarSeries#getBar(int)}.
+     *
+     * @param i the bar index
+     * @return the index within the stored bars
+     */
+    private int innerIndex(final int i) {
+        int innerIndex = i - removedBarsCount;
+        if (innerIndex < 0) {
+            if (i < 0) {
+                // Cannot return the i-th bar if i < 0
+                throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, i));
+            }
+            if (log.isTraceEnabled()) {
+                log.trace("Bar series `{}` ({} bars): bar {} already removed, use {}-th instead", name, size, i,
+                        removedBarsCount);
+            }
+            if (size == 0) {
+                throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, removedBarsCount));
+            }
+            innerIndex = 0;
+        } else if (innerIndex >= size) {
+            // Cannot return the n-th bar if n >= size
+            throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, i));
+        }
+        return innerIndex;
+    }
+
+    /**
+     * @param innerIndex the index within the stored bars
+     * @return the column slot of the bar
+     */
+    private int slot(final int innerIndex) {
+        final int slot = head + innerIndex;
+        return slot < capacity() ? slot : slot - capacity();
+    }
+
+    private int capacity() {
+        return closePrices.length;
+    }
+
+    /**
+     * Makes room for one more bar, either by growing the columns or, if the maximum
+     * bar count is reached, by dropping the oldest bar.
+     *
+     * @return the column slot for the new bar
+     */
+    private int nextSlot() {
+        if (size == capacity()) {
+            if (capacity() < maximumBarCount) {
+                resize((int) Math.min(Math.max(2L * capacity(), DEFAULT_CAPACITY), maximumBarCount));
+            } else {
+                removeFirstBars(1);
+            }
+        }
+        return slot(size);
+    }
+
+    /**
+     * Updates the indices after a bar has been written to {@link #nextSlot()}.
+     */
+    private void appended() {
+        size++;
+        if (seriesBeginIndex == -1) {
+            // The begin index is set to 0 if not already initialized:
+            seriesBeginIndex = 0;
+        }
+        seriesEndIndex++;
+    }
+
+    /**
+     * Removes the {@code count} oldest bars.
+     *
+     * @param count the number of bars to remove
+     */
+    private void removeFirstBars(final int count) {
+        head = slot(count);
+        size -= count;
+        removedBarsCount += count;
+        seriesBeginIndex = Math.max(seriesBeginIndex, removedBarsCount);
+    }
+
+    private void allocate(final int capacity) {
+        openPrices = new double[capacity];
+        highPrices = new double[capacity];
+        lowPrices = new double[capacity];
+        closePrices = new double[capacity];
+        volumes = new double[capacity];
+        amounts = new double[capacity];
+        trades = new long[capacity];
+        endTimes = new long[capacity];
+        timePeriods = new long[capacity];
+    }
+
+    /**
+     * Reallocates the columns with the stored bars in order, starting at slot 0.
+     *
+     * @param newCapacity the new capacity, at least {@link #size}
+     */
+    private void resize(final int newCapacity) {
+        final Object[] oldColumns = columns();
+        final int oldCapacity = capacity();
+        allocate(newCapacity);
+        final int firstPart = Math.min(size, oldCapacity - head);
+        copyColumns(oldColumns, head, 0, firstPart);
+        copyColumns(oldColumns, 0, firstPart, size - firstPart);
+        head = 0;
+    }
+
+    private Object[] columns() {
+        return new Object[] { openPrices, highPrices, lowPrices, closePrices, volumes, amounts, trades, endTimes,
+                timePeriods };
+    }
+
+    private void copyColumns(final Object[] sourceColumns, final int sourceSlot, final int slot, final int length) {
+        final Object[] columns = columns();
+        for (int c = 0; c < columns.length; c++) {
+            System.arraycopy(sourceColumns[c], sourceSlot, columns[c], slot, length);
+        }
+    }
+
+    private void write(final int slot, final Bar bar) {
+        openPrices[slot] = toDouble(bar.getOpenPrice());
+        highPrices[slot] = toDouble(bar.getHighPrice());
+        lowPrices[slot] = toDouble(bar.getLowPrice());
+        closePrices[slot] = toDouble(bar.getClosePrice());
+        volumes[slot] = toDouble(bar.getVolume());
+        amounts[slot] = toDouble(bar.getAmount());
+        trades[slot] = bar.getTrades();
+        endTimes[slot] = toEpochNanos(bar.getEndTime());
+        timePeriods[slot] = bar.getTimePeriod().toNanos();
+    }
+
+    private Num num(final double value) {
+        return Double.isNaN(value) ? NaN.NaN : numFactory.numOf(value);
+    }
+
+    /**
+     * A {@link Bar} view on the columns of this series.
+     */
+    private final class ColumnarBar implements Bar {
+
+        private static final long serialVersionUID = -3296411467453436582L;
+
+        /** The bar index within the series. */
+        private final int index;
+
+        private ColumnarBar(final int index) {
+            this.index = index;
+        }
+
+        private int slot() {
+            final int innerIndex = index - removedBarsCount;
+            if (innerIndex < 0 || innerIndex >= size) {
+                throw new IllegalStateException(
+                        String.format("Bar %s has been removed from bar series `%s`", index, name));
+            }
+            return ColumnarBarSeries.this.slot(innerIndex);
+        }
+
+        @Override
+        public Duration getTimePeriod() {
+            return Duration.ofNanos(timePeriods[slot()]);
+        }
+
+        @Override
+        public Instant getBeginTime() {
+            final int slot = slot();
+            return ofEpochNanos(endTimes[slot] - timePeriods[slot]);
+        }
+
+        @Override
+        public Instant getEndTime() {
+            return ofEpochNanos(endTimes[slot()]);
+        }
+
+        @Override
+        public Num getOpenPrice() {
+            return num(openPrices[slot()]);
+        }
+
+        @Override
+        public Num getHighPrice() {
+            return num(highPrices[slot()]);
+        }
+
+        @Override
+        public Num getLowPrice() {
+            return num(lowPrices[slot()]);
+        }
+
+        @Override
+        public Num getClosePrice() {
+            return num(closePrices[slot()]);
+        }
+
+        @Override
+        public Num getVolume() {
+            return num(volumes[slot()]);
+        }
+
+        @Override
+        public Num getAmount() {
+            return num(amounts[slot()]);
+        }
+
+        @Override
+        public long getTrades() {
+            return trades[slot()];
+        }
+
+        @Override
+        public void addTrade(final Num tradeVolume, final Num tradePrice) {
+            addPrice(tradePrice);
+
+            final int slot = slot();
+            final double volume = tradeVolume.doubleValue();
+            volumes[slot] = (Double.isNaN(volumes[slot]) ? 0 : volumes[slot]) + volume;
+            amounts[slot] = (Double.isNaN(amounts[slot]) ? 0 : amounts[slot]) + volume * tradePrice.doubleValue();
+            trades[slot]++;
+        }
+
+        @Override
+        public void addPrice(final Num price) {
+            final int slot = slot();
+            final double value = price.doubleValue();
+            if (Double.isNaN(openPrices[slot])) {
+                openPrices[slot] = value;
+            }
+            closePrices[slot] = value;
+            if (Double.isNaN(highPrices[slot]) || highPrices[slot] < value) {
+                highPrices[slot] = value;
+            }
+            if (Double.isNaN(lowPrices[slot]) || lowPrices[slot] > value) {
+                lowPrices[slot] = value;
+            }
+        }
+
+        /**
+         * @return a {@link BaseBar} with the current values of this view
+         */
+        private BaseBar copy() {
+            return new BaseBar(getTimePeriod(), getEndTime(), getOpenPrice(), getHighPrice(), getLowPrice(),
+                    getClosePrice(), getVolume(), getAmount(), getTrades());
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "{end time: %1s, close price: %2s, open price: %3s, low price: %4s high price: %5s, volume: %6s}",
+                    getEndTime(), getClosePrice(), getOpenPrice(), getLowPrice(), getHighPrice(), getVolume());
+        }
+
+        @Override
+        public int hashCode() {
+            final int slot = slot();
+            return Objects.hash(endTimes[slot], timePeriods[slot], openPrices[slot], highPrices[slot], lowPrices[slot],
+                    closePrices[slot], volumes[slot], amounts[slot], trades[slot]);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof ColumnarBar))
+                return false;
+            final ColumnarBar other = (ColumnarBar) obj;
+            final var otherSeries = other.outer();
+            final int slot = slot();
+            final int otherSlot = other.slot();
+            return endTimes[slot] == otherSeries.endTimes[otherSlot]
+                    && timePeriods[slot] == otherSeries.timePeriods[otherSlot]
+                    && Double.compare(openPrices[slot], otherSeries.openPrices[otherSlot]) == 0
+                    && Double.compare(highPrices[slot], otherSeries.highPrices[otherSlot]) == 0
+                    && Double.compare(lowPrices[slot], otherSeries.lowPrices[otherSlot]) == 0
+                    && Double.compare(closePrices[slot], otherSeries.closePrices[otherSlot]) == 0
+                    && Double.compare(volumes[slot], otherSeries.volumes[otherSlot]) == 0
+                    && Double.compare(amounts[slot], otherSeries.amounts[otherSlot]) == 0
+                    && trades[slot] == otherSeries.trades[otherSlot];
+        }
+
+        private ColumnarBarSeries outer() {
+            return ColumnarBarSeries.this;
+        }
+    }
+
+    /**
+     * A {@link List} view on the stored bars.
+     */
+    private final class BarDataView extends AbstractList<Bar> implements RandomAccess {
+
+        @Override
+        public Bar get(final int innerIndex) {
+            Objects.checkIndex(innerIndex, size);
+            return new ColumnarBar(removedBarsCount + innerIndex);
+        }
+
+        @Override
+        public Bar set(final int innerIndex, final Bar bar) {
+            Objects.checkIndex(innerIndex, size);
+            final var previous = new ColumnarBar(removedBarsCount + innerIndex).copy();
+            write(slot(innerIndex), Objects.requireNonNull(bar));
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
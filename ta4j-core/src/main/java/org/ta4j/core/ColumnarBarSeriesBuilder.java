@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ta4j.core.bars.TimeBarBuilderFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * A builder to build a new {@link ColumnarBarSeries}.
+ */
+public class ColumnarBarSeriesBuilder implements BarSeriesBuilder {
+
+    /** The {@link #name} for an unnamed bar series. */
+    private static final String UNNAMED_SERIES_NAME = "unnamed_series";
+
+    private List<Bar> bars;
+    private String name;
+    private int initialCapacity;
+    private int maxBarCount;
+    private NumFactory numFactory = DoubleNumFactory.getInstance();
+    private BarBuilderFactory barBuilderFactory = new TimeBarBuilderFactory();
+
+    /** Constructor to build a {@code ColumnarBarSeries}. */
+    public ColumnarBarSeriesBuilder() {
+        initValues();
+    }
+
+    private void initValues() {
+        this.bars = new ArrayList<>();
+        this.name = UNNAMED_SERIES_NAME;
+        this.initialCapacity = ColumnarBarSeries.DEFAULT_CAPACITY;
+        this.maxBarCount = Integer.MAX_VALUE;
+    }
+
+    @Override
+    public ColumnarBarSeries build() {
+        var series = new ColumnarBarSeries(name == null ? UNNAMED_SERIES_NAME : name,
+                Math.min(Math.max(initialCapacity, bars.size()), maxBarCount), numFactory, barBuilderFactory);
+        series.setMaximumBarCount(maxBarCount);
+        for (Bar bar : bars) {
+            series.addBar(bar);
+        }
+        initValues(); // reinitialize values for next series
+        return series;
+    }
+
+    /**
+     * @param numFactory to set {@link ColumnarBarSeries#numFactory()}
+     * @return {@code this}
+     */
+    public ColumnarBarSeriesBuilder withNumFactory(NumFactory numFactory) {
+        this.numFactory = numFactory;
+        return this;
+    }
+
+    /**
+     * @param name to set {@link ColumnarBarSeries#getName()}
+     * @return {@code this}
+     */
+    public ColumnarBarSeriesBuilder withName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * @param bars the bars to be copied into the series
+     * @return {@code this}
+     */
+    public ColumnarBarSeriesBuilder withBars(List<Bar> bars) {
+        this.bars = bars;
+        return this;
+    }
+
+    /**
+     * @param initialCapacity the number of bars the series can hold before its
+     *                        columns have to grow
+     * @return {@code this}
+     */
+    public ColumnarBarSeriesBuilder withInitialCapacity(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+        return this;
+    }
+
+    /**
+     * @param maxBarCount to set {@link ColumnarBarSeries#getMaximumBarCount()}
+     * @return {@code this}
+     */
+    public ColumnarBarSeriesBuilder withMaxBarCount(int maxBarCount) {
+        this.maxBarCount = maxBarCount;
+        return this;
+    }
+
+    /**
+     * @param barBuilderFactory to build bars with the same datatype as series
+     *
+     * @return {@code this}
+     */
+    public ColumnarBarSeriesBuilder withBarBuilderFactory(final BarBuilderFactory barBuilderFactory) {
+        this.barBuilderFactory = barBuilderFactory;
+        return this;
+    }
+}
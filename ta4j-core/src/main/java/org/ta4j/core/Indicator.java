@@ -23,6 +23,8 @@
  */
 package org.ta4j.core;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -44,6 +46,27 @@ public interface Indicator<T> {
      */
     T getValue(int index);
 
+    /**
+     * Returns the values of {@code this} indicator from {@code beginIndex} to
+     * {@code endIndex} (both inclusive), calculated in ascending index order.
+     *
+     * <p>
+     * Indicators can override this method with a tight forward loop, e.g.
+     * {@link org.ta4j.core.indicators.CachedIndicator CachedIndicator} fills its
+     * cache for the whole range in one pass.
+     *
+     * @param beginIndex the first bar index
+     * @param endIndex   the last bar index
+     * @return the values of the range, empty if {@code endIndex < beginIndex}
+     */
+    default List<T> computeRange(int beginIndex, int endIndex) {
+        List<T> values = new ArrayList<>(Math.max(0, endIndex - beginIndex + 1));
+        for (int i = beginIndex; i <= endIndex; i++) {
+            values.add(getValue(i));
+        }
+        return values;
+    }
+
     /**
      * Returns {@code true} once {@code this} indicator has enough bars to
      * accurately calculate its value. Otherwise, {@code false} will be returned,
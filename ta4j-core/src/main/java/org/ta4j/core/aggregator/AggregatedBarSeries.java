@@ -0,0 +1,428 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.aggregator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarBuilder;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.IndicatorRegistry;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * A read-only {@link BarSeries} of a higher timeframe which stays in sync with
+ * its source series.
+ *
+ * <p>
+ * The bars of the source series are aggregated into bars of a time period
+ * aligned on the epoch (e.g. 1-minute bars into 5-minute, hourly or daily
+ * bars). Unlike {@link DurationBarAggregator}, the aggregation is incremental:
+ * on each access, only the source bars added since the previous access are
+ * aggregated, and a change of the last source bar (e.g. by
+ * {@link BarSeries#addTrade(Num, Num)}) only rebuilds the last aggregated bar.
+ * The last aggregated bar is therefore the bar in progress, which is replaced
+ * until a source bar of the next period arrives; since the indicators do not
+ * cache the value of the last bar, only that value is recalculated.
+ *
+ * <pre>
+ * var fiveMinutes = new AggregatedBarSeries(oneMinuteSeries, Duration.ofMinutes(5));
+ * var hourly = new AggregatedBarSeries(fiveMinutes, Duration.ofHours(1));
+ * var hourlySma = new SMAIndicator(new ClosePriceIndicator(hourly), 20);
+ * </pre>
+ *
+ * <p>
+ * The period must be a multiple of the period of the source bars. Source bars
+ * removed (by the {@link BarSeries#setMaximumBarCount(int) maximum bar count}
+ * of the source) before being read are not aggregated. Adding bars, trades or
+ * prices to this series is not supported.
+ *
+ * <p>
+ * The accessors, which aggregate the new source bars, are synchronized, so that
+ * concurrent backtests can read the series. The source series must not be
+ * modified while it is read.
+ */
+public class AggregatedBarSeries implements BarSeries {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The source series. */
+    private final BarSeries source;
+
+    /** The time period of the aggregated bars. */
+    private final Duration timePeriod;
+    private final long periodNanos;
+
+    /** The aggregated bars. */
+    private final BaseBarSeries bars;
+
+    /** The registry of the indicators of the series (created on demand). */
+    private final IndicatorRegistry.Holder indicatorRegistry = new IndicatorRegistry.Holder();
+
+    /** The index of the last read source bar, which may still change. */
+    private int pendingIndex = -1;
+
+    /** The last read source bar and its values, to detect its changes. */
+    private Bar pendingBar;
+    private Num pendingHigh;
+    private Num pendingLow;
+    private Num pendingClose;
+    private Num pendingVolume;
+    private long pendingTrades;
+
+    /**
+     * The period of the last aggregated bar, as a number of periods since the
+     * epoch.
+     */
+    private long lastPeriod = Long.MIN_VALUE;
+
+    /**
+     * The aggregation of the final source bars (i.e. before the pending bar) of
+     * {@link #closedPeriod}; {@code closedOpen} is {@code null} if there is none.
+     */
+    private long closedPeriod = Long.MIN_VALUE;
+    private Num closedOpen;
+    private Num closedHigh;
+    private Num closedLow;
+    private Num closedClose;
+    private Num closedVolume;
+    private Num closedAmount;
+    private long closedTrades;
+
+    /** Whether the last aggregated bar already includes the final source bars. */
+    private boolean closedPublished;
+
+    /**
+     * Constructor.
+     *
+     * @param source     the source series
+     * @param timePeriod the time period of the aggregated bars
+     */
+    public AggregatedBarSeries(BarSeries source, Duration timePeriod) {
+        this(source, timePeriod, source.getName() + "_" + timePeriod);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param source     the source series
+     * @param timePeriod the time period of the aggregated bars
+     * @param name       the name of the series
+     */
+    public AggregatedBarSeries(BarSeries source, Duration timePeriod, String name) {
+        this.source = Objects.requireNonNull(source);
+        this.timePeriod = timePeriod;
+        this.periodNanos = timePeriod.toNanos();
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("Time period must be positive: " + timePeriod);
+        }
+        this.bars = new BaseBarSeriesBuilder().withName(name).withNumFactory(source.numFactory()).build();
+    }
+
+    /** @return the source series */
+    public BarSeries getSource() {
+        return source;
+    }
+
+    /** @return the time period of the aggregated bars */
+    public Duration getTimePeriod() {
+        return timePeriod;
+    }
+
+    /**
+     * Aggregates the source bars added or changed since the last call. It is called
+     * by the accessors of this series.
+     *
+     * @throws IllegalStateException if a source bar spans two periods
+     */
+    public synchronized void update() {
+        final int endIndex = source.getEndIndex();
+        if (endIndex < 0) {
+            return;
+        }
+        boolean changed = false;
+        if (pendingIndex < source.getBeginIndex()) {
+            pendingIndex = source.getBeginIndex();
+            changed = true;
+        }
+        for (; pendingIndex < endIndex; pendingIndex++) {
+            // the pending bar is final once a later bar is added
+            close(source.getBar(pendingIndex));
+            changed = true;
+        }
+        final Bar last = source.getBar(endIndex);
+        if (changed || isChanged(last)) {
+            pendingBar = last;
+            pendingHigh = last.getHighPrice();
+            pendingLow = last.getLowPrice();
+            pendingClose = last.getClosePrice();
+            pendingVolume = last.getVolume();
+            pendingTrades = last.getTrades();
+            publish(last);
+        }
+    }
+
+    private boolean isChanged(Bar last) {
+        return last != pendingBar || last.getHighPrice() != pendingHigh || last.getLowPrice() != pendingLow
+                || last.getClosePrice() != pendingClose || last.getVolume() != pendingVolume
+                || last.getTrades() != pendingTrades;
+    }
+
+    /** Adds a final source bar to the aggregation of its period. */
+    private void close(Bar bar) {
+        final long period = periodOf(bar);
+        // a pending bar which did not change since it was published is already
+        // included in the last aggregated bar
+        boolean published = !isChanged(bar) && period == lastPeriod;
+        if (period != closedPeriod) {
+            publishClosed();
+            closedPeriod = period;
+            closedOpen = bar.getOpenPrice();
+            closedHigh = bar.getHighPrice();
+            closedLow = bar.getLowPrice();
+            closedVolume = zeroIfNull(bar.getVolume());
+            closedAmount = zeroIfNull(bar.getAmount());
+            closedTrades = bar.getTrades();
+        } else {
+            closedHigh = max(closedHigh, bar.getHighPrice());
+            closedLow = min(closedLow, bar.getLowPrice());
+            closedVolume = plus(closedVolume, bar.getVolume());
+            closedAmount = plus(closedAmount, bar.getAmount());
+            closedTrades += bar.getTrades();
+            published &= closedPublished;
+        }
+        closedClose = bar.getClosePrice();
+        closedPublished = published;
+    }
+
+    /** Publishes the aggregated bar of the final source bars, if any. */
+    private void publishClosed() {
+        if (closedOpen != null && !closedPublished) {
+            publish(closedPeriod, closedOpen, closedHigh, closedLow, closedClose, closedVolume, closedAmount,
+                    closedTrades);
+        }
+        closedOpen = null;
+    }
+
+    /** Publishes the aggregated bar of the period of the pending source bar. */
+    private void publish(Bar pending) {
+        final long period = periodOf(pending);
+        if (period != closedPeriod) {
+            // the final source bars belong to the previous period
+            publishClosed();
+        }
+        if (closedOpen == null) {
+            publish(period, pending.getOpenPrice(), pending.getHighPrice(), pending.getLowPrice(),
+                    pending.getClosePrice(), zeroIfNull(pending.getVolume()), zeroIfNull(pending.getAmount()),
+                    pending.getTrades());
+        } else {
+            publish(period, closedOpen, max(closedHigh, pending.getHighPrice()), min(closedLow, pending.getLowPrice()),
+                    pending.getClosePrice(), plus(closedVolume, pending.getVolume()),
+                    plus(closedAmount, pending.getAmount()), closedTrades + pending.getTrades());
+        }
+    }
+
+    private void publish(long period, Num open, Num high, Num low, Num close, Num volume, Num amount, long trades) {
+        final Bar bar = bars.barBuilder()
+                .timePeriod(timePeriod)
+                .endTime(toInstant((period + 1) * periodNanos))
+                .openPrice(open)
+                .highPrice(high)
+                .lowPrice(low)
+                .closePrice(close)
+                .volume(volume)
+                .amount(amount)
+                .trades(trades)
+                .build();
+        // the bar of the last period is replaced until the next period begins
+        bars.addBar(bar, period == lastPeriod);
+        lastPeriod = period;
+    }
+
+    /** @return the period of the bar, as a number of periods since the epoch */
+    private long periodOf(Bar bar) {
+        final long beginNanos = toNanos(bar.getBeginTime());
+        final long period = Math.floorDiv(beginNanos, periodNanos);
+        if (toNanos(bar.getEndTime()) > (period + 1) * periodNanos) {
+            throw new IllegalStateException(
+                    String.format("The bar ending at %s spans two periods of %s", bar.getEndTime(), timePeriod));
+        }
+        return period;
+    }
+
+    private Num zeroIfNull(Num value) {
+        return value == null ? source.numFactory().zero() : value;
+    }
+
+    private static Num plus(Num sum, Num value) {
+        return value == null ? sum : sum.plus(value);
+    }
+
+    private static Num max(Num first, Num second) {
+        return second == null || (first != null && first.isGreaterThanOrEqual(second)) ? first : second;
+    }
+
+    private static Num min(Num first, Num second) {
+        return second == null || (first != null && first.isLessThanOrEqual(second)) ? first : second;
+    }
+
+    private static long toNanos(Instant time) {
+        return Math.addExact(Math.multiplyExact(time.getEpochSecond(), 1_000_000_000L), time.getNano());
+    }
+
+    private static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                Math.floorMod(epochNanos, 1_000_000_000L));
+    }
+
+    @Override
+    public NumFactory numFactory() {
+        return bars.numFactory();
+    }
+
+    /**
+     * Not supported: the series is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public BarBuilder barBuilder() {
+        throw new UnsupportedOperationException("An aggregated bar series is read-only");
+    }
+
+    @Override
+    public String getName() {
+        return bars.getName();
+    }
+
+    @Override
+    public synchronized Bar getBar(int i) {
+        update();
+        return bars.getBar(i);
+    }
+
+    @Override
+    public synchronized int getBarCount() {
+        update();
+        return bars.getBarCount();
+    }
+
+    /** @return a copy of the aggregated bars */
+    @Override
+    public synchronized List<Bar> getBarData() {
+        update();
+        return new ArrayList<>(bars.getBarData());
+    }
+
+    @Override
+    public synchronized int getBeginIndex() {
+        update();
+        return bars.getBeginIndex();
+    }
+
+    @Override
+    public synchronized int getEndIndex() {
+        update();
+        return bars.getEndIndex();
+    }
+
+    @Override
+    public synchronized int floorIndex(Instant time) {
+        update();
+        return bars.floorIndex(time);
+    }
+
+    @Override
+    public synchronized int ceilingIndex(Instant time) {
+        update();
+        return bars.ceilingIndex(time);
+    }
+
+    @Override
+    public synchronized int getMaximumBarCount() {
+        return bars.getMaximumBarCount();
+    }
+
+    @Override
+    public synchronized void setMaximumBarCount(int maximumBarCount) {
+        bars.setMaximumBarCount(maximumBarCount);
+    }
+
+    @Override
+    public synchronized int getRemovedBarsCount() {
+        update();
+        return bars.getRemovedBarsCount();
+    }
+
+    /**
+     * Not supported: the series is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addBar(Bar bar, boolean replace) {
+        throw new UnsupportedOperationException("An aggregated bar series is read-only");
+    }
+
+    /**
+     * Not supported: the series is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addTrade(Num tradeVolume, Num tradePrice) {
+        throw new UnsupportedOperationException("An aggregated bar series is read-only");
+    }
+
+    /**
+     * Not supported: the series is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addPrice(Num price) {
+        throw new UnsupportedOperationException("An aggregated bar series is read-only");
+    }
+
+    /**
+     * @return a detached copy of the aggregated bars between the given indices
+     */
+    @Override
+    public synchronized BarSeries getSubSeries(int startIndex, int endIndex) {
+        update();
+        return bars.getSubSeries(startIndex, endIndex);
+    }
+
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        return indicatorRegistry.get(this);
+    }
+}
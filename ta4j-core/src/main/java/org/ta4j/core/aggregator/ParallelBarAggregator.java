@@ -0,0 +1,396 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.aggregator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.bars.TimeBarBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Aggregates a large list of {@link Bar bars} in parallel, by time period, by
+ * number of bars (tick bars), by volume or by amount.
+ *
+ * <p>
+ * The bars are split into chunks which are aggregated on a
+ * {@link ForkJoinPool}; an aggregated bar spanning two chunks is stitched from
+ * the partial bars of both chunks. The time periods are aligned on the epoch
+ * and computed with primitive nanosecond arithmetic. The volume and amount bars
+ * are computed from the running total of the source bars, with a first parallel
+ * pass to sum the chunks: a bar ends with the source bar by which the running
+ * total reaches the next multiple of the threshold. The source bars are not
+ * split, so a bar holds the whole volume or amount of its source bars.
+ *
+ * <p>
+ * The volume bars end with the same source bars as those of the
+ * {@link org.ta4j.core.bars.VolumeBarBuilder VolumeBarBuilder} as long as no
+ * source bar reaches the threshold by itself, but their volumes differ: the
+ * builder caps the volume of a bar at the threshold and carries the excess into
+ * the volume of the next bar, whereas here the excess stays in the bar and only
+ * moves the boundary of the next bar. A source bar whose volume spans several
+ * thresholds makes a single bar here, but several consecutive bars with the
+ * builder.
+ *
+ * <pre>
+ * var fiveMinutes = ParallelBarAggregator.byTimePeriod(Duration.ofMinutes(5)).aggregate(series.getBarData());
+ * var volumeBars = ParallelBarAggregator.byVolume(series.numFactory().numOf(10_000)).aggregate(series.getBarData());
+ * </pre>
+ *
+ * <p>
+ * The time periods without source bars have no aggregated bar. The time period
+ * of a tick, volume or amount bar is the time between the begin of its first
+ * source bar and the end of its last source bar.
+ */
+public class ParallelBarAggregator implements BarAggregator {
+
+    /** The minimum number of bars of a chunk. */
+    private static final int MIN_CHUNK_SIZE = 8192;
+
+    private enum Kind {
+        TIME_PERIOD, TICK_COUNT, VOLUME, AMOUNT
+    }
+
+    private final Kind kind;
+
+    /** The time period in nanoseconds (time bars). */
+    private final long periodNanos;
+
+    /** The number of source bars (tick bars). */
+    private final int tickCount;
+
+    /** The volume or amount of a bar (volume and amount bars). */
+    private final Num threshold;
+
+    private boolean onlyFinalBars = true;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    private ParallelBarAggregator(Kind kind, long periodNanos, int tickCount, Num threshold) {
+        this.kind = kind;
+        this.periodNanos = periodNanos;
+        this.tickCount = tickCount;
+        this.threshold = threshold;
+    }
+
+    /**
+     * @param timePeriod the time period of the aggregated bars, which must be a
+     *                   multiple of the time period of the source bars
+     * @return an aggregator into time bars
+     */
+    public static ParallelBarAggregator byTimePeriod(Duration timePeriod) {
+        final long periodNanos = timePeriod.toNanos();
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("Time period must be positive: " + timePeriod);
+        }
+        return new ParallelBarAggregator(Kind.TIME_PERIOD, periodNanos, 0, null);
+    }
+
+    /**
+     * @param tickCount the number of source bars of an aggregated bar
+     * @return an aggregator into tick bars
+     */
+    public static ParallelBarAggregator byTickCount(int tickCount) {
+        if (tickCount < 1) {
+            throw new IllegalArgumentException("Tick count must be positive: " + tickCount);
+        }
+        return new ParallelBarAggregator(Kind.TICK_COUNT, 0, tickCount, null);
+    }
+
+    /**
+     * @param volume the volume of an aggregated bar
+     * @return an aggregator into volume bars
+     */
+    public static ParallelBarAggregator byVolume(Num volume) {
+        return new ParallelBarAggregator(Kind.VOLUME, 0, 0, checkThreshold(volume));
+    }
+
+    /**
+     * @param amount the amount of an aggregated bar
+     * @return an aggregator into amount bars
+     */
+    public static ParallelBarAggregator byAmount(Num amount) {
+        return new ParallelBarAggregator(Kind.AMOUNT, 0, 0, checkThreshold(amount));
+    }
+
+    private static Num checkThreshold(Num threshold) {
+        if (threshold.isNaN() || !threshold.isPositive()) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        return threshold;
+    }
+
+    /**
+     * @param onlyFinalBars if true, the last aggregated bar is only created if it
+     *                      is complete (default: true)
+     * @return {@code this}
+     */
+    public ParallelBarAggregator withOnlyFinalBars(boolean onlyFinalBars) {
+        this.onlyFinalBars = onlyFinalBars;
+        return this;
+    }
+
+    /**
+     * @param pool the pool to aggregate the chunks on (default: the common
+     *             {@link ForkJoinPool})
+     * @return {@code this}
+     */
+    public ParallelBarAggregator withPool(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+        return this;
+    }
+
+    /**
+     * Aggregates the {@code bars}.
+     *
+     * @param bars the bars, in chronological order
+     * @return the aggregated bars
+     * @throws IllegalArgumentException if a source bar spans two time periods
+     */
+    @Override
+    public List<Bar> aggregate(List<Bar> bars) {
+        if (bars.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final List<Bar> source = bars instanceof RandomAccess ? bars : new ArrayList<>(bars);
+        final NumFactory numFactory = source.get(0).getClosePrice().getNumFactory();
+        final int chunkCount = Math.max(1,
+                Math.min(4 * pool.getParallelism(), (source.size() + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE));
+        final int chunkSize = (source.size() + chunkCount - 1) / chunkCount;
+
+        // the running totals before each chunk (volume and amount bars)
+        final Num[] offsets = new Num[chunkCount + 1];
+        offsets[0] = numFactory.zero();
+        if (threshold != null) {
+            final List<ForkJoinTask<Num>> sums = new ArrayList<>(chunkCount);
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                final int from = chunk * chunkSize;
+                final int to = Math.min(from + chunkSize, source.size());
+                sums.add(pool.submit(() -> sum(source, from, to, numFactory.zero())));
+            }
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                offsets[chunk + 1] = offsets[chunk].plus(sums.get(chunk).join());
+            }
+        }
+
+        final List<ForkJoinTask<List<PartialBar>>> tasks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            final int from = chunk * chunkSize;
+            final int to = Math.min(from + chunkSize, source.size());
+            final Num offset = offsets[chunk];
+            tasks.add(pool.submit(() -> aggregate(source, from, to, offset, numFactory)));
+        }
+
+        // stitches the partial bars of the chunks
+        final List<PartialBar> partialBars = new ArrayList<>();
+        for (ForkJoinTask<List<PartialBar>> task : tasks) {
+            for (PartialBar partialBar : task.join()) {
+                final int last = partialBars.size() - 1;
+                if (last >= 0 && partialBars.get(last).bucket == partialBar.bucket) {
+                    partialBars.get(last).merge(partialBar);
+                } else {
+                    partialBars.add(partialBar);
+                }
+            }
+        }
+
+        final PartialBar lastBar = partialBars.get(partialBars.size() - 1);
+        if (onlyFinalBars && !isComplete(lastBar, offsets[chunkCount])) {
+            partialBars.remove(partialBars.size() - 1);
+        }
+        final List<Bar> aggregated = new ArrayList<>(partialBars.size());
+        for (PartialBar partialBar : partialBars) {
+            aggregated.add(toBar(partialBar, numFactory));
+        }
+        return aggregated;
+    }
+
+    private Num sum(List<Bar> bars, int from, int to, Num zero) {
+        Num sum = zero;
+        for (int i = from; i < to; i++) {
+            final Num value = valueOf(bars.get(i));
+            if (value != null) {
+                sum = sum.plus(value);
+            }
+        }
+        return sum;
+    }
+
+    /** @return the volume or amount of the bar */
+    private Num valueOf(Bar bar) {
+        return kind == Kind.VOLUME ? bar.getVolume() : bar.getAmount();
+    }
+
+    /**
+     * Aggregates a chunk of bars into partial bars.
+     *
+     * @param offset the running total before the chunk (volume and amount bars)
+     */
+    private List<PartialBar> aggregate(List<Bar> bars, int from, int to, Num offset, NumFactory numFactory) {
+        final List<PartialBar> partialBars = new ArrayList<>();
+        PartialBar current = null;
+        Num total = offset;
+        long bucket = 0;
+        Num nextBoundary = null;
+        if (threshold != null) {
+            bucket = offset.dividedBy(threshold).floor().longValue();
+            nextBoundary = threshold.multipliedBy(numFactory.numOf(bucket + 1));
+        }
+        for (int i = from; i < to; i++) {
+            final Bar bar = bars.get(i);
+            final long beginNanos = toNanos(bar.getBeginTime());
+            final long endNanos = toNanos(bar.getEndTime());
+            switch (kind) {
+            case TIME_PERIOD:
+                bucket = Math.floorDiv(beginNanos, periodNanos);
+                if (endNanos > (bucket + 1) * periodNanos) {
+                    throw new IllegalArgumentException(String.format(
+                            "Cannot aggregate bars: the bar ending at %s spans two time periods", bar.getEndTime()));
+                }
+                break;
+            case TICK_COUNT:
+                bucket = i / tickCount;
+                break;
+            default:
+                // the bucket of a bar is given by the running total before the bar
+                while (total.isGreaterThanOrEqual(nextBoundary)) {
+                    bucket++;
+                    nextBoundary = nextBoundary.plus(threshold);
+                }
+                final Num value = valueOf(bar);
+                if (value != null) {
+                    total = total.plus(value);
+                }
+            }
+            if (current == null || current.bucket != bucket) {
+                current = new PartialBar(bucket, bar, beginNanos, numFactory);
+                partialBars.add(current);
+            }
+            current.add(bar, endNanos);
+        }
+        return partialBars;
+    }
+
+    /** @return true if the (last) bar is complete */
+    private boolean isComplete(PartialBar bar, Num total) {
+        switch (kind) {
+        case TIME_PERIOD:
+            return bar.endNanos >= (bar.bucket + 1) * periodNanos;
+        case TICK_COUNT:
+            return bar.count == tickCount;
+        default:
+            return total.isGreaterThanOrEqual(threshold.multipliedBy(total.getNumFactory().numOf(bar.bucket + 1)));
+        }
+    }
+
+    private Bar toBar(PartialBar bar, NumFactory numFactory) {
+        final long endNanos = kind == Kind.TIME_PERIOD ? (bar.bucket + 1) * periodNanos : bar.endNanos;
+        final long beginNanos = kind == Kind.TIME_PERIOD ? endNanos - periodNanos : bar.beginNanos;
+        return new TimeBarBuilder(numFactory).timePeriod(Duration.ofNanos(endNanos - beginNanos))
+                .endTime(toInstant(endNanos))
+                .openPrice(bar.open)
+                .highPrice(bar.high)
+                .lowPrice(bar.low)
+                .closePrice(bar.close)
+                .volume(bar.volume)
+                .amount(bar.amount)
+                .trades(bar.trades)
+                .build();
+    }
+
+    private static long toNanos(Instant time) {
+        return Math.addExact(Math.multiplyExact(time.getEpochSecond(), 1_000_000_000L), time.getNano());
+    }
+
+    private static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                Math.floorMod(epochNanos, 1_000_000_000L));
+    }
+
+    /** The aggregation of consecutive source bars of one bucket. */
+    private static final class PartialBar {
+
+        private final long bucket;
+        private final long beginNanos;
+        private long endNanos;
+        private final Num open;
+        private Num high;
+        private Num low;
+        private Num close;
+        private Num volume;
+        private Num amount;
+        private long trades;
+        private int count;
+
+        private PartialBar(long bucket, Bar firstBar, long beginNanos, NumFactory numFactory) {
+            this.bucket = bucket;
+            this.beginNanos = beginNanos;
+            this.open = firstBar.getOpenPrice();
+            this.volume = numFactory.zero();
+            this.amount = numFactory.zero();
+        }
+
+        private void add(Bar bar, long endNanos) {
+            this.endNanos = endNanos;
+            this.high = max(high, bar.getHighPrice());
+            this.low = min(low, bar.getLowPrice());
+            this.close = bar.getClosePrice();
+            if (bar.getVolume() != null) {
+                this.volume = volume.plus(bar.getVolume());
+            }
+            if (bar.getAmount() != null) {
+                this.amount = amount.plus(bar.getAmount());
+            }
+            this.trades += bar.getTrades();
+            this.count++;
+        }
+
+        /** Merges the partial bar of the same bucket from the next chunk. */
+        private void merge(PartialBar next) {
+            this.endNanos = next.endNanos;
+            this.high = max(high, next.high);
+            this.low = min(low, next.low);
+            this.close = next.close;
+            this.volume = volume.plus(next.volume);
+            this.amount = amount.plus(next.amount);
+            this.trades += next.trades;
+            this.count += next.count;
+        }
+
+        private static Num max(Num first, Num second) {
+            return second == null || (first != null && first.isGreaterThanOrEqual(second)) ? first : second;
+        }
+
+        private static Num min(Num first, Num second) {
+            return second == null || (first != null && first.isLessThanOrEqual(second)) ? first : second;
+        }
+    }
+}
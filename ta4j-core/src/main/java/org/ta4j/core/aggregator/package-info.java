@@ -27,6 +27,10 @@
  * <p>
  * This package can be used to aggregate {@link org.ta4j.core.Bar bars} by
  * various conditions, e.g. by
- * {@link org.ta4j.core.aggregator.DurationBarAggregator duration}.
+ * {@link org.ta4j.core.aggregator.DurationBarAggregator duration}. An
+ * {@link org.ta4j.core.aggregator.AggregatedBarSeries AggregatedBarSeries}
+ * aggregates a live bar series incrementally into a higher timeframe and the
+ * {@link org.ta4j.core.aggregator.ParallelBarAggregator ParallelBarAggregator}
+ * aggregates large historical series in parallel.
  */
 package org.ta4j.core.aggregator;
\ No newline at end of file
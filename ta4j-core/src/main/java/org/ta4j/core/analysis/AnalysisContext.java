@@ -0,0 +1,184 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Position;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.Returns.ReturnType;
+import org.ta4j.core.num.Num;
+
+/**
+ * The shared state of an evaluation of a {@link TradingRecord} over a
+ * {@link BarSeries}.
+ *
+ * <p>
+ * The {@link CashFlow}, the {@link Returns}, the profit and loss of each
+ * position and the maximum drawdown are calculated at most once and are then
+ * shared by all {@link AnalysisCriterion criteria} evaluated with the same
+ * context. The criterion values are memoized as well, so that composite
+ * criteria (e.g. {@code SqnCriterion}) do not recalculate the criteria they are
+ * built of.
+ *
+ * <p>
+ * A context must not be used by several threads at the same time.
+ */
+public class AnalysisContext {
+
+    private final BarSeries series;
+    private final TradingRecord tradingRecord;
+
+    private CashFlow cashFlow;
+    private Num maximumDrawdown;
+    private List<Num> positionProfits;
+    private final Map<ReturnType, Returns> returns = new EnumMap<>(ReturnType.class);
+    private final Map<AnalysisCriterion, Num> values = new IdentityHashMap<>();
+    private final Map<AnalysisCriterion, List<Num>> positionValues = new IdentityHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param series        the bar series, not null
+     * @param tradingRecord the trading record, not null
+     */
+    public AnalysisContext(BarSeries series, TradingRecord tradingRecord) {
+        this.series = Objects.requireNonNull(series);
+        this.tradingRecord = Objects.requireNonNull(tradingRecord);
+    }
+
+    /** @return the bar series */
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    /** @return the trading record */
+    public TradingRecord getTradingRecord() {
+        return tradingRecord;
+    }
+
+    /** @return the cash flow of the trading record */
+    public CashFlow getCashFlow() {
+        if (cashFlow == null) {
+            cashFlow = new CashFlow(series, tradingRecord);
+        }
+        return cashFlow;
+    }
+
+    /**
+     * @param type the return type
+     * @return the returns of the trading record
+     */
+    public Returns getReturns(ReturnType type) {
+        return returns.computeIfAbsent(type, t -> new Returns(series, tradingRecord, t));
+    }
+
+    /**
+     * @return the maximum drawdown of the {@link #getCashFlow() cash flow} within
+     *         the trading period of the trading record
+     */
+    public Num getMaximumDrawdown() {
+        if (maximumDrawdown == null) {
+            maximumDrawdown = getCashFlow().getMaximumDrawdown(tradingRecord.getStartIndex(series),
+                    tradingRecord.getEndIndex(series));
+        }
+        return maximumDrawdown;
+    }
+
+    /**
+     * @return the {@link Position#getProfit() profit} (including trading costs) of
+     *         each closed position of the trading record
+     */
+    public List<Num> getPositionProfits() {
+        if (positionProfits == null) {
+            List<Num> profits = new ArrayList<>(tradingRecord.getPositionCount());
+            for (Position position : tradingRecord.getPositions()) {
+                if (position.isClosed()) {
+                    profits.add(position.getProfit());
+                }
+            }
+            positionProfits = Collections.unmodifiableList(profits);
+        }
+        return positionProfits;
+    }
+
+    /**
+     * Returns the value of the criterion for the trading record. The value is
+     * calculated on first access and reused afterwards.
+     *
+     * @param criterion the criterion
+     * @return the criterion value for the trading record
+     */
+    public Num getValue(AnalysisCriterion criterion) {
+        Num value = values.get(criterion);
+        if (value == null) {
+            // criteria may evaluate other criteria of this context
+            value = criterion.calculate(this);
+            values.put(criterion, value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of the criterion for each position of the trading record.
+     * The values are calculated on first access and reused afterwards.
+     *
+     * @param criterion the criterion
+     * @return the criterion values, one per position of the trading record
+     */
+    public List<Num> getPositionValues(AnalysisCriterion criterion) {
+        List<Num> result = positionValues.get(criterion);
+        if (result == null) {
+            List<Num> list = new ArrayList<>(tradingRecord.getPositionCount());
+            for (Position position : tradingRecord.getPositions()) {
+                list.add(criterion.calculate(series, position));
+            }
+            result = Collections.unmodifiableList(list);
+            positionValues.put(criterion, result);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates several criteria in one pass over this context.
+     *
+     * @param criteria the criteria
+     * @return the criterion values, in the order of the criteria
+     */
+    public List<Num> calculate(List<? extends AnalysisCriterion> criteria) {
+        List<Num> result = new ArrayList<>(criteria.size());
+        for (AnalysisCriterion criterion : criteria) {
+            result.add(getValue(criterion));
+        }
+        return result;
+    }
+}
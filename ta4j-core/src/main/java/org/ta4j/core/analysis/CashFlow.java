@@ -26,6 +26,7 @@ package org.ta4j.core.analysis;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
@@ -111,6 +112,45 @@ public class CashFlow implements Indicator<Num> {
         return barSeries.getBarCount();
     }
 
+    /**
+     * Calculates the maximum drawdown of the cash flow between two indexes.
+     *
+     * The formula is as follows:
+     *
+     * <pre>
+     * MDD = (LP - PV) / PV
+     * with MDD: Maximum drawdown, in percent.
+     * with LP: Lowest point (lowest value after peak value).
+     * with PV: Peak value (highest value within the observation).
+     * </pre>
+     *
+     * @param beginIndex the first bar index to consider
+     * @param endIndex   the last bar index to consider
+     * @return the maximum drawdown of the cash flow
+     */
+    public Num getMaximumDrawdown(int beginIndex, int endIndex) {
+        Num zero = barSeries.numFactory().zero();
+        Num maxPeak = zero;
+        Num maximumDrawdown = zero;
+
+        if (!barSeries.isEmpty()) {
+            for (int i = beginIndex; i <= endIndex; i++) {
+
+                Num value = getValue(i);
+                if (value.isGreaterThan(maxPeak)) {
+                    maxPeak = value;
+                }
+
+                Num drawdown = maxPeak.minus(value).dividedBy(maxPeak);
+                if (drawdown.isGreaterThan(maximumDrawdown)) {
+                    maximumDrawdown = drawdown;
+                }
+            }
+        }
+
+        return maximumDrawdown;
+    }
+
     /**
      * Calculates the cash flow for a single closed position.
      *
@@ -132,7 +172,6 @@ public class CashFlow implements Indicator<Num> {
      * @param finalIndex index up until cash flow of open positions is considered
      */
     private void calculate(Position position, int finalIndex) {
-        boolean isLongTrade = position.getEntry().isBuy();
         int endIndex = determineEndIndex(position, finalIndex, barSeries.getEndIndex());
         final int entryIndex = position.getEntry().getIndex();
         int begin = entryIndex + 1;
@@ -142,30 +181,48 @@ public class CashFlow implements Indicator<Num> {
         }
         // Trade is not valid if net balance at the entryIndex is negative
         if (values.get(values.size() - 1).isGreaterThan(values.get(0).getNumFactory().numOf(0))) {
-            int startingIndex = Math.max(begin, 1);
-
-            int nPeriods = endIndex - entryIndex;
-            Num holdingCost = position.getHoldingCost(endIndex);
-            Num avgCost = holdingCost.dividedBy(holdingCost.getNumFactory().numOf(nPeriods));
-
-            // Add intermediate cash flows during position
-            Num netEntryPrice = position.getEntry().getNetPrice();
-            for (int i = startingIndex; i < endIndex; i++) {
-                Num intermediateNetPrice = addCost(barSeries.getBar(i).getClosePrice(), avgCost, isLongTrade);
-                Num ratio = getIntermediateRatio(isLongTrade, netEntryPrice, intermediateNetPrice);
-                values.add(values.get(entryIndex).multipliedBy(ratio));
-            }
+            forEachValue(barSeries, position, endIndex, values.get(entryIndex), values::add);
+        }
+    }
 
-            // add net cash flow at exit position
-            Num exitPrice;
-            if (position.getExit() != null) {
-                exitPrice = position.getExit().getNetPrice();
-            } else {
-                exitPrice = barSeries.getBar(endIndex).getClosePrice();
-            }
-            Num ratio = getIntermediateRatio(isLongTrade, netEntryPrice, addCost(exitPrice, avgCost, isLongTrade));
-            values.add(values.get(entryIndex).multipliedBy(ratio));
+    /**
+     * Calculates the cash flow values of a position, from the bar after its entry
+     * up to {@code endIndex}.
+     *
+     * @param barSeries  the bar series
+     * @param position   the position
+     * @param endIndex   the last bar index to consider (see
+     *                   {@link #determineEndIndex(Position, int, int)})
+     * @param entryValue the cash flow value at the entry of the position
+     * @param action     the action receiving the value of each bar, in order
+     */
+    static void forEachValue(BarSeries barSeries, Position position, int endIndex, Num entryValue,
+            Consumer<Num> action) {
+        boolean isLongTrade = position.getEntry().isBuy();
+        final int entryIndex = position.getEntry().getIndex();
+        int startingIndex = Math.max(entryIndex + 1, 1);
+
+        int nPeriods = endIndex - entryIndex;
+        Num holdingCost = position.getHoldingCost(endIndex);
+        Num avgCost = holdingCost.dividedBy(holdingCost.getNumFactory().numOf(nPeriods));
+
+        // Add intermediate cash flows during position
+        Num netEntryPrice = position.getEntry().getNetPrice();
+        for (int i = startingIndex; i < endIndex; i++) {
+            Num intermediateNetPrice = addCost(barSeries.getBar(i).getClosePrice(), avgCost, isLongTrade);
+            Num ratio = getIntermediateRatio(isLongTrade, netEntryPrice, intermediateNetPrice);
+            action.accept(entryValue.multipliedBy(ratio));
+        }
+
+        // add net cash flow at exit position
+        Num exitPrice;
+        if (position.getExit() != null) {
+            exitPrice = position.getExit().getNetPrice();
+        } else {
+            exitPrice = barSeries.getBar(endIndex).getClosePrice();
         }
+        Num ratio = getIntermediateRatio(isLongTrade, netEntryPrice, addCost(exitPrice, avgCost, isLongTrade));
+        action.accept(entryValue.multipliedBy(ratio));
     }
 
     /**
@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis;
+
+import java.util.List;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Position;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.num.Num;
+
+/**
+ * The maximum drawdown of the {@link CashFlow} of a trading record which is
+ * still being recorded.
+ *
+ * <p>
+ * Each {@link #update(TradingRecord)} only adds the positions closed since the
+ * previous update, so following a whole run costs one pass over its bars
+ * instead of one pass per update. The value is the one of
+ * {@link CashFlow#getMaximumDrawdown(int, int)} from the start of the trading
+ * record up to its last closed position.
+ */
+public final class RunningDrawdown {
+
+    private final BarSeries series;
+
+    private Num value;
+    private Num peak;
+    private Num maximumDrawdown;
+    private int positionCount;
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series of the trading record
+     */
+    public RunningDrawdown(BarSeries series) {
+        this.series = series;
+        this.value = series.numFactory().one();
+        this.peak = value;
+        this.maximumDrawdown = series.numFactory().zero();
+    }
+
+    /**
+     * Adds the positions closed since the previous update.
+     *
+     * @param tradingRecord the trading record, the same one on every call
+     * @return the maximum drawdown up to the last closed position
+     */
+    public Num update(TradingRecord tradingRecord) {
+        final List<Position> positions = tradingRecord.getPositions();
+        for (; positionCount < positions.size(); positionCount++) {
+            add(positions.get(positionCount));
+        }
+        return maximumDrawdown;
+    }
+
+    /** Same values as {@code CashFlow#calculate(Position, int)}. */
+    private void add(Position position) {
+        // a position is not valid if the net balance at its entry is not positive
+        if (!value.isPositive()) {
+            return;
+        }
+        final int endIndex = CashFlow.determineEndIndex(position, position.getExit().getIndex(), series.getEndIndex());
+        CashFlow.forEachValue(series, position, endIndex, value, this::addValue);
+    }
+
+    private void addValue(Num newValue) {
+        value = newValue;
+        if (value.isGreaterThan(peak)) {
+            peak = value;
+        }
+        final Num drawdown = peak.minus(value).dividedBy(peak);
+        if (drawdown.isGreaterThan(maximumDrawdown)) {
+            maximumDrawdown = drawdown;
+        }
+    }
+}
@@ -27,6 +27,8 @@
  * <p>
  * This package contains instruments to inspect backtesting results like the
  * {@link org.ta4j.core.analysis.CashFlow CashFlow} and to calculate
- * {@link org.ta4j.core.analysis.cost.CostModel trading costs}.
+ * {@link org.ta4j.core.analysis.cost.CostModel trading costs}. An
+ * {@link org.ta4j.core.analysis.AnalysisContext AnalysisContext} shares these
+ * instruments between several analysis criteria.
  */
 package org.ta4j.core.analysis;
\ No newline at end of file
@@ -114,4 +114,15 @@ public class BacktestExecutor {
             return tradingStatementGenerator.generate(strategy, tradingRecord, seriesManager.getBarSeries());
         }).collect(Collectors.toList());
     }
+
+    /**
+     * Returns a backtest which streams the strategies instead of holding all of
+     * them with their trading records and statements. Use it for large parameter
+     * sweeps.
+     *
+     * @return a streaming backtest over the bar series of this executor
+     */
+    public StreamingBacktest streaming() {
+        return new StreamingBacktest(seriesManager, tradingStatementGenerator);
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the progress of a {@link StreamingBacktest}.
+ */
+public class BacktestProgress {
+
+    private final long completedCount;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param completedCount the number of strategies backtested so far
+     * @param elapsedNanos   the nanoseconds elapsed since the backtest started
+     */
+    public BacktestProgress(long completedCount, long elapsedNanos) {
+        this.completedCount = completedCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** @return the number of strategies backtested so far */
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    /** @return the time elapsed since the backtest started */
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /** @return the number of strategies backtested per second */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : completedCount * 1_000_000_000d / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d strategies in %s (%.1f/s)", completedCount, getElapsed(), getThroughput());
+    }
+}
@@ -23,6 +23,8 @@
  */
 package org.ta4j.core.backtest;
 
+import java.util.function.Predicate;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.ta4j.core.BarSeries;
@@ -203,6 +205,29 @@ public class BarSeriesManager {
      * @return the trading record coming from the run
      */
     public TradingRecord run(Strategy strategy, TradeType tradeType, Num amount, int startIndex, int finishIndex) {
+        return run(strategy, tradeType, amount, startIndex, finishIndex, null);
+    }
+
+    /**
+     * Runs the provided strategy over the managed series (from startIndex to
+     * finishIndex) and abandons the run as soon as the {@code abandonCondition} is
+     * met.
+     *
+     * <p>
+     * The condition is tested each time a position has been closed. An abandoned
+     * run returns the trading record up to the bar that met the condition.
+     *
+     * @param strategy         the trading strategy
+     * @param tradeType        the {@link TradeType} used to open the trades
+     * @param amount           the amount used to open/close the trades
+     * @param startIndex       the start index for the run (included)
+     * @param finishIndex      the finish index for the run (included)
+     * @param abandonCondition the condition to abandon the run, tested with the
+     *                         trading record so far (optional)
+     * @return the trading record coming from the run
+     */
+    public TradingRecord run(Strategy strategy, TradeType tradeType, Num amount, int startIndex, int finishIndex,
+            Predicate<TradingRecord> abandonCondition) {
 
         int runBeginIndex = Math.max(startIndex, barSeries.getBeginIndex());
         int runEndIndex = Math.min(finishIndex, barSeries.getEndIndex());
@@ -219,6 +244,10 @@ public class BarSeriesManager {
             // For each bar between both indexes...
             if (strategy.shouldOperate(i, tradingRecord)) {
                 tradeExecutionModel.execute(i, tradingRecord, barSeries, amount);
+                if (abandonCondition != null && tradingRecord.isClosed() && abandonCondition.test(tradingRecord)) {
+                    log.trace("Abandoning run of strategy {} at index {}", strategy, i);
+                    return tradingRecord;
+                }
             }
         }
 
@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.num.Num;
+
+/**
+ * Searches the best strategies according to an {@link AnalysisCriterion}.
+ *
+ * <p>
+ * The strategies are run concurrently (so their indicators must be safe to use
+ * from several threads, which is the case of the ta4j indicators). As soon as
+ * the requested number of strategies has been evaluated, the runs which cannot
+ * beat the worst of them anymore (according to
+ * {@link AnalysisCriterion#bestPossibleValueTracker(BarSeries)}) are abandoned.
+ * Strategies with equal criterion values are ranked in the order of the given
+ * list.
+ */
+public class BestStrategySearch {
+
+    private final BarSeriesManager manager;
+    private final AnalysisCriterion criterion;
+
+    /**
+     * Constructor.
+     *
+     * @param manager   the bar series manager to run the strategies with
+     * @param criterion the criterion to rank the strategies by
+     */
+    public BestStrategySearch(BarSeriesManager manager, AnalysisCriterion criterion) {
+        this.manager = Objects.requireNonNull(manager);
+        this.criterion = Objects.requireNonNull(criterion);
+    }
+
+    /**
+     * @param tradeType  the entry type (BUY or SELL) of the first trade in the
+     *                   trading session
+     * @param strategies the strategies
+     * @param count      the maximum number of strategies to return
+     * @return the {@code count} best strategies, the best one first
+     * @throws IllegalArgumentException if {@code count} is not positive
+     */
+    public List<Strategy> search(TradeType tradeType, List<Strategy> strategies, int count) {
+        final BarSeries series = manager.getBarSeries();
+        return search(tradeType, strategies, count, series.getBeginIndex(), series.getEndIndex());
+    }
+
+    /**
+     * @param tradeType  the entry type (BUY or SELL) of the first trade in the
+     *                   trading session
+     * @param strategies the strategies
+     * @param count      the maximum number of strategies to return
+     * @param startIndex the start index of the runs (included)
+     * @param endIndex   the end index of the runs (included)
+     * @return the {@code count} best strategies over the index range, the best one
+     *         first
+     * @throws IllegalArgumentException if {@code count} is not positive
+     */
+    public List<Strategy> search(TradeType tradeType, List<Strategy> strategies, int count, int startIndex,
+            int endIndex) {
+        return rank(tradeType, strategies, count, startIndex, endIndex).stream()
+                .map(RankedStrategy::getStrategy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param tradeType  the entry type (BUY or SELL) of the first trade in the
+     *                   trading session
+     * @param strategies the strategies
+     * @param count      the maximum number of strategies to return
+     * @param startIndex the start index of the runs (included)
+     * @param endIndex   the end index of the runs (included)
+     * @return the {@code count} best strategies over the index range with their
+     *         criterion values, the best one first
+     * @throws IllegalArgumentException if {@code count} is not positive
+     */
+    public List<RankedStrategy> rank(TradeType tradeType, List<Strategy> strategies, int count, int startIndex,
+            int endIndex) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        final BarSeries series = manager.getBarSeries();
+        final Num amount = series.numFactory().one();
+        final Ranking ranking = new Ranking(count);
+
+        IntStream.range(0, strategies.size()).parallel().forEach(i -> {
+            final Strategy strategy = strategies.get(i);
+            final boolean[] abandoned = new boolean[1];
+            final Function<TradingRecord, Num> bestPossibleValue = criterion.bestPossibleValueTracker(series);
+            TradingRecord tradingRecord = manager.run(strategy, tradeType, amount, startIndex, endIndex,
+                    record -> abandoned[0] = ranking.excludes(bestPossibleValue, record));
+            if (!abandoned[0]) {
+                ranking.add(new RankedStrategy(i, strategy, criterion.calculate(series, tradingRecord)));
+            }
+        });
+        return ranking.getCandidates();
+    }
+
+    /** A strategy with its criterion value. */
+    public static final class RankedStrategy {
+
+        private final int index;
+        private final Strategy strategy;
+        private final Num value;
+
+        private RankedStrategy(int index, Strategy strategy, Num value) {
+            this.index = index;
+            this.strategy = strategy;
+            this.value = value;
+        }
+
+        /** @return the index of the strategy in the searched list */
+        public int getIndex() {
+            return index;
+        }
+
+        /** @return the strategy */
+        public Strategy getStrategy() {
+            return strategy;
+        }
+
+        /** @return the criterion value of the strategy */
+        public Num getCriterionValue() {
+            return value;
+        }
+    }
+
+    /** The best candidates found so far, the best one first. */
+    private final class Ranking {
+
+        private final int capacity;
+        private final List<RankedStrategy> candidates;
+
+        /** The value of the worst ranked candidate once the ranking is full. */
+        private volatile Num threshold;
+
+        private Ranking(int capacity) {
+            this.capacity = capacity;
+            this.candidates = new ArrayList<>(Math.min(capacity, 1024) + 1);
+        }
+
+        /**
+         * @return true if the run of the trading record cannot enter the ranking
+         *         anymore
+         */
+        private boolean excludes(Function<TradingRecord, Num> bestPossibleValueTracker, TradingRecord tradingRecord) {
+            final Num worstValue = threshold;
+            if (worstValue == null) {
+                return false;
+            }
+            final Num bestPossibleValue = bestPossibleValueTracker.apply(tradingRecord);
+            return !bestPossibleValue.isNaN() && criterion.betterThan(worstValue, bestPossibleValue);
+        }
+
+        private synchronized void add(RankedStrategy candidate) {
+            int position = candidates.size();
+            while (position > 0 && isBefore(candidate, candidates.get(position - 1))) {
+                position--;
+            }
+            if (position == capacity) {
+                return;
+            }
+            candidates.add(position, candidate);
+            if (candidates.size() > capacity) {
+                candidates.remove(capacity);
+            }
+            if (candidates.size() == capacity) {
+                threshold = candidates.get(capacity - 1).value;
+            }
+        }
+
+        private boolean isBefore(RankedStrategy candidate, RankedStrategy other) {
+            if (criterion.betterThan(candidate.value, other.value)) {
+                return true;
+            }
+            if (criterion.betterThan(other.value, candidate.value)) {
+                return false;
+            }
+            return candidate.index < other.index;
+        }
+
+        private synchronized List<RankedStrategy> getCandidates() {
+            return new ArrayList<>(candidates);
+        }
+    }
+}
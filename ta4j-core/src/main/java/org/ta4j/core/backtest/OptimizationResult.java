@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.Strategy;
+import org.ta4j.core.num.Num;
+
+/**
+ * A candidate found by a {@link StrategyOptimizer}.
+ */
+public class OptimizationResult {
+
+    private final ParameterSet parameters;
+    private final Strategy strategy;
+    private final Num criterionValue;
+
+    /**
+     * Constructor.
+     *
+     * @param parameters     the parameters of the candidate
+     * @param strategy       the strategy of the candidate
+     * @param criterionValue the criterion value of the strategy
+     */
+    public OptimizationResult(ParameterSet parameters, Strategy strategy, Num criterionValue) {
+        this.parameters = parameters;
+        this.strategy = strategy;
+        this.criterionValue = criterionValue;
+    }
+
+    /** @return the parameters of the candidate */
+    public ParameterSet getParameters() {
+        return parameters;
+    }
+
+    /** @return the strategy of the candidate */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /** @return the criterion value of the strategy */
+    public Num getCriterionValue() {
+        return criterionValue;
+    }
+
+    @Override
+    public String toString() {
+        return "OptimizationResult{parameters=" + parameters + ", criterionValue=" + criterionValue + "}";
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A grid of strategy parameters: the cartesian product of the values of each
+ * parameter, optionally restricted by a constraint.
+ *
+ * <pre>
+ * var grid = new ParameterGrid().withRange("short", 5, 50, 5)
+ *         .withRange("long", 10, 200, 10)
+ *         .withConstraint(p -&gt; p.getInt("short") &lt; p.getInt("long"));
+ * </pre>
+ *
+ * <p>
+ * The parameter sets are generated lazily while iterating.
+ */
+public class ParameterGrid implements Iterable<ParameterSet> {
+
+    private final List<String> names = new ArrayList<>();
+    private final List<List<Number>> values = new ArrayList<>();
+    private Predicate<ParameterSet> constraint = parameters -> true;
+
+    /**
+     * Adds a parameter with the values {@code from}, {@code from + step}, ... up to
+     * {@code to} (included).
+     *
+     * @param name the name of the parameter
+     * @param from the first value
+     * @param to   the last value (included)
+     * @param step the step between two values
+     * @return {@code this}
+     */
+    public ParameterGrid withRange(String name, int from, int to, int step) {
+        if (step < 1) {
+            throw new IllegalArgumentException("step must be positive: " + step);
+        }
+        final List<Number> range = new ArrayList<>();
+        for (int value = from; value <= to; value += step) {
+            range.add(value);
+        }
+        return withValues(name, range);
+    }
+
+    /**
+     * Adds a parameter with the given values.
+     *
+     * @param name   the name of the parameter
+     * @param values the values of the parameter
+     * @return {@code this}
+     */
+    public ParameterGrid withValues(String name, Number... values) {
+        return withValues(name, List.of(values));
+    }
+
+    /**
+     * Adds a parameter with the given values.
+     *
+     * @param name   the name of the parameter
+     * @param values the values of the parameter
+     * @return {@code this}
+     */
+    public ParameterGrid withValues(String name, List<? extends Number> values) {
+        Objects.requireNonNull(name);
+        if (names.contains(name)) {
+            throw new IllegalArgumentException("Duplicate parameter: " + name);
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("No value for parameter: " + name);
+        }
+        this.names.add(name);
+        this.values.add(List.copyOf(values));
+        return this;
+    }
+
+    /**
+     * Restricts the grid to the parameter sets matching the constraint.
+     *
+     * @param constraint the constraint
+     * @return {@code this}
+     */
+    public ParameterGrid withConstraint(Predicate<ParameterSet> constraint) {
+        this.constraint = this.constraint.and(constraint);
+        return this;
+    }
+
+    /**
+     * @return the number of parameter sets of the grid, before applying the
+     *         constraints
+     */
+    public long getCombinationCount() {
+        long count = names.isEmpty() ? 0 : 1;
+        for (List<Number> parameterValues : values) {
+            count = Math.multiplyExact(count, parameterValues.size());
+        }
+        return count;
+    }
+
+    @Override
+    public Iterator<ParameterSet> iterator() {
+        return new GridIterator();
+    }
+
+    /** @return the parameter sets of the grid */
+    public Stream<ParameterSet> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Iterates the cartesian product like an odometer, the last parameter first.
+     */
+    private final class GridIterator implements Iterator<ParameterSet> {
+
+        private final String[] parameterNames = names.toArray(new String[0]);
+        private final List<List<Number>> parameterValues = List.copyOf(values);
+        private final Map<String, Integer> indexes;
+        private final Predicate<ParameterSet> parameterConstraint = constraint;
+        private final int[] positions = new int[parameterNames.length];
+        private boolean exhausted = parameterNames.length == 0;
+        private ParameterSet next;
+
+        private GridIterator() {
+            final Map<String, Integer> map = new HashMap<>();
+            for (int i = 0; i < parameterNames.length; i++) {
+                map.put(parameterNames[i], i);
+            }
+            this.indexes = Collections.unmodifiableMap(map);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !exhausted) {
+                final Number[] current = new Number[positions.length];
+                for (int i = 0; i < positions.length; i++) {
+                    current[i] = parameterValues.get(i).get(positions[i]);
+                }
+                final ParameterSet candidate = new ParameterSet(indexes, parameterNames, current);
+                advance();
+                if (parameterConstraint.test(candidate)) {
+                    next = candidate;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public ParameterSet next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final ParameterSet result = next;
+            next = null;
+            return result;
+        }
+
+        private void advance() {
+            for (int i = positions.length - 1; i >= 0; i--) {
+                if (++positions[i] < parameterValues.get(i).size()) {
+                    return;
+                }
+                positions[i] = 0;
+            }
+            exhausted = true;
+        }
+    }
+}
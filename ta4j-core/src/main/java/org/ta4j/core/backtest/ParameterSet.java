@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * The values of the parameters of one candidate of a {@link ParameterGrid}.
+ */
+public class ParameterSet {
+
+    private final Map<String, Integer> indexes;
+    private final String[] names;
+    private final Number[] values;
+
+    ParameterSet(Map<String, Integer> indexes, String[] names, Number[] values) {
+        this.indexes = indexes;
+        this.names = names;
+        this.values = values;
+    }
+
+    /**
+     * @param name the name of the parameter
+     * @return the value of the parameter
+     * @throws NoSuchElementException if there is no such parameter
+     */
+    public Number get(String name) {
+        final Integer index = indexes.get(name);
+        if (index == null) {
+            throw new NoSuchElementException("Unknown parameter: " + name);
+        }
+        return values[index];
+    }
+
+    /**
+     * @param name the name of the parameter
+     * @return the value of the parameter as {@code int}
+     * @throws NoSuchElementException if there is no such parameter
+     */
+    public int getInt(String name) {
+        return get(name).intValue();
+    }
+
+    /**
+     * @param name the name of the parameter
+     * @return the value of the parameter as {@code double}
+     * @throws NoSuchElementException if there is no such parameter
+     */
+    public double getDouble(String name) {
+        return get(name).doubleValue();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ParameterSet)) {
+            return false;
+        }
+        final ParameterSet other = (ParameterSet) obj;
+        return Arrays.equals(names, other.names) && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(names) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < names.length; i++) {
+            joiner.add(names[i] + "=" + values[i]);
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.backtest.BestStrategySearch.RankedStrategy;
+import org.ta4j.core.indicators.IndicatorRegistry;
+
+/**
+ * Searches the best parameters of a strategy over a {@link ParameterGrid}.
+ *
+ * <p>
+ * All candidates build their indicators through the {@link IndicatorRegistry}
+ * of the bar series, so an indicator shared by several candidates (e.g. the
+ * {@code SMA(50)} of all the crossovers with a 50-bar long average) is
+ * calculated only once. The candidates are then ranked concurrently by a
+ * {@link BestStrategySearch}.
+ */
+public class StrategyOptimizer {
+
+    private final BarSeriesManager manager;
+
+    /**
+     * Constructor.
+     *
+     * @param manager the bar series manager to run the candidates with
+     */
+    public StrategyOptimizer(BarSeriesManager manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series to run the candidates on
+     */
+    public StrategyOptimizer(BarSeries series) {
+        this(new BarSeriesManager(series));
+    }
+
+    /**
+     * Runs each candidate of the grid with BUY trades and returns the best ones.
+     *
+     * @param factory   the factory of the candidate strategies
+     * @param grid      the parameter grid
+     * @param criterion the criterion to rank the candidates by
+     * @param count     the maximum number of candidates to return
+     * @return the best candidates, the best one first
+     */
+    public List<OptimizationResult> optimize(StrategyFactory factory, ParameterGrid grid, AnalysisCriterion criterion,
+            int count) {
+        return optimize(factory, grid, criterion, TradeType.BUY, count);
+    }
+
+    /**
+     * Runs each candidate of the grid and returns the best ones.
+     *
+     * @param factory   the factory of the candidate strategies
+     * @param grid      the parameter grid
+     * @param criterion the criterion to rank the candidates by
+     * @param tradeType the entry type (BUY or SELL) of the first trade
+     * @param count     the maximum number of candidates to return
+     * @return the best candidates, the best one first
+     */
+    public List<OptimizationResult> optimize(StrategyFactory factory, ParameterGrid grid, AnalysisCriterion criterion,
+            TradeType tradeType, int count) {
+        final BarSeries series = manager.getBarSeries();
+        return optimize(factory, grid, criterion, tradeType, count, series.getBeginIndex(), series.getEndIndex());
+    }
+
+    /**
+     * Runs each candidate of the grid over an index range of the bar series and
+     * returns the best ones.
+     *
+     * @param factory    the factory of the candidate strategies
+     * @param grid       the parameter grid
+     * @param criterion  the criterion to rank the candidates by
+     * @param tradeType  the entry type (BUY or SELL) of the first trade
+     * @param count      the maximum number of candidates to return
+     * @param startIndex the start index of the runs (included)
+     * @param endIndex   the end index of the runs (included)
+     * @return the best candidates over the index range, the best one first
+     */
+    public List<OptimizationResult> optimize(StrategyFactory factory, ParameterGrid grid, AnalysisCriterion criterion,
+            TradeType tradeType, int count, int startIndex, int endIndex) {
+        final IndicatorRegistry registry = manager.getBarSeries().getIndicatorRegistry();
+        final List<Strategy> strategies = new ArrayList<>();
+        final List<ParameterSet> parameters = new ArrayList<>();
+        for (ParameterSet parameterSet : grid) {
+            strategies.add(factory.create(registry, parameterSet));
+            parameters.add(parameterSet);
+        }
+
+        final List<RankedStrategy> best = new BestStrategySearch(manager, criterion).rank(tradeType, strategies, count,
+                startIndex, endIndex);
+        final List<OptimizationResult> results = new ArrayList<>(best.size());
+        for (RankedStrategy ranked : best) {
+            results.add(new OptimizationResult(parameters.get(ranked.getIndex()), ranked.getStrategy(),
+                    ranked.getCriterionValue()));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.reports.TradingStatement;
+import org.ta4j.core.reports.TradingStatementGenerator;
+
+/**
+ * Backtests a stream of strategies with a bounded memory footprint.
+ *
+ * <p>
+ * The strategies are pulled from an {@link Iterator} (or a {@link Spliterator})
+ * only when there is room for another run, and are run on the given
+ * {@link Executor}. The trading statements are handed over to a consumer as
+ * soon as they are generated, and only the
+ * {@link #keepBest(int, AnalysisCriterion) best ones} are kept. So the trading
+ * records and the statements of millions of strategies never have to be held at
+ * the same time.
+ *
+ * <p>
+ * Created by {@link BacktestExecutor#streaming()}.
+ */
+public class StreamingBacktest {
+
+    private final BarSeriesManager seriesManager;
+    private final TradingStatementGenerator tradingStatementGenerator;
+
+    private Num amount;
+    private TradeType tradeType = TradeType.BUY;
+    private Executor executor = ForkJoinPool.commonPool();
+    private int maxPendingRuns = 4 * Runtime.getRuntime().availableProcessors();
+    private int bestCount;
+    private AnalysisCriterion criterion;
+    private Consumer<TradingStatement> statementConsumer;
+    private Consumer<BacktestProgress> progressListener;
+    private long progressInterval;
+
+    StreamingBacktest(BarSeriesManager seriesManager, TradingStatementGenerator tradingStatementGenerator) {
+        this.seriesManager = seriesManager;
+        this.tradingStatementGenerator = tradingStatementGenerator;
+        this.amount = seriesManager.getBarSeries().numFactory().one();
+    }
+
+    /**
+     * @param amount the amount used to open/close the position (default: 1)
+     * @return {@code this}
+     */
+    public StreamingBacktest withAmount(Num amount) {
+        this.amount = Objects.requireNonNull(amount);
+        return this;
+    }
+
+    /**
+     * @param tradeType the {@link TradeType} used to open the position (default:
+     *                  BUY)
+     * @return {@code this}
+     */
+    public StreamingBacktest withTradeType(TradeType tradeType) {
+        this.tradeType = Objects.requireNonNull(tradeType);
+        return this;
+    }
+
+    /**
+     * @param executor the executor to run the strategies on (default: the common
+     *                 {@link ForkJoinPool})
+     * @return {@code this}
+     */
+    public StreamingBacktest withExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * @param maxPendingRuns the maximum number of strategies submitted to the
+     *                       executor and not yet completed (default: 4 times the
+     *                       number of processors)
+     * @return {@code this}
+     */
+    public StreamingBacktest withMaxPendingRuns(int maxPendingRuns) {
+        if (maxPendingRuns < 1) {
+            throw new IllegalArgumentException("maxPendingRuns must be positive: " + maxPendingRuns);
+        }
+        this.maxPendingRuns = maxPendingRuns;
+        return this;
+    }
+
+    /**
+     * Keeps the trading statements of the best strategies. By default, no statement
+     * is kept.
+     *
+     * @param count     the number of statements to keep
+     * @param criterion the criterion to rank the strategies by
+     * @return {@code this}
+     */
+    public StreamingBacktest keepBest(int count, AnalysisCriterion criterion) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
+        this.bestCount = count;
+        this.criterion = Objects.requireNonNull(criterion);
+        return this;
+    }
+
+    /**
+     * @param consumer the consumer of each trading statement, called as soon as the
+     *                 statement is generated (never concurrently)
+     * @return {@code this}
+     */
+    public StreamingBacktest onStatement(Consumer<TradingStatement> consumer) {
+        this.statementConsumer = consumer;
+        return this;
+    }
+
+    /**
+     * @param interval the number of completed strategies between two progress
+     *                 reports
+     * @param listener the listener of the progress, called every {@code interval}
+     *                 completed strategies and at the end of the backtest (never
+     *                 concurrently)
+     * @return {@code this}
+     */
+    public StreamingBacktest onProgress(long interval, Consumer<BacktestProgress> listener) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("interval must be positive: " + interval);
+        }
+        this.progressInterval = interval;
+        this.progressListener = listener;
+        return this;
+    }
+
+    /**
+     * Backtests the strategies.
+     *
+     * @param strategies the strategies
+     * @return the statements of the best strategies (see
+     *         {@link #keepBest(int, AnalysisCriterion)}), the best one first
+     * @see #execute(Iterator)
+     */
+    public List<TradingStatement> execute(Spliterator<Strategy> strategies) {
+        return execute(Spliterators.iterator(strategies));
+    }
+
+    /**
+     * Backtests the strategies. Returns once all of them are completed.
+     *
+     * <p>
+     * If a run fails, no further strategy is submitted and its exception is
+     * rethrown once the pending runs are completed. If the calling thread is
+     * interrupted, no further strategy is submitted and a
+     * {@link CancellationException} is thrown once the pending runs are completed.
+     *
+     * @param strategies the strategies
+     * @return the statements of the best strategies (see
+     *         {@link #keepBest(int, AnalysisCriterion)}), the best one first
+     */
+    public List<TradingStatement> execute(Iterator<Strategy> strategies) {
+        final Results results = new Results(System.nanoTime());
+        final Semaphore pendingRuns = new Semaphore(maxPendingRuns);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        boolean interrupted = false;
+
+        long sequence = 0;
+        while (failure.get() == null && strategies.hasNext()) {
+            if (Thread.currentThread().isInterrupted()) {
+                interrupted = true;
+                break;
+            }
+            final Strategy strategy = strategies.next();
+            final long index = sequence++;
+            pendingRuns.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        run(strategy, index, results);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        pendingRuns.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                pendingRuns.release();
+                failure.compareAndSet(null, e);
+            }
+        }
+        // wait for the pending runs
+        pendingRuns.acquireUninterruptibly(maxPendingRuns);
+        pendingRuns.release(maxPendingRuns);
+
+        final Throwable t = failure.get();
+        if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t != null) {
+            throw (RuntimeException) t;
+        }
+        if (interrupted) {
+            throw new CancellationException("Backtest interrupted after " + sequence + " strategies");
+        }
+        return results.complete();
+    }
+
+    private void run(Strategy strategy, long index, Results results) {
+        final BarSeries series = seriesManager.getBarSeries();
+        final TradingRecord tradingRecord = seriesManager.run(strategy, tradeType, amount);
+        final TradingStatement statement = tradingStatementGenerator.generate(strategy, tradingRecord, series);
+        final Num value = bestCount > 0 ? criterion.calculate(series, tradingRecord) : null;
+        results.add(new RankedStatement(index, statement, value));
+    }
+
+    /** A trading statement with its criterion value. */
+    private static final class RankedStatement {
+
+        private final long index;
+        private final TradingStatement statement;
+        private final Num value;
+
+        private RankedStatement(long index, TradingStatement statement, Num value) {
+            this.index = index;
+            this.statement = statement;
+            this.value = value;
+        }
+    }
+
+    /** The results collected so far. */
+    private final class Results {
+
+        private final long startNanos;
+
+        /** The best statements, the worst one at the head. */
+        private final PriorityQueue<RankedStatement> best;
+        private long completedCount;
+
+        private Results(long startNanos) {
+            this.startNanos = startNanos;
+            this.best = new PriorityQueue<>(Math.min(bestCount, 1024) + 1, this::compareWorstFirst);
+        }
+
+        private synchronized void add(RankedStatement ranked) {
+            completedCount++;
+            if (bestCount > 0) {
+                best.add(ranked);
+                if (best.size() > bestCount) {
+                    best.poll();
+                }
+            }
+            if (statementConsumer != null) {
+                statementConsumer.accept(ranked.statement);
+            }
+            if (progressListener != null && completedCount % progressInterval == 0) {
+                progressListener.accept(new BacktestProgress(completedCount, System.nanoTime() - startNanos));
+            }
+        }
+
+        private synchronized List<TradingStatement> complete() {
+            if (progressListener != null && completedCount % progressInterval != 0) {
+                progressListener.accept(new BacktestProgress(completedCount, System.nanoTime() - startNanos));
+            }
+            final List<TradingStatement> statements = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                statements.add(best.poll().statement);
+            }
+            Collections.reverse(statements);
+            return statements;
+        }
+
+        /**
+         * Orders the statements from the worst to the best one. Of two statements with
+         * equal criterion values, the later submitted one is the worse one.
+         */
+        private int compareWorstFirst(RankedStatement s1, RankedStatement s2) {
+            if (criterion.betterThan(s1.value, s2.value)) {
+                return 1;
+            }
+            if (criterion.betterThan(s2.value, s1.value)) {
+                return -1;
+            }
+            return Long.compare(s2.index, s1.index);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ta4j.core.BarSeries;
+
+/**
+ * A fold of a walk-forward analysis: an in-sample index range, on which the
+ * strategy parameters are optimized, directly followed by an out-of-sample
+ * index range, on which the optimized strategy is evaluated.
+ *
+ * <p>
+ * The folds only hold indexes of one shared bar series, so the bars are never
+ * copied and the indicators of all the folds share their caches. The static
+ * factories build the folds with:
+ *
+ * <ul>
+ * <li><b>anchored</b> windows: all the in-sample ranges start at the begin
+ * index of the series and grow by one out-of-sample range at each fold
+ * <li><b>rolling</b> windows: the in-sample ranges keep the same length and
+ * move by one out-of-sample range at each fold
+ * </ul>
+ *
+ * <p>
+ * The out-of-sample ranges follow each other without overlapping. The last one
+ * may be shorter than the others.
+ */
+public class WalkForwardFold {
+
+    private final int index;
+    private final int inSampleBeginIndex;
+    private final int inSampleEndIndex;
+    private final int outOfSampleBeginIndex;
+    private final int outOfSampleEndIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param index                 the index of the fold
+     * @param inSampleBeginIndex    the begin index of the in-sample range
+     *                              (included)
+     * @param inSampleEndIndex      the end index of the in-sample range (included)
+     * @param outOfSampleBeginIndex the begin index of the out-of-sample range
+     *                              (included)
+     * @param outOfSampleEndIndex   the end index of the out-of-sample range
+     *                              (included)
+     * @throws IllegalArgumentException if a range is empty or if the in-sample
+     *                                  range does not end before the out-of-sample
+     *                                  range
+     */
+    public WalkForwardFold(int index, int inSampleBeginIndex, int inSampleEndIndex, int outOfSampleBeginIndex,
+            int outOfSampleEndIndex) {
+        if (inSampleEndIndex < inSampleBeginIndex || outOfSampleEndIndex < outOfSampleBeginIndex
+                || outOfSampleBeginIndex <= inSampleEndIndex) {
+            throw new IllegalArgumentException(String.format("Invalid fold: in-sample [%d, %d], out-of-sample [%d, %d]",
+                    inSampleBeginIndex, inSampleEndIndex, outOfSampleBeginIndex, outOfSampleEndIndex));
+        }
+        this.index = index;
+        this.inSampleBeginIndex = inSampleBeginIndex;
+        this.inSampleEndIndex = inSampleEndIndex;
+        this.outOfSampleBeginIndex = outOfSampleBeginIndex;
+        this.outOfSampleEndIndex = outOfSampleEndIndex;
+    }
+
+    /**
+     * Builds anchored folds from bar counts.
+     *
+     * @param series              the bar series
+     * @param inSampleBarCount    the number of bars of the first in-sample range
+     * @param outOfSampleBarCount the number of bars of each out-of-sample range
+     * @return the folds
+     * @throws IllegalArgumentException if a bar count is not positive
+     */
+    public static List<WalkForwardFold> anchored(BarSeries series, int inSampleBarCount, int outOfSampleBarCount) {
+        return ofBarCounts(series, inSampleBarCount, outOfSampleBarCount, true);
+    }
+
+    /**
+     * Builds rolling folds from bar counts.
+     *
+     * @param series              the bar series
+     * @param inSampleBarCount    the number of bars of each in-sample range
+     * @param outOfSampleBarCount the number of bars of each out-of-sample range
+     * @return the folds
+     * @throws IllegalArgumentException if a bar count is not positive
+     */
+    public static List<WalkForwardFold> rolling(BarSeries series, int inSampleBarCount, int outOfSampleBarCount) {
+        return ofBarCounts(series, inSampleBarCount, outOfSampleBarCount, false);
+    }
+
+    /**
+     * Builds anchored folds from durations. The windows start at the begin time of
+     * the first bar and a bar belongs to the window which contains its end time.
+     *
+     * @param series      the bar series
+     * @param inSample    the duration of the first in-sample window
+     * @param outOfSample the duration of each out-of-sample window
+     * @return the folds (the windows without bars are skipped)
+     * @throws IllegalArgumentException if a duration is not positive
+     */
+    public static List<WalkForwardFold> anchored(BarSeries series, Duration inSample, Duration outOfSample) {
+        return ofDurations(series, inSample, outOfSample, true);
+    }
+
+    /**
+     * Builds rolling folds from durations. The windows start at the begin time of
+     * the first bar and a bar belongs to the window which contains its end time.
+     *
+     * @param series      the bar series
+     * @param inSample    the duration of each in-sample window
+     * @param outOfSample the duration of each out-of-sample window
+     * @return the folds (the windows without bars are skipped)
+     * @throws IllegalArgumentException if a duration is not positive
+     */
+    public static List<WalkForwardFold> rolling(BarSeries series, Duration inSample, Duration outOfSample) {
+        return ofDurations(series, inSample, outOfSample, false);
+    }
+
+    private static List<WalkForwardFold> ofBarCounts(BarSeries series, int inSampleBarCount, int outOfSampleBarCount,
+            boolean anchored) {
+        if (inSampleBarCount < 1 || outOfSampleBarCount < 1) {
+            throw new IllegalArgumentException(
+                    "Bar counts must be positive: " + inSampleBarCount + ", " + outOfSampleBarCount);
+        }
+        final List<WalkForwardFold> folds = new ArrayList<>();
+        final int beginIndex = series.getBeginIndex();
+        final int endIndex = series.getEndIndex();
+        int outOfSampleBeginIndex = beginIndex + inSampleBarCount;
+        while (outOfSampleBeginIndex <= endIndex) {
+            final int inSampleBeginIndex = anchored ? beginIndex : outOfSampleBeginIndex - inSampleBarCount;
+            final int outOfSampleEndIndex = Math.min(outOfSampleBeginIndex + outOfSampleBarCount - 1, endIndex);
+            folds.add(new WalkForwardFold(folds.size(), inSampleBeginIndex, outOfSampleBeginIndex - 1,
+                    outOfSampleBeginIndex, outOfSampleEndIndex));
+            outOfSampleBeginIndex = outOfSampleEndIndex + 1;
+        }
+        return folds;
+    }
+
+    private static List<WalkForwardFold> ofDurations(BarSeries series, Duration inSample, Duration outOfSample,
+            boolean anchored) {
+        if (inSample.isNegative() || inSample.isZero() || outOfSample.isNegative() || outOfSample.isZero()) {
+            throw new IllegalArgumentException("Durations must be positive: " + inSample + ", " + outOfSample);
+        }
+        final List<WalkForwardFold> folds = new ArrayList<>();
+        if (series.isEmpty()) {
+            return folds;
+        }
+        final Instant start = series.getFirstBar().getBeginTime();
+        final Instant end = series.getLastBar().getEndTime();
+        for (int k = 0;; k++) {
+            final Instant inSampleStart = start.plus(outOfSample.multipliedBy(k));
+            final Instant outOfSampleStart = inSampleStart.plus(inSample);
+            if (!outOfSampleStart.isBefore(end)) {
+                return folds;
+            }
+            final int inSampleBeginIndex = anchored ? series.getBeginIndex() : firstIndexAfter(series, inSampleStart);
+            final int outOfSampleBeginIndex = firstIndexAfter(series, outOfSampleStart);
+            final int outOfSampleEndIndex = firstIndexAfter(series, outOfSampleStart.plus(outOfSample)) - 1;
+            if (inSampleBeginIndex < outOfSampleBeginIndex && outOfSampleBeginIndex <= outOfSampleEndIndex) {
+                folds.add(new WalkForwardFold(folds.size(), inSampleBeginIndex, outOfSampleBeginIndex - 1,
+                        outOfSampleBeginIndex, outOfSampleEndIndex));
+            }
+        }
+    }
+
+    /**
+     * @return the index of the first bar ending after the instant, or the end index
+     *         + 1 if there is none
+     */
+    private static int firstIndexAfter(BarSeries series, Instant instant) {
+        final int index = series.floorIndex(instant);
+        return index < 0 ? series.getBeginIndex() : index + 1;
+    }
+
+    /** @return the index of the fold */
+    public int getIndex() {
+        return index;
+    }
+
+    /** @return the begin index of the in-sample range (included) */
+    public int getInSampleBeginIndex() {
+        return inSampleBeginIndex;
+    }
+
+    /** @return the end index of the in-sample range (included) */
+    public int getInSampleEndIndex() {
+        return inSampleEndIndex;
+    }
+
+    /** @return the begin index of the out-of-sample range (included) */
+    public int getOutOfSampleBeginIndex() {
+        return outOfSampleBeginIndex;
+    }
+
+    /** @return the end index of the out-of-sample range (included) */
+    public int getOutOfSampleEndIndex() {
+        return outOfSampleEndIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "WalkForwardFold{index=" + index + ", inSample=[" + inSampleBeginIndex + ", " + inSampleEndIndex
+                + "], outOfSample=[" + outOfSampleBeginIndex + ", " + outOfSampleEndIndex + "]}";
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.TradingRecord;
+
+/**
+ * Runs a walk-forward analysis of a strategy over {@link WalkForwardFold
+ * folds}: for each fold, the parameters are optimized over the in-sample range
+ * by a {@link StrategyOptimizer} and the best candidate is then evaluated over
+ * the out-of-sample range.
+ *
+ * <p>
+ * All the folds run concurrently over the same bar series: the ranges are only
+ * indexes (the bars are not copied) and the indicators are shared through the
+ * {@link BarSeries#getIndicatorRegistry() indicator registry} of the series. As
+ * the indicators are calculated from the begin of the series, the out-of-sample
+ * runs do not start with unstable indicators. A position still open at the end
+ * of an out-of-sample range (before the end of the series) is not closed.
+ */
+public class WalkForwardOptimizer {
+
+    private final BarSeriesManager manager;
+
+    /**
+     * Constructor.
+     *
+     * @param manager the bar series manager to run the candidates with
+     */
+    public WalkForwardOptimizer(BarSeriesManager manager) {
+        this.manager = Objects.requireNonNull(manager);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series to run the candidates on
+     */
+    public WalkForwardOptimizer(BarSeries series) {
+        this(new BarSeriesManager(series));
+    }
+
+    /**
+     * Runs the walk-forward analysis with BUY trades.
+     *
+     * @param factory   the factory of the candidate strategies
+     * @param grid      the parameter grid
+     * @param criterion the criterion to optimize and evaluate the candidates by
+     * @param folds     the folds
+     * @return the results, in the order of the folds
+     * @throws IllegalArgumentException if the grid has no parameter set
+     */
+    public List<WalkForwardResult> run(StrategyFactory factory, ParameterGrid grid, AnalysisCriterion criterion,
+            List<WalkForwardFold> folds) {
+        return run(factory, grid, criterion, TradeType.BUY, folds);
+    }
+
+    /**
+     * Runs the walk-forward analysis.
+     *
+     * @param factory   the factory of the candidate strategies
+     * @param grid      the parameter grid
+     * @param criterion the criterion to optimize and evaluate the candidates by
+     * @param tradeType the entry type (BUY or SELL) of the first trade
+     * @param folds     the folds
+     * @return the results, in the order of the folds
+     * @throws IllegalArgumentException if the grid has no parameter set
+     */
+    public List<WalkForwardResult> run(StrategyFactory factory, ParameterGrid grid, AnalysisCriterion criterion,
+            TradeType tradeType, List<WalkForwardFold> folds) {
+        if (!grid.iterator().hasNext()) {
+            throw new IllegalArgumentException("The parameter grid has no parameter set");
+        }
+        final StrategyOptimizer optimizer = new StrategyOptimizer(manager);
+        return folds.parallelStream()
+                .map(fold -> run(optimizer, factory, grid, criterion, tradeType, fold))
+                .collect(Collectors.toList());
+    }
+
+    private WalkForwardResult run(StrategyOptimizer optimizer, StrategyFactory factory, ParameterGrid grid,
+            AnalysisCriterion criterion, TradeType tradeType, WalkForwardFold fold) {
+        final OptimizationResult best = optimizer
+                .optimize(factory, grid, criterion, tradeType, 1, fold.getInSampleBeginIndex(),
+                        fold.getInSampleEndIndex())
+                .get(0);
+        final TradingRecord tradingRecord = manager.run(best.getStrategy(), tradeType, fold.getOutOfSampleBeginIndex(),
+                fold.getOutOfSampleEndIndex());
+        return new WalkForwardResult(fold, best, tradingRecord,
+                criterion.calculate(manager.getBarSeries(), tradingRecord));
+    }
+}
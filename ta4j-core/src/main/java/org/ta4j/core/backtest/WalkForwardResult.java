@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.num.Num;
+
+/**
+ * The result of a {@link WalkForwardFold fold} of a walk-forward analysis.
+ */
+public class WalkForwardResult {
+
+    private final WalkForwardFold fold;
+    private final OptimizationResult inSampleResult;
+    private final TradingRecord outOfSampleTradingRecord;
+    private final Num outOfSampleCriterionValue;
+
+    /**
+     * Constructor.
+     *
+     * @param fold                      the fold
+     * @param inSampleResult            the best candidate of the in-sample range
+     * @param outOfSampleTradingRecord  the trading record of the best candidate
+     *                                  over the out-of-sample range
+     * @param outOfSampleCriterionValue the criterion value of the out-of-sample
+     *                                  trading record
+     */
+    public WalkForwardResult(WalkForwardFold fold, OptimizationResult inSampleResult,
+            TradingRecord outOfSampleTradingRecord, Num outOfSampleCriterionValue) {
+        this.fold = fold;
+        this.inSampleResult = inSampleResult;
+        this.outOfSampleTradingRecord = outOfSampleTradingRecord;
+        this.outOfSampleCriterionValue = outOfSampleCriterionValue;
+    }
+
+    /** @return the fold */
+    public WalkForwardFold getFold() {
+        return fold;
+    }
+
+    /** @return the best candidate of the in-sample range */
+    public OptimizationResult getInSampleResult() {
+        return inSampleResult;
+    }
+
+    /**
+     * @return the trading record of the best candidate over the out-of-sample range
+     */
+    public TradingRecord getOutOfSampleTradingRecord() {
+        return outOfSampleTradingRecord;
+    }
+
+    /** @return the criterion value of the out-of-sample trading record */
+    public Num getOutOfSampleCriterionValue() {
+        return outOfSampleCriterionValue;
+    }
+
+    @Override
+    public String toString() {
+        return "WalkForwardResult{fold=" + fold + ", inSampleResult=" + inSampleResult + ", outOfSampleCriterionValue="
+                + outOfSampleCriterionValue + "}";
+    }
+}
@@ -23,12 +23,14 @@
  */
 package org.ta4j.core.criteria;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.analysis.Returns;
 import org.ta4j.core.num.Num;
 
@@ -67,8 +69,12 @@ public class ExpectedShortfallCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public Num calculate(BarSeries series, TradingRecord tradingRecord) {
-        Returns returns = new Returns(series, tradingRecord, Returns.ReturnType.LOG);
-        return calculateES(returns, confidence);
+        return calculate(new AnalysisContext(series, tradingRecord));
+    }
+
+    @Override
+    public Num calculate(AnalysisContext context) {
+        return calculateES(context.getReturns(Returns.ReturnType.LOG), confidence);
     }
 
     /**
@@ -80,7 +86,7 @@ public class ExpectedShortfallCriterion extends AbstractAnalysisCriterion {
      */
     private static Num calculateES(Returns returns, double confidence) {
         // select non-NaN returns
-        List<Num> returnRates = returns.getValues().subList(1, returns.getSize() + 1);
+        List<Num> returnRates = new ArrayList<>(returns.getValues().subList(1, returns.getSize() + 1));
         Num zero = returns.getBarSeries().numFactory().zero();
         if (returnRates.isEmpty()) {
             return zero;
@@ -23,10 +23,14 @@
  */
 package org.ta4j.core.criteria;
 
+import java.util.function.Function;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.analysis.CashFlow;
+import org.ta4j.core.analysis.RunningDrawdown;
 import org.ta4j.core.num.Num;
 
 /**
@@ -48,62 +52,43 @@ public class MaximumDrawdownCriterion extends AbstractAnalysisCriterion {
             return series.numFactory().zero();
         }
         CashFlow cashFlow = new CashFlow(series, position);
-        return calculateMaximumDrawdown(series, null, cashFlow);
+        return cashFlow.getMaximumDrawdown(series.getBeginIndex(), series.getEndIndex());
     }
 
     @Override
     public Num calculate(BarSeries series, TradingRecord tradingRecord) {
-        CashFlow cashFlow = new CashFlow(series, tradingRecord);
-        return calculateMaximumDrawdown(series, tradingRecord, cashFlow);
+        return calculate(new AnalysisContext(series, tradingRecord));
     }
 
-    /** The lower the criterion value, the better. */
     @Override
-    public boolean betterThan(Num criterionValue1, Num criterionValue2) {
-        return criterionValue1.isLessThan(criterionValue2);
+    public Num calculate(AnalysisContext context) {
+        return context.getMaximumDrawdown();
     }
 
     /**
-     * Calculates the maximum drawdown from a cash flow over a series.
-     *
-     * The formula is as follows:
-     *
-     * <pre>
-     * MDD = (LP - PV) / PV
-     * with MDD: Maximum drawdown, in percent.
-     * with LP: Lowest point (lowest value after peak value).
-     * with PV: Peak value (highest value within the observation).
-     * </pre>
-     *
-     * @param series        the bar series
-     * @param tradingRecord the trading record (optional)
-     * @param cashFlow      the cash flow
-     * @return the maximum drawdown from a cash flow over a series
+     * The maximum drawdown can only grow with the positions to come: its best
+     * possible value is the maximum drawdown up to the last closed position.
      */
-    private Num calculateMaximumDrawdown(BarSeries series, TradingRecord tradingRecord, CashFlow cashFlow) {
-
-        Num zero = series.numFactory().zero();
-        Num maxPeak = zero;
-        Num maximumDrawdown = zero;
-
-        int beginIndex = tradingRecord == null ? series.getBeginIndex() : tradingRecord.getStartIndex(series);
-        int endIndex = tradingRecord == null ? series.getEndIndex() : tradingRecord.getEndIndex(series);
-
-        if (!series.isEmpty()) {
-            for (int i = beginIndex; i <= endIndex; i++) {
-
-                Num value = cashFlow.getValue(i);
-                if (value.isGreaterThan(maxPeak)) {
-                    maxPeak = value;
-                }
+    @Override
+    public Num calculateBestPossibleValue(BarSeries series, TradingRecord tradingRecord) {
+        int endIndex = tradingRecord.isClosed() ? tradingRecord.getEndIndex(series)
+                : tradingRecord.getCurrentPosition().getEntry().getIndex();
+        CashFlow cashFlow = new CashFlow(series, tradingRecord);
+        return cashFlow.getMaximumDrawdown(tradingRecord.getStartIndex(series), endIndex);
+    }
 
-                Num drawdown = maxPeak.minus(value).dividedBy(maxPeak);
-                if (drawdown.isGreaterThan(maximumDrawdown)) {
-                    maximumDrawdown = drawdown;
-                }
-            }
-        }
+    /**
+     * Follows the drawdown of the run with a {@link RunningDrawdown}, so only the
+     * positions closed since the previous call are added.
+     */
+    @Override
+    public Function<TradingRecord, Num> bestPossibleValueTracker(BarSeries series) {
+        return new RunningDrawdown(series)::update;
+    }
 
-        return maximumDrawdown;
+    /** The lower the criterion value, the better. */
+    @Override
+    public boolean betterThan(Num criterionValue1, Num criterionValue2) {
+        return criterionValue1.isLessThan(criterionValue2);
     }
 }
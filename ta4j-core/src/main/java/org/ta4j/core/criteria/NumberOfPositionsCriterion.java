@@ -26,6 +26,7 @@ package org.ta4j.core.criteria;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
 
 /**
@@ -66,6 +67,15 @@ public class NumberOfPositionsCriterion extends AbstractAnalysisCriterion {
         return series.numFactory().numOf(tradingRecord.getPositionCount());
     }
 
+    /**
+     * The number of positions can only grow: if less is better, its best possible
+     * value is the number of positions so far.
+     */
+    @Override
+    public Num calculateBestPossibleValue(BarSeries series, TradingRecord tradingRecord) {
+        return lessIsBetter ? calculate(series, tradingRecord) : NaN.NaN;
+    }
+
     /**
      * If {@link #lessIsBetter} == false, then the lower the criterion value, the
      * better, otherwise the higher the criterion value the better.
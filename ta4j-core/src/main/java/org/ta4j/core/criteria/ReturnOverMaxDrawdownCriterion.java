@@ -27,6 +27,7 @@ import org.ta4j.core.AnalysisCriterion;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.criteria.pnl.ReturnCriterion;
 import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
@@ -57,11 +58,16 @@ public class ReturnOverMaxDrawdownCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public Num calculate(BarSeries series, TradingRecord tradingRecord) {
-        final Num maxDrawdown = maxDrawdownCriterion.calculate(series, tradingRecord);
+        return calculate(new AnalysisContext(series, tradingRecord));
+    }
+
+    @Override
+    public Num calculate(AnalysisContext context) {
+        final Num maxDrawdown = context.getMaximumDrawdown();
         if (maxDrawdown.isZero()) {
             return NaN.NaN;
         } else {
-            final Num totalProfit = grossReturnCriterion.calculate(series, tradingRecord);
+            final Num totalProfit = context.getValue(grossReturnCriterion);
             return totalProfit.dividedBy(maxDrawdown);
         }
     }
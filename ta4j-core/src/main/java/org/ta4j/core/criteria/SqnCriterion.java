@@ -27,6 +27,7 @@ import org.ta4j.core.AnalysisCriterion;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.criteria.helpers.StandardDeviationCriterion;
 import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
 import org.ta4j.core.num.Num;
@@ -96,16 +97,22 @@ public class SqnCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public Num calculate(BarSeries series, TradingRecord tradingRecord) {
-        if (tradingRecord.getPositions().isEmpty()) {
+        return calculate(new AnalysisContext(series, tradingRecord));
+    }
+
+    @Override
+    public Num calculate(AnalysisContext context) {
+        BarSeries series = context.getBarSeries();
+        if (context.getTradingRecord().getPositions().isEmpty()) {
             return series.numFactory().zero();
         }
-        Num stdDevPnl = standardDeviationCriterion.calculate(series, tradingRecord);
+        Num stdDevPnl = context.getValue(standardDeviationCriterion);
         if (stdDevPnl.isZero()) {
             return series.numFactory().zero();
         }
 
-        Num numberOfPositions = numberOfPositionsCriterion.calculate(series, tradingRecord);
-        Num pnl = criterion.calculate(series, tradingRecord);
+        Num numberOfPositions = context.getValue(numberOfPositionsCriterion);
+        Num pnl = context.getValue(criterion);
         Num avgPnl = pnl.dividedBy(numberOfPositions);
         if (nPositions != null && numberOfPositions.isGreaterThan(series.numFactory().hundred())) {
             numberOfPositions = series.numFactory().numOf(nPositions);
@@ -23,12 +23,14 @@
  */
 package org.ta4j.core.criteria;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.analysis.Returns;
 import org.ta4j.core.num.Num;
 
@@ -63,8 +65,12 @@ public class ValueAtRiskCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public Num calculate(BarSeries series, TradingRecord tradingRecord) {
-        Returns returns = new Returns(series, tradingRecord, Returns.ReturnType.LOG);
-        return calculateVaR(returns, confidence);
+        return calculate(new AnalysisContext(series, tradingRecord));
+    }
+
+    @Override
+    public Num calculate(AnalysisContext context) {
+        return calculateVaR(context.getReturns(Returns.ReturnType.LOG), confidence);
     }
 
     /**
@@ -77,7 +83,7 @@ public class ValueAtRiskCriterion extends AbstractAnalysisCriterion {
     private static Num calculateVaR(Returns returns, double confidence) {
         Num zero = returns.getBarSeries().numFactory().zero();
         // select non-NaN returns
-        List<Num> returnRates = returns.getValues().subList(1, returns.getSize() + 1);
+        List<Num> returnRates = new ArrayList<>(returns.getValues().subList(1, returns.getSize() + 1));
         if (returnRates.isEmpty()) {
             return zero;
         }
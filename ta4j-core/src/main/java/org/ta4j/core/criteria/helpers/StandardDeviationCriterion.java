@@ -27,6 +27,7 @@ import org.ta4j.core.AnalysisCriterion;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
 import org.ta4j.core.num.Num;
 
@@ -77,10 +78,15 @@ public class StandardDeviationCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public Num calculate(BarSeries series, TradingRecord tradingRecord) {
-        if (tradingRecord.getPositions().isEmpty()) {
-            return series.numFactory().zero();
+        return calculate(new AnalysisContext(series, tradingRecord));
+    }
+
+    @Override
+    public Num calculate(AnalysisContext context) {
+        if (context.getTradingRecord().getPositions().isEmpty()) {
+            return context.getBarSeries().numFactory().zero();
         }
-        return varianceCriterion.calculate(series, tradingRecord).sqrt();
+        return context.getValue(varianceCriterion).sqrt();
     }
 
     /**
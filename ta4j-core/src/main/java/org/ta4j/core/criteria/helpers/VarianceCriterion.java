@@ -27,6 +27,7 @@ import org.ta4j.core.AnalysisCriterion;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
 import org.ta4j.core.criteria.NumberOfPositionsCriterion;
 import org.ta4j.core.num.Num;
@@ -85,17 +86,22 @@ public class VarianceCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public Num calculate(BarSeries series, TradingRecord tradingRecord) {
-        if (tradingRecord.getPositions().isEmpty()) {
-            return series.numFactory().zero();
+        return calculate(new AnalysisContext(series, tradingRecord));
+    }
+
+    @Override
+    public Num calculate(AnalysisContext context) {
+        if (context.getTradingRecord().getPositions().isEmpty()) {
+            return context.getBarSeries().numFactory().zero();
         }
-        Num criterionValue = criterion.calculate(series, tradingRecord);
-        Num numberOfPositions = numberOfPositionsCriterion.calculate(series, tradingRecord);
+        Num criterionValue = context.getValue(criterion);
+        Num numberOfPositions = context.getValue(numberOfPositionsCriterion);
 
-        Num variance = series.numFactory().zero();
+        Num variance = context.getBarSeries().numFactory().zero();
         Num average = criterionValue.dividedBy(numberOfPositions);
 
-        for (Position position : tradingRecord.getPositions()) {
-            Num pow = criterion.calculate(series, position).minus(average).pow(2);
+        for (Num value : context.getPositionValues(criterion)) {
+            Num pow = value.minus(average).pow(2);
             variance = variance.plus(pow);
         }
         variance = variance.dividedBy(numberOfPositions);
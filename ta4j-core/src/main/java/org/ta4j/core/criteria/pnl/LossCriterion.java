@@ -26,6 +26,7 @@ package org.ta4j.core.criteria.pnl;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
 import org.ta4j.core.num.Num;
 
@@ -75,6 +76,17 @@ public class LossCriterion extends AbstractAnalysisCriterion {
                 .reduce(series.numFactory().zero(), Num::plus);
     }
 
+    @Override
+    public Num calculate(AnalysisContext context) {
+        if (excludeCosts) {
+            return super.calculate(context);
+        }
+        return context.getPositionProfits()
+                .stream()
+                .filter(Num::isNegative)
+                .reduce(context.getBarSeries().numFactory().zero(), Num::plus);
+    }
+
     /** The higher the criterion value (= the less the loss), the better. */
     @Override
     public boolean betterThan(Num criterionValue1, Num criterionValue2) {
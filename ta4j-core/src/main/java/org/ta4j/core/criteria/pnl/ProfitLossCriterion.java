@@ -26,6 +26,7 @@ package org.ta4j.core.criteria.pnl;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
 import org.ta4j.core.num.Num;
 
@@ -51,6 +52,11 @@ public class ProfitLossCriterion extends AbstractAnalysisCriterion {
                 .reduce(series.numFactory().zero(), Num::plus);
     }
 
+    @Override
+    public Num calculate(AnalysisContext context) {
+        return context.getPositionProfits().stream().reduce(context.getBarSeries().numFactory().zero(), Num::plus);
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(Num criterionValue1, Num criterionValue2) {
@@ -24,8 +24,9 @@
 package org.ta4j.core.indicators;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
@@ -40,17 +41,28 @@ import org.ta4j.core.Indicator;
  * their values based on the values of other indicators. Such nested indicators
  * can call {@link #getValue(int)} multiple times without the need to
  * {@link #calculate(int)} again.
+ *
+ * <p>
+ * Cached results are read without locking, so an indicator can be shared by
+ * many threads (e.g. strategies run in parallel by the
+ * {@link org.ta4j.core.backtest.BacktestExecutor BacktestExecutor}). Only the
+ * calculation of missing results is synchronized, which means that
+ * {@link #calculate(int)} is never called concurrently for the same indicator.
  */
 public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
 
-    /** List of cached results. */
-    private final List<T> results;
+    private static final int DEFAULT_CAPACITY = 64;
 
     /**
-     * Should always be the index of the last (calculated) result in
-     * {@link #results}.
+     * The cached results, replaced (not modified) when the capacity changes so that
+     * it can be read without locking.
      */
-    protected int highestResultIndex = -1;
+    private volatile Cache<T> cache;
+
+    /**
+     * Should always be the index of the last (calculated) result in {@link #cache}.
+     */
+    protected volatile int highestResultIndex = -1;
 
     /**
      * Constructor.
@@ -59,8 +71,6 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
      */
     protected CachedIndicator(BarSeries series) {
         super(series);
-        int limit = series.getMaximumBarCount();
-        this.results = limit == Integer.MAX_VALUE ? new ArrayList<>() : new ArrayList<>(limit);
     }
 
     /**
@@ -79,7 +89,61 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
     protected abstract T calculate(int index);
 
     @Override
-    public synchronized T getValue(int index) {
+    public T getValue(int index) {
+        BarSeries series = getBarSeries();
+        if (series != null && index >= series.getRemovedBarsCount() && index != series.getEndIndex()) {
+            // Lock-free path for results already in the cache
+            Cache<T> current = cache;
+            if (current != null && current.maximumBarCount == series.getMaximumBarCount()) {
+                T result = current.get(index);
+                if (result != null) {
+                    if (log.isTraceEnabled()) {
+                        log.trace("{}({}): {}", this, index, result);
+                    }
+                    return result;
+                }
+            }
+        }
+        return getOrCalculate(index);
+    }
+
+    /**
+     * Calculates the missing results of the range in one pass, holding the lock
+     * only once and growing the cache at most once.
+     */
+    @Override
+    public List<T> computeRange(int beginIndex, int endIndex) {
+        List<T> values = new ArrayList<>(Math.max(0, endIndex - beginIndex + 1));
+        fillCache(beginIndex, endIndex, values);
+        return values;
+    }
+
+    /**
+     * Calculates the results from {@code beginIndex} to {@code endIndex} (both
+     * inclusive) in ascending order, so that recursive indicators always find the
+     * previous result in the cache.
+     *
+     * @param beginIndex the first bar index
+     * @param endIndex   the last bar index
+     * @param values     the list to add the results to, or null
+     */
+    synchronized void fillCache(int beginIndex, int endIndex, List<T> values) {
+        BarSeries series = getBarSeries();
+        if (series != null && endIndex >= beginIndex) {
+            final int lastCachedIndex = Math.min(endIndex, series.getEndIndex() - 1);
+            if (lastCachedIndex >= Math.max(beginIndex, series.getRemovedBarsCount())) {
+                ensureCapacity(lastCachedIndex, series.getMaximumBarCount());
+            }
+        }
+        for (int i = beginIndex; i <= endIndex; i++) {
+            T result = getOrCalculate(i);
+            if (values != null) {
+                values.add(result);
+            }
+        }
+    }
+
+    private synchronized T getOrCalculate(int index) {
         BarSeries series = getBarSeries();
         if (series == null) {
             // Series is null; the indicator doesn't need cache.
@@ -104,38 +168,25 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
                 log.trace("{}: result from bar {} already removed from cache, use {}-th instead",
                         getClass().getSimpleName(), index, removedBarsCount);
             }
-            increaseLengthTo(removedBarsCount, maximumResultCount);
-            highestResultIndex = removedBarsCount;
-            result = results.get(0);
-            if (result == null) {
-                // It should be "result = calculate(removedBarsCount);".
-                // We use "result = calculate(0);" as a workaround
-                // to fix issue #120 (https://github.com/mdeverdelhan/ta4j/issues/120).
-                result = calculate(0);
-                results.set(0, result);
-            }
+            // It should be "result = calculate(removedBarsCount);".
+            // We use "result = calculate(0);" as a workaround
+            // to fix issue #120 (https://github.com/mdeverdelhan/ta4j/issues/120).
+            result = calculate(0);
+        } else if (index == series.getEndIndex()) {
+            // Don't cache result if last bar
+            result = calculate(index);
         } else {
-            if (index == series.getEndIndex()) {
-                // Don't cache result if last bar
+            Cache<T> current = reserve(index, maximumResultCount);
+            result = current == null ? null : current.get(index);
+            if (result == null) {
+                // Result not calculated yet
                 result = calculate(index);
-            } else {
-                increaseLengthTo(index, maximumResultCount);
-                if (index > highestResultIndex) {
-                    // Result not calculated yet
-                    highestResultIndex = index;
-                    result = calculate(index);
-                    results.set(results.size() - 1, result);
-                } else {
-                    // Result covered by current cache
-                    int resultInnerIndex = results.size() - 1 - (highestResultIndex - index);
-                    result = results.get(resultInnerIndex);
-                    if (result == null) {
-                        result = calculate(index);
-                        results.set(resultInnerIndex, result);
-                    }
+                // the cache may have been replaced during a recursive calculation
+                current = reserve(index, maximumResultCount);
+                if (current != null) {
+                    current.set(index, result);
                 }
             }
-
         }
         if (log.isTraceEnabled()) {
             log.trace("{}({}): {}", this, index, result);
@@ -144,44 +195,111 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
     }
 
     /**
-     * Increases the size of the cached results buffer.
+     * Makes sure that the cache has an entry for {@code index}. The cache holds the
+     * results of the last {@code capacity} indices up to
+     * {@link #highestResultIndex}, at the entry {@code index % capacity}.
      *
-     * @param index     the index to increase length to
-     * @param maxLength the maximum length of the results buffer
+     * @param index           the bar index
+     * @param maximumBarCount the maximum bar count of the series
+     * @return the cache, or {@code null} if {@code index} is too old to be cached
      */
-    private void increaseLengthTo(int index, int maxLength) {
-        if (highestResultIndex > -1) {
-            int newResultsCount = Math.min(index - highestResultIndex, maxLength);
-            if (newResultsCount == maxLength) {
-                results.clear();
-                results.addAll(Collections.nCopies(maxLength, null));
-            } else if (newResultsCount > 0) {
-                results.addAll(Collections.nCopies(newResultsCount, null));
-                removeExceedingResults(maxLength);
-            }
-        } else {
-            // First use of cache
-            assert results.isEmpty() : "Cache results list should be empty";
-            results.addAll(Collections.nCopies(Math.min(index + 1, maxLength), null));
+    private Cache<T> reserve(int index, int maximumBarCount) {
+        Cache<T> current = ensureCapacity(index, maximumBarCount);
+        if (current.capacity() == 0) {
+            return null;
+        }
+        if (index > highestResultIndex) {
+            highestResultIndex = index;
+        } else if (highestResultIndex - index >= current.capacity()) {
+            return null;
         }
+        return current;
     }
 
     /**
-     * Removes the N first results which exceed the maximum bar count. (i.e. keeps
-     * only the last maximumResultCount results)
+     * Makes sure that the cache is large enough to hold the results up to
+     * {@code index}.
      *
-     * @param maximumResultCount the number of results to keep
+     * @param index           the bar index
+     * @param maximumBarCount the maximum bar count of the series
+     * @return the (possibly replaced) cache
+     */
+    private Cache<T> ensureCapacity(int index, int maximumBarCount) {
+        Cache<T> current = cache;
+        if (current == null || current.maximumBarCount != maximumBarCount) {
+            // First use of cache, or the maximum bar count of the series changed
+            current = new Cache<>(0, maximumBarCount);
+            highestResultIndex = -1;
+        }
+        final int requiredCapacity = Math.min(maximumBarCount, index + 1);
+        if (current.capacity() < requiredCapacity) {
+            final int capacity = (int) Math.min(
+                    Math.max(Math.max(2L * current.capacity(), DEFAULT_CAPACITY), requiredCapacity), maximumBarCount);
+            current = current.copy(capacity, highestResultIndex);
+        }
+        if (current != cache) {
+            cache = current;
+        }
+        return current;
+    }
+
+    /**
+     * Ring buffer of results. Each entry holds the bar index of its result, so that
+     * readers can detect a result that is being replaced without locking.
      */
-    private void removeExceedingResults(int maximumResultCount) {
-        int resultCount = results.size();
-        if (resultCount > maximumResultCount) {
-            // Removing old results
-            final int nbResultsToRemove = resultCount - maximumResultCount;
-            if (nbResultsToRemove == 1) {
-                results.remove(0);
-            } else {
-                results.subList(0, nbResultsToRemove).clear();
+    private static final class Cache<T> {
+
+        private final AtomicReferenceArray<T> results;
+        private final AtomicIntegerArray indices;
+        private final int maximumBarCount;
+
+        private Cache(int capacity, int maximumBarCount) {
+            this.results = new AtomicReferenceArray<>(capacity);
+            this.indices = new AtomicIntegerArray(capacity);
+            this.maximumBarCount = maximumBarCount;
+            for (int i = 0; i < capacity; i++) {
+                indices.set(i, -1);
+            }
+        }
+
+        private int capacity() {
+            return results.length();
+        }
+
+        /** @return the cached result of {@code index}, or null */
+        private T get(int index) {
+            final int capacity = capacity();
+            if (capacity == 0) {
+                return null;
+            }
+            final int entry = index % capacity;
+            if (indices.get(entry) != index) {
+                return null;
+            }
+            final T result = results.get(entry);
+            // the entry may have been replaced while reading it
+            return indices.get(entry) == index ? result : null;
+        }
+
+        /** Only called while holding the lock of the indicator. */
+        private void set(int index, T result) {
+            final int entry = index % capacity();
+            indices.set(entry, -1);
+            results.set(entry, result);
+            indices.set(entry, index);
+        }
+
+        /** @return a copy with the results up to {@code highestIndex} */
+        private Cache<T> copy(int capacity, int highestIndex) {
+            final Cache<T> copy = new Cache<>(capacity, maximumBarCount);
+            final int oldCapacity = capacity();
+            for (int i = Math.max(0, highestIndex - oldCapacity + 1); i <= highestIndex; i++) {
+                final T result = get(i);
+                if (result != null) {
+                    copy.set(i, result);
+                }
             }
+            return copy;
         }
     }
 }
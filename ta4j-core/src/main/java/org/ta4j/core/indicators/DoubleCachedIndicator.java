@@ -0,0 +1,274 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.util.Arrays;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+
+/**
+ * Cached {@link Indicator indicator} of primitive {@code double} values.
+ *
+ * <p>
+ * Like the {@link CachedIndicator}, it avoids calculating the same index twice,
+ * but it stores the results in a {@code double[]} (with a bitmap telling which
+ * entries are calculated) instead of a list of {@link Num} objects:
+ *
+ * <ul>
+ * <li>{@link #getDouble(int)} returns the cached value without boxing; only
+ * {@link #getValue(int)} creates a {@code Num}.
+ * <li>If the bar series has a {@link BarSeries#getMaximumBarCount() maximum bar
+ * count}, the cache is a ring buffer of that size, i.e. old results are evicted
+ * in constant time.
+ * <li>If the indicator is only used by a single thread, the cache can be
+ * created without locking (see
+ * {@link #DoubleCachedIndicator(BarSeries, boolean)}).
+ * </ul>
+ *
+ * <p>
+ * The values are held as {@code double}, so this cache is intended for series
+ * using the {@link org.ta4j.core.num.DoubleNumFactory DoubleNumFactory}; with
+ * other factories the results are limited to the precision of a {@code double}.
+ */
+public abstract class DoubleCachedIndicator extends AbstractIndicator<Num> {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /** True to synchronize the cache access, false otherwise. */
+    private final boolean synchronizedAccess;
+
+    /** The cached results, indexed by bar index modulo the capacity. */
+    private double[] results = new double[0];
+
+    /** A bit per entry of {@link #results}, set if the entry is calculated. */
+    private long[] calculated = new long[0];
+
+    /** The maximum bar count of the series the cache was created for. */
+    private int cachedMaximumBarCount = -1;
+
+    /** The highest bar index that has a reserved entry in the cache. */
+    private int highestResultIndex = -1;
+
+    /**
+     * Constructor with synchronized cache access.
+     *
+     * @param series the bar series
+     */
+    protected DoubleCachedIndicator(BarSeries series) {
+        this(series, true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param series             the bar series
+     * @param synchronizedAccess true to synchronize the cache access, false if the
+     *                           indicator is only used by a single thread
+     */
+    protected DoubleCachedIndicator(BarSeries series, boolean synchronizedAccess) {
+        super(series);
+        this.synchronizedAccess = synchronizedAccess;
+    }
+
+    /**
+     * Constructor with synchronized cache access.
+     *
+     * @param indicator a related indicator (with a bar series)
+     */
+    protected DoubleCachedIndicator(Indicator<?> indicator) {
+        this(indicator.getBarSeries());
+    }
+
+    /**
+     * @param index the bar index
+     * @return the value of the indicator
+     */
+    protected abstract double calculateDouble(int index);
+
+    /**
+     * @return true if the cache access is synchronized, false otherwise
+     */
+    public boolean isSynchronizedAccess() {
+        return synchronizedAccess;
+    }
+
+    /**
+     * Returns the value of the indicator as {@link Num} (created from
+     * {@link #getDouble(int)}). {@link Double#NaN} is returned as {@link NaN}.
+     */
+    @Override
+    public Num getValue(int index) {
+        final double value = getDouble(index);
+        return Double.isNaN(value) ? NaN.NaN : getBarSeries().numFactory().numOf(value);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the value of the indicator as {@code double}
+     */
+    public double getDouble(int index) {
+        if (synchronizedAccess) {
+            synchronized (this) {
+                return getCachedDouble(index);
+            }
+        }
+        return getCachedDouble(index);
+    }
+
+    /**
+     * Returns the values from {@code beginIndex} to {@code endIndex} (both
+     * inclusive), calculated in ascending index order with a single lock
+     * acquisition.
+     *
+     * @param beginIndex the first bar index
+     * @param endIndex   the last bar index
+     * @return the values of the range as {@code double}, empty if
+     *         {@code endIndex < beginIndex}
+     */
+    public double[] getDoubles(int beginIndex, int endIndex) {
+        final double[] values = new double[Math.max(0, endIndex - beginIndex + 1)];
+        if (synchronizedAccess) {
+            synchronized (this) {
+                fillDoubles(beginIndex, values);
+            }
+        } else {
+            fillDoubles(beginIndex, values);
+        }
+        return values;
+    }
+
+    private void fillDoubles(int beginIndex, double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getCachedDouble(beginIndex + i);
+        }
+    }
+
+    private double getCachedDouble(int index) {
+        final BarSeries series = getBarSeries();
+        if (series == null) {
+            // Series is null; the indicator doesn't need cache.
+            return calculateDouble(index);
+        }
+        final int removedBarsCount = series.getRemovedBarsCount();
+        if (index < removedBarsCount) {
+            // Result already removed from cache. As in CachedIndicator, we use
+            // "calculate(0)" as a workaround for recursive indicators
+            // (https://github.com/mdeverdelhan/ta4j/issues/120).
+            if (log.isTraceEnabled()) {
+                log.trace("{}: result from bar {} already removed from cache, use {}-th instead",
+                        getClass().getSimpleName(), index, removedBarsCount);
+            }
+            return calculateDouble(0);
+        }
+        if (index == series.getEndIndex()) {
+            // Don't cache result if last bar
+            return calculateDouble(index);
+        }
+
+        final int entry = reserve(index, series.getMaximumBarCount());
+        if (entry < 0) {
+            return calculateDouble(index);
+        }
+        if ((calculated[entry >>> 6] & (1L << entry)) != 0) {
+            return results[entry];
+        }
+        final double result = calculateDouble(index);
+        // the cache may have been reorganized during a recursive calculation
+        final int newEntry = reserve(index, series.getMaximumBarCount());
+        if (newEntry >= 0) {
+            results[newEntry] = result;
+            calculated[newEntry >>> 6] |= 1L << newEntry;
+        }
+        return result;
+    }
+
+    /**
+     * Makes sure that the cache has an entry for {@code index}. The cache holds the
+     * results of the last {@code capacity} indices up to
+     * {@link #highestResultIndex}, at the entry {@code index % capacity}.
+     *
+     * @param index           the bar index
+     * @param maximumBarCount the maximum bar count of the series
+     * @return the entry of {@code index} in {@link #results}, or {@code -1} if
+     *         {@code index} is too old to be cached
+     */
+    private int reserve(int index, int maximumBarCount) {
+        if (maximumBarCount != cachedMaximumBarCount) {
+            // First use of cache, or the maximum bar count of the series changed
+            cachedMaximumBarCount = maximumBarCount;
+            highestResultIndex = -1;
+            results = new double[0];
+            calculated = new long[0];
+        }
+        final int requiredCapacity = Math.min(maximumBarCount, index + 1);
+        if (results.length < requiredCapacity) {
+            grow(requiredCapacity, maximumBarCount);
+        }
+
+        final int capacity = results.length;
+        if (index > highestResultIndex) {
+            // The entries of the new indices may still hold results of evicted indices
+            if (index - highestResultIndex >= capacity) {
+                Arrays.fill(calculated, 0L);
+            } else {
+                for (int i = highestResultIndex + 1; i <= index; i++) {
+                    final int entry = i % capacity;
+                    calculated[entry >>> 6] &= ~(1L << entry);
+                }
+            }
+            highestResultIndex = index;
+        } else if (highestResultIndex - index >= capacity) {
+            return -1;
+        }
+        return index % capacity;
+    }
+
+    /**
+     * Increases the capacity of the cache and moves the cached results to their new
+     * entries.
+     *
+     * @param requiredCapacity the minimum capacity
+     * @param maximumBarCount  the maximum bar count of the series
+     */
+    private void grow(int requiredCapacity, int maximumBarCount) {
+        final int oldCapacity = results.length;
+        final int capacity = (int) Math.min(Math.max(Math.max(2L * oldCapacity, DEFAULT_CAPACITY), requiredCapacity),
+                maximumBarCount);
+        final double[] oldResults = results;
+        final long[] oldCalculated = calculated;
+        results = new double[capacity];
+        calculated = new long[(capacity + 63) >>> 6];
+        for (int i = Math.max(0, highestResultIndex - oldCapacity + 1); i <= highestResultIndex; i++) {
+            final int oldEntry = i % oldCapacity;
+            if ((oldCalculated[oldEntry >>> 6] & (1L << oldEntry)) != 0) {
+                final int entry = i % capacity;
+                results[entry] = oldResults[oldEntry];
+                calculated[entry >>> 6] |= 1L << entry;
+            }
+        }
+    }
+}
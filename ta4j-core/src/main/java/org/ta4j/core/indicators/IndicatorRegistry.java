@@ -0,0 +1,284 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+
+/**
+ * A registry which interns indicators by type and constructor arguments.
+ *
+ * <p>
+ * Asking twice for the same type of indicator with equal arguments returns the
+ * same instance, so structurally identical indicators (e.g. the
+ * {@code SMAIndicator(close, 50)} of many strategy candidates) share one cache
+ * and are calculated only once. Indicator arguments are compared by identity:
+ * build the whole indicator graph through the registry to share all its nodes.
+ *
+ * <pre>
+ * var registry = new IndicatorRegistry(series);
+ * var close = registry.get(ClosePriceIndicator.class, series);
+ * var sma = registry.get(SMAIndicator.class, close, 50);
+ * assert sma == registry.get(SMAIndicator.class, registry.get(ClosePriceIndicator.class, series), 50);
+ * </pre>
+ *
+ * <p>
+ * Each {@link BarSeries#getIndicatorRegistry() bar series has a registry}
+ * through which the built-in composite indicators (e.g. {@code MACDIndicator}
+ * or the facades) resolve their sub-indicators. The registry only weakly
+ * references the indicators: an indicator which is no longer used elsewhere is
+ * released and built again if needed.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public class IndicatorRegistry {
+
+    private final BarSeries series;
+    private final Map<List<Object>, Entry> indicators = new HashMap<>();
+    private final ReferenceQueue<Indicator<?>> releasedIndicators = new ReferenceQueue<>();
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series of the indicators
+     */
+    public IndicatorRegistry(BarSeries series) {
+        this.series = Objects.requireNonNull(series);
+    }
+
+    /** @return the bar series of the indicators */
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    /** @return the number of interned indicators */
+    public synchronized int size() {
+        expungeReleasedIndicators();
+        return indicators.size();
+    }
+
+    /**
+     * Returns the indicator of the given type registered for the given arguments in
+     * the registry of the bar series, creating it with the {@code factory} if it is
+     * not yet registered.
+     *
+     * @param <I>       the type of the indicator
+     * @param series    the bar series of the indicator (if {@code null}, the
+     *                  indicator is created without being registered)
+     * @param type      the class of the indicator
+     * @param arguments the arguments the {@code factory} builds the indicator from
+     * @param factory   the factory of the indicator
+     * @return the interned indicator
+     * @see BarSeries#getIndicatorRegistry()
+     */
+    public static <I extends Indicator<?>> I intern(BarSeries series, Class<I> type, List<?> arguments,
+            Supplier<? extends I> factory) {
+        if (series == null) {
+            return factory.get();
+        }
+        return series.getIndicatorRegistry().get(type, arguments, factory);
+    }
+
+    /**
+     * Returns the indicator of the given type built with the given arguments,
+     * creating it with the first matching public constructor of the type if it is
+     * not yet registered.
+     *
+     * @param <I>       the type of the indicator
+     * @param type      the class of the indicator
+     * @param arguments the constructor arguments
+     * @return the interned indicator
+     * @throws IllegalArgumentException if the type has no public constructor
+     *                                  accepting the arguments
+     */
+    public <I extends Indicator<?>> I get(Class<I> type, Object... arguments) {
+        return get(type, Arrays.asList(arguments.clone()), () -> newInstance(type, arguments));
+    }
+
+    /**
+     * Returns the indicator of the given type registered for the given arguments,
+     * creating it with the {@code factory} if it is not yet registered.
+     *
+     * @param <I>       the type of the indicator
+     * @param type      the class of the indicator
+     * @param arguments the arguments the {@code factory} builds the indicator from
+     * @param factory   the factory of the indicator
+     * @return the interned indicator
+     */
+    public <I extends Indicator<?>> I get(Class<I> type, List<?> arguments, Supplier<? extends I> factory) {
+        final List<Object> key = new ArrayList<>(arguments.size() + 1);
+        key.add(type);
+        key.addAll(arguments);
+        final List<Object> immutableKey = Collections.unmodifiableList(key);
+        synchronized (this) {
+            final Indicator<?> registered = lookUp(immutableKey);
+            if (registered != null) {
+                return type.cast(registered);
+            }
+        }
+        // created outside of the lock: the factory may register the dependencies
+        final I indicator = factory.get();
+        synchronized (this) {
+            final Indicator<?> registered = lookUp(immutableKey);
+            if (registered != null) {
+                return type.cast(registered);
+            }
+            indicators.put(immutableKey, new Entry(immutableKey, indicator, releasedIndicators));
+            return indicator;
+        }
+    }
+
+    private Indicator<?> lookUp(List<Object> key) {
+        expungeReleasedIndicators();
+        final Entry entry = indicators.get(key);
+        return entry == null ? null : entry.get();
+    }
+
+    private void expungeReleasedIndicators() {
+        Reference<? extends Indicator<?>> released;
+        while ((released = releasedIndicators.poll()) != null) {
+            final Entry entry = (Entry) released;
+            indicators.remove(entry.key, entry);
+        }
+    }
+
+    private static <I> I newInstance(Class<I> type, Object[] arguments) {
+        Constructor<?> match = null;
+        for (Constructor<?> constructor : type.getConstructors()) {
+            if (accepts(constructor.getParameterTypes(), arguments)) {
+                match = constructor;
+                break;
+            }
+        }
+        if (match == null) {
+            throw new IllegalArgumentException(
+                    "No public constructor of " + type.getName() + " accepts " + Arrays.toString(arguments));
+        }
+        try {
+            return type.cast(match.newInstance(arguments));
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Cannot create " + type.getName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + type.getName(), e);
+        }
+    }
+
+    private static boolean accepts(Class<?>[] parameterTypes, Object[] arguments) {
+        if (parameterTypes.length != arguments.length) {
+            return false;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            final Class<?> parameterType = wrap(parameterTypes[i]);
+            if (arguments[i] == null ? parameterTypes[i].isPrimitive() : !parameterType.isInstance(arguments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        }
+        return Character.class;
+    }
+
+    /**
+     * Holds the registry of a bar series, created on the first access.
+     *
+     * <p>
+     * The bar series implementing {@link BarSeries#getIndicatorRegistry()} keep one
+     * holder each. The registry is not serialized: a deserialized series gets a new
+     * one.
+     */
+    public static final class Holder implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient volatile IndicatorRegistry registry;
+
+        /**
+         * @param series the bar series owning this holder
+         * @return the registry of the bar series
+         */
+        public IndicatorRegistry get(BarSeries series) {
+            IndicatorRegistry result = registry;
+            if (result == null) {
+                synchronized (this) {
+                    result = registry;
+                    if (result == null) {
+                        result = new IndicatorRegistry(series);
+                        registry = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /** A weak reference to an interned indicator. */
+    private static final class Entry extends WeakReference<Indicator<?>> {
+
+        private final List<Object> key;
+
+        private Entry(List<Object> key, Indicator<?> indicator, ReferenceQueue<Indicator<?>> queue) {
+            super(indicator, queue);
+            this.key = key;
+        }
+    }
+}
@@ -23,6 +23,8 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.List;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.averages.EMAIndicator;
 import org.ta4j.core.indicators.numeric.NumericIndicator;
@@ -67,8 +69,8 @@ public class MACDIndicator extends CachedIndicator<Num> {
         if (shortBarCount > longBarCount) {
             throw new IllegalArgumentException("Long term period count must be greater than short term period count");
         }
-        this.shortTermEma = new EMAIndicator(indicator, shortBarCount);
-        this.longTermEma = new EMAIndicator(indicator, longBarCount);
+        this.shortTermEma = ema(indicator, shortBarCount);
+        this.longTermEma = ema(indicator, longBarCount);
     }
 
     /**
@@ -90,7 +92,7 @@ public class MACDIndicator extends CachedIndicator<Num> {
      * @return signal line for this MACD indicator
      */
     public EMAIndicator getSignalLine(int barCount) {
-        return new EMAIndicator(this, barCount);
+        return ema(this, barCount);
     }
 
     /**
@@ -101,6 +103,12 @@ public class MACDIndicator extends CachedIndicator<Num> {
         return NumericIndicator.of(this).minus(getSignalLine(barCount));
     }
 
+    /** @return the EMA of the indicator shared through the indicator registry */
+    private static EMAIndicator ema(Indicator<Num> indicator, int barCount) {
+        return IndicatorRegistry.intern(indicator.getBarSeries(), EMAIndicator.class, List.of(indicator, barCount),
+                () -> new EMAIndicator(indicator, barCount));
+    }
+
     @Override
     protected Num calculate(int index) {
         return shortTermEma.getValue(index).minus(longTermEma.getValue(index));
@@ -80,9 +80,7 @@ public abstract class RecursiveCachedIndicator<T> extends CachedIndicator<T> {
         if (index - startIndex > RECURSION_THRESHOLD) {
             // Too many uncalculated values; the risk for a StackOverflowError becomes high.
             // Calculating the previous values iteratively.
-            for (int prevIndex = startIndex; prevIndex < index; prevIndex++) {
-                super.getValue(prevIndex);
-            }
+            fillCache(startIndex, index - 1, null);
         }
 
         return super.getValue(index);
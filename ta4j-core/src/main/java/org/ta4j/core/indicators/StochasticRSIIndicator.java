@@ -23,6 +23,8 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
@@ -54,7 +56,8 @@ public class StochasticRSIIndicator extends CachedIndicator<Num> {
      * @param barCount the time frame for {@link #minRsi} and {@link #maxRsi}
      */
     public StochasticRSIIndicator(BarSeries series, int barCount) {
-        this(new ClosePriceIndicator(series), barCount);
+        this(IndicatorRegistry.intern(series, ClosePriceIndicator.class, List.of(series),
+                () -> new ClosePriceIndicator(series)), barCount);
     }
 
     /**
@@ -64,7 +67,8 @@ public class StochasticRSIIndicator extends CachedIndicator<Num> {
      * @param barCount  the time frame for {@link #minRsi} and {@link #maxRsi}
      */
     public StochasticRSIIndicator(Indicator<Num> indicator, int barCount) {
-        this(new RSIIndicator(indicator, barCount), barCount);
+        this(IndicatorRegistry.intern(indicator.getBarSeries(), RSIIndicator.class, List.of(indicator, barCount),
+                () -> new RSIIndicator(indicator, barCount)), barCount);
     }
 
     /**
@@ -76,8 +80,11 @@ public class StochasticRSIIndicator extends CachedIndicator<Num> {
     public StochasticRSIIndicator(RSIIndicator rsiIndicator, int barCount) {
         super(rsiIndicator);
         this.rsi = rsiIndicator;
-        this.minRsi = new LowestValueIndicator(rsiIndicator, barCount);
-        this.maxRsi = new HighestValueIndicator(rsiIndicator, barCount);
+        final BarSeries series = rsiIndicator.getBarSeries();
+        this.minRsi = IndicatorRegistry.intern(series, LowestValueIndicator.class, List.of(rsiIndicator, barCount),
+                () -> new LowestValueIndicator(rsiIndicator, barCount));
+        this.maxRsi = IndicatorRegistry.intern(series, HighestValueIndicator.class, List.of(rsiIndicator, barCount),
+                () -> new HighestValueIndicator(rsiIndicator, barCount));
     }
 
     @Override
@@ -23,7 +23,10 @@
  */
 package org.ta4j.core.indicators.aroon;
 
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.numeric.NumericIndicator;
 
 /**
@@ -32,7 +35,9 @@ import org.ta4j.core.indicators.numeric.NumericIndicator;
  *
  * <p>
  * This class creates lightweight "fluent" numeric indicators. These objects are
- * not cached, although they may be wrapped around cached objects.
+ * not cached, although they may be wrapped around cached objects, which are
+ * shared through the {@link BarSeries#getIndicatorRegistry() indicator
+ * registry} of the bar series.
  */
 public class AroonFacade {
 
@@ -46,8 +51,10 @@ public class AroonFacade {
      * @param barCount the number of periods used for the indicators
      */
     public AroonFacade(BarSeries series, int barCount) {
-        this.up = NumericIndicator.of(new AroonUpIndicator(series, barCount));
-        this.down = NumericIndicator.of(new AroonDownIndicator(series, barCount));
+        this.up = NumericIndicator.of(IndicatorRegistry.intern(series, AroonUpIndicator.class,
+                List.of(series, barCount), () -> new AroonUpIndicator(series, barCount)));
+        this.down = NumericIndicator.of(IndicatorRegistry.intern(series, AroonDownIndicator.class,
+                List.of(series, barCount), () -> new AroonDownIndicator(series, barCount)));
     }
 
     /**
@@ -52,6 +52,10 @@ public class JMAIndicator extends CachedIndicator<Num> {
     private final Num beta;
     private final Num phaseRatio;
     private final Num alpha;
+    private final Num oneMinusAlpha;
+    private final Num oneMinusBeta;
+    private final Num alphaSquared;
+    private final Num oneMinusAlphaSquared;
 
     /**
      * Constructor.
@@ -80,6 +84,10 @@ public class JMAIndicator extends CachedIndicator<Num> {
                         : this.phase.dividedBy(numFactory.numOf(100)).plus(numFactory.numOf(1.5)));
 
         alpha = beta.pow(this.power);
+        oneMinusAlpha = numFactory.one().minus(alpha);
+        oneMinusBeta = numFactory.one().minus(beta);
+        alphaSquared = alpha.pow(2);
+        oneMinusAlphaSquared = oneMinusAlpha.pow(2);
 
         for (int i = indicator.getBarSeries().getBeginIndex(); i < indicator.getBarSeries().getBarCount(); i++) {
             calculate(i);
@@ -114,14 +122,12 @@ public class JMAIndicator extends CachedIndicator<Num> {
     }
 
     private Num calculateE0(NumFactory numFactory, Num currentPrice, JmaData previousJMA) {
-        Num e0 = currentPrice.multipliedBy(numFactory.one().minus(alpha)).plus(previousJMA.e0.multipliedBy(alpha));
+        Num e0 = currentPrice.multipliedBy(oneMinusAlpha).plus(previousJMA.e0.multipliedBy(alpha));
         return e0;
     }
 
     private Num calculateE1(NumFactory numFactory, Num currentPrice, JmaData previousJMA, Num e0) {
-        Num e1 = currentPrice.minus(e0)
-                .multipliedBy(numFactory.one().minus(beta))
-                .plus(previousJMA.e1.multipliedBy(beta));
+        Num e1 = currentPrice.minus(e0).multipliedBy(oneMinusBeta).plus(previousJMA.e1.multipliedBy(beta));
         return e1;
     }
 
@@ -133,8 +139,8 @@ public class JMAIndicator extends CachedIndicator<Num> {
     private Num calculateE2(NumFactory numFactory, JmaData previousJMA, Num e0, Num e1) {
         Num e2 = e0.plus(phaseRatio.multipliedBy(e1))
                 .minus(previousJMA.jma)
-                .multipliedBy(numFactory.one().minus(alpha).pow(2))
-                .plus(previousJMA.e2.multipliedBy(alpha.pow(2)));
+                .multipliedBy(oneMinusAlphaSquared)
+                .plus(previousJMA.e2.multipliedBy(alphaSquared));
         return e2;
     }
 
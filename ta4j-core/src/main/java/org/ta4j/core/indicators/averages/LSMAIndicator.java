@@ -52,6 +52,11 @@ public class LSMAIndicator extends CachedIndicator<Num> {
     private final Indicator<Num> indicator;
     private final int barCount;
     private final NumFactory numFactory;
+    private final Num barCountNum;
+    /** The x values {@code 1..barCount} of the regression. */
+    private final Num[] xs;
+    private final Num sumX;
+    private final Num sumX2;
 
     /**
      * Constructor.
@@ -65,6 +70,17 @@ public class LSMAIndicator extends CachedIndicator<Num> {
         this.indicator = indicator;
         this.barCount = barCount;
         this.numFactory = indicator.getBarSeries().numFactory();
+        this.barCountNum = numFactory.numOf(barCount);
+        this.xs = new Num[barCount];
+        Num xSum = numFactory.zero();
+        Num x2Sum = numFactory.zero();
+        for (int i = 0; i < barCount; i++) {
+            xs[i] = numFactory.numOf(i + 1); // 1-based index for X
+            xSum = xSum.plus(xs[i]);
+            x2Sum = x2Sum.plus(xs[i].multipliedBy(xs[i]));
+        }
+        this.sumX = xSum;
+        this.sumX2 = x2Sum;
     }
 
     @Override
@@ -74,24 +90,19 @@ public class LSMAIndicator extends CachedIndicator<Num> {
         }
 
         Num zero = numFactory.zero();
-        Num sumX = zero;
         Num sumY = zero;
         Num sumXY = zero;
-        Num sumX2 = zero;
 
         int startIdx = index - barCount + 1;
         for (int i = 0; i < barCount; i++) {
             int currentIndex = startIdx + i;
-            Num x = numFactory.numOf(i + 1); // 1-based index for X
             Num y = indicator.getValue(currentIndex); // Y values are prices
 
-            sumX = sumX.plus(x);
             sumY = sumY.plus(y);
-            sumXY = sumXY.plus(x.multipliedBy(y));
-            sumX2 = sumX2.plus(x.multipliedBy(x));
+            sumXY = sumXY.plus(xs[i].multipliedBy(y));
         }
 
-        Num numBarCount = numFactory.numOf(barCount);
+        Num numBarCount = barCountNum;
 
         // Calculate slope
         Num numerator = numBarCount.multipliedBy(sumXY).minus(sumX.multipliedBy(sumY));
@@ -43,6 +43,7 @@ public class MCGinleyMAIndicator extends CachedIndicator<Num> {
 
     private final Indicator<Num> indicator;
     private final int barCount;
+    private final Num barCountNum;
 
     /**
      * Constructor.
@@ -54,7 +55,7 @@ public class MCGinleyMAIndicator extends CachedIndicator<Num> {
         super(indicator.getBarSeries());
         this.indicator = indicator;
         this.barCount = barCount;
-
+        this.barCountNum = indicator.getBarSeries().numFactory().numOf(barCount);
     }
 
     @Override
@@ -73,8 +74,7 @@ public class MCGinleyMAIndicator extends CachedIndicator<Num> {
         Num currentPrice = indicator.getValue(index);
 
         // Speed ratio (smoothing factor)
-        Num numBars = indicator.getBarSeries().numFactory().numOf(barCount);
-        Num speedRatio = numBars.multipliedBy(currentPrice.dividedBy(previousMcGinley).pow(2));
+        Num speedRatio = barCountNum.multipliedBy(currentPrice.dividedBy(previousMcGinley).pow(2));
 
         // McGinley formula
         return previousMcGinley.plus(currentPrice.minus(previousMcGinley).dividedBy(speedRatio));
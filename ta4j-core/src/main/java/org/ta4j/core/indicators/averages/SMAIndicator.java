@@ -37,6 +37,7 @@ import org.ta4j.core.num.Num;
 public class SMAIndicator extends CachedIndicator<Num> {
 
     private final int barCount;
+    private final Num barCountNum;
     private RunningTotalIndicator previousSum;
 
     /**
@@ -49,13 +50,16 @@ public class SMAIndicator extends CachedIndicator<Num> {
         super(indicator);
         this.previousSum = new RunningTotalIndicator(indicator, barCount);
         this.barCount = barCount;
+        this.barCountNum = getBarSeries().numFactory().numOf(barCount);
     }
 
     @Override
     protected Num calculate(int index) {
-        final int realBarCount = Math.min(barCount, index + 1);
         final var sum = partialSum(index);
-        return sum.dividedBy(getBarSeries().numFactory().numOf(realBarCount));
+        if (index + 1 < barCount) {
+            return sum.dividedBy(getBarSeries().numFactory().numOf(index + 1));
+        }
+        return sum.dividedBy(barCountNum);
     }
 
     private Num partialSum(int index) {
@@ -42,6 +42,8 @@ public class SMMAIndicator extends CachedIndicator<Num> {
 
     private final int barCount;
     private final Indicator<Num> indicator;
+    private final Num barCountNum;
+    private final Num previousWeight;
 
     /**
      * Constructor.
@@ -53,6 +55,9 @@ public class SMMAIndicator extends CachedIndicator<Num> {
         super(indicator.getBarSeries());
         this.barCount = barCount;
         this.indicator = indicator;
+        final var numFactory = indicator.getBarSeries().numFactory();
+        this.barCountNum = numFactory.numOf(barCount);
+        this.previousWeight = numFactory.numOf(barCount - 1);
     }
 
     @Override
@@ -69,12 +74,8 @@ public class SMMAIndicator extends CachedIndicator<Num> {
         // Current price
         Num currentPrice = indicator.getValue(index);
 
-        var numFactory = indicator.getBarSeries().numFactory();
-
         // SMMA formula
-        return previousSMMA.multipliedBy(numFactory.numOf(barCount - 1))
-                .plus(currentPrice)
-                .dividedBy(numFactory.numOf(barCount));
+        return previousSMMA.multipliedBy(previousWeight).plus(currentPrice).dividedBy(barCountNum);
     }
 
     @Override
@@ -34,6 +34,10 @@ public class WMAIndicator extends CachedIndicator<Num> {
 
     private final int barCount;
     private final Indicator<Num> indicator;
+    /** The weights {@code 0..barCount}. */
+    private final Num[] weights;
+    /** The sum of the weights of a full window. */
+    private final Num weightSum;
 
     /**
      * Constructor.
@@ -45,6 +49,12 @@ public class WMAIndicator extends CachedIndicator<Num> {
         super(indicator);
         this.indicator = indicator;
         this.barCount = barCount;
+        final var numFactory = getBarSeries().numFactory();
+        this.weights = new Num[barCount + 1];
+        for (int i = 0; i <= barCount; i++) {
+            this.weights[i] = numFactory.numOf(i);
+        }
+        this.weightSum = numFactory.numOf((barCount * (barCount + 1)) / 2);
     }
 
     @Override
@@ -58,10 +68,13 @@ public class WMAIndicator extends CachedIndicator<Num> {
         int loopLength = (index - barCount < 0) ? index + 1 : barCount;
         int actualIndex = index;
         for (int i = loopLength; i > 0; i--) {
-            value = value.plus(numFactory.numOf(i).multipliedBy(indicator.getValue(actualIndex)));
+            value = value.plus(weights[i].multipliedBy(indicator.getValue(actualIndex)));
             actualIndex--;
         }
 
+        if (loopLength == barCount) {
+            return value.dividedBy(weightSum);
+        }
         return value.dividedBy(numFactory.numOf((loopLength * (loopLength + 1)) / 2));
     }
 
@@ -51,6 +51,9 @@ public class WildersMAIndicator extends CachedIndicator<Num> {
     private final Indicator<Num> indicator;
     private final int barCount;
     private final RunningTotalIndicator sumPriceIndicator;
+    private final Num numBars;
+    private final Num k;
+    private final Num oneMinusK;
 
     /**
      * Constructor.
@@ -63,15 +66,15 @@ public class WildersMAIndicator extends CachedIndicator<Num> {
         this.indicator = indicator;
         this.barCount = barCount;
         this.sumPriceIndicator = new RunningTotalIndicator(indicator, barCount);
+        final NumFactory numFactory = getBarSeries().numFactory();
+        this.numBars = numFactory.numOf(barCount);
+        this.k = numFactory.one().dividedBy(numBars);
+        this.oneMinusK = numFactory.one().minus(k);
     }
 
     @Override
     protected Num calculate(int index) {
         NumFactory numFactory = getBarSeries().numFactory();
-        Num one = numFactory.one();
-
-        Num numBars = numFactory.numOf(barCount);
-        Num k = one.dividedBy(numBars);
         Num prevWMA = indicator.getValue(0);
 
         // Simulate extended historical data for initialization
@@ -97,7 +100,7 @@ public class WildersMAIndicator extends CachedIndicator<Num> {
             prevWMA = getValue(index - 1);
         }
         Num currentPrice = indicator.getValue(index);
-        return currentPrice.multipliedBy(k).plus(prevWMA.multipliedBy(numFactory.one().minus(k)));
+        return currentPrice.multipliedBy(k).plus(prevWMA.multipliedBy(oneMinusK));
     }
 
     @Override
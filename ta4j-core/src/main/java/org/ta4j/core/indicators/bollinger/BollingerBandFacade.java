@@ -25,7 +25,6 @@ package org.ta4j.core.indicators.bollinger;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.indicators.numeric.NumericIndicator;
 import org.ta4j.core.num.Num;
 
@@ -37,7 +36,9 @@ import org.ta4j.core.num.Num;
  * <p>
  * This class creates lightweight "fluent" numeric indicators. These objects are
  * not cached, although they may be wrapped around cached objects. Overall there
- * is less caching and probably better performance.
+ * is less caching and probably better performance. The cached objects (close
+ * price, SMA and standard deviation) are shared with the other indicators of
+ * the bar series through its {@link BarSeries#getIndicatorRegistry() registry}.
  */
 public class BollingerBandFacade {
 
@@ -54,8 +55,8 @@ public class BollingerBandFacade {
      * @param k         the multiplier used to calculate the upper and lower bands
      */
     public BollingerBandFacade(BarSeries barSeries, int barCount, Number k) {
-        this.price = NumericIndicator.of(new ClosePriceIndicator(barSeries));
-        this.middle = NumericIndicator.of(price.sma(barCount));
+        this.price = NumericIndicator.closePrice(barSeries);
+        this.middle = price.sma(barCount);
         final NumericIndicator stdev = price.stddev(barCount);
         this.upper = middle.plus(stdev.multipliedBy(k));
         this.lower = middle.minus(stdev.multipliedBy(k));
@@ -70,7 +71,7 @@ public class BollingerBandFacade {
      */
     public BollingerBandFacade(Indicator<Num> indicator, int barCount, Number k) {
         this.price = NumericIndicator.of(indicator);
-        this.middle = NumericIndicator.of(price.sma(barCount));
+        this.middle = price.sma(barCount);
         final NumericIndicator stdev = price.stddev(barCount);
         this.upper = middle.plus(stdev.multipliedBy(k));
         this.lower = middle.minus(stdev.multipliedBy(k));
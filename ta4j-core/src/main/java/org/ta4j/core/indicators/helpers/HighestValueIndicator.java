@@ -32,11 +32,13 @@ import org.ta4j.core.num.Num;
  *
  * <p>
  * Returns the highest indicator value from the bar series within the bar count.
+ * {@code NaN} values are skipped. Serial access is amortized O(1) per bar,
+ * random access falls back to scanning the bar count.
  */
 public class HighestValueIndicator extends CachedIndicator<Num> {
 
-    private final Indicator<Num> indicator;
     private final int barCount;
+    private final MonotonicDeque deque;
 
     /**
      * Constructor.
@@ -46,23 +48,13 @@ public class HighestValueIndicator extends CachedIndicator<Num> {
      */
     public HighestValueIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
         this.barCount = barCount;
+        this.deque = new MonotonicDeque(indicator, true);
     }
 
     @Override
     public Num calculate(int index) {
-        if (indicator.getValue(index).isNaN() && barCount != 1) {
-            return new HighestValueIndicator(indicator, barCount - 1).getValue(index - 1);
-        }
-        int end = Math.max(0, index - barCount + 1);
-        Num highest = indicator.getValue(index);
-        for (int i = index - 1; i >= end; i--) {
-            if (highest.isLessThan(indicator.getValue(i))) {
-                highest = indicator.getValue(i);
-            }
-        }
-        return highest;
+        return deque.extremum(Math.max(0, index - barCount + 1), index);
     }
 
     /** @return {@link #barCount} */
@@ -32,11 +32,13 @@ import org.ta4j.core.num.Num;
  *
  * <p>
  * Returns the lowest indicator value from the bar series within the bar count.
+ * {@code NaN} values are skipped. Serial access is amortized O(1) per bar,
+ * random access falls back to scanning the bar count.
  */
 public class LowestValueIndicator extends CachedIndicator<Num> {
 
-    private final Indicator<Num> indicator;
     private final int barCount;
+    private final MonotonicDeque deque;
 
     /**
      * Constructor.
@@ -46,26 +48,13 @@ public class LowestValueIndicator extends CachedIndicator<Num> {
      */
     public LowestValueIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
         this.barCount = barCount;
+        this.deque = new MonotonicDeque(indicator, false);
     }
 
     @Override
     public Num calculate(int index) {
-        if (indicator.getValue(index).isNaN() && barCount != 1) {
-            return new LowestValueIndicator(indicator, barCount - 1).getValue(index - 1);
-        }
-
-        // TODO optimize algorithm, compare previous minimum with current value without
-        // looping
-        int end = Math.max(0, index - barCount + 1);
-        Num lowest = indicator.getValue(index);
-        for (int i = index - 1; i >= end; i--) {
-            if (lowest.isGreaterThan(indicator.getValue(i))) {
-                lowest = indicator.getValue(i);
-            }
-        }
-        return lowest;
+        return deque.extremum(Math.max(0, index - barCount + 1), index);
     }
 
     /** @return {@link #barCount} */
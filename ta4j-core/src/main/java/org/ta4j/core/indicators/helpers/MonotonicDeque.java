@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+
+/**
+ * Monotonic deque over a sliding window of indicator values.
+ *
+ * <p>
+ * Keeps the indices of the window candidates ordered so that the extremum is
+ * always at the front. As long as both ends of the window only move forward,
+ * each index is pushed and popped at most once, which makes
+ * {@link #extremum(int, int)} amortized O(1) instead of O(window length). Any
+ * other access pattern rebuilds the deque from the window, which costs the same
+ * as a plain scan.
+ *
+ * <p>
+ * {@code NaN} values are skipped; the result is {@link NaN#NaN} only if the
+ * whole window is {@code NaN}.
+ */
+public final class MonotonicDeque {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Indicator<Num> indicator;
+    private final boolean maximum;
+
+    private int[] indices;
+    private Num[] values;
+    private int head;
+    private int size;
+
+    /** The lowest index of the current window. */
+    private int startIndex;
+
+    /** The highest index pushed so far, the current index is never pushed. */
+    private int lastIndex = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the {@link Indicator}
+     * @param maximum   true to track the highest value, false for the lowest
+     */
+    public MonotonicDeque(Indicator<Num> indicator, boolean maximum) {
+        this.indicator = indicator;
+        this.maximum = maximum;
+        this.indices = new int[INITIAL_CAPACITY];
+        this.values = new Num[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @param start the first index of the window
+     * @param index the bar index, the last index of the window
+     * @return the extremum of the indicator within {@code [start, index]}
+     */
+    public synchronized Num extremum(int start, int index) {
+        if (index <= lastIndex || lastIndex < start - 1 || start < startIndex) {
+            // random access, rebuild the deque from the window
+            head = 0;
+            size = 0;
+            lastIndex = start - 1;
+        }
+        startIndex = start;
+        for (int i = lastIndex + 1; i < index; i++) {
+            push(i, indicator.getValue(i));
+        }
+        lastIndex = Math.max(lastIndex, index - 1);
+        while (size > 0 && indices[head] < start) {
+            head = (head + 1) % indices.length;
+            size--;
+        }
+
+        // the current value is not pushed as it may still change (last bar)
+        Num current = indicator.getValue(index);
+        if (size == 0) {
+            return current;
+        }
+        Num front = values[head];
+        if (current.isNaN() || !isBetter(current, front)) {
+            return front;
+        }
+        return current;
+    }
+
+    private void push(int index, Num value) {
+        if (value.isNaN()) {
+            return;
+        }
+        while (size > 0 && !isBetter(values[(head + size - 1) % values.length], value)) {
+            size--;
+        }
+        if (size == indices.length) {
+            grow();
+        }
+        int tail = (head + size) % indices.length;
+        indices[tail] = index;
+        values[tail] = value;
+        size++;
+    }
+
+    /** @return true if {@code a} strictly beats {@code b} */
+    private boolean isBetter(Num a, Num b) {
+        return maximum ? a.isGreaterThan(b) : a.isLessThan(b);
+    }
+
+    private void grow() {
+        int capacity = indices.length << 1;
+        int[] newIndices = new int[capacity];
+        Num[] newValues = new Num[capacity];
+        for (int i = 0; i < size; i++) {
+            int from = (head + i) % indices.length;
+            newIndices[i] = indices[from];
+            newValues[i] = values[from];
+        }
+        indices = newIndices;
+        values = newValues;
+        head = 0;
+    }
+}
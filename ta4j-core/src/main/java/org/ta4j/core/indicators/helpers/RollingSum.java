@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import java.util.function.IntFunction;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+
+/**
+ * Rolling sum of a term over the last {@code barCount} bars.
+ *
+ * <p>
+ * For serial access each term is added once when the window moves forward and
+ * subtracted once when it leaves the window, so the cost per bar does not
+ * depend on {@code barCount}. Any other access pattern rebuilds the sum from
+ * the window. The sum is also rebuilt every {@code barCount} bars to bound the
+ * rounding drift of {@code DoubleNum}.
+ *
+ * <p>
+ * The term of the current bar is never committed, since the last bar of a live
+ * series may still change. A window containing a {@code NaN} term sums to
+ * {@link NaN#NaN}.
+ */
+public final class RollingSum {
+
+    private final BarSeries series;
+    private final int barCount;
+    private final IntFunction<Num> term;
+
+    private Num sum;
+    private int nanCount;
+
+    /** The committed window is {@code [firstIndex, lastIndex]}. */
+    private int firstIndex;
+    private int lastIndex = -1;
+    /** The index of the last rebuild of the sum. */
+    private int rebuildIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param series   the bar series
+     * @param barCount the time frame
+     * @param term     the term of the sum for a bar index
+     */
+    public RollingSum(BarSeries series, int barCount, IntFunction<Num> term) {
+        this.series = series;
+        this.barCount = barCount;
+        this.term = term;
+    }
+
+    /**
+     * @param indicator the indicator
+     * @param barCount  the time frame
+     * @return the rolling sum of {@code indicator}
+     */
+    public static RollingSum of(Indicator<Num> indicator, int barCount) {
+        return new RollingSum(indicator.getBarSeries(), barCount, indicator::getValue);
+    }
+
+    /**
+     * @param indicator the indicator
+     * @param barCount  the time frame
+     * @return the rolling sum of the squares of {@code indicator}
+     */
+    public static RollingSum ofSquares(Indicator<Num> indicator, int barCount) {
+        return new RollingSum(indicator.getBarSeries(), barCount, i -> {
+            Num value = indicator.getValue(i);
+            return value.multipliedBy(value);
+        });
+    }
+
+    /**
+     * @param indicator1 the first indicator
+     * @param indicator2 the second indicator
+     * @param barCount   the time frame
+     * @return the rolling sum of the products of both indicators
+     */
+    public static RollingSum ofProducts(Indicator<Num> indicator1, Indicator<Num> indicator2, int barCount) {
+        return new RollingSum(indicator1.getBarSeries(), barCount,
+                i -> indicator1.getValue(i).multipliedBy(indicator2.getValue(i)));
+    }
+
+    /**
+     * @param index the bar index
+     * @return the sum of the terms within {@code [index - barCount + 1, index]}
+     */
+    public synchronized Num getValue(int index) {
+        int start = Math.max(0, index - barCount + 1);
+        // terms of removed bars are approximated and could differ from the added
+        // ones, so such windows are always rebuilt
+        if (sum == null || index <= lastIndex || lastIndex < start - 1 || index - rebuildIndex >= barCount
+                || firstIndex < series.getRemovedBarsCount()) {
+            sum = series.numFactory().zero();
+            nanCount = 0;
+            rebuildIndex = index;
+            firstIndex = start;
+            lastIndex = start - 1;
+        }
+        for (int i = lastIndex + 1; i < index; i++) {
+            add(i);
+        }
+        lastIndex = Math.max(lastIndex, index - 1);
+        while (firstIndex < start) {
+            remove(firstIndex++);
+        }
+
+        Num current = term.apply(index);
+        if (nanCount > 0 || current.isNaN()) {
+            return NaN.NaN;
+        }
+        return sum.plus(current);
+    }
+
+    private void add(int index) {
+        Num value = term.apply(index);
+        if (value.isNaN()) {
+            nanCount++;
+        } else {
+            sum = sum.plus(value);
+        }
+    }
+
+    private void remove(int index) {
+        Num value = term.apply(index);
+        if (value.isNaN()) {
+            nanCount--;
+        } else {
+            sum = sum.minus(value);
+        }
+    }
+}
@@ -23,9 +23,11 @@
  */
 package org.ta4j.core.indicators.keltner;
 
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.indicators.ATRIndicator;
-import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.numeric.NumericIndicator;
 
 /**
@@ -35,7 +37,9 @@ import org.ta4j.core.indicators.numeric.NumericIndicator;
  * <p>
  * This class creates lightweight "fluent" numeric indicators. These objects are
  * not cached, although they may be wrapped around cached objects. Overall there
- * is less caching and probably better performance.
+ * is less caching and probably better performance. The cached objects (close
+ * price, EMA and ATR) are shared with the other indicators of the bar series
+ * through its {@link BarSeries#getIndicatorRegistry() registry}.
  */
 public class KeltnerChannelFacade {
 
@@ -53,8 +57,9 @@ public class KeltnerChannelFacade {
      *                 channel
      */
     public KeltnerChannelFacade(BarSeries series, int emaCount, int atrCount, Number k) {
-        NumericIndicator price = NumericIndicator.of(new ClosePriceIndicator(series));
-        NumericIndicator atr = NumericIndicator.of(new ATRIndicator(series, atrCount));
+        NumericIndicator price = NumericIndicator.closePrice(series);
+        NumericIndicator atr = NumericIndicator.of(IndicatorRegistry.intern(series, ATRIndicator.class,
+                List.of(series, atrCount), () -> new ATRIndicator(series, atrCount)));
         this.middle = price.ema(emaCount);
         this.upper = middle.plus(atr.multipliedBy(k));
         this.lower = middle.minus(atr.multipliedBy(k));
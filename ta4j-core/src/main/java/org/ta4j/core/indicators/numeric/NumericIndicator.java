@@ -23,9 +23,13 @@
  */
 package org.ta4j.core.indicators.numeric;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Rule;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.averages.EMAIndicator;
 import org.ta4j.core.indicators.averages.SMAIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
@@ -53,9 +57,11 @@ import org.ta4j.core.rules.UnderIndicatorRule;
  * either {@code Indicator<Num>} or {@code Number} arguments.
  *
  * <p>
- * Methods like sma() and ema() simply create the corresponding indicator
- * objects, (SMAIndicator or EMAIndicator, for example) with "this" as the first
- * argument. These methods usually instantiate cached objects.
+ * Methods like sma() and ema() return the corresponding indicator objects,
+ * (SMAIndicator or EMAIndicator, for example) of "this". These cached objects
+ * are interned in the {@link BarSeries#getIndicatorRegistry() indicator
+ * registry} of the bar series, so asking twice for the same indicator of the
+ * same input shares one cache.
  *
  * <p>
  * Another set of methods, like crossedOver() and isGreaterThan() create Rule
@@ -81,7 +87,8 @@ public class NumericIndicator implements Indicator<Num> {
      * @return a NumericIndicator wrapped around a ClosePriceIndicator
      */
     public static NumericIndicator closePrice(BarSeries bs) {
-        return of(new ClosePriceIndicator(bs));
+        return of(IndicatorRegistry.intern(bs, ClosePriceIndicator.class, List.of(bs),
+                () -> new ClosePriceIndicator(bs)));
     }
 
     /**
@@ -90,7 +97,7 @@ public class NumericIndicator implements Indicator<Num> {
      * @return a NumericIndicator wrapped around a VolumeIndicator
      */
     public static NumericIndicator volume(BarSeries bs) {
-        return of(new VolumeIndicator(bs));
+        return of(IndicatorRegistry.intern(bs, VolumeIndicator.class, List.of(bs), () -> new VolumeIndicator(bs)));
     }
 
     protected final Indicator<Num> delegate;
@@ -236,7 +243,7 @@ public class NumericIndicator implements Indicator<Num> {
      * @return the {@link SMAIndicator} of {@code this}
      */
     public NumericIndicator sma(int barCount) {
-        return NumericIndicator.of(new SMAIndicator(this, barCount));
+        return derived(SMAIndicator.class, barCount, () -> new SMAIndicator(delegate, barCount));
     }
 
     /**
@@ -244,7 +251,7 @@ public class NumericIndicator implements Indicator<Num> {
      * @return the {@link EMAIndicator} of {@code this}
      */
     public NumericIndicator ema(int barCount) {
-        return NumericIndicator.of(new EMAIndicator(this, barCount));
+        return derived(EMAIndicator.class, barCount, () -> new EMAIndicator(delegate, barCount));
     }
 
     /**
@@ -252,7 +259,8 @@ public class NumericIndicator implements Indicator<Num> {
      * @return the {@link StandardDeviationIndicator} of {@code this}
      */
     public NumericIndicator stddev(int barCount) {
-        return NumericIndicator.of(new StandardDeviationIndicator(this, barCount));
+        return derived(StandardDeviationIndicator.class, barCount,
+                () -> new StandardDeviationIndicator(delegate, barCount));
     }
 
     /**
@@ -260,7 +268,7 @@ public class NumericIndicator implements Indicator<Num> {
      * @return the {@link HighestValueIndicator} of {@code this}
      */
     public NumericIndicator highest(int barCount) {
-        return NumericIndicator.of(new HighestValueIndicator(this, barCount));
+        return derived(HighestValueIndicator.class, barCount, () -> new HighestValueIndicator(delegate, barCount));
     }
 
     /**
@@ -268,7 +276,7 @@ public class NumericIndicator implements Indicator<Num> {
      * @return the {@link LowestValueIndicator} of {@code this}
      */
     public NumericIndicator lowest(int barCount) {
-        return NumericIndicator.of(new LowestValueIndicator(this, barCount));
+        return derived(LowestValueIndicator.class, barCount, () -> new LowestValueIndicator(delegate, barCount));
     }
 
     /**
@@ -276,7 +284,7 @@ public class NumericIndicator implements Indicator<Num> {
      * @return the {@link PreviousValueIndicator} of {@code this}
      */
     public NumericIndicator previous(int barCount) {
-        return NumericIndicator.of(new PreviousValueIndicator(this, barCount));
+        return derived(PreviousValueIndicator.class, barCount, () -> new PreviousValueIndicator(delegate, barCount));
     }
 
     /**
@@ -287,6 +295,14 @@ public class NumericIndicator implements Indicator<Num> {
         return previous(1);
     }
 
+    /**
+     * Returns the indicator of the given type derived from the delegate, shared
+     * through the indicator registry of the bar series.
+     */
+    private <I extends Indicator<Num>> NumericIndicator derived(Class<I> type, int barCount, Supplier<I> factory) {
+        return of(IndicatorRegistry.intern(getBarSeries(), type, List.of(delegate, barCount), factory));
+    }
+
     /**
      * @param other the other indicator
      * @return the {@link CrossedUpIndicatorRule} of {@code this} and {@code other}
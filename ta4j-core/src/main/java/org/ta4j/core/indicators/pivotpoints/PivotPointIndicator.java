@@ -25,6 +25,10 @@ package org.ta4j.core.indicators.pivotpoints;
 
 import static org.ta4j.core.num.NaN.NaN;
 
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.IsoFields;
 import java.util.ArrayList;
 import java.util.List;
@@ -128,24 +132,43 @@ public class PivotPointIndicator extends RecursiveCachedIndicator<Num> {
             return previousBars;
         }
 
-        final Bar currentBar = getBarSeries().getBar(index);
+        final BarSeries series = getBarSeries();
+        final Bar currentBar = series.getBar(index);
 
-        // step back while bar-1 in same period (day, week, etc):
-        while (index - 1 > getBarSeries().getBeginIndex()
-                && getPeriod(getBarSeries().getBar(index - 1)) == getPeriod(currentBar)) {
-            index--;
+        // the first bar in the same period (day, week, etc), found by its end time
+        final int firstIndex = series.ceilingIndex(getPeriodStart(currentBar));
+        if (firstIndex <= series.getBeginIndex()) {
+            return previousBars;
         }
 
-        // index = last bar in same period, index-1 = first bar in previous period
-        long previousPeriod = getPreviousPeriod(currentBar, index - 1);
-        while (index - 1 >= getBarSeries().getBeginIndex()
-                && getPeriod(getBarSeries().getBar(index - 1)) == previousPeriod) { // while bar-n in previous period
-            index--;
-            previousBars.add(index);
+        // firstIndex-1 = last bar in previous period
+        final Bar lastBarOfPreviousPeriod = series.getBar(firstIndex - 1);
+        if (getPeriod(lastBarOfPreviousPeriod) != getPreviousPeriod(currentBar, firstIndex - 1)) {
+            return previousBars;
+        }
+        final int firstIndexOfPreviousPeriod = Math.max(series.ceilingIndex(getPeriodStart(lastBarOfPreviousPeriod)),
+                series.getBeginIndex());
+        for (int i = firstIndex - 1; i >= firstIndexOfPreviousPeriod; i--) {
+            previousBars.add(i);
         }
         return previousBars;
     }
 
+    /** @return the begin of the period (day, week, etc) of the bar */
+    private Instant getPeriodStart(Bar bar) {
+        var startOfDay = bar.getZonedEndTime().truncatedTo(ChronoUnit.DAYS);
+        switch (timeLevel) {
+        case DAY:
+            return startOfDay.toInstant();
+        case WEEK:
+            return startOfDay.with(ChronoField.DAY_OF_WEEK, DayOfWeek.MONDAY.getValue()).toInstant();
+        case MONTH:
+            return startOfDay.withDayOfMonth(1).toInstant();
+        default:
+            return startOfDay.withDayOfYear(1).toInstant();
+        }
+    }
+
     private long getPreviousPeriod(Bar bar, int indexOfPreviousBar) {
         var zonedEndTime = bar.getZonedEndTime();
         switch (timeLevel) {
@@ -36,9 +36,7 @@ import org.ta4j.core.num.Num;
  */
 public class CorrelationCoefficientIndicator extends CachedIndicator<Num> {
 
-    private final VarianceIndicator variance1;
-    private final VarianceIndicator variance2;
-    private final CovarianceIndicator covariance;
+    private final RollingMoments moments;
 
     /**
      * Constructor.
@@ -49,18 +47,12 @@ public class CorrelationCoefficientIndicator extends CachedIndicator<Num> {
      */
     public CorrelationCoefficientIndicator(Indicator<Num> indicator1, Indicator<Num> indicator2, int barCount) {
         super(indicator1);
-        this.variance1 = new VarianceIndicator(indicator1, barCount);
-        this.variance2 = new VarianceIndicator(indicator2, barCount);
-        this.covariance = new CovarianceIndicator(indicator1, indicator2, barCount);
+        this.moments = new RollingMoments(indicator1, indicator2, barCount);
     }
 
     @Override
     protected Num calculate(int index) {
-        Num cov = covariance.getValue(index);
-        Num var1 = variance1.getValue(index);
-        Num var2 = variance2.getValue(index);
-        Num multipliedSqrt = var1.multipliedBy(var2).sqrt();
-        return cov.dividedBy(multipliedSqrt);
+        return moments.correlation(index);
     }
 
     @Override
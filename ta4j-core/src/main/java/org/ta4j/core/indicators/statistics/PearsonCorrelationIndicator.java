@@ -27,6 +27,7 @@ import static org.ta4j.core.num.NaN.NaN;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.helpers.RollingSum;
 import org.ta4j.core.num.Num;
 
 /**
@@ -38,9 +39,12 @@ import org.ta4j.core.num.Num;
  */
 public class PearsonCorrelationIndicator extends RecursiveCachedIndicator<Num> {
 
-    private final Indicator<Num> indicator1;
-    private final Indicator<Num> indicator2;
     private final int barCount;
+    private final RollingSum sumX;
+    private final RollingSum sumY;
+    private final RollingSum sumXX;
+    private final RollingSum sumYY;
+    private final RollingSum sumXY;
 
     /**
      * Constructor.
@@ -51,9 +55,12 @@ public class PearsonCorrelationIndicator extends RecursiveCachedIndicator<Num> {
      */
     public PearsonCorrelationIndicator(Indicator<Num> indicator1, Indicator<Num> indicator2, int barCount) {
         super(indicator1);
-        this.indicator1 = indicator1;
-        this.indicator2 = indicator2;
         this.barCount = barCount;
+        this.sumX = RollingSum.of(indicator1, barCount);
+        this.sumY = RollingSum.of(indicator2, barCount);
+        this.sumXX = RollingSum.ofSquares(indicator1, barCount);
+        this.sumYY = RollingSum.ofSquares(indicator2, barCount);
+        this.sumXY = RollingSum.ofProducts(indicator1, indicator2, barCount);
     }
 
     @Override
@@ -62,24 +69,11 @@ public class PearsonCorrelationIndicator extends RecursiveCachedIndicator<Num> {
         final var numFactory = getBarSeries().numFactory();
         Num n = numFactory.numOf(barCount);
 
-        Num zero = numFactory.zero();
-        Num Sx = zero;
-        Num Sy = zero;
-        Num Sxx = zero;
-        Num Syy = zero;
-        Num Sxy = zero;
-
-        for (int i = Math.max(getBarSeries().getBeginIndex(), index - barCount + 1); i <= index; i++) {
-
-            Num x = indicator1.getValue(i);
-            Num y = indicator2.getValue(i);
-
-            Sx = Sx.plus(x);
-            Sy = Sy.plus(y);
-            Sxy = Sxy.plus(x.multipliedBy(y));
-            Sxx = Sxx.plus(x.multipliedBy(x));
-            Syy = Syy.plus(y.multipliedBy(y));
-        }
+        Num Sx = sumX.getValue(index);
+        Num Sy = sumY.getValue(index);
+        Num Sxx = sumXX.getValue(index);
+        Num Syy = sumYY.getValue(index);
+        Num Sxy = sumXY.getValue(index);
 
         // (n * Sxx - Sx * Sx) * (n * Syy - Sy * Sy)
         Num toSqrt = (n.multipliedBy(Sxx).minus(Sx.multipliedBy(Sx)))
@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import static org.ta4j.core.indicators.numeric.BinaryOperation.difference;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ConstantIndicator;
+import org.ta4j.core.indicators.helpers.RollingSum;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Rolling first and second moments of one or two indicators over the last
+ * {@code barCount} values.
+ *
+ * <p>
+ * The moments are built from {@link RollingSum rolling sums} of the values, of
+ * their squares and of their products, so the cost is amortized O(1) per bar
+ * for serial access. The values are shifted by the first values read, which
+ * avoids the cancellation of the naive sum of squares with {@code DoubleNum}.
+ * Only additions and multiplications are accumulated, so {@code DecimalNum}
+ * results are exact up to the final division. A window containing {@code NaN}
+ * yields {@link NaN#NaN}.
+ */
+final class RollingMoments {
+
+    private final Indicator<Num> x;
+    private final Indicator<Num> y;
+    private final int barCount;
+    private final NumFactory numFactory;
+    /** The number of observations of a full window. */
+    private final Num barCountNum;
+
+    private RollingSum sumX;
+    private RollingSum sumY;
+    private RollingSum sumXX;
+    private RollingSum sumYY;
+    private RollingSum sumXY;
+
+    /**
+     * Constructor for the moments of a single indicator.
+     *
+     * @param indicator the indicator
+     * @param barCount  the time frame
+     */
+    RollingMoments(Indicator<Num> indicator, int barCount) {
+        this(indicator, indicator, barCount);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param x        the first indicator
+     * @param y        the second indicator
+     * @param barCount the time frame
+     */
+    RollingMoments(Indicator<Num> x, Indicator<Num> y, int barCount) {
+        this.x = x;
+        this.y = y;
+        this.barCount = barCount;
+        this.numFactory = x.getBarSeries().numFactory();
+        this.barCountNum = numFactory.numOf(barCount);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the population variance of the first indicator
+     */
+    synchronized Num variance(int index) {
+        if (!initialize(index)) {
+            return NaN.NaN;
+        }
+        Num sx = sumX.getValue(index);
+        return centered(sumXX.getValue(index), sx, sx, index);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the population covariance of both indicators
+     */
+    synchronized Num covariance(int index) {
+        if (!initialize(index)) {
+            return NaN.NaN;
+        }
+        return centered(sumXY.getValue(index), sumX.getValue(index), sumY.getValue(index), index);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the Pearson correlation coefficient of both indicators
+     */
+    synchronized Num correlation(int index) {
+        if (!initialize(index)) {
+            return NaN.NaN;
+        }
+        Num sx = sumX.getValue(index);
+        Num sy = sumY.getValue(index);
+        Num covariance = centered(sumXY.getValue(index), sx, sy, index);
+        Num varianceX = centered(sumXX.getValue(index), sx, sx, index);
+        Num varianceY = centered(sumYY.getValue(index), sy, sy, index);
+        return covariance.dividedBy(varianceX.multipliedBy(varianceY).sqrt());
+    }
+
+    private Num centered(Num sumOfProducts, Num sum1, Num sum2, int index) {
+        if (sumOfProducts.isNaN() || sum1.isNaN() || sum2.isNaN()) {
+            return NaN.NaN;
+        }
+        int n = Math.min(index + 1, barCount);
+        Num observations = n == barCount ? barCountNum : numFactory.numOf(n);
+        return sumOfProducts.minus(sum1.multipliedBy(sum2).dividedBy(observations)).dividedBy(observations);
+    }
+
+    /**
+     * Creates the rolling sums of the values shifted by the first values read.
+     *
+     * @return false if a value of {@code index} is {@code NaN} and the sums could
+     *         not be created yet
+     */
+    private boolean initialize(int index) {
+        if (sumX != null) {
+            return true;
+        }
+        Num shiftX = x.getValue(index);
+        Num shiftY = y.getValue(index);
+        if (shiftX.isNaN() || shiftY.isNaN()) {
+            return false;
+        }
+        Indicator<Num> dx = difference(x, new ConstantIndicator<>(x.getBarSeries(), shiftX));
+        sumX = RollingSum.of(dx, barCount);
+        sumXX = RollingSum.ofSquares(dx, barCount);
+        if (x == y) {
+            sumY = sumX;
+            sumYY = sumXX;
+            sumXY = sumXX;
+        } else {
+            Indicator<Num> dy = difference(y, new ConstantIndicator<>(y.getBarSeries(), shiftY));
+            sumY = RollingSum.of(dy, barCount);
+            sumYY = RollingSum.ofSquares(dy, barCount);
+            sumXY = RollingSum.ofProducts(dx, dy, barCount);
+        }
+        return true;
+    }
+}
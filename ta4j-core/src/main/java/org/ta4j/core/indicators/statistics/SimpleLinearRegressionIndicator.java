@@ -56,6 +56,10 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Num> {
     private Num slope;
     private Num intercept;
     private final SimpleLinearRegressionType type;
+    /**
+     * The x-values {@code 0..barCount-1} relative to the first index of a window.
+     */
+    private Num[] xs;
 
     /**
      * Constructor for the y-values of the formula (y = slope * x + intercept).
@@ -94,11 +98,13 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Num> {
             return slope;
         }
 
+        final var numFactory = getBarSeries().numFactory();
         if (type == SimpleLinearRegressionType.INTERCEPT) {
-            return intercept;
+            // shift the intercept from the first index of the window to index 0
+            return intercept.minus(slope.multipliedBy(numFactory.numOf(startIndex)));
         }
 
-        return slope.multipliedBy(getBarSeries().numFactory().numOf(index)).plus(intercept);
+        return slope.multipliedBy(xs[index - startIndex]).plus(intercept);
     }
 
     @Override
@@ -107,22 +113,31 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Num> {
     }
 
     /**
-     * Calculates the regression line.
+     * Calculates the regression line with the x-values relative to
+     * {@code startIndex}, so that its constants only depend on the size of the
+     * window.
      *
      * @param startIndex the start index (inclusive) in the bar series
      * @param endIndex   the end index (inclusive) in the bar series
      */
     private void calculateRegressionLine(int startIndex, int endIndex) {
         final var numFactory = getBarSeries().numFactory();
+        if (xs == null) {
+            xs = new Num[barCount];
+            for (int i = 0; i < barCount; i++) {
+                xs[i] = numFactory.numOf(i);
+            }
+        }
         Num zero = numFactory.zero();
+        final int observations = endIndex - startIndex + 1;
         // First pass: compute xBar and yBar
         Num sumX = zero;
         Num sumY = zero;
         for (int i = startIndex; i <= endIndex; i++) {
-            sumX = sumX.plus(numFactory.numOf(i));
+            sumX = sumX.plus(xs[i - startIndex]);
             sumY = sumY.plus(indicator.getValue(i));
         }
-        Num nbObservations = numFactory.numOf(endIndex - startIndex + 1);
+        Num nbObservations = numFactory.numOf(observations);
         Num xBar = sumX.dividedBy(nbObservations);
         Num yBar = sumY.dividedBy(nbObservations);
 
@@ -130,7 +145,7 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Num> {
         Num xxBar = zero;
         Num xyBar = zero;
         for (int i = startIndex; i <= endIndex; i++) {
-            Num dX = numFactory.numOf(i).minus(xBar);
+            Num dX = xs[i - startIndex].minus(xBar);
             Num dY = indicator.getValue(i).minus(yBar);
             xxBar = xxBar.plus(dX.multipliedBy(dX));
             xyBar = xyBar.plus(dX.multipliedBy(dY));
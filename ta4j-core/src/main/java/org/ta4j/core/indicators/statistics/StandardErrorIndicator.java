@@ -34,6 +34,7 @@ public class StandardErrorIndicator extends CachedIndicator<Num> {
 
     private final int barCount;
     private final StandardDeviationIndicator sdev;
+    private final Num sqrtBarCount;
 
     /**
      * Constructor.
@@ -45,12 +46,15 @@ public class StandardErrorIndicator extends CachedIndicator<Num> {
         super(indicator);
         this.barCount = barCount;
         this.sdev = new StandardDeviationIndicator(indicator, barCount);
+        this.sqrtBarCount = getBarSeries().numFactory().numOf(barCount).sqrt();
     }
 
     @Override
     protected Num calculate(int index) {
-        final int startIndex = Math.max(0, index - barCount + 1);
-        final int numberOfObservations = index - startIndex + 1;
+        if (index >= barCount - 1) {
+            return sdev.getValue(index).dividedBy(sqrtBarCount);
+        }
+        final int numberOfObservations = index + 1;
         return sdev.getValue(index).dividedBy(getBarSeries().numFactory().numOf(numberOfObservations).sqrt());
     }
 
@@ -28,6 +28,8 @@ import static org.ta4j.core.num.NaN.NaN;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceDifferenceIndicator;
+import org.ta4j.core.indicators.helpers.RollingSum;
+import org.ta4j.core.indicators.helpers.VolumeIndicator;
 import org.ta4j.core.num.Num;
 
 /**
@@ -45,8 +47,8 @@ import org.ta4j.core.num.Num;
  *      Volume (TSV)</a>
  */
 public class TimeSegmentedVolumeIndicator extends CachedIndicator<Num> {
-    private final ClosePriceDifferenceIndicator closePriceDifference;
     private final int barCount;
+    private final RollingSum tsv;
 
     /**
      * Constructor.
@@ -57,8 +59,9 @@ public class TimeSegmentedVolumeIndicator extends CachedIndicator<Num> {
     public TimeSegmentedVolumeIndicator(BarSeries series, int barCount) {
         super(series);
 
-        this.closePriceDifference = new ClosePriceDifferenceIndicator(series);
         this.barCount = barCount;
+        this.tsv = RollingSum.ofProducts(new ClosePriceDifferenceIndicator(series), new VolumeIndicator(series),
+                barCount);
     }
 
     @Override
@@ -68,18 +71,8 @@ public class TimeSegmentedVolumeIndicator extends CachedIndicator<Num> {
             return NaN;
         }
 
-        Num tsv = getBarSeries().numFactory().zero();
-
         // Calculate the TSV for the given period
-        int startIndex = Math.max(0, index - barCount + 1);
-        for (int i = startIndex; i <= index; i++) {
-            Num closePriceDifferenceValue = closePriceDifference.getValue(i);
-            Num currentVolume = getBarSeries().getBar(i).getVolume();
-
-            tsv = tsv.plus(closePriceDifferenceValue.multipliedBy(currentVolume));
-        }
-
-        return tsv;
+        return tsv.getValue(index);
     }
 
     @Override
@@ -26,6 +26,7 @@ package org.ta4j.core.indicators.volume;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.helpers.RollingSum;
 import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 import org.ta4j.core.indicators.helpers.VolumeIndicator;
 import org.ta4j.core.num.Num;
@@ -46,7 +47,8 @@ public class VWAPIndicator extends CachedIndicator<Num> {
 
     private final int barCount;
     private final Indicator<Num> typicalPrice;
-    private final Indicator<Num> volume;
+    private final RollingSum cumulativeTPV;
+    private final RollingSum cumulativeVolume;
 
     /**
      * Constructor.
@@ -58,7 +60,9 @@ public class VWAPIndicator extends CachedIndicator<Num> {
         super(series);
         this.barCount = barCount;
         this.typicalPrice = new TypicalPriceIndicator(series);
-        this.volume = new VolumeIndicator(series);
+        var volume = new VolumeIndicator(series);
+        this.cumulativeTPV = RollingSum.ofProducts(typicalPrice, volume, barCount);
+        this.cumulativeVolume = RollingSum.of(volume, barCount);
     }
 
     @Override
@@ -66,16 +70,7 @@ public class VWAPIndicator extends CachedIndicator<Num> {
         if (index <= 0) {
             return typicalPrice.getValue(index);
         }
-        int startIndex = Math.max(0, index - barCount + 1);
-        final var zero = getBarSeries().numFactory().zero();
-        Num cumulativeTPV = zero;
-        Num cumulativeVolume = zero;
-        for (int i = startIndex; i <= index; i++) {
-            Num currentVolume = volume.getValue(i);
-            cumulativeTPV = cumulativeTPV.plus(typicalPrice.getValue(i).multipliedBy(currentVolume));
-            cumulativeVolume = cumulativeVolume.plus(currentVolume);
-        }
-        return cumulativeTPV.dividedBy(cumulativeVolume);
+        return cumulativeTPV.getValue(index).dividedBy(cumulativeVolume.getValue(index));
     }
 
     @Override
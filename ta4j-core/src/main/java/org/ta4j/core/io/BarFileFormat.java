@@ -0,0 +1,226 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.FixedPointNumFactory;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * The binary format of the bar files.
+ *
+ * <p>
+ * A bar file starts with a header of {@value #HEADER_SIZE} bytes, followed by
+ * the bars as records of {@value #RECORD_SIZE} bytes. All values are little
+ * endian.
+ *
+ * <pre>
+ * header:  magic (int), version (short), encoding (byte), scale (byte),
+ *          bar period in nanoseconds (long), bar count (long), num type (byte),
+ *          3 padding bytes, num type parameter (int), reserved bytes
+ * record:  end time in nanoseconds since the epoch (long), open, high, low,
+ *          close, volume, amount (8 bytes each), trades (long)
+ * </pre>
+ *
+ * <p>
+ * The prices, volume and amount are either {@code double} values or the
+ * unscaled {@code long} values of fixed-point numbers with the scale of the
+ * header. A missing value is stored as {@code NaN}, respectively as
+ * {@link Long#MIN_VALUE}.
+ *
+ * <p>
+ * The num type records the {@code Num} implementation of the written bars, so
+ * that they are read back with the same factory: {@code DoubleNum},
+ * {@code FixedPointNum} (with its scale as parameter) or {@code DecimalNum}
+ * (with its precision as parameter). An unspecified num type means the factory
+ * matching the encoding.
+ */
+final class BarFileFormat {
+
+    /** "TA4J" */
+    static final int MAGIC = 0x5441344A;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 64;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /** The position of the bar count in the header. */
+    static final int BAR_COUNT_POSITION = 16;
+    static final int NUM_TYPE_POSITION = 24;
+    static final int NUM_TYPE_PARAMETER_POSITION = 28;
+
+    /** The maximum scale of the fixed-point encoding (as for FixedPointNum). */
+    static final int MAX_SCALE = 18;
+
+    static final byte DOUBLE_ENCODING = 0;
+    static final byte FIXED_POINT_ENCODING = 1;
+
+    static final byte UNSPECIFIED_NUM = 0;
+    static final byte DOUBLE_NUM = 1;
+    static final byte FIXED_POINT_NUM = 2;
+    static final byte DECIMAL_NUM = 3;
+
+    /** The unscaled value of a missing fixed-point number. */
+    static final long MISSING_FIXED_POINT = Long.MIN_VALUE;
+
+    /** The field positions within a record. */
+    static final int END_TIME = 0;
+    static final int OPEN_PRICE = 8;
+    static final int HIGH_PRICE = 16;
+    static final int LOW_PRICE = 24;
+    static final int CLOSE_PRICE = 32;
+    static final int VOLUME = 40;
+    static final int AMOUNT = 48;
+    static final int TRADES = 56;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private BarFileFormat() {
+    }
+
+    /** The header of a bar file. */
+    static final class Header {
+
+        final byte encoding;
+        final int scale;
+        final Duration barPeriod;
+        final long barCount;
+        final byte numType;
+        final int numTypeParameter;
+
+        Header(byte encoding, int scale, Duration barPeriod, long barCount, byte numType, int numTypeParameter) {
+            this.encoding = encoding;
+            this.scale = scale;
+            this.barPeriod = barPeriod;
+            this.barCount = barCount;
+            this.numType = numType;
+            this.numTypeParameter = numTypeParameter;
+        }
+
+        /**
+         * @return the factory of the numbers of the written bars
+         */
+        NumFactory numFactory() {
+            switch (numType) {
+            case DOUBLE_NUM:
+                return DoubleNumFactory.getInstance();
+            case FIXED_POINT_NUM:
+                return FixedPointNumFactory.getInstance(numTypeParameter);
+            case DECIMAL_NUM:
+                return DecimalNumFactory.getInstance(numTypeParameter);
+            default:
+                return encoding == DOUBLE_ENCODING ? DoubleNumFactory.getInstance()
+                        : FixedPointNumFactory.getInstance(scale);
+            }
+        }
+
+        ByteBuffer toBuffer() {
+            final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+            buffer.putInt(MAGIC)
+                    .putShort(VERSION)
+                    .put(encoding)
+                    .put((byte) scale)
+                    .putLong(barPeriod.toNanos())
+                    .putLong(barCount)
+                    .put(NUM_TYPE_POSITION, numType)
+                    .putInt(NUM_TYPE_PARAMETER_POSITION, numTypeParameter);
+            buffer.clear();
+            return buffer;
+        }
+    }
+
+    /**
+     * Reads the header of a bar file.
+     *
+     * @param channel the channel of the bar file
+     * @return the header
+     * @throws IOException if the header cannot be read or is not a valid bar file
+     *                     header
+     */
+    static Header readHeader(FileChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        if (channel.size() < HEADER_SIZE) {
+            throw new IOException("Not a bar file: the header is truncated");
+        }
+        readFully(channel, buffer, 0);
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a bar file: wrong magic number");
+        }
+        final short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported bar file version: " + version);
+        }
+        final byte encoding = buffer.get();
+        if (encoding != DOUBLE_ENCODING && encoding != FIXED_POINT_ENCODING) {
+            throw new IOException("Unsupported bar file encoding: " + encoding);
+        }
+        final int scale = buffer.get();
+        final Duration barPeriod = Duration.ofNanos(buffer.getLong());
+        final long barCount = buffer.getLong();
+        final byte numType = buffer.get(NUM_TYPE_POSITION);
+        final int numTypeParameter = buffer.getInt(NUM_TYPE_PARAMETER_POSITION);
+        if (numType < UNSPECIFIED_NUM || numType > DECIMAL_NUM) {
+            throw new IOException("Unsupported bar file num type: " + numType);
+        }
+        // ignores a record which was not completely written
+        final long storedBarCount = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+        return new Header(encoding, scale, barPeriod, Math.min(barCount, Math.max(storedBarCount, 0)), numType,
+                numTypeParameter);
+    }
+
+    /**
+     * Reads bytes from a position of a channel until the buffer is full.
+     *
+     * @param channel  the channel
+     * @param buffer   the buffer to fill
+     * @param position the position of the first byte to read
+     * @throws IOException if the end of the channel is reached
+     */
+    static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of the bar file");
+            }
+        }
+        buffer.flip();
+    }
+
+    static long toEpochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    static Instant ofEpochNanos(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                Math.floorMod(epochNanos, NANOS_PER_SECOND));
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.io;
+
+import static org.ta4j.core.io.BarFileFormat.AMOUNT;
+import static org.ta4j.core.io.BarFileFormat.BAR_COUNT_POSITION;
+import static org.ta4j.core.io.BarFileFormat.BYTE_ORDER;
+import static org.ta4j.core.io.BarFileFormat.CLOSE_PRICE;
+import static org.ta4j.core.io.BarFileFormat.DECIMAL_NUM;
+import static org.ta4j.core.io.BarFileFormat.DOUBLE_ENCODING;
+import static org.ta4j.core.io.BarFileFormat.DOUBLE_NUM;
+import static org.ta4j.core.io.BarFileFormat.END_TIME;
+import static org.ta4j.core.io.BarFileFormat.FIXED_POINT_ENCODING;
+import static org.ta4j.core.io.BarFileFormat.FIXED_POINT_NUM;
+import static org.ta4j.core.io.BarFileFormat.HEADER_SIZE;
+import static org.ta4j.core.io.BarFileFormat.HIGH_PRICE;
+import static org.ta4j.core.io.BarFileFormat.LOW_PRICE;
+import static org.ta4j.core.io.BarFileFormat.MISSING_FIXED_POINT;
+import static org.ta4j.core.io.BarFileFormat.OPEN_PRICE;
+import static org.ta4j.core.io.BarFileFormat.RECORD_SIZE;
+import static org.ta4j.core.io.BarFileFormat.TRADES;
+import static org.ta4j.core.io.BarFileFormat.VOLUME;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Objects;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.io.BarFileFormat.Header;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.FixedPointNumFactory;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Writes bars to a bar file (see {@link MappedBarSeries} to read it).
+ *
+ * <p>
+ * A bar file holds bars of one period, stored as fixed-width records of 64
+ * bytes, either as {@code double} values or as fixed-point numbers with a given
+ * scale, and records the {@code Num} type of the bars. The bars are appended in
+ * the order of their end times. They are buffered and the bar count of the
+ * header is updated on {@link #flush()} and {@link #close()}, so a reader never
+ * sees a partially written bar.
+ *
+ * <pre>
+ * try (var writer = BarFileWriter.create(path, Duration.ofMinutes(1), series.numFactory())) {
+ *     writer.write(series);
+ * }
+ * var mappedSeries = MappedBarSeries.open(path);
+ * </pre>
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+public class BarFileWriter implements Closeable {
+
+    /** The number of records buffered before they are written to the file. */
+    private static final int BUFFERED_RECORDS = 1024;
+
+    private final FileChannel channel;
+    private final Header header;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFERED_RECORDS * RECORD_SIZE).order(BYTE_ORDER);
+
+    /** The number of bars written to the file (without the buffered ones). */
+    private long writtenBarCount;
+
+    /** The end time of the last bar, in nanoseconds since the epoch. */
+    private long lastEndTime;
+
+    private BarFileWriter(FileChannel channel, Header header, long lastEndTime) {
+        this.channel = channel;
+        this.header = header;
+        this.writtenBarCount = header.barCount;
+        this.lastEndTime = lastEndTime;
+    }
+
+    /**
+     * Creates (or overwrites) a bar file for the bars of a {@code DoubleNum} or
+     * {@code FixedPointNum} series. The values are stored as {@code double} values,
+     * respectively as fixed-point numbers with the scale of the
+     * {@link FixedPointNumFactory}, and read back with the same factory.
+     *
+     * <p>
+     * {@code DecimalNum} values have an arbitrary number of decimal places and
+     * cannot be stored losslessly without a scale: use
+     * {@link #create(Path, Duration, NumFactory, int)} for them.
+     *
+     * @param path       the path of the bar file
+     * @param barPeriod  the period of the bars
+     * @param numFactory the factory of the numbers of the bars
+     * @return the writer
+     * @throws IOException              if the file cannot be created
+     * @throws IllegalArgumentException if the values of {@code numFactory} cannot
+     *                                  be stored losslessly
+     */
+    public static BarFileWriter create(Path path, Duration barPeriod, NumFactory numFactory) throws IOException {
+        if (numFactory instanceof FixedPointNumFactory fixedPoint) {
+            return create(path, barPeriod, numFactory, fixedPoint.getScale());
+        }
+        if (numFactory instanceof DoubleNumFactory) {
+            return create(path, new Header(DOUBLE_ENCODING, 0, barPeriod, 0, DOUBLE_NUM, 0));
+        }
+        throw new IllegalArgumentException("The values of " + numFactory.getClass().getSimpleName()
+                + " cannot be stored losslessly without a scale");
+    }
+
+    /**
+     * Creates (or overwrites) a bar file storing the values as fixed-point numbers
+     * with {@code scale} decimal places, rounded half up. The bars are read back
+     * with {@code numFactory}, which must be a {@link DoubleNumFactory},
+     * {@link FixedPointNumFactory} or {@link DecimalNumFactory}.
+     *
+     * @param path       the path of the bar file
+     * @param barPeriod  the period of the bars
+     * @param numFactory the factory of the numbers of the bars
+     * @param scale      the number of decimal places, from 0 to 18
+     * @return the writer
+     * @throws IOException              if the file cannot be created
+     * @throws IllegalArgumentException if {@code scale} is out of range or if the
+     *                                  num type of {@code numFactory} cannot be
+     *                                  recorded
+     */
+    public static BarFileWriter create(Path path, Duration barPeriod, NumFactory numFactory, int scale)
+            throws IOException {
+        checkScale(scale);
+        if (numFactory instanceof DoubleNumFactory) {
+            return create(path, new Header(FIXED_POINT_ENCODING, scale, barPeriod, 0, DOUBLE_NUM, 0));
+        }
+        if (numFactory instanceof FixedPointNumFactory fixedPoint) {
+            return create(path,
+                    new Header(FIXED_POINT_ENCODING, scale, barPeriod, 0, FIXED_POINT_NUM, fixedPoint.getScale()));
+        }
+        if (numFactory instanceof DecimalNumFactory decimal) {
+            return create(path,
+                    new Header(FIXED_POINT_ENCODING, scale, barPeriod, 0, DECIMAL_NUM, decimal.getPrecision()));
+        }
+        throw new IllegalArgumentException(
+                "Unsupported num factory for a bar file: " + numFactory.getClass().getSimpleName());
+    }
+
+    /**
+     * Creates (or overwrites) a bar file storing the values as fixed-point numbers
+     * with {@code scale} decimal places, read back as {@code FixedPointNum}s with
+     * the same scale.
+     *
+     * @param path      the path of the bar file
+     * @param barPeriod the period of the bars
+     * @param scale     the number of decimal places, from 0 to 18
+     * @return the writer
+     * @throws IOException              if the file cannot be created
+     * @throws IllegalArgumentException if {@code scale} is out of range
+     */
+    public static BarFileWriter create(Path path, Duration barPeriod, int scale) throws IOException {
+        checkScale(scale);
+        return create(path, new Header(FIXED_POINT_ENCODING, scale, barPeriod, 0, FIXED_POINT_NUM, scale));
+    }
+
+    private static void checkScale(int scale) {
+        if (scale < 0 || scale > BarFileFormat.MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + BarFileFormat.MAX_SCALE + ": " + scale);
+        }
+    }
+
+    private static BarFileWriter create(Path path, Header header) throws IOException {
+        if (header.barPeriod.isNegative() || header.barPeriod.isZero()) {
+            throw new IllegalArgumentException("Bar period must be positive: " + header.barPeriod);
+        }
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.READ, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            channel.write(header.toBuffer(), 0);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new BarFileWriter(channel, header, Long.MIN_VALUE);
+    }
+
+    /**
+     * Opens an existing bar file to append bars to it.
+     *
+     * @param path the path of the bar file
+     * @return the writer
+     * @throws IOException if the file cannot be opened or is not a bar file
+     */
+    public static BarFileWriter append(Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.READ);
+        try {
+            final Header header = BarFileFormat.readHeader(channel);
+            long lastEndTime = Long.MIN_VALUE;
+            if (header.barCount > 0) {
+                final ByteBuffer endTime = ByteBuffer.allocate(Long.BYTES).order(BYTE_ORDER);
+                BarFileFormat.readFully(channel, endTime, HEADER_SIZE + (header.barCount - 1) * RECORD_SIZE + END_TIME);
+                lastEndTime = endTime.getLong(0);
+            }
+            // drops a record which was not completely written
+            channel.truncate(HEADER_SIZE + header.barCount * RECORD_SIZE);
+            return new BarFileWriter(channel, header, lastEndTime);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** @return the period of the bars */
+    public Duration getBarPeriod() {
+        return header.barPeriod;
+    }
+
+    /** @return the number of bars of the file, including the buffered ones */
+    public long getBarCount() {
+        return writtenBarCount + buffer.position() / RECORD_SIZE;
+    }
+
+    /**
+     * Appends a bar.
+     *
+     * @param bar the bar
+     * @throws IOException              if the bars cannot be written
+     * @throws IllegalArgumentException if the period of the bar is not the period
+     *                                  of the file, if its end time is not after
+     *                                  the end time of the last bar or if a value
+     *                                  does not fit the fixed-point encoding
+     */
+    public void write(Bar bar) throws IOException {
+        if (!header.barPeriod.equals(bar.getTimePeriod())) {
+            throw new IllegalArgumentException(String.format("The bar period %s differs from the file bar period %s",
+                    bar.getTimePeriod(), header.barPeriod));
+        }
+        final long endTime = BarFileFormat.toEpochNanos(bar.getEndTime());
+        if (endTime <= lastEndTime) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot write a bar with end time: %s that is <= to the last end time: %s",
+                            bar.getEndTime(), BarFileFormat.ofEpochNanos(lastEndTime)));
+        }
+        if (!buffer.hasRemaining()) {
+            writeBuffer();
+        }
+        final int record = buffer.position();
+        buffer.putLong(record + END_TIME, endTime);
+        putValue(record + OPEN_PRICE, bar.getOpenPrice());
+        putValue(record + HIGH_PRICE, bar.getHighPrice());
+        putValue(record + LOW_PRICE, bar.getLowPrice());
+        putValue(record + CLOSE_PRICE, bar.getClosePrice());
+        putValue(record + VOLUME, bar.getVolume());
+        putValue(record + AMOUNT, bar.getAmount());
+        buffer.putLong(record + TRADES, bar.getTrades());
+        buffer.position(record + RECORD_SIZE);
+        lastEndTime = endTime;
+    }
+
+    /**
+     * Appends the bars of a series.
+     *
+     * @param series the bar series
+     * @throws IOException              if the bars cannot be written
+     * @throws IllegalArgumentException see {@link #write(Bar)}
+     */
+    public void write(BarSeries series) throws IOException {
+        for (int i = series.getBeginIndex(); i >= 0 && i <= series.getEndIndex(); i++) {
+            write(series.getBar(i));
+        }
+    }
+
+    private void putValue(int position, Num value) {
+        final boolean missing = value == null || value.isNaN();
+        if (header.encoding == DOUBLE_ENCODING) {
+            buffer.putDouble(position, missing ? Double.NaN : value.doubleValue());
+            return;
+        }
+        if (missing) {
+            buffer.putLong(position, MISSING_FIXED_POINT);
+            return;
+        }
+        try {
+            final long unscaled = value.bigDecimalValue()
+                    .setScale(header.scale, RoundingMode.HALF_UP)
+                    .unscaledValue()
+                    .longValueExact();
+            if (unscaled == MISSING_FIXED_POINT) {
+                throw new ArithmeticException("reserved value");
+            }
+            buffer.putLong(position, unscaled);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                    "The value " + value + " does not fit the fixed-point encoding with scale " + header.scale, e);
+        }
+    }
+
+    /**
+     * Writes the buffered bars and updates the bar count of the file.
+     *
+     * @throws IOException if the bars cannot be written
+     */
+    public void flush() throws IOException {
+        writeBuffer();
+        final ByteBuffer barCount = ByteBuffer.allocate(Long.BYTES).order(BYTE_ORDER).putLong(0, writtenBarCount);
+        while (barCount.hasRemaining()) {
+            channel.write(barCount, BAR_COUNT_POSITION + barCount.position());
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        long position = HEADER_SIZE + writtenBarCount * RECORD_SIZE;
+        final int recordCount = buffer.remaining() / RECORD_SIZE;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        buffer.clear();
+        writtenBarCount += recordCount;
+    }
+
+    /**
+     * Flushes the buffered bars and closes the file.
+     *
+     * @throws IOException if the bars cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * Reads ticks (trades) from a CSV source, one line at a time.
+ *
+ * <p>
+ * Each line holds the time of a tick, as a number of {@link ChronoUnit time
+ * units} since the epoch (optionally with a fractional part), its price and its
+ * volume, in configurable columns. The source is read through a fixed buffer
+ * and the fields are parsed in place, without creating a {@code String} per
+ * line or per field, so that files of any size are read in bounded memory.
+ * Blank lines are ignored; quotes and spaces around a field are stripped.
+ *
+ * <pre>
+ * try (var ticks = new CsvTickReader(Files.newBufferedReader(path)).withTimeUnit(ChronoUnit.SECONDS).skipLines(1)) {
+ *     while (ticks.next()) {
+ *         process(ticks.getTime(), ticks.getPrice(), ticks.getVolume());
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>
+ * See {@link TickIngester} to build bars from the ticks. This class is not
+ * thread-safe.
+ */
+public class CsvTickReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The powers of ten that are exactly representable as {@code double}. */
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+            1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    /** The largest integer below which every {@code long} is a {@code double}. */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    /** The current line, without its line terminator. */
+    private char[] line = new char[256];
+    private int lineLength;
+    private long lineNumber;
+
+    private char delimiter = ',';
+    private int timeColumn = 0;
+    private int priceColumn = 1;
+    private int volumeColumn = 2;
+    private long timeUnitNanos = ChronoUnit.MILLIS.getDuration().toNanos();
+    private long linesToSkip;
+
+    /** The start and end (exclusive) of the time, price and volume fields. */
+    private final int[] fieldBounds = new int[6];
+
+    private long epochNanos;
+    private double price;
+    private double volume;
+
+    /**
+     * Constructor.
+     *
+     * @param reader the source of the ticks
+     */
+    public CsvTickReader(Reader reader) {
+        this.reader = Objects.requireNonNull(reader);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param in the UTF-8 encoded source of the ticks
+     */
+    public CsvTickReader(InputStream in) {
+        this(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param channel the UTF-8 encoded source of the ticks
+     */
+    public CsvTickReader(ReadableByteChannel channel) {
+        this(Channels.newReader(channel, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param delimiter the field delimiter (default {@code ','})
+     * @return {@code this}
+     */
+    public CsvTickReader withDelimiter(char delimiter) {
+        this.delimiter = delimiter;
+        return this;
+    }
+
+    /**
+     * @param timeColumn   the zero-based column of the tick time (default 0)
+     * @param priceColumn  the zero-based column of the tick price (default 1)
+     * @param volumeColumn the zero-based column of the tick volume (default 2)
+     * @return {@code this}
+     */
+    public CsvTickReader withColumns(int timeColumn, int priceColumn, int volumeColumn) {
+        if (timeColumn < 0 || priceColumn < 0 || volumeColumn < 0) {
+            throw new IllegalArgumentException("Columns must be positive or zero");
+        }
+        this.timeColumn = timeColumn;
+        this.priceColumn = priceColumn;
+        this.volumeColumn = volumeColumn;
+        return this;
+    }
+
+    /**
+     * @param timeUnit the unit of the tick times since the epoch (default
+     *                 {@link ChronoUnit#MILLIS})
+     * @return {@code this}
+     */
+    public CsvTickReader withTimeUnit(ChronoUnit timeUnit) {
+        if (timeUnit.isDurationEstimated()) {
+            throw new IllegalArgumentException("Unsupported time unit: " + timeUnit);
+        }
+        this.timeUnitNanos = timeUnit.getDuration().toNanos();
+        return this;
+    }
+
+    /**
+     * @param lineCount the number of lines to skip at the beginning of the source,
+     *                  e.g. 1 for a header line (default 0)
+     * @return {@code this}
+     */
+    public CsvTickReader skipLines(long lineCount) {
+        this.linesToSkip = lineCount;
+        return this;
+    }
+
+    /**
+     * Reads the next tick.
+     *
+     * @return false if the end of the source is reached
+     * @throws IOException if the source cannot be read or if a line is malformed
+     */
+    public boolean next() throws IOException {
+        while (readLine()) {
+            if (lineNumber > linesToSkip && !isBlankLine()) {
+                parseLine();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return the time of the current tick, in nanoseconds since the epoch */
+    public long getEpochNanos() {
+        return epochNanos;
+    }
+
+    /** @return the time of the current tick */
+    public Instant getTime() {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+
+    /** @return the price of the current tick */
+    public double getPrice() {
+        return price;
+    }
+
+    /** @return the volume of the current tick */
+    public double getVolume() {
+        return volume;
+    }
+
+    /** @return the number of the current line, starting at 1 */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the next line into {@link #line}.
+     *
+     * @return false if the end of the source is reached
+     */
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    break;
+                }
+            }
+            read = true;
+            int end = position;
+            while (end < limit && buffer[end] != '\n') {
+                end++;
+            }
+            append(position, end);
+            if (end < limit) {
+                position = end + 1;
+                break;
+            }
+            position = limit;
+        }
+        if (!read) {
+            return false;
+        }
+        if (lineLength > 0 && line[lineLength - 1] == '\r') {
+            lineLength--;
+        }
+        lineNumber++;
+        return true;
+    }
+
+    private void append(int from, int to) {
+        int length = to - from;
+        if (lineLength + length > line.length) {
+            char[] newLine = new char[Math.max(line.length * 2, lineLength + length)];
+            System.arraycopy(line, 0, newLine, 0, lineLength);
+            line = newLine;
+        }
+        System.arraycopy(buffer, from, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private boolean isBlankLine() {
+        for (int i = 0; i < lineLength; i++) {
+            if (!Character.isWhitespace(line[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void parseLine() throws IOException {
+        int lastColumn = Math.max(timeColumn, Math.max(priceColumn, volumeColumn));
+        int column = 0;
+        int start = 0;
+        for (int i = 0; i <= lineLength && column <= lastColumn; i++) {
+            if (i == lineLength || line[i] == delimiter) {
+                if (column == timeColumn) {
+                    setFieldBounds(0, start, i);
+                }
+                if (column == priceColumn) {
+                    setFieldBounds(1, start, i);
+                }
+                if (column == volumeColumn) {
+                    setFieldBounds(2, start, i);
+                }
+                column++;
+                start = i + 1;
+            }
+        }
+        if (column <= lastColumn) {
+            throw malformed("expected at least " + (lastColumn + 1) + " columns");
+        }
+        epochNanos = parseEpochNanos(fieldBounds[0], fieldBounds[1]);
+        price = parseDouble(fieldBounds[2], fieldBounds[3], "price");
+        volume = parseDouble(fieldBounds[4], fieldBounds[5], "volume");
+    }
+
+    /** Stores the bounds of a field, without its surrounding spaces and quotes. */
+    private void setFieldBounds(int field, int start, int end) {
+        while (start < end && (line[start] == ' ' || line[start] == '"')) {
+            start++;
+        }
+        while (end > start && (line[end - 1] == ' ' || line[end - 1] == '"')) {
+            end--;
+        }
+        fieldBounds[2 * field] = start;
+        fieldBounds[2 * field + 1] = end;
+    }
+
+    private long parseEpochNanos(int start, int end) throws IOException {
+        long units = 0;
+        long fraction = 0;
+        int fractionDigits = 0;
+        boolean afterPoint = false;
+        if (start == end) {
+            throw malformed("missing time");
+        }
+        try {
+            for (int i = start; i < end; i++) {
+                char c = line[i];
+                if (c == '.' && !afterPoint) {
+                    afterPoint = true;
+                } else if (c < '0' || c > '9') {
+                    throw malformed("invalid time '" + new String(line, start, end - start) + "'");
+                } else if (!afterPoint) {
+                    units = Math.addExact(Math.multiplyExact(units, 10), c - '0');
+                } else if (fractionDigits < 9) {
+                    fraction = fraction * 10 + (c - '0');
+                    fractionDigits++;
+                }
+            }
+            long nanos = Math.multiplyExact(units, timeUnitNanos);
+            if (fractionDigits > 0) {
+                nanos = Math.addExact(nanos,
+                        Math.round(fraction * (double) timeUnitNanos / POWERS_OF_TEN[fractionDigits]));
+            }
+            return nanos;
+        } catch (ArithmeticException e) {
+            throw malformed("time overflow '" + new String(line, start, end - start) + "'");
+        }
+    }
+
+    /**
+     * Parses a decimal number in place. The common case of at most 15 significant
+     * digits without exponent is computed exactly from the digits; the others fall
+     * back to {@link Double#parseDouble(String)}.
+     */
+    private double parseDouble(int start, int end, String field) throws IOException {
+        if (start == end) {
+            throw malformed("missing " + field);
+        }
+        int i = start;
+        boolean negative = line[i] == '-';
+        if (negative || line[i] == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int fractionDigits = 0;
+        boolean afterPoint = false;
+        boolean digits = false;
+        for (; i < end; i++) {
+            char c = line[i];
+            if (c == '.' && !afterPoint) {
+                afterPoint = true;
+            } else if (c >= '0' && c <= '9' && mantissa < MAX_EXACT_MANTISSA / 10
+                    && fractionDigits < POWERS_OF_TEN.length - 1) {
+                mantissa = mantissa * 10 + (c - '0');
+                digits = true;
+                if (afterPoint) {
+                    fractionDigits++;
+                }
+            } else {
+                return parseDoubleSlowly(start, end, field);
+            }
+        }
+        if (!digits) {
+            throw malformed("invalid " + field + " '" + new String(line, start, end - start) + "'");
+        }
+        double value = fractionDigits == 0 ? mantissa : mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private double parseDoubleSlowly(int start, int end, String field) throws IOException {
+        String text = new String(line, start, end - start);
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw malformed("invalid " + field + " '" + text + "'");
+        }
+    }
+
+    private IOException malformed(String message) {
+        return new IOException("Malformed tick at line " + lineNumber + ": " + message);
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.io;
+
+import static org.ta4j.core.io.BarFileFormat.AMOUNT;
+import static org.ta4j.core.io.BarFileFormat.BYTE_ORDER;
+import static org.ta4j.core.io.BarFileFormat.CLOSE_PRICE;
+import static org.ta4j.core.io.BarFileFormat.DOUBLE_ENCODING;
+import static org.ta4j.core.io.BarFileFormat.END_TIME;
+import static org.ta4j.core.io.BarFileFormat.HEADER_SIZE;
+import static org.ta4j.core.io.BarFileFormat.HIGH_PRICE;
+import static org.ta4j.core.io.BarFileFormat.LOW_PRICE;
+import static org.ta4j.core.io.BarFileFormat.MISSING_FIXED_POINT;
+import static org.ta4j.core.io.BarFileFormat.OPEN_PRICE;
+import static org.ta4j.core.io.BarFileFormat.RECORD_SIZE;
+import static org.ta4j.core.io.BarFileFormat.TRADES;
+import static org.ta4j.core.io.BarFileFormat.VOLUME;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarBuilder;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.IndicatorRegistry;
+import org.ta4j.core.io.BarFileFormat.Header;
+import org.ta4j.core.num.FixedPointNumFactory;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * A read-only {@link BarSeries} over a bar file written by a
+ * {@link BarFileWriter}.
+ *
+ * <p>
+ * The file is memory-mapped: opening it does not parse anything and the bars
+ * are decoded on access, so that a series of millions of bars is available at
+ * once and the operating system shares its pages between the processes reading
+ * the same file. {@link #getBar(int)} returns a new, detached {@link Bar} on
+ * each call; the {@code *AsDouble} methods read a single value without creating
+ * any object.
+ *
+ * <p>
+ * The series holds the bars written when it was opened. Adding bars, trades or
+ * prices is not supported.
+ */
+public class MappedBarSeries implements BarSeries {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The number of bars of a mapped segment (each segment is below 2 GB). */
+    private static final int SEGMENT_BAR_COUNT = Integer.MAX_VALUE / RECORD_SIZE;
+
+    private final String name;
+    private final NumFactory numFactory;
+    private final byte encoding;
+    private final int scale;
+    private final Duration barPeriod;
+    private final int barCount;
+    private final transient ByteBuffer[] segments;
+    /** The factory of the series if it reads the fixed-point values unscaled. */
+    private final transient FixedPointNumFactory unscaledNumFactory;
+
+    /** The registry of the indicators of the bar series (created on demand). */
+    private final IndicatorRegistry.Holder indicatorRegistry = new IndicatorRegistry.Holder();
+
+    private MappedBarSeries(String name, NumFactory numFactory, Header header, ByteBuffer[] segments) {
+        this.name = name;
+        this.numFactory = numFactory;
+        this.encoding = header.encoding;
+        this.scale = header.scale;
+        this.barPeriod = header.barPeriod;
+        this.barCount = (int) header.barCount;
+        this.segments = segments;
+        this.unscaledNumFactory = numFactory instanceof FixedPointNumFactory fixedPoint
+                && fixedPoint.getScale() == scale ? fixedPoint : null;
+    }
+
+    /**
+     * Opens a bar file with the factory of the {@code Num} type recorded in the
+     * file.
+     *
+     * @param path the path of the bar file
+     * @return the bar series of the file, named after the file
+     * @throws IOException if the file cannot be read or is not a bar file
+     */
+    public static MappedBarSeries open(Path path) throws IOException {
+        return open(path, null);
+    }
+
+    /**
+     * Opens a bar file.
+     *
+     * @param path       the path of the bar file
+     * @param numFactory the factory of the numbers of the bars (if {@code null},
+     *                   the factory of the {@code Num} type recorded in the file)
+     * @return the bar series of the file, named after the file
+     * @throws IOException if the file cannot be read, is not a bar file or holds
+     *                     more than {@link Integer#MAX_VALUE} bars
+     */
+    public static MappedBarSeries open(Path path, NumFactory numFactory) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final Header header = BarFileFormat.readHeader(channel);
+            if (header.barCount > Integer.MAX_VALUE) {
+                throw new IOException("Too many bars for a bar series: " + header.barCount);
+            }
+            final int barCount = (int) header.barCount;
+            final ByteBuffer[] segments = new ByteBuffer[(barCount + SEGMENT_BAR_COUNT - 1) / SEGMENT_BAR_COUNT];
+            for (int s = 0; s < segments.length; s++) {
+                final long firstBar = (long) s * SEGMENT_BAR_COUNT;
+                final long size = Math.min(SEGMENT_BAR_COUNT, barCount - firstBar) * RECORD_SIZE;
+                // the mapping stays valid after the channel is closed
+                segments[s] = channel.map(MapMode.READ_ONLY, HEADER_SIZE + firstBar * RECORD_SIZE, size)
+                        .order(BYTE_ORDER);
+            }
+            if (numFactory == null) {
+                numFactory = header.numFactory();
+            }
+            final Path fileName = path.getFileName();
+            return new MappedBarSeries(fileName == null ? path.toString() : fileName.toString(), numFactory, header,
+                    segments);
+        }
+    }
+
+    /**
+     * A mapped series cannot be serialized, as its bars are read from the mapped
+     * file: open the file again instead.
+     *
+     * @throws NotSerializableException always
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        throw new NotSerializableException("A mapped bar series cannot be serialized, open its file instead");
+    }
+
+    /** @return the period of the bars */
+    public Duration getBarPeriod() {
+        return barPeriod;
+    }
+
+    @Override
+    public NumFactory numFactory() {
+        return numFactory;
+    }
+
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        return indicatorRegistry.get(this);
+    }
+
+    /**
+     * Not supported: the series is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public BarBuilder barBuilder() {
+        throw new UnsupportedOperationException("A mapped bar series is read-only");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Bar getBar(int i) {
+        checkIndex(i);
+        return new BaseBar(barPeriod, getEndTime(i), value(i, OPEN_PRICE), value(i, HIGH_PRICE), value(i, LOW_PRICE),
+                value(i, CLOSE_PRICE), value(i, VOLUME), value(i, AMOUNT), segment(i).getLong(position(i) + TRADES));
+    }
+
+    /**
+     * @param index the bar index
+     * @return the end time of the bar at {@code index}
+     */
+    public Instant getEndTime(int index) {
+        checkIndex(index);
+        return BarFileFormat.ofEpochNanos(segment(index).getLong(position(index) + END_TIME));
+    }
+
+    /** Searches the bars by bisection on the end times stored in the file. */
+    @Override
+    public int floorIndex(Instant time) {
+        return firstIndexEndingAfter(BarFileFormat.toEpochNanos(time)) - 1;
+    }
+
+    /** Searches the bars by bisection on the end times stored in the file. */
+    @Override
+    public int ceilingIndex(Instant time) {
+        final int index = firstIndexEndingAfter(BarFileFormat.toEpochNanos(time) - 1);
+        return index < barCount ? index : -1;
+    }
+
+    /**
+     * @return the index of the first bar ending after the time (in nanoseconds
+     *         since the epoch), or the bar count if there is none
+     */
+    private int firstIndexEndingAfter(long time) {
+        int low = 0;
+        int high = barCount;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (segment(middle).getLong(position(middle) + END_TIME) > time) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param index the bar index
+     * @return the open price of the bar at {@code index} as {@code double}
+     */
+    public double getOpenPriceAsDouble(int index) {
+        return doubleValue(index, OPEN_PRICE);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the high price of the bar at {@code index} as {@code double}
+     */
+    public double getHighPriceAsDouble(int index) {
+        return doubleValue(index, HIGH_PRICE);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the low price of the bar at {@code index} as {@code double}
+     */
+    public double getLowPriceAsDouble(int index) {
+        return doubleValue(index, LOW_PRICE);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the close price of the bar at {@code index} as {@code double}
+     */
+    public double getClosePriceAsDouble(int index) {
+        return doubleValue(index, CLOSE_PRICE);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the volume of the bar at {@code index} as {@code double}
+     */
+    public double getVolumeAsDouble(int index) {
+        return doubleValue(index, VOLUME);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= barCount) {
+            throw new IndexOutOfBoundsException(String.format("Size of series: %s bars, index = %s", barCount, index));
+        }
+    }
+
+    private ByteBuffer segment(int index) {
+        return segments[index / SEGMENT_BAR_COUNT];
+    }
+
+    private static int position(int index) {
+        return (index % SEGMENT_BAR_COUNT) * RECORD_SIZE;
+    }
+
+    private Num value(int index, int field) {
+        final ByteBuffer segment = segment(index);
+        if (encoding == DOUBLE_ENCODING) {
+            final double value = segment.getDouble(position(index) + field);
+            return Double.isNaN(value) ? NaN.NaN : numFactory.numOf(value);
+        }
+        final long unscaled = segment.getLong(position(index) + field);
+        if (unscaled == MISSING_FIXED_POINT) {
+            return NaN.NaN;
+        }
+        if (unscaledNumFactory != null) {
+            return unscaledNumFactory.numOfUnscaled(unscaled);
+        }
+        return numFactory.numOf(BigDecimal.valueOf(unscaled, scale));
+    }
+
+    private double doubleValue(int index, int field) {
+        checkIndex(index);
+        final ByteBuffer segment = segment(index);
+        if (encoding == DOUBLE_ENCODING) {
+            return segment.getDouble(position(index) + field);
+        }
+        final long unscaled = segment.getLong(position(index) + field);
+        return unscaled == MISSING_FIXED_POINT ? Double.NaN : BigDecimal.valueOf(unscaled, scale).doubleValue();
+    }
+
+    @Override
+    public int getBarCount() {
+        return barCount;
+    }
+
+    /** @return a read-only view on the bars, decoded on access */
+    @Override
+    public List<Bar> getBarData() {
+        return new BarList();
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return barCount == 0 ? -1 : 0;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return barCount - 1;
+    }
+
+    @Override
+    public int getMaximumBarCount() {
+        return barCount;
+    }
+
+    /**
+     * Not supported: the series is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setMaximumBarCount(int maximumBarCount) {
+        throw new UnsupportedOperationException("A mapped bar series is read-only");
+    }
+
+    @Override
+    public int getRemovedBarsCount() {
+        return 0;
+    }
+
+    /**
+     * Not supported: the series is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addBar(Bar bar, boolean replace) {
+        throw new UnsupportedOperationException("A mapped bar series is read-only");
+    }
+
+    /**
+     * Not supported: the series is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addTrade(Num tradeVolume, Num tradePrice) {
+        throw new UnsupportedOperationException("A mapped bar series is read-only");
+    }
+
+    /**
+     * Not supported: the series is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addPrice(Num price) {
+        throw new UnsupportedOperationException("A mapped bar series is read-only");
+    }
+
+    /**
+     * Returns a {@link BaseBarSeries} with a copy of the bars between
+     * {@code startIndex} (inclusive) and {@code endIndex} (exclusive).
+     */
+    @Override
+    public BaseBarSeries getSubSeries(int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        final int end = Math.min(endIndex, barCount);
+        final List<Bar> bars = new ArrayList<>(Math.max(end - startIndex, 0));
+        for (int i = startIndex; i < end; i++) {
+            bars.add(getBar(i));
+        }
+        return new BaseBarSeriesBuilder().withName(name).withNumFactory(numFactory).withBars(bars).build();
+    }
+
+    /** The bars of the series, decoded on access. */
+    private final class BarList extends AbstractList<Bar> implements RandomAccess {
+
+        @Override
+        public Bar get(int index) {
+            return getBar(index);
+        }
+
+        @Override
+        public int size() {
+            return barCount;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.io;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarBuilder;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.bars.TickBarBuilder;
+import org.ta4j.core.bars.TimeBarBuilder;
+import org.ta4j.core.bars.VolumeBarBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+/**
+ * Builds the bars of a bar series from ticks (trades), as they arrive.
+ *
+ * <p>
+ * Only the bar in progress is held in memory: with a
+ * {@link BarSeries#setMaximumBarCount(int) maximum bar count} on the series (or
+ * by writing its bars away, e.g. with a {@link BarFileWriter}), any number of
+ * ticks can be ingested in bounded memory. The ticks must arrive in
+ * chronological order, or in reverse chronological order with
+ * {@link #withReverseChronologicalOrder()}.
+ *
+ * <ul>
+ * <li>With a time period, the ticks are aggregated into bars of that period,
+ * aligned on the epoch, which are added with a {@link TimeBarBuilder} (periods
+ * without ticks have no bar).
+ * <li>Without a time period, each tick is fed to the
+ * {@link BarSeries#barBuilder() bar builder} of the series, e.g. a
+ * {@link TickBarBuilder} or a {@link VolumeBarBuilder}, which adds a bar when
+ * it is complete.
+ * </ul>
+ *
+ * <pre>
+ * var series = new BaseBarSeriesBuilder().withMaxBarCount(10_000).build();
+ * try (var ticks = new CsvTickReader(Files.newBufferedReader(path)).skipLines(1)) {
+ *     new TickIngester(series, Duration.ofMinutes(5)).ingest(ticks);
+ * }
+ * </pre>
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+public class TickIngester {
+
+    private final BarSeries series;
+    private final NumFactory numFactory;
+
+    /** The bar period in nanoseconds, or 0 to feed the ticks to the bar builder. */
+    private final long periodNanos;
+    private final Duration timePeriod;
+
+    /** The end time of the bar in progress or of the last tick. */
+    private long endTimeNanos = Long.MIN_VALUE;
+
+    private Num openPrice;
+    private Num highPrice;
+    private Num lowPrice;
+    private Num closePrice;
+    private Num volume;
+    private Num amount;
+    private long trades;
+
+    /** True if the ticks arrive in reverse chronological order. */
+    private boolean reverseChronological;
+
+    /** The finished time bars, the most recent first (reverse order only). */
+    private final List<Bar> pendingBars = new ArrayList<>();
+
+    /**
+     * Constructor to feed the ticks to the bar builder of the series.
+     *
+     * @param series the bar series, whose bar builder aggregates the ticks (e.g.
+     *               with a {@code TickBarBuilderFactory} or a
+     *               {@code VolumeBarBuilderFactory})
+     * @throws IllegalArgumentException if the bar builder of the series builds time
+     *                                  bars, which need a time period
+     */
+    public TickIngester(BarSeries series) {
+        this.series = Objects.requireNonNull(series);
+        this.numFactory = series.numFactory();
+        this.periodNanos = 0;
+        this.timePeriod = null;
+        if (series.barBuilder() instanceof TimeBarBuilder) {
+            throw new IllegalArgumentException("Time bars need a time period");
+        }
+    }
+
+    /**
+     * Constructor to aggregate the ticks into time bars.
+     *
+     * @param series     the bar series, whose bar builder adds time bars
+     * @param timePeriod the period of the bars
+     */
+    public TickIngester(BarSeries series, Duration timePeriod) {
+        this.series = Objects.requireNonNull(series);
+        this.numFactory = series.numFactory();
+        this.periodNanos = timePeriod.toNanos();
+        this.timePeriod = timePeriod;
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("Time period must be positive: " + timePeriod);
+        }
+    }
+
+    /**
+     * Expects the ticks in reverse chronological order, the most recent first (e.g.
+     * the trade files of exchanges listing the latest trades at the top).
+     *
+     * <p>
+     * The time bars are then completed from the most recent one, so they are held
+     * in memory until {@link #flush()} adds them to the series, in chronological
+     * order, which ends the ingestion.
+     *
+     * @return {@code this}
+     * @throws IllegalStateException if the ticks are fed to the bar builder of the
+     *                               series or if ticks were already ingested
+     */
+    public TickIngester withReverseChronologicalOrder() {
+        if (periodNanos == 0) {
+            throw new IllegalStateException("Reverse chronological order needs a time period");
+        }
+        if (endTimeNanos != (reverseChronological ? Long.MAX_VALUE : Long.MIN_VALUE)) {
+            throw new IllegalStateException("Ticks were already ingested");
+        }
+        reverseChronological = true;
+        endTimeNanos = Long.MAX_VALUE;
+        return this;
+    }
+
+    /**
+     * Ingests a tick.
+     *
+     * @param time   the time of the tick
+     * @param price  the price of the tick
+     * @param volume the volume of the tick
+     * @throws IllegalArgumentException if the tick is before the previous one
+     *                                  (without time period) or before the begin
+     *                                  time of the last bar (with time period; in
+     *                                  reverse chronological order, if it is after
+     *                                  the end time of the last bar)
+     */
+    public void accept(Instant time, Num price, Num volume) {
+        accept(Math.addExact(Math.multiplyExact(time.getEpochSecond(), 1_000_000_000L), time.getNano()), price, volume);
+    }
+
+    private void accept(long timeNanos, Num price, Num volume) {
+        if (periodNanos == 0) {
+            feed(timeNanos, price, volume);
+        } else if (reverseChronological) {
+            aggregateBackwards(timeNanos, price, volume);
+        } else {
+            aggregate(timeNanos, price, volume);
+        }
+    }
+
+    /**
+     * Ingests all the remaining ticks of a reader and adds the bar in progress (see
+     * {@link #flush()}).
+     *
+     * @param reader the ticks
+     * @return the number of ingested ticks
+     * @throws IOException if the ticks cannot be read
+     */
+    public long ingest(CsvTickReader reader) throws IOException {
+        long tickCount = 0;
+        while (reader.next()) {
+            try {
+                accept(reader.getEpochNanos(), numFactory.numOf(reader.getPrice()),
+                        numFactory.numOf(reader.getVolume()));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid tick at line " + reader.getLineNumber() + ": " + e.getMessage(), e);
+            }
+            tickCount++;
+        }
+        flush();
+        return tickCount;
+    }
+
+    /**
+     * Adds the time bar in progress to the series, if any. Later ticks must be
+     * after its end time.
+     *
+     * <p>
+     * In reverse chronological order, adds all the bars held in memory to the
+     * series. Without time period, the bar in progress belongs to the bar builder
+     * of the series and is not added.
+     */
+    public void flush() {
+        if (reverseChronological) {
+            finishBar();
+            for (int i = pendingBars.size() - 1; i >= 0; i--) {
+                series.addBar(pendingBars.get(i));
+            }
+            pendingBars.clear();
+        } else if (openPrice != null) {
+            barInProgress().add();
+            openPrice = null;
+        }
+    }
+
+    private BarBuilder barInProgress() {
+        return series.barBuilder()
+                .timePeriod(timePeriod)
+                .endTime(toInstant(endTimeNanos))
+                .openPrice(openPrice)
+                .highPrice(highPrice)
+                .lowPrice(lowPrice)
+                .closePrice(closePrice)
+                .volume(volume)
+                .amount(amount)
+                .trades(trades);
+    }
+
+    /** Holds the time bar in progress, if any (reverse order only). */
+    private void finishBar() {
+        if (openPrice != null) {
+            pendingBars.add(barInProgress().build());
+            openPrice = null;
+        }
+    }
+
+    private void feed(long timeNanos, Num price, Num volume) {
+        if (timeNanos < endTimeNanos) {
+            throw new IllegalArgumentException("The tick is before the previous tick");
+        }
+        // the period of a tick bar is the sum of the time between its ticks
+        var sincePreviousTick = endTimeNanos == Long.MIN_VALUE ? Duration.ZERO
+                : Duration.ofNanos(timeNanos - endTimeNanos);
+        endTimeNanos = timeNanos;
+        series.barBuilder()
+                .timePeriod(sincePreviousTick)
+                .endTime(toInstant(timeNanos))
+                .closePrice(price)
+                .volume(volume)
+                .add();
+    }
+
+    private void aggregate(long timeNanos, Num price, Num volume) {
+        long beginTimeNanos = openPrice == null ? endTimeNanos : endTimeNanos - periodNanos;
+        if (timeNanos < beginTimeNanos) {
+            throw new IllegalArgumentException("The tick is before the last bar");
+        }
+        if (openPrice == null || timeNanos >= endTimeNanos) {
+            flush();
+            endTimeNanos = Math.floorDiv(timeNanos, periodNanos) * periodNanos + periodNanos;
+            openPrice = price;
+            highPrice = price;
+            lowPrice = price;
+            this.volume = numFactory.zero();
+            amount = numFactory.zero();
+            trades = 0;
+        }
+        highPrice = highPrice.max(price);
+        lowPrice = lowPrice.min(price);
+        closePrice = price;
+        this.volume = this.volume.plus(volume);
+        amount = amount.plus(price.multipliedBy(volume));
+        trades++;
+    }
+
+    /** Same as {@link #aggregate(long, Num, Num)}, the most recent tick first. */
+    private void aggregateBackwards(long timeNanos, Num price, Num volume) {
+        long endLimitNanos = openPrice == null ? endTimeNanos - periodNanos : endTimeNanos;
+        if (timeNanos >= endLimitNanos) {
+            throw new IllegalArgumentException("The tick is after the last bar");
+        }
+        if (openPrice == null || timeNanos < endTimeNanos - periodNanos) {
+            finishBar();
+            endTimeNanos = Math.floorDiv(timeNanos, periodNanos) * periodNanos + periodNanos;
+            // the first tick of a bar read is its last one
+            closePrice = price;
+            highPrice = price;
+            lowPrice = price;
+            this.volume = numFactory.zero();
+            amount = numFactory.zero();
+            trades = 0;
+        }
+        highPrice = highPrice.max(price);
+        lowPrice = lowPrice.min(price);
+        openPrice = price;
+        this.volume = this.volume.plus(volume);
+        amount = amount.plus(price.multipliedBy(volume));
+        trades++;
+    }
+
+    private static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                Math.floorMod(epochNanos, 1_000_000_000L));
+    }
+}
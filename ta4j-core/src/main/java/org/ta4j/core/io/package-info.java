@@ -0,0 +1,39 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+/**
+ * Persistence and ingestion of bar series.
+ *
+ * <p>
+ * This package contains a compact fixed-width binary format for OHLCV bars: the
+ * {@link org.ta4j.core.io.BarFileWriter BarFileWriter} creates or appends to
+ * bar files and the {@link org.ta4j.core.io.MappedBarSeries MappedBarSeries}
+ * reads them through memory-mapped buffers.
+ *
+ * <p>
+ * It also contains a streaming ingestion of ticks: the
+ * {@link org.ta4j.core.io.CsvTickReader CsvTickReader} parses ticks from a CSV
+ * source in bounded memory and the {@link org.ta4j.core.io.TickIngester
+ * TickIngester} builds bars from them as they arrive.
+ */
+package org.ta4j.core.io;
@@ -26,11 +26,9 @@ package org.ta4j.core.num;
 import static org.ta4j.core.num.NaN.NaN;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
-import java.text.ParseException;
-import java.util.Locale;
 import java.util.Objects;
 
 import org.slf4j.Logger;
@@ -57,6 +55,21 @@ public final class DecimalNum implements Num {
     static final int DEFAULT_PRECISION = 32;
     private static final MathContext DEFAULT_MATH_CONTEXT = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
 
+    /** The correct digits of the {@code double} seed of {@link #sqrt()}. */
+    private static final int SQRT_SEED_DIGITS = 15;
+    /** Limits the iterations that settle the last digit of {@link #sqrt()}. */
+    private static final int MAX_SETTLE_ITERATIONS = 8;
+    /** The extra digits used by the intermediate results of log and exp. */
+    private static final int GUARD_DIGITS = 5;
+    /** The argument of the exp series is divided by {@code 2^EXP_SQUARINGS}. */
+    private static final int EXP_SQUARINGS = 8;
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+    private static final double LN_2 = Math.log(2);
+    private static final double LOG2_10 = Math.log(10) / LN_2;
+
+    /** The most precise {@code ln(2)} computed so far. */
+    private static volatile BigDecimal cachedLn2;
+
     private final MathContext mathContext;
     private final BigDecimal delegate;
 
@@ -294,6 +307,22 @@ public final class DecimalNum implements Num {
                 : secondMathContext;
     }
 
+    /**
+     * Converts the operand of an operation. {@link FixedPointNum} operands are
+     * accepted because their overflowing operations return {@code DecimalNum}s.
+     *
+     * @param num the operand
+     * @return {@code num} as {@code DecimalNum}
+     * @throws ClassCastException if {@code num} is neither a {@code DecimalNum} nor
+     *                            a {@code FixedPointNum}
+     */
+    private DecimalNum toDecimalNum(final Num num) {
+        if (num instanceof FixedPointNum fixed) {
+            return new DecimalNum(fixed.bigDecimalValue(), this.mathContext);
+        }
+        return (DecimalNum) num;
+    }
+
     /**
      * Returns the underlying {@link BigDecimal} delegate.
      *
@@ -333,7 +362,7 @@ public final class DecimalNum implements Num {
         if (augend.isNaN()) {
             return NaN;
         }
-        final var decimalNum = (DecimalNum) augend;
+        final var decimalNum = toDecimalNum(augend);
         final var sumContext = chooseMathContextWithGreaterPrecision(decimalNum, this);
         final var result = this.delegate.add(decimalNum.delegate, sumContext);
         return new DecimalNum(result, sumContext);
@@ -350,7 +379,7 @@ public final class DecimalNum implements Num {
         if (subtrahend.isNaN()) {
             return NaN;
         }
-        final var decimalNum = (DecimalNum) subtrahend;
+        final var decimalNum = toDecimalNum(subtrahend);
         final var subContext = chooseMathContextWithGreaterPrecision(decimalNum, this);
         final var result = this.delegate.subtract(decimalNum.delegate, subContext);
         return new DecimalNum(result, subContext);
@@ -367,7 +396,7 @@ public final class DecimalNum implements Num {
         if (multiplicand.isNaN()) {
             return NaN;
         }
-        final var decimalNum = (DecimalNum) multiplicand;
+        final var decimalNum = toDecimalNum(multiplicand);
         final var multiplicationContext = chooseMathContextWithGreaterPrecision(decimalNum, this);
         final var result = this.delegate.multiply(decimalNum.delegate, multiplicationContext);
         return new DecimalNum(result, multiplicationContext);
@@ -384,7 +413,7 @@ public final class DecimalNum implements Num {
         if (divisor.isNaN() || divisor.isZero()) {
             return NaN;
         }
-        final var decimalNum = (DecimalNum) divisor;
+        final var decimalNum = toDecimalNum(divisor);
         final var divisionMathContext = chooseMathContextWithGreaterPrecision(decimalNum, this);
         final var result = this.delegate.divide(decimalNum.delegate, divisionMathContext);
         return new DecimalNum(result, divisionMathContext);
@@ -401,7 +430,7 @@ public final class DecimalNum implements Num {
         if (divisor.isNaN()) {
             return NaN;
         }
-        final var decimalNum = (DecimalNum) divisor;
+        final var decimalNum = toDecimalNum(divisor);
         final var moduloContext = chooseMathContextWithGreaterPrecision(decimalNum, this);
         final var result = this.delegate.remainder(decimalNum.delegate, moduloContext);
         return new DecimalNum(result, moduloContext);
@@ -448,93 +477,176 @@ public final class DecimalNum implements Num {
             return DecimalNumFactory.getInstance().zero();
         }
 
-        // Direct implementation of the example in:
-        // https://en.wikipedia.org/wiki/Methods_of_computing_square_roots#Babylonian_method
-        BigDecimal estimate = new BigDecimal(this.delegate.toString(), precisionContext);
-        final String string = String.format(Locale.ROOT, "%1.1e", estimate);
-        log.trace("scientific notation {}", string);
-        if (string.contains("e")) {
-            final String[] parts = string.split("e");
-            BigDecimal mantissa = new BigDecimal(parts[0]);
-            BigDecimal exponent = new BigDecimal(parts[1]);
-            if (exponent.remainder(new BigDecimal(2)).compareTo(BigDecimal.ZERO) > 0) {
-                exponent = exponent.subtract(BigDecimal.ONE);
-                mantissa = mantissa.multiply(BigDecimal.TEN);
-                log.trace("modified notatation {}e{}", mantissa, exponent);
-            }
-            final BigDecimal estimatedMantissa = mantissa.compareTo(BigDecimal.TEN) < 0 ? new BigDecimal(2)
-                    : new BigDecimal(6);
-            final BigDecimal estimatedExponent = exponent.divide(new BigDecimal(2));
-            final String estimateString = String.format("%sE%s", estimatedMantissa, estimatedExponent);
-            if (log.isTraceEnabled()) {
-                log.trace("x[0] =~ sqrt({}...*10^{}) =~ {}", mantissa, exponent, estimateString);
-            }
-            final DecimalFormat format = new DecimalFormat();
-            format.setParseBigDecimal(true);
-            try {
-                estimate = (BigDecimal) format.parse(estimateString);
-            } catch (final ParseException e) {
-                log.error("PrecicionNum ParseException:", e);
-            }
+        // Newton's iteration x[i+1] = (x[i] + this / x[i]) / 2, seeded by the double
+        // square root of the mantissa. Each step doubles the correct digits, so the
+        // working precision is doubled with it and only the last steps run at the
+        // requested precision.
+        final int precision = precisionContext.getPrecision();
+        final int exponent = this.delegate.precision() - this.delegate.scale() - 1;
+        final int evenExponent = exponent - (exponent & 1);
+        final double mantissa = this.delegate.movePointLeft(evenExponent).doubleValue();
+        BigDecimal estimate = new BigDecimal(Math.sqrt(mantissa)).movePointRight(evenExponent / 2);
+        for (int digits = SQRT_SEED_DIGITS; digits < precision + 2;) {
+            digits = Math.min(2 * digits, precision + 2);
+            final MathContext workingContext = new MathContext(digits, precisionContext.getRoundingMode());
+            estimate = estimate.add(this.delegate.divide(estimate, workingContext)).multiply(HALF, workingContext);
         }
+
+        // settle the last digit at the requested precision
+        estimate = estimate.round(precisionContext);
         BigDecimal delta;
-        BigDecimal test;
-        BigDecimal sum;
-        BigDecimal newEstimate;
-        final BigDecimal two = BigDecimal.TWO;
-        String estimateString;
-        int endIndex;
-        int frontEndIndex;
-        int backStartIndex;
-        int i = 1;
+        int i = 0;
         do {
-            test = this.delegate.divide(estimate, precisionContext);
-            sum = estimate.add(test);
-            newEstimate = sum.divide(two, precisionContext);
+            final BigDecimal newEstimate = estimate.add(this.delegate.divide(estimate, precisionContext))
+                    .divide(BigDecimal.TWO, precisionContext);
             delta = newEstimate.subtract(estimate).abs();
             estimate = newEstimate;
-            if (log.isTraceEnabled()) {
-                estimateString = String.format("%1." + precisionContext.getPrecision() + "e", estimate);
-                endIndex = estimateString.length();
-                frontEndIndex = 20 > endIndex ? endIndex : 20;
-                backStartIndex = 20 > endIndex ? 0 : endIndex - 20;
-                log.trace("x[{}] = {}..{}, delta = {}", i, estimateString.substring(0, frontEndIndex),
-                        estimateString.substring(backStartIndex, endIndex), String.format("%1.1e", delta));
-                i++;
-            }
-        } while (delta.compareTo(BigDecimal.ZERO) > 0);
+            log.trace("x[{}] = {}, delta = {}", i, estimate, delta);
+        } while (delta.signum() > 0 && ++i < MAX_SETTLE_ITERATIONS);
         return DecimalNum.valueOf(estimate, precisionContext);
     }
 
     @Override
     public Num log() {
-        // Algorithm: http://functions.wolfram.com/ElementaryFunctions/Log/10/
-        // https://stackoverflow.com/a/6169691/6444586
-        final Num logx;
         if (isNegativeOrZero()) {
             return NaN;
         }
+        if (this.delegate.compareTo(BigDecimal.ONE) == 0) {
+            return DecimalNum.valueOf(BigDecimal.ZERO, this.mathContext);
+        }
+        return DecimalNum.valueOf(log(this.delegate, this.mathContext), this.mathContext);
+    }
 
-        if (this.delegate.equals(BigDecimal.ONE)) {
-            logx = DecimalNum.valueOf(BigDecimal.ZERO, this.mathContext);
+    /**
+     * Computes the natural logarithm of a positive value.
+     *
+     * <p>
+     * The argument is reduced to {@code x = m * 2^k} with {@code m} close to 1, so
+     * that {@code ln(x) = k * ln(2) + 2 * atanh((m - 1) / (m + 1))} where the
+     * series of {@code atanh} gains more than one digit per term.
+     *
+     * @param x           the positive value
+     * @param mathContext the precision of the result
+     * @return {@code ln(x)}
+     */
+    private static BigDecimal log(final BigDecimal x, final MathContext mathContext) {
+        final int k = (int) Math.round(log2(x));
+        final MathContext workingContext = workingContext(mathContext, k);
+        final BigDecimal m;
+        if (k > 0) {
+            m = x.divide(new BigDecimal(BigInteger.ONE.shiftLeft(k)), workingContext);
+        } else if (k < 0) {
+            m = x.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(-k)), workingContext);
         } else {
-            final long ITER = 1000;
-            final BigDecimal x = this.delegate.subtract(BigDecimal.ONE);
-            BigDecimal ret = new BigDecimal(ITER + 1);
-            for (long i = ITER; i >= 0; i--) {
-                BigDecimal N = new BigDecimal(i / 2 + 1).pow(2);
-                N = N.multiply(x, this.mathContext);
-                ret = N.divide(ret, this.mathContext);
+            m = x;
+        }
+        final BigDecimal z = m.subtract(BigDecimal.ONE).divide(m.add(BigDecimal.ONE), workingContext);
+        BigDecimal result = atanh(z, workingContext).multiply(BigDecimal.TWO);
+        if (k != 0) {
+            result = result.add(ln2(workingContext).multiply(BigDecimal.valueOf(k)), workingContext);
+        }
+        return result.round(mathContext);
+    }
 
-                N = new BigDecimal(i + 1);
-                ret = ret.add(N, this.mathContext);
+    /**
+     * Computes {@code e^y}.
+     *
+     * <p>
+     * The argument is reduced to {@code y = k * ln(2) + r} with
+     * {@code |r| <= ln(2) / 2}, and {@code e^r} is computed by the Taylor series of
+     * {@code e^(r / 2^s)} squared {@code s} times.
+     *
+     * @param y           the exponent
+     * @param mathContext the precision of the result
+     * @return {@code e^y}
+     */
+    private static BigDecimal exp(final BigDecimal y, final MathContext mathContext) {
+        if (y.signum() == 0) {
+            return BigDecimal.ONE;
+        }
+        final int k = (int) Math.round(y.doubleValue() / LN_2);
+        final MathContext workingContext = workingContext(mathContext, k);
+        BigDecimal r = y;
+        if (k != 0) {
+            r = r.subtract(ln2(workingContext).multiply(BigDecimal.valueOf(k)), workingContext);
+        }
+        r = r.divide(BigDecimal.valueOf(1L << EXP_SQUARINGS), workingContext);
+
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal term = BigDecimal.ONE;
+        for (int n = 1;; n++) {
+            term = term.multiply(r).divide(BigDecimal.valueOf(n), workingContext);
+            final BigDecimal next = sum.add(term, workingContext);
+            if (next.compareTo(sum) == 0) {
+                break;
+            }
+            sum = next;
+        }
+        for (int i = 0; i < EXP_SQUARINGS; i++) {
+            sum = sum.multiply(sum, workingContext);
+        }
+        if (k > 0) {
+            sum = sum.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(k)));
+        } else if (k < 0) {
+            sum = sum.divide(new BigDecimal(BigInteger.ONE.shiftLeft(-k)), workingContext);
+        }
+        return sum.round(mathContext);
+    }
 
+    /**
+     * @return {@code atanh(z) = z + z^3/3 + z^5/5 + ...}, summed until the terms no
+     *         longer change the result
+     */
+    private static BigDecimal atanh(final BigDecimal z, final MathContext mathContext) {
+        final BigDecimal zSquared = z.multiply(z, mathContext);
+        BigDecimal power = z;
+        BigDecimal sum = z;
+        for (int n = 3;; n += 2) {
+            power = power.multiply(zSquared, mathContext);
+            final BigDecimal next = sum.add(power.divide(BigDecimal.valueOf(n), mathContext), mathContext);
+            if (next.compareTo(sum) == 0) {
+                return sum;
             }
-            ret = x.divide(ret, this.mathContext);
+            sum = next;
+        }
+    }
 
-            logx = DecimalNum.valueOf(ret, this.mathContext);
+    /**
+     * @return {@code ln(2)} to the precision of {@code mathContext}, computed once
+     *         per (greater) precision as {@code 2 * atanh(1/3)}
+     */
+    private static BigDecimal ln2(final MathContext mathContext) {
+        final BigDecimal cached = cachedLn2;
+        if (cached != null && cached.precision() >= mathContext.getPrecision()) {
+            return cached.round(mathContext);
         }
-        return logx;
+        final MathContext workingContext = new MathContext(mathContext.getPrecision() + GUARD_DIGITS,
+                RoundingMode.HALF_EVEN);
+        final BigDecimal third = BigDecimal.ONE.divide(BigDecimal.valueOf(3), workingContext);
+        final BigDecimal value = atanh(third, workingContext).multiply(BigDecimal.TWO)
+                .round(new MathContext(mathContext.getPrecision() + 1, RoundingMode.HALF_EVEN));
+        cachedLn2 = value;
+        return value.round(mathContext);
+    }
+
+    /**
+     * @return an estimate of {@code log2(x)} that does not overflow for values out
+     *         of the range of {@code double}
+     */
+    private static double log2(final BigDecimal x) {
+        final BigInteger unscaled = x.unscaledValue();
+        final int shift = Math.max(0, unscaled.bitLength() - Long.SIZE + 1);
+        final double leadingBits = unscaled.shiftRight(shift).doubleValue();
+        return Math.log(leadingBits) / LN_2 + shift - x.scale() * LOG2_10;
+    }
+
+    /**
+     * @return a context with guard digits for the rounding errors of the argument
+     *         reduction by {@code k * ln(2)}
+     */
+    private static MathContext workingContext(final MathContext mathContext, final int k) {
+        final int reductionDigits = k == 0 ? 0 : (int) Math.log10(Math.abs(k)) + 1;
+        return new MathContext(mathContext.getPrecision() + GUARD_DIGITS + reductionDigits, RoundingMode.HALF_EVEN);
     }
 
     @Override
@@ -635,12 +747,12 @@ public final class DecimalNum implements Num {
 
     @Override
     public boolean isLessThanOrEqual(final Num other) {
-        return !other.isNaN() && this.delegate.compareTo(((DecimalNum) other).delegate) < 1;
+        return !other.isNaN() && this.delegate.compareTo(toDecimalNum(other).delegate) < 1;
     }
 
     @Override
     public int compareTo(final Num other) {
-        return other.isNaN() ? 0 : this.delegate.compareTo(((DecimalNum) other).delegate);
+        return other.isNaN() ? 0 : this.delegate.compareTo(toDecimalNum(other).delegate);
     }
 
     /**
@@ -702,26 +814,33 @@ public final class DecimalNum implements Num {
         // remainder 0 <= b < 1
         // So:
         // x^a uses DecimalNum ((DecimalNum) x).pow(int a) cannot overflow Num
-        // x^b uses double Math.pow(double x, double b) cannot overflow double because b
-        // < 1.
+        // x^b = e^(b * ln(x)) is computed to the precision of this MathContext
+        // and cannot overflow because |b| < 1.
         // As suggested: https://stackoverflow.com/a/3590314
 
         // get n = a+b, same precision as n
-        final BigDecimal aplusb = (((DecimalNum) n).delegate);
-        // get the remainder 0 <= b < 1, looses precision as double
+        final BigDecimal aplusb = toDecimalNum(n).delegate;
+        // get the remainder 0 <= b < 1
         final BigDecimal b = aplusb.remainder(BigDecimal.ONE);
-        // bDouble looses precision
-        final double bDouble = b.doubleValue();
         // get the whole number a
         final BigDecimal a = aplusb.subtract(b);
         // convert a to an int, fails on overflow
         final int aInt = a.intValueExact();
         // use BigDecimal pow(int)
         final BigDecimal xpowa = this.delegate.pow(aInt);
-        // use double pow(double, double)
-        final double xpowb = Math.pow(this.delegate.doubleValue(), bDouble);
+        if (b.signum() == 0) {
+            return new DecimalNum(xpowa.toString(), this.mathContext);
+        }
+        // x^b = e^(b * ln(x)) is only real for x > 0
+        if (this.delegate.signum() <= 0) {
+            return this.delegate.signum() == 0 && b.signum() > 0 ? DecimalNum.valueOf(BigDecimal.ZERO, this.mathContext)
+                    : NaN;
+        }
+        final MathContext workingContext = new MathContext(this.mathContext.getPrecision() + GUARD_DIGITS,
+                RoundingMode.HALF_EVEN);
+        final BigDecimal xpowb = exp(b.multiply(log(this.delegate, workingContext), workingContext), workingContext);
         // use PrecisionNum.multiply(PrecisionNum)
-        final BigDecimal result = xpowa.multiply(BigDecimal.valueOf(xpowb));
+        final BigDecimal result = xpowa.multiply(xpowb);
         return new DecimalNum(result.toString(), this.mathContext);
     }
 
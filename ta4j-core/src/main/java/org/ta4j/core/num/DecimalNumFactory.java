@@ -27,6 +27,8 @@ import static org.ta4j.core.num.DecimalNum.DEFAULT_PRECISION;
 
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DecimalNumFactory implements NumFactory {
 
@@ -38,10 +40,15 @@ public class DecimalNumFactory implements NumFactory {
     private static final DecimalNum HUNDRED = DecimalNum.valueOf(100, new MathContext(3));
     private static final DecimalNum THOUSAND = DecimalNum.valueOf(1000, new MathContext(4));
 
+    private static final Map<Integer, DecimalNumFactory> FACTORIES = new ConcurrentHashMap<>();
+
     private final MathContext mathContext;
+    private final SmallIntegerCache smallIntegers;
 
     private DecimalNumFactory(final int precision) {
         this.mathContext = new MathContext(precision, RoundingMode.HALF_UP);
+        this.smallIntegers = new SmallIntegerCache(
+                value -> DecimalNum.valueOf(Integer.toString(value), this.mathContext));
     }
 
     @Override
@@ -81,19 +88,38 @@ public class DecimalNumFactory implements NumFactory {
 
     @Override
     public Num numOf(final Number number) {
+        if (number instanceof Integer integer) {
+            return numOf(integer.intValue());
+        }
         return numOf(number.toString());
     }
 
+    @Override
+    public Num numOf(final int number) {
+        return this.smallIntegers.get(number);
+    }
+
     @Override
     public Num numOf(final String number) {
         return DecimalNum.valueOf(number, this.mathContext);
     }
 
+    /**
+     * @return the precision of the produced {@code Num}s
+     */
+    public int getPrecision() {
+        return this.mathContext.getPrecision();
+    }
+
     public static NumFactory getInstance() {
         return getInstance(DEFAULT_PRECISION);
     }
 
+    /**
+     * @param precision the precision of the produced {@code Num}s
+     * @return the (shared) factory of {@code Num}s with {@code precision}
+     */
     public static NumFactory getInstance(final int precision) {
-        return new DecimalNumFactory(precision);
+        return FACTORIES.computeIfAbsent(precision, DecimalNumFactory::new);
     }
 }
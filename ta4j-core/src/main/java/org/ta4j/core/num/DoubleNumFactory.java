@@ -27,6 +27,8 @@ public class DoubleNumFactory implements NumFactory {
 
     private static final DoubleNumFactory DOUBLE_NUM_FACTORY = new DoubleNumFactory();
 
+    private final SmallIntegerCache smallIntegers = new SmallIntegerCache(DoubleNum::valueOf);
+
     private DoubleNumFactory() {
         // hidden
     }
@@ -68,9 +70,17 @@ public class DoubleNumFactory implements NumFactory {
 
     @Override
     public Num numOf(final Number number) {
+        if (number instanceof Integer integer) {
+            return numOf(integer.intValue());
+        }
         return DoubleNum.valueOf(number);
     }
 
+    @Override
+    public Num numOf(final int number) {
+        return this.smallIntegers.get(number);
+    }
+
     @Override
     public Num numOf(final String number) {
         return DoubleNum.valueOf(number);
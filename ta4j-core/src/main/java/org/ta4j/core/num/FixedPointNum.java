@@ -0,0 +1,488 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Representation of a fixed-point decimal backed by a {@code long}. The value
+ * is {@code unscaledValue * 10^-scale}, where the scale (the number of decimal
+ * places) is fixed by the {@link FixedPointNumFactory}.
+ *
+ * <p>
+ * Addition, subtraction and comparisons are exact and allocate no
+ * {@link BigDecimal}. Products and quotients are rounded
+ * {@link RoundingMode#HALF_UP half up} to the scale. Results that do not fit
+ * into a {@code long} at the scale are returned as {@link DecimalNum};
+ * {@code sqrt}, {@code log} and fractional powers are computed by
+ * {@code DecimalNum} and rounded to the scale.
+ *
+ * <p>
+ * Suited for prices with a known tick size, e.g. crypto or FX prices with 8
+ * decimal places: profits and losses stay decimal-exact at nearly the speed of
+ * {@link DoubleNum}.
+ *
+ * @see FixedPointNumFactory
+ */
+public final class FixedPointNum implements Num {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The largest scale whose power of ten fits into a {@code long}. */
+    static final int MAX_SCALE = 18;
+
+    /** The precision of the {@link DecimalNum} results. */
+    private static final MathContext FALLBACK_CONTEXT = new MathContext(DecimalNum.DEFAULT_PRECISION,
+            RoundingMode.HALF_UP);
+
+    /** The result of {@link #multiplyDivideHalfUp} that does not fit. */
+    static final long OVERFLOW = Long.MIN_VALUE;
+
+    private static final long LOW_MASK = 0xFFFFFFFFL;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final long unscaledValue;
+    private final int scale;
+
+    FixedPointNum(final long unscaledValue, final int scale) {
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code BigDecimal}, rounded half
+     * up to {@code scale} decimal places.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code FixedPointNum}, or a {@link DecimalNum} if {@code val}
+     *         does not fit into a {@code long} at the scale
+     */
+    public static Num valueOf(final BigDecimal val, final int scale) {
+        final BigDecimal scaled = val.setScale(scale, RoundingMode.HALF_UP);
+        if (scaled.unscaledValue().bitLength() < Long.SIZE) {
+            return new FixedPointNum(scaled.unscaledValue().longValue(), scale);
+        }
+        return DecimalNum.valueOf(val.round(FALLBACK_CONTEXT), FALLBACK_CONTEXT);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code long}.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code FixedPointNum}, or a {@link DecimalNum} if {@code val}
+     *         does not fit into a {@code long} at the scale
+     */
+    static Num valueOf(final long val, final int scale) {
+        final long powerOfTen = POWERS_OF_TEN[scale];
+        if (multiplicationFits(val, powerOfTen)) {
+            return new FixedPointNum(val * powerOfTen, scale);
+        }
+        return valueOf(BigDecimal.valueOf(val), scale);
+    }
+
+    /**
+     * @return the value of this {@code Num} in units of {@code 10^-scale}
+     */
+    public long getUnscaledValue() {
+        return this.unscaledValue;
+    }
+
+    /**
+     * @return the number of decimal places
+     */
+    public int getScale() {
+        return this.scale;
+    }
+
+    /**
+     * Returns the value as a new {@link BigDecimal}.
+     *
+     * @return the {@code BigDecimal} of this value
+     */
+    @Override
+    public BigDecimal getDelegate() {
+        return bigDecimalValue();
+    }
+
+    @Override
+    public NumFactory getNumFactory() {
+        return FixedPointNumFactory.getInstance(this.scale);
+    }
+
+    @Override
+    public String getName() {
+        return this.getClass().getSimpleName();
+    }
+
+    @Override
+    public BigDecimal bigDecimalValue() {
+        return BigDecimal.valueOf(this.unscaledValue, this.scale);
+    }
+
+    @Override
+    public Num plus(final Num augend) {
+        if (augend.isNaN()) {
+            return NaN;
+        }
+        if (augend instanceof FixedPointNum fixed && fixed.scale == this.scale) {
+            final long sum = this.unscaledValue + fixed.unscaledValue;
+            // the sum overflows if both operands have the opposite sign of it
+            if (((this.unscaledValue ^ sum) & (fixed.unscaledValue ^ sum)) >= 0) {
+                return new FixedPointNum(sum, this.scale);
+            }
+        }
+        return valueOf(bigDecimalValue().add(augend.bigDecimalValue()), this.scale);
+    }
+
+    @Override
+    public Num minus(final Num subtrahend) {
+        if (subtrahend.isNaN()) {
+            return NaN;
+        }
+        if (subtrahend instanceof FixedPointNum fixed && fixed.scale == this.scale) {
+            final long difference = this.unscaledValue - fixed.unscaledValue;
+            // the difference overflows if the operands have different signs and the
+            // sign of the difference differs from this value
+            if (((this.unscaledValue ^ fixed.unscaledValue) & (this.unscaledValue ^ difference)) >= 0) {
+                return new FixedPointNum(difference, this.scale);
+            }
+        }
+        return valueOf(bigDecimalValue().subtract(subtrahend.bigDecimalValue()), this.scale);
+    }
+
+    /**
+     * Returns a {@code Num} whose value is {@code this * multiplicand}, rounded
+     * half up to the scale.
+     */
+    @Override
+    public Num multipliedBy(final Num multiplicand) {
+        if (multiplicand.isNaN()) {
+            return NaN;
+        }
+        if (multiplicand instanceof FixedPointNum fixed && fixed.scale == this.scale) {
+            final long product = multiplyDivideHalfUp(this.unscaledValue, fixed.unscaledValue,
+                    POWERS_OF_TEN[this.scale]);
+            if (product != OVERFLOW) {
+                return new FixedPointNum(product, this.scale);
+            }
+        }
+        return valueOf(bigDecimalValue().multiply(multiplicand.bigDecimalValue()), this.scale);
+    }
+
+    /**
+     * Returns a {@code Num} whose value is {@code this / divisor}, rounded half up
+     * to the scale.
+     */
+    @Override
+    public Num dividedBy(final Num divisor) {
+        if (divisor.isNaN() || divisor.isZero()) {
+            return NaN;
+        }
+        if (divisor instanceof FixedPointNum fixed && fixed.scale == this.scale
+                && fixed.unscaledValue != Long.MIN_VALUE) {
+            final long quotient = multiplyDivideHalfUp(this.unscaledValue, POWERS_OF_TEN[this.scale],
+                    fixed.unscaledValue);
+            if (quotient != OVERFLOW) {
+                return new FixedPointNum(quotient, this.scale);
+            }
+        }
+        return valueOf(bigDecimalValue().divide(divisor.bigDecimalValue(), this.scale, RoundingMode.HALF_UP),
+                this.scale);
+    }
+
+    @Override
+    public Num remainder(final Num divisor) {
+        if (divisor.isNaN() || divisor.isZero()) {
+            return NaN;
+        }
+        if (divisor instanceof FixedPointNum fixed && fixed.scale == this.scale) {
+            return new FixedPointNum(this.unscaledValue % fixed.unscaledValue, this.scale);
+        }
+        return valueOf(bigDecimalValue().remainder(divisor.bigDecimalValue()), this.scale);
+    }
+
+    @Override
+    public Num floor() {
+        final long powerOfTen = POWERS_OF_TEN[this.scale];
+        final long whole = Math.floorDiv(this.unscaledValue, powerOfTen);
+        if (multiplicationFits(whole, powerOfTen)) {
+            return new FixedPointNum(whole * powerOfTen, this.scale);
+        }
+        return valueOf(bigDecimalValue().setScale(0, RoundingMode.FLOOR), this.scale);
+    }
+
+    @Override
+    public Num ceil() {
+        final long powerOfTen = POWERS_OF_TEN[this.scale];
+        final long whole = Math.ceilDiv(this.unscaledValue, powerOfTen);
+        if (multiplicationFits(whole, powerOfTen)) {
+            return new FixedPointNum(whole * powerOfTen, this.scale);
+        }
+        return valueOf(bigDecimalValue().setScale(0, RoundingMode.CEILING), this.scale);
+    }
+
+    @Override
+    public Num pow(final int n) {
+        return valueOf(bigDecimalValue().pow(n, FALLBACK_CONTEXT), this.scale);
+    }
+
+    @Override
+    public Num pow(final Num n) {
+        return roundToScale(toDecimalNum().pow(n));
+    }
+
+    @Override
+    public Num log() {
+        return roundToScale(toDecimalNum().log());
+    }
+
+    @Override
+    public Num sqrt() {
+        return roundToScale(toDecimalNum().sqrt());
+    }
+
+    @Override
+    public Num sqrt(final MathContext mathContext) {
+        return roundToScale(toDecimalNum().sqrt(mathContext));
+    }
+
+    @Override
+    public Num abs() {
+        return this.unscaledValue < 0 ? negate() : this;
+    }
+
+    @Override
+    public Num negate() {
+        if (this.unscaledValue == Long.MIN_VALUE) {
+            return valueOf(bigDecimalValue().negate(), this.scale);
+        }
+        return new FixedPointNum(-this.unscaledValue, this.scale);
+    }
+
+    @Override
+    public boolean isZero() {
+        return this.unscaledValue == 0;
+    }
+
+    @Override
+    public boolean isPositive() {
+        return this.unscaledValue > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero() {
+        return this.unscaledValue >= 0;
+    }
+
+    @Override
+    public boolean isNegative() {
+        return this.unscaledValue < 0;
+    }
+
+    @Override
+    public boolean isNegativeOrZero() {
+        return this.unscaledValue <= 0;
+    }
+
+    @Override
+    public boolean isEqual(final Num other) {
+        return !other.isNaN() && compareTo(other) == 0;
+    }
+
+    @Override
+    public boolean isGreaterThan(final Num other) {
+        return !other.isNaN() && compareTo(other) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqual(final Num other) {
+        return !other.isNaN() && compareTo(other) > -1;
+    }
+
+    @Override
+    public boolean isLessThan(final Num other) {
+        return !other.isNaN() && compareTo(other) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqual(final Num other) {
+        return !other.isNaN() && compareTo(other) < 1;
+    }
+
+    @Override
+    public int compareTo(final Num other) {
+        if (other.isNaN()) {
+            return 0;
+        }
+        if (other instanceof FixedPointNum fixed && fixed.scale == this.scale) {
+            return Long.compare(this.unscaledValue, fixed.unscaledValue);
+        }
+        return bigDecimalValue().compareTo(other.bigDecimalValue());
+    }
+
+    @Override
+    public Num min(final Num other) {
+        return other.isNaN() ? NaN : (compareTo(other) <= 0 ? this : other);
+    }
+
+    @Override
+    public Num max(final Num other) {
+        return other.isNaN() ? NaN : (compareTo(other) >= 0 ? this : other);
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public long longValue() {
+        return this.unscaledValue / POWERS_OF_TEN[this.scale];
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return (double) this.unscaledValue / POWERS_OF_TEN[this.scale];
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(this.unscaledValue) + this.scale;
+    }
+
+    /**
+     * @return true if {@code obj} is a {@code FixedPointNum} with the same scale
+     *         and value
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof FixedPointNum fixed && fixed.scale == this.scale
+                && fixed.unscaledValue == this.unscaledValue;
+    }
+
+    @Override
+    public String toString() {
+        return bigDecimalValue().toPlainString();
+    }
+
+    private DecimalNum toDecimalNum() {
+        return DecimalNum.valueOf(bigDecimalValue(), FALLBACK_CONTEXT);
+    }
+
+    private Num roundToScale(final Num result) {
+        return result.isNaN() ? NaN : valueOf(result.bigDecimalValue(), this.scale);
+    }
+
+    /**
+     * @return true if {@code x * y} does not overflow a {@code long}
+     */
+    private static boolean multiplicationFits(final long x, final long y) {
+        return Math.multiplyHigh(x, y) == (x * y) >> 63;
+    }
+
+    /**
+     * Returns {@code x * y / divisor} rounded half up (away from zero). The product
+     * is computed on 128 bits, so only the result has to fit into a {@code long}.
+     *
+     * @param x       the multiplier
+     * @param y       the multiplicand
+     * @param divisor the divisor, neither zero nor {@link Long#MIN_VALUE}
+     * @return the rounded quotient, or {@link #OVERFLOW} if it does not fit into a
+     *         {@code long}
+     */
+    static long multiplyDivideHalfUp(final long x, final long y, final long divisor) {
+        // unsigned magnitudes: Math.abs(Long.MIN_VALUE) is 2^63 when read unsigned
+        final long ux = Math.abs(x);
+        final long uy = Math.abs(y);
+        final long ud = Math.abs(divisor);
+        final long high = Math.unsignedMultiplyHigh(ux, uy);
+        final long low = ux * uy;
+        if (Long.compareUnsigned(high, ud) >= 0) {
+            return OVERFLOW;
+        }
+
+        // 128 by 64 bit division of (high, low) by ud with 32-bit digits, see Hacker's
+        // Delight, divlu; ud < 2^63, so the normalization shift is in [1, 63]
+        final int shift = Long.numberOfLeadingZeros(ud);
+        final long v = ud << shift;
+        final long vn1 = v >>> 32;
+        final long vn0 = v & LOW_MASK;
+        final long un32 = (high << shift) | (low >>> (64 - shift));
+        final long un10 = low << shift;
+        final long un1 = un10 >>> 32;
+        final long un0 = un10 & LOW_MASK;
+
+        long q1 = Long.divideUnsigned(un32, vn1);
+        long rhat = un32 - q1 * vn1;
+        while (q1 > LOW_MASK || Long.compareUnsigned(q1 * vn0, (rhat << 32) | un1) > 0) {
+            q1--;
+            rhat += vn1;
+            if (rhat > LOW_MASK) {
+                break;
+            }
+        }
+        final long un21 = (un32 << 32) + un1 - q1 * v;
+        long q0 = Long.divideUnsigned(un21, vn1);
+        rhat = un21 - q0 * vn1;
+        while (q0 > LOW_MASK || Long.compareUnsigned(q0 * vn0, (rhat << 32) | un0) > 0) {
+            q0--;
+            rhat += vn1;
+            if (rhat > LOW_MASK) {
+                break;
+            }
+        }
+        final long remainder = ((un21 << 32) + un0 - q0 * v) >>> shift;
+        long quotient = (q1 << 32) | q0;
+
+        if (quotient < 0) {
+            return OVERFLOW;
+        }
+        if (remainder >= ud - remainder) {
+            quotient++;
+            if (quotient < 0) {
+                return OVERFLOW;
+            }
+        }
+        return (x ^ y ^ divisor) < 0 ? -quotient : quotient;
+    }
+}
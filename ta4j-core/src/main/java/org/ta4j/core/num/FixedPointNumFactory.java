@@ -0,0 +1,189 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * The factory of {@link FixedPointNum}s with a fixed number of decimal places.
+ */
+public class FixedPointNumFactory implements NumFactory {
+
+    /** The default number of decimal places. */
+    static final int DEFAULT_SCALE = 8;
+
+    private static final FixedPointNumFactory[] FACTORIES = new FixedPointNumFactory[FixedPointNum.MAX_SCALE + 1];
+
+    static {
+        for (int scale = 0; scale <= FixedPointNum.MAX_SCALE; scale++) {
+            FACTORIES[scale] = new FixedPointNumFactory(scale);
+        }
+    }
+
+    private final int scale;
+    private final SmallIntegerCache smallIntegers;
+    private final Num minusOne;
+    private final Num zero;
+    private final Num one;
+    private final Num two;
+    private final Num three;
+    private final Num hundred;
+    private final Num thousand;
+
+    private FixedPointNumFactory(final int scale) {
+        this.scale = scale;
+        this.smallIntegers = new SmallIntegerCache(value -> FixedPointNum.valueOf(value, scale));
+        this.minusOne = numOf(-1);
+        this.zero = numOf(0);
+        this.one = numOf(1);
+        this.two = numOf(2);
+        this.three = numOf(3);
+        this.hundred = numOf(100);
+        this.thousand = numOf(1000);
+    }
+
+    /**
+     * @return the number of decimal places of the produced {@code Num}s
+     */
+    public int getScale() {
+        return this.scale;
+    }
+
+    /**
+     * Returns the {@code Num} of a value in units of {@code 10^-scale}, without
+     * going through a {@link BigDecimal}.
+     *
+     * @param unscaledValue the value in units of {@code 10^-scale}
+     * @return the {@code Num} whose value is {@code unscaledValue * 10^-scale}
+     * @see FixedPointNum#getUnscaledValue()
+     */
+    public Num numOfUnscaled(final long unscaledValue) {
+        if (unscaledValue == FixedPointNum.OVERFLOW) {
+            return FixedPointNum.valueOf(BigDecimal.valueOf(unscaledValue, this.scale), this.scale);
+        }
+        return new FixedPointNum(unscaledValue, this.scale);
+    }
+
+    @Override
+    public Num minusOne() {
+        return this.minusOne;
+    }
+
+    @Override
+    public Num zero() {
+        return this.zero;
+    }
+
+    @Override
+    public Num one() {
+        return this.one;
+    }
+
+    @Override
+    public Num two() {
+        return this.two;
+    }
+
+    @Override
+    public Num three() {
+        return this.three;
+    }
+
+    @Override
+    public Num hundred() {
+        return this.hundred;
+    }
+
+    @Override
+    public Num thousand() {
+        return this.thousand;
+    }
+
+    /**
+     * @return the {@code Num}, or {@link NaN#NaN} for a {@code NaN} or infinite
+     *         {@code Double} or {@code Float}
+     */
+    @Override
+    public Num numOf(final Number number) {
+        if (number instanceof Integer integer) {
+            return numOf(integer.intValue());
+        }
+        if ((number instanceof Double || number instanceof Float) && !Double.isFinite(number.doubleValue())) {
+            return NaN.NaN;
+        }
+        if (number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return FixedPointNum.valueOf(number.longValue(), this.scale);
+        }
+        if (number instanceof BigDecimal bigDecimal) {
+            return FixedPointNum.valueOf(bigDecimal, this.scale);
+        }
+        if (number instanceof BigInteger bigInteger) {
+            return FixedPointNum.valueOf(new BigDecimal(bigInteger), this.scale);
+        }
+        return numOf(number.toString());
+    }
+
+    @Override
+    public Num numOf(final int number) {
+        return this.smallIntegers.get(number);
+    }
+
+    /**
+     * @throws NumberFormatException if {@code number} is not a finite number
+     */
+    @Override
+    public Num numOf(final String number) {
+        return FixedPointNum.valueOf(new BigDecimal(number), this.scale);
+    }
+
+    /**
+     * Also accepts the {@link DecimalNum}s returned for the results which do not
+     * fit into a {@code long} at the scale.
+     */
+    @Override
+    public boolean produces(final Num num) {
+        return NumFactory.super.produces(num) || num instanceof DecimalNum;
+    }
+
+    /**
+     * @return the factory of {@code Num}s with {@value #DEFAULT_SCALE} decimal
+     *         places
+     */
+    public static NumFactory getInstance() {
+        return getInstance(DEFAULT_SCALE);
+    }
+
+    /**
+     * @param scale the number of decimal places, from 0 to 18
+     * @return the factory of {@code Num}s with {@code scale} decimal places
+     * @throws IllegalArgumentException if {@code scale} is out of range
+     */
+    public static NumFactory getInstance(final int scale) {
+        if (scale < 0 || scale > FixedPointNum.MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + FixedPointNum.MAX_SCALE);
+        }
+        return FACTORIES[scale];
+    }
+}
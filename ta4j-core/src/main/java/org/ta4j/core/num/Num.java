@@ -34,6 +34,7 @@ import java.math.MathContext;
  * @see Num
  * @see DoubleNum
  * @see DecimalNum
+ * @see FixedPointNum
  */
 public interface Num extends Comparable<Num>, Serializable {
 
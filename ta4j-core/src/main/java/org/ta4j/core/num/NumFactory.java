@@ -69,6 +69,22 @@ public interface NumFactory {
      */
     Num numOf(Number number);
 
+    /**
+     * Transforms an {@code int} into the {@link Num implementation} used by this
+     * bar series.
+     *
+     * <p>
+     * Implementations cache the {@code Num}s of small integers, so bar counts,
+     * weights and other integer constants do not allocate a new {@code Num} on
+     * every calculation.
+     *
+     * @param number the integer
+     * @return the corresponding value as a Num implementing object
+     */
+    default Num numOf(int number) {
+        return numOf((Number) number);
+    }
+
     /**
      * Transforms a {@link Number} into the {@link Num implementation} used by this
      * bar series
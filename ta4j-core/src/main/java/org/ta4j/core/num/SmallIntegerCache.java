@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import java.util.function.IntFunction;
+
+/**
+ * A bounded cache of the {@code Num}s of small integers, such as bar counts,
+ * weights and indices, that indicators create on every calculation.
+ *
+ * <p>
+ * The values are created on first use. Concurrent first uses may create a value
+ * twice, which is harmless because {@code Num}s are immutable.
+ */
+final class SmallIntegerCache {
+
+    /** The smallest cached integer. */
+    static final int LOW = -128;
+
+    /** The greatest cached integer. */
+    static final int HIGH = 1024;
+
+    private final IntFunction<Num> factory;
+    private final Num[] values = new Num[HIGH - LOW + 1];
+
+    /**
+     * Constructor.
+     *
+     * @param factory creates the {@code Num} of an integer
+     */
+    SmallIntegerCache(IntFunction<Num> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @param value the integer
+     * @return the (cached) {@code Num} of {@code value}
+     */
+    Num get(int value) {
+        if (value < LOW || value > HIGH) {
+            return factory.apply(value);
+        }
+        Num num = values[value - LOW];
+        if (num == null) {
+            num = factory.apply(value);
+            values[value - LOW] = num;
+        }
+        return num;
+    }
+}
@@ -24,7 +24,8 @@
 /**
  * {@link org.ta4j.core.num.Num Num} interface and implementations of
  * {@link org.ta4j.core.num.NaN NaN}, {@link org.ta4j.core.num.DoubleNum
- * DoubleNum} and {@link org.ta4j.core.num.DecimalNum PrecisionNum}.
+ * DoubleNum}, {@link org.ta4j.core.num.DecimalNum PrecisionNum} and
+ * {@link org.ta4j.core.num.FixedPointNum FixedPointNum}.
  *
  * <p>
  * The {@link org.ta4j.core.num.Num Num interface} enables the use of different
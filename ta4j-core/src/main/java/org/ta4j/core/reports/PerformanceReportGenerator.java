@@ -26,6 +26,7 @@ package org.ta4j.core.reports;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Strategy;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.criteria.pnl.LossCriterion;
 import org.ta4j.core.criteria.pnl.ProfitCriterion;
 import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
@@ -40,10 +41,11 @@ public class PerformanceReportGenerator implements ReportGenerator<PerformanceRe
 
     @Override
     public PerformanceReport generate(Strategy strategy, TradingRecord tradingRecord, BarSeries series) {
-        final Num pnl = new ProfitLossCriterion().calculate(series, tradingRecord);
-        final Num pnlPercentage = new ProfitLossPercentageCriterion().calculate(series, tradingRecord);
-        final Num netProfit = new ProfitCriterion(false).calculate(series, tradingRecord);
-        final Num netLoss = new LossCriterion(false).calculate(series, tradingRecord);
+        final AnalysisContext context = new AnalysisContext(series, tradingRecord);
+        final Num pnl = context.getValue(new ProfitLossCriterion());
+        final Num pnlPercentage = context.getValue(new ProfitLossPercentageCriterion());
+        final Num netProfit = context.getValue(new ProfitCriterion(false));
+        final Num netLoss = context.getValue(new LossCriterion(false));
         return new PerformanceReport(pnl, pnlPercentage, netProfit, netLoss);
     }
 }
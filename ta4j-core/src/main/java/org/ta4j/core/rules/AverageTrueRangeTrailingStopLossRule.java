@@ -28,8 +28,7 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.ATRIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
-import org.ta4j.core.indicators.helpers.HighestValueIndicator;
-import org.ta4j.core.indicators.helpers.LowestValueIndicator;
+import org.ta4j.core.indicators.helpers.MonotonicDeque;
 import org.ta4j.core.indicators.helpers.TransformIndicator;
 import org.ta4j.core.num.Num;
 
@@ -53,6 +52,12 @@ public class AverageTrueRangeTrailingStopLossRule extends AbstractRule {
      */
     private final Indicator<Num> referencePrice;
 
+    /** The highest reference price since the entry of a long position. */
+    private final MonotonicDeque highestPrice;
+
+    /** The lowest reference price since the entry of a short position. */
+    private final MonotonicDeque lowestPrice;
+
     /**
      * Constructor with default close price as reference.
      *
@@ -76,6 +81,8 @@ public class AverageTrueRangeTrailingStopLossRule extends AbstractRule {
             Number atrCoefficient) {
         this.stopLossThreshold = TransformIndicator.multiply(new ATRIndicator(series, atrBarCount), atrCoefficient);
         this.referencePrice = referencePrice;
+        this.highestPrice = new MonotonicDeque(referencePrice, true);
+        this.lowestPrice = new MonotonicDeque(referencePrice, false);
     }
 
     /**
@@ -100,15 +107,13 @@ public class AverageTrueRangeTrailingStopLossRule extends AbstractRule {
             Num currentPrice = this.referencePrice.getValue(index);
             Num threshold = this.stopLossThreshold.getValue(index);
 
-            int barsSinceEntry = index - tradingRecord.getCurrentPosition().getEntry().getIndex() + 1;
+            int entryIndex = tradingRecord.getCurrentPosition().getEntry().getIndex();
 
             if (tradingRecord.getCurrentPosition().getEntry().isBuy()) {
-                HighestValueIndicator highestPrice = new HighestValueIndicator(this.referencePrice, barsSinceEntry);
-                Num thresholdPrice = entryPrice.max(highestPrice.getValue(index)).minus(threshold);
+                Num thresholdPrice = entryPrice.max(highestPrice.extremum(entryIndex, index)).minus(threshold);
                 return currentPrice.isLessThan(thresholdPrice);
             } else {
-                LowestValueIndicator lowestPrice = new LowestValueIndicator(this.referencePrice, barsSinceEntry);
-                Num thresholdPrice = entryPrice.min(lowestPrice.getValue(index)).plus(threshold);
+                Num thresholdPrice = entryPrice.min(lowestPrice.extremum(entryIndex, index)).plus(threshold);
                 return currentPrice.isGreaterThan(thresholdPrice);
             }
         }
@@ -36,14 +36,14 @@ import org.ta4j.core.num.Num;
  */
 public class StopGainRule extends AbstractRule {
 
-    /** The constant value for 100. */
-    private final Num HUNDRED;
-
     /** The close price indicator. */
     private final ClosePriceIndicator closePrice;
 
-    /** The gain percentage. */
-    private final Num gainPercentage;
+    /** The ratio of the entry price at which a long position is closed. */
+    private final Num buyGainRatio;
+
+    /** The ratio of the entry price at which a short position is closed. */
+    private final Num sellGainRatio;
 
     /**
      * Constructor.
@@ -63,8 +63,9 @@ public class StopGainRule extends AbstractRule {
      */
     public StopGainRule(ClosePriceIndicator closePrice, Num gainPercentage) {
         this.closePrice = closePrice;
-        this.gainPercentage = gainPercentage;
-        HUNDRED = closePrice.getBarSeries().numFactory().hundred();
+        final var hundred = closePrice.getBarSeries().numFactory().hundred();
+        this.buyGainRatio = hundred.plus(gainPercentage).dividedBy(hundred);
+        this.sellGainRatio = hundred.minus(gainPercentage).dividedBy(hundred);
     }
 
     /** This rule uses the {@code tradingRecord}. */
@@ -91,14 +92,12 @@ public class StopGainRule extends AbstractRule {
     }
 
     private boolean isBuyGainSatisfied(Num entryPrice, Num currentPrice) {
-        Num lossRatioThreshold = HUNDRED.plus(gainPercentage).dividedBy(HUNDRED);
-        Num threshold = entryPrice.multipliedBy(lossRatioThreshold);
+        Num threshold = entryPrice.multipliedBy(buyGainRatio);
         return currentPrice.isGreaterThanOrEqual(threshold);
     }
 
     private boolean isSellGainSatisfied(Num entryPrice, Num currentPrice) {
-        Num lossRatioThreshold = HUNDRED.minus(gainPercentage).dividedBy(HUNDRED);
-        Num threshold = entryPrice.multipliedBy(lossRatioThreshold);
+        Num threshold = entryPrice.multipliedBy(sellGainRatio);
         return currentPrice.isLessThanOrEqual(threshold);
     }
 }
@@ -39,8 +39,11 @@ public class StopLossRule extends AbstractRule {
     /** The close price indicator. */
     private final ClosePriceIndicator closePrice;
 
-    /** The loss percentage. */
-    private final Num lossPercentage;
+    /** The ratio of the entry price at which a long position is closed. */
+    private final Num buyLossRatio;
+
+    /** The ratio of the entry price at which a short position is closed. */
+    private final Num sellLossRatio;
 
     /**
      * Constructor.
@@ -60,7 +63,9 @@ public class StopLossRule extends AbstractRule {
      */
     public StopLossRule(ClosePriceIndicator closePrice, Num lossPercentage) {
         this.closePrice = closePrice;
-        this.lossPercentage = lossPercentage;
+        final var hundred = closePrice.getBarSeries().numFactory().hundred();
+        this.buyLossRatio = hundred.minus(lossPercentage).dividedBy(hundred);
+        this.sellLossRatio = hundred.plus(lossPercentage).dividedBy(hundred);
     }
 
     /** This rule uses the {@code tradingRecord}. */
@@ -87,16 +92,12 @@ public class StopLossRule extends AbstractRule {
     }
 
     private boolean isBuyStopSatisfied(Num entryPrice, Num currentPrice) {
-        final var hundred = closePrice.getBarSeries().numFactory().hundred();
-        Num lossRatioThreshold = hundred.minus(lossPercentage).dividedBy(hundred);
-        Num threshold = entryPrice.multipliedBy(lossRatioThreshold);
+        Num threshold = entryPrice.multipliedBy(buyLossRatio);
         return currentPrice.isLessThanOrEqual(threshold);
     }
 
     private boolean isSellStopSatisfied(Num entryPrice, Num currentPrice) {
-        final var hundred = closePrice.getBarSeries().numFactory().hundred();
-        Num lossRatioThreshold = hundred.plus(lossPercentage).dividedBy(hundred);
-        Num threshold = entryPrice.multipliedBy(lossRatioThreshold);
+        Num threshold = entryPrice.multipliedBy(sellLossRatio);
         return currentPrice.isGreaterThanOrEqual(threshold);
     }
 }
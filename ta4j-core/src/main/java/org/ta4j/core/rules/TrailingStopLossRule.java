@@ -26,8 +26,7 @@ package org.ta4j.core.rules;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
-import org.ta4j.core.indicators.helpers.HighestValueIndicator;
-import org.ta4j.core.indicators.helpers.LowestValueIndicator;
+import org.ta4j.core.indicators.helpers.MonotonicDeque;
 import org.ta4j.core.num.Num;
 
 /**
@@ -44,8 +43,17 @@ public class TrailingStopLossRule extends AbstractRule {
     /** The barCount. */
     private final int barCount;
 
-    /** the loss-distance as percentage. */
-    private final Num lossPercentage;
+    /** The ratio of the highest price at which a long position is stopped. */
+    private final Num buyLossRatio;
+
+    /** The ratio of the lowest price at which a short position is stopped. */
+    private final Num sellLossRatio;
+
+    /** The highest price since the entry of a long position. */
+    private final MonotonicDeque highest;
+
+    /** The lowest price since the entry of a short position. */
+    private final MonotonicDeque lowest;
 
     /**
      * Constructor.
@@ -57,7 +65,11 @@ public class TrailingStopLossRule extends AbstractRule {
     public TrailingStopLossRule(Indicator<Num> indicator, Num lossPercentage, int barCount) {
         this.priceIndicator = indicator;
         this.barCount = barCount;
-        this.lossPercentage = lossPercentage;
+        final var hundred = indicator.getBarSeries().numFactory().hundred();
+        this.buyLossRatio = hundred.minus(lossPercentage).dividedBy(hundred);
+        this.sellLossRatio = hundred.plus(lossPercentage).dividedBy(hundred);
+        this.highest = new MonotonicDeque(indicator, true);
+        this.lowest = new MonotonicDeque(indicator, false);
     }
 
     /**
@@ -93,27 +105,19 @@ public class TrailingStopLossRule extends AbstractRule {
     }
 
     private boolean isBuySatisfied(Num currentPrice, int index, int positionIndex) {
-        HighestValueIndicator highest = new HighestValueIndicator(priceIndicator,
-                getValueIndicatorBarCount(index, positionIndex));
-        Num highestCloseNum = highest.getValue(index);
-        final var hundred = highestCloseNum.getNumFactory().hundred();
-        Num lossRatioThreshold = hundred.minus(lossPercentage).dividedBy(hundred);
-        Num currentStopLossLimitActivation = highestCloseNum.multipliedBy(lossRatioThreshold);
+        Num highestCloseNum = highest.extremum(getWindowStart(index, positionIndex), index);
+        Num currentStopLossLimitActivation = highestCloseNum.multipliedBy(buyLossRatio);
         return currentPrice.isLessThanOrEqual(currentStopLossLimitActivation);
     }
 
     private boolean isSellSatisfied(Num currentPrice, int index, int positionIndex) {
-        LowestValueIndicator lowest = new LowestValueIndicator(priceIndicator,
-                getValueIndicatorBarCount(index, positionIndex));
-        Num lowestCloseNum = lowest.getValue(index);
-        final var hundred = lowestCloseNum.getNumFactory().hundred();
-        Num lossRatioThreshold = hundred.plus(lossPercentage).dividedBy(hundred);
-        Num currentStopLossLimitActivation = lowestCloseNum.multipliedBy(lossRatioThreshold);
+        Num lowestCloseNum = lowest.extremum(getWindowStart(index, positionIndex), index);
+        Num currentStopLossLimitActivation = lowestCloseNum.multipliedBy(sellLossRatio);
         return currentPrice.isGreaterThanOrEqual(currentStopLossLimitActivation);
     }
 
-    private int getValueIndicatorBarCount(int index, int positionIndex) {
-        return Math.min(index - positionIndex + 1, this.barCount);
+    private int getWindowStart(int index, int positionIndex) {
+        return index - Math.min(index - positionIndex + 1, this.barCount) + 1;
     }
 
     @Override
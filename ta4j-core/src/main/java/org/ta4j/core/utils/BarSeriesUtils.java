@@ -77,7 +77,8 @@ public final class BarSeriesUtils {
      * potential bar data that was changed afterwards by the marketdata provider. It
      * can also be uses to check bar data equality over different marketdata
      * providers. This method does <b>not</b> add missing bars but replaces an
-     * existing bar with its new bar.
+     * existing bar with its new bar. The existing bar is found by its end time with
+     * {@link BarSeries#indexOf(Instant)}.
      *
      * @param barSeries the barSeries
      * @param newBar    the bar which has precedence over the same existing bar
@@ -88,14 +89,14 @@ public final class BarSeriesUtils {
         List<Bar> bars = barSeries.getBarData();
         if (bars == null || bars.isEmpty())
             return null;
-        for (int i = 0; i < bars.size(); i++) {
-            Bar bar = bars.get(i);
-            boolean isSameBar = bar.getBeginTime().equals(newBar.getBeginTime())
-                    && bar.getEndTime().equals(newBar.getEndTime())
-                    && bar.getTimePeriod().equals(newBar.getTimePeriod());
-            if (isSameBar && !bar.equals(newBar))
-                return bars.set(i, newBar);
-        }
+        int index = barSeries.indexOf(newBar.getEndTime());
+        if (index < 0)
+            return null;
+        Bar bar = barSeries.getBar(index);
+        boolean isSameBar = bar.getBeginTime().equals(newBar.getBeginTime())
+                && bar.getTimePeriod().equals(newBar.getTimePeriod());
+        if (isSameBar && !bar.equals(newBar))
+            return bars.set(index - barSeries.getRemovedBarsCount(), newBar);
         return null;
     }
 
@@ -0,0 +1,292 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.ColumnarBarSeries;
+import org.ta4j.core.num.Num;
+
+/**
+ * Full-series implementations of common indicators over primitive
+ * {@code double} arrays.
+ *
+ * <p>
+ * Intended for batch computations (e.g. feature generation) on series using the
+ * {@link org.ta4j.core.num.DoubleNumFactory DoubleNumFactory}: the values are
+ * computed in one forward loop without creating a {@link Num} per operation,
+ * and the element-wise loops are simple enough to be vectorized by the JIT
+ * compiler. The results are the same as the ones of the corresponding
+ * indicators (up to {@code double} rounding), with the element {@code i} of an
+ * array holding the value of the bar {@code beginIndex + i} of the series.
+ */
+public final class DoubleIndicatorUtils {
+
+    private DoubleIndicatorUtils() {
+    }
+
+    /**
+     * @param series the bar series
+     * @return the close prices of the series
+     */
+    public static double[] closePrices(BarSeries series) {
+        if (series instanceof ColumnarBarSeries columnar) {
+            return column(series, columnar::getClosePriceAsDouble);
+        }
+        return barColumn(series, Bar::getClosePrice);
+    }
+
+    /**
+     * @param series the bar series
+     * @return the high prices of the series
+     */
+    public static double[] highPrices(BarSeries series) {
+        if (series instanceof ColumnarBarSeries columnar) {
+            return column(series, columnar::getHighPriceAsDouble);
+        }
+        return barColumn(series, Bar::getHighPrice);
+    }
+
+    /**
+     * @param series the bar series
+     * @return the low prices of the series
+     */
+    public static double[] lowPrices(BarSeries series) {
+        if (series instanceof ColumnarBarSeries columnar) {
+            return column(series, columnar::getLowPriceAsDouble);
+        }
+        return barColumn(series, Bar::getLowPrice);
+    }
+
+    /**
+     * @param series the bar series
+     * @return the volumes of the series
+     */
+    public static double[] volumes(BarSeries series) {
+        if (series instanceof ColumnarBarSeries columnar) {
+            return column(series, columnar::getVolumeAsDouble);
+        }
+        return barColumn(series, Bar::getVolume);
+    }
+
+    /**
+     * Same as the {@link org.ta4j.core.indicators.helpers.RunningTotalIndicator
+     * RunningTotalIndicator}.
+     *
+     * @param values   the values
+     * @param barCount the time frame
+     * @return the sums of the last {@code barCount} values
+     */
+    public static double[] sum(double[] values, int barCount) {
+        requirePositive(barCount);
+        final double[] result = new double[values.length];
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i % barCount == 0 && i >= barCount) {
+                // recalculate the sum regularly to bound the rounding drift
+                sum = 0;
+                for (int j = i - barCount + 1; j < i; j++) {
+                    sum += values[j];
+                }
+            } else if (i >= barCount) {
+                sum -= values[i - barCount];
+            }
+            sum += values[i];
+            result[i] = sum;
+        }
+        return result;
+    }
+
+    /**
+     * Same as the {@link org.ta4j.core.indicators.averages.SMAIndicator
+     * SMAIndicator}.
+     *
+     * @param values   the values
+     * @param barCount the time frame
+     * @return the simple moving averages
+     */
+    public static double[] sma(double[] values, int barCount) {
+        final double[] result = sum(values, barCount);
+        for (int i = 0; i < result.length; i++) {
+            result[i] /= Math.min(barCount, i + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Same as the {@link org.ta4j.core.indicators.averages.EMAIndicator
+     * EMAIndicator}.
+     *
+     * @param values   the values
+     * @param barCount the time frame
+     * @return the exponential moving averages
+     */
+    public static double[] ema(double[] values, int barCount) {
+        final double[] result = new double[values.length];
+        if (values.length == 0) {
+            return result;
+        }
+        final double multiplier = 2.0 / (barCount + 1);
+        double previous = values[0];
+        result[0] = previous;
+        for (int i = 1; i < values.length; i++) {
+            previous = (values[i] - previous) * multiplier + previous;
+            result[i] = previous;
+        }
+        return result;
+    }
+
+    /**
+     * Same as the {@link org.ta4j.core.indicators.averages.WMAIndicator
+     * WMAIndicator}: the weights go from {@code 1} for the oldest value to
+     * {@code barCount} for the current one, with shorter windows for the first
+     * bars.
+     *
+     * @param values   the values
+     * @param barCount the time frame
+     * @return the weighted moving averages
+     */
+    public static double[] wma(double[] values, int barCount) {
+        requirePositive(barCount);
+        final double[] result = new double[values.length];
+        double weightedSum = 0;
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            final int length = Math.min(barCount, i + 1);
+            if (i >= barCount && i % barCount == 0) {
+                // recalculate the sums regularly to bound the rounding drift
+                weightedSum = 0;
+                sum = 0;
+                for (int j = i - barCount + 1; j <= i; j++) {
+                    weightedSum += (j - i + barCount) * values[j];
+                    sum += values[j];
+                }
+            } else if (i < barCount) {
+                weightedSum += length * values[i];
+                sum += values[i];
+            } else {
+                // every value of the window loses one weight, the oldest one leaves it
+                weightedSum += barCount * values[i] - sum;
+                sum += values[i] - values[i - barCount];
+            }
+            result[i] = weightedSum / (length * (length + 1) / 2.0);
+        }
+        return result;
+    }
+
+    /**
+     * Same as the {@link org.ta4j.core.indicators.averages.LWMAIndicator
+     * LWMAIndicator}: like {@link #wma(double[], int)}, but {@code 0} until the
+     * window is complete.
+     *
+     * @param values   the values
+     * @param barCount the time frame
+     * @return the linearly weighted moving averages
+     */
+    public static double[] lwma(double[] values, int barCount) {
+        final double[] result = wma(values, barCount);
+        for (int i = 0; i < Math.min(barCount - 1, result.length); i++) {
+            result[i] = 0;
+        }
+        return result;
+    }
+
+    /**
+     * Same as the {@link org.ta4j.core.indicators.helpers.TRIndicator TRIndicator}.
+     *
+     * @param high  the high prices
+     * @param low   the low prices
+     * @param close the close prices
+     * @return the true ranges
+     */
+    public static double[] trueRange(double[] high, double[] low, double[] close) {
+        final double[] result = new double[high.length];
+        if (result.length == 0) {
+            return result;
+        }
+        result[0] = Math.abs(high[0] - low[0]);
+        for (int i = 1; i < result.length; i++) {
+            final double hl = Math.abs(high[i] - low[i]);
+            final double hc = Math.abs(high[i] - close[i - 1]);
+            final double cl = Math.abs(close[i - 1] - low[i]);
+            result[i] = Math.max(hl, Math.max(hc, cl));
+        }
+        return result;
+    }
+
+    /**
+     * Same as the {@link org.ta4j.core.indicators.helpers.GainIndicator
+     * GainIndicator}.
+     *
+     * @param values the values
+     * @return the gains from one value to the next, {@code 0} for the first one
+     */
+    public static double[] gains(double[] values) {
+        final double[] result = new double[values.length];
+        for (int i = 1; i < values.length; i++) {
+            result[i] = Math.max(0, values[i] - values[i - 1]);
+        }
+        return result;
+    }
+
+    /**
+     * Same as the {@link org.ta4j.core.indicators.helpers.LossIndicator
+     * LossIndicator}.
+     *
+     * @param values the values
+     * @return the losses from one value to the next, {@code 0} for the first one
+     */
+    public static double[] losses(double[] values) {
+        final double[] result = new double[values.length];
+        for (int i = 1; i < values.length; i++) {
+            result[i] = Math.max(0, values[i - 1] - values[i]);
+        }
+        return result;
+    }
+
+    private static void requirePositive(int barCount) {
+        if (barCount < 1) {
+            throw new IllegalArgumentException("barCount must be positive: " + barCount);
+        }
+    }
+
+    private static double[] column(BarSeries series, IntToDoubleFunction value) {
+        final int beginIndex = series.getBeginIndex();
+        final double[] result = new double[Math.max(0, series.getEndIndex() - beginIndex + 1)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = value.applyAsDouble(beginIndex + i);
+        }
+        return result;
+    }
+
+    private static double[] barColumn(BarSeries series, Function<Bar, Num> value) {
+        return column(series, i -> {
+            final Num num = value.apply(series.getBar(i));
+            return num == null ? Double.NaN : num.doubleValue();
+        });
+    }
+}
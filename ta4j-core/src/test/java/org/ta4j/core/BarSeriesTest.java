@@ -448,4 +448,85 @@ public class BarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
             assertEquals(subSeriesLastBar.getVolume(), seriesLastBar.getVolume());
         });
     }
+
+    @Test
+    public void indexOfEndTimeTest() {
+        assertEquals(0, defaultSeries.indexOf(Instant.parse("2014-06-13T00:00:00Z")));
+        assertEquals(3, defaultSeries.indexOf(Instant.parse("2014-06-20T00:00:00Z")));
+        assertEquals(-1, defaultSeries.indexOf(Instant.parse("2014-06-21T00:00:00Z")));
+        assertEquals(-1, emptySeries.indexOf(Instant.parse("2014-06-20T00:00:00Z")));
+
+        assertEquals(0, subSeries.indexOf(Instant.parse("2014-06-15T00:00:00Z")));
+        assertEquals(-1, subSeries.indexOf(Instant.parse("2014-06-14T00:00:00Z")));
+    }
+
+    @Test
+    public void floorAndCeilingIndexTest() {
+        final Instant between = Instant.parse("2014-06-17T12:00:00Z");
+        assertEquals(2, defaultSeries.floorIndex(between));
+        assertEquals(3, defaultSeries.ceilingIndex(between));
+        assertEquals(3, defaultSeries.floorIndex(Instant.parse("2014-06-20T00:00:00Z")));
+        assertEquals(3, defaultSeries.ceilingIndex(Instant.parse("2014-06-20T00:00:00Z")));
+
+        assertEquals(-1, defaultSeries.floorIndex(Instant.parse("2014-06-12T00:00:00Z")));
+        assertEquals(0, defaultSeries.ceilingIndex(Instant.parse("2014-06-12T00:00:00Z")));
+        assertEquals(defaultSeries.getEndIndex(), defaultSeries.floorIndex(Instant.parse("2015-01-01T00:00:00Z")));
+        assertEquals(-1, defaultSeries.ceilingIndex(Instant.parse("2015-01-01T00:00:00Z")));
+
+        assertEquals(-1, emptySeries.floorIndex(between));
+        assertEquals(-1, emptySeries.ceilingIndex(between));
+    }
+
+    @Test
+    public void floorAndCeilingIndexOnMovingSeriesTest() {
+        final Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        final BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).withMaxBarCount(10).build();
+        for (int i = 1; i <= 30; i++) {
+            series.barBuilder()
+                    .timePeriod(Duration.ofMinutes(1))
+                    .endTime(start.plus(Duration.ofMinutes(i)))
+                    .closePrice(i)
+                    .add();
+        }
+
+        // bars 0..19 have been removed
+        assertEquals(20, series.getBeginIndex());
+        assertEquals(-1, series.indexOf(start.plus(Duration.ofMinutes(5))));
+        assertEquals(-1, series.floorIndex(start.plus(Duration.ofMinutes(5))));
+        assertEquals(20, series.ceilingIndex(start.plus(Duration.ofMinutes(5))));
+        assertEquals(25, series.indexOf(start.plus(Duration.ofMinutes(26))));
+        assertEquals(25, series.floorIndex(start.plus(Duration.ofSeconds(26 * 60 + 30))));
+        assertEquals(26, series.ceilingIndex(start.plus(Duration.ofSeconds(26 * 60 + 30))));
+
+        // the lookup follows the replaced last bar
+        series.addBar(series.barBuilder()
+                .timePeriod(Duration.ofMinutes(1))
+                .endTime(start.plus(Duration.ofMinutes(31)))
+                .closePrice(31)
+                .build(), true);
+        assertEquals(29, series.indexOf(start.plus(Duration.ofMinutes(31))));
+        assertEquals(-1, series.indexOf(start.plus(Duration.ofMinutes(30))));
+        assertEquals(28, series.floorIndex(start.plus(Duration.ofMinutes(30))));
+    }
+
+    @Test
+    public void floorAndCeilingIndexBeyondTheNanosecondRangeTest() {
+        final BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).build();
+        final Instant start = Instant.parse("2262-04-11T00:00:00Z");
+        for (int i = 1; i <= 3; i++) {
+            series.barBuilder()
+                    .timePeriod(Duration.ofDays(1))
+                    .endTime(start.plus(Duration.ofDays(i)))
+                    .closePrice(i)
+                    .add();
+        }
+
+        // the last two bars end after the largest time in nanoseconds since the epoch
+        assertEquals(0, series.indexOf(start.plus(Duration.ofDays(1))));
+        assertEquals(2, series.indexOf(start.plus(Duration.ofDays(3))));
+        assertEquals(1, series.floorIndex(start.plus(Duration.ofHours(60))));
+        assertEquals(2, series.ceilingIndex(start.plus(Duration.ofHours(60))));
+        assertEquals(-1, series.ceilingIndex(Instant.MAX));
+        assertEquals(0, series.ceilingIndex(Instant.MIN));
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.averages.EMAIndicator;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class BarSeriesViewTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private BarSeries series;
+
+    public BarSeriesViewTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(IntStream.rangeClosed(1, 20).asDoubleStream().toArray())
+                .build();
+    }
+
+    @Test
+    public void sharesTheBarsOfTheParent() {
+        BarSeries view = series.getSubSeriesView(5, 10);
+        BarSeries copy = series.getSubSeries(5, 10);
+
+        assertEquals(copy.getBarCount(), view.getBarCount());
+        assertEquals(copy.getBeginIndex(), view.getBeginIndex());
+        assertEquals(copy.getEndIndex(), view.getEndIndex());
+        assertEquals(series.getName(), view.getName());
+        for (int i = 0; i < view.getBarCount(); i++) {
+            assertSame(series.getBar(5 + i), view.getBar(i));
+            assertSame(series.getBar(5 + i), view.getBarData().get(i));
+        }
+        assertEquals(5, view.getBarData().size());
+        assertNumEquals(6, view.getFirstBar().getClosePrice());
+        assertNumEquals(10, view.getLastBar().getClosePrice());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.getBar(5));
+    }
+
+    @Test
+    public void rangeIsLimitedToTheParent() {
+        BarSeries view = series.getSubSeriesView(15, 100);
+        assertEquals(5, view.getBarCount());
+        assertNumEquals(20, view.getLastBar().getClosePrice());
+
+        series.setMaximumBarCount(10);
+        BarSeries afterRemoval = series.getSubSeriesView(0, 12);
+        assertEquals(2, afterRemoval.getBarCount());
+        assertNumEquals(11, afterRemoval.getFirstBar().getClosePrice());
+
+        BarSeries empty = series.getSubSeriesView(30, 40);
+        assertTrue(empty.isEmpty());
+        assertEquals(-1, empty.getBeginIndex());
+        assertEquals(-1, empty.getEndIndex());
+
+        assertThrows(IllegalArgumentException.class, () -> series.getSubSeriesView(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> series.getSubSeriesView(5, 5));
+    }
+
+    @Test
+    public void viewOfAViewSharesTheParent() {
+        BarSeriesView view = (BarSeriesView) series.getSubSeriesView(5, 15);
+        BarSeriesView subView = view.getSubSeriesView(2, 4);
+
+        assertSame(series, subView.getParent());
+        assertEquals(7, subView.toParentIndex(0));
+        assertEquals(2, subView.getBarCount());
+        assertNumEquals(8, subView.getFirstBar().getClosePrice());
+        assertTrue(view.getSubSeriesView(10, 12).isEmpty());
+
+        BarSeries copy = view.getSubSeries(2, 4);
+        assertEquals(2, copy.getBarCount());
+        assertNumEquals(8, copy.getFirstBar().getClosePrice());
+    }
+
+    @Test
+    public void indicatorsOnTheView() {
+        BarSeries view = series.getSubSeriesView(5, 15);
+        var sma = new SMAIndicator(new ClosePriceIndicator(view), 3);
+
+        assertNumEquals(6, sma.getValue(0));
+        assertNumEquals(7, sma.getValue(2));
+        assertNumEquals(14, sma.getValue(9));
+        assertSame(view.getIndicatorRegistry(), view.getIndicatorRegistry());
+    }
+
+    @Test
+    public void reusesTheIndicatorsOfTheParent() {
+        BarSeriesView view = (BarSeriesView) series.getSubSeriesView(5, 15);
+        var parentEma = new EMAIndicator(new ClosePriceIndicator(series), 10);
+        Indicator<Num> ema = view.fromParent(parentEma);
+
+        assertSame(view, ema.getBarSeries());
+        assertEquals(5, ema.getCountOfUnstableBars());
+        for (int i = 0; i < view.getBarCount(); i++) {
+            assertEquals(parentEma.getValue(5 + i), ema.getValue(i));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> view.fromParent(new ClosePriceIndicator(series.getSubSeries(5, 15))));
+    }
+
+    @Test
+    public void viewIsReadOnly() {
+        BarSeries view = series.getSubSeriesView(5, 10);
+
+        assertThrows(UnsupportedOperationException.class, () -> view.addBar(series.getBar(12)));
+        assertThrows(UnsupportedOperationException.class, () -> view.addPrice(numOf(1)));
+        assertThrows(UnsupportedOperationException.class, () -> view.setMaximumBarCount(2));
+        assertThrows(UnsupportedOperationException.class, view::barBuilder);
+    }
+
+    @Test
+    public void floorAndCeilingIndexAreLimitedToTheView() {
+        var view = series.getSubSeriesView(5, 10);
+        var first = series.getBar(5).getEndTime();
+        var last = series.getBar(9).getEndTime();
+
+        assertEquals(0, view.indexOf(first));
+        assertEquals(4, view.indexOf(last));
+        assertEquals(-1, view.indexOf(series.getBar(10).getEndTime()));
+        assertEquals(-1, view.floorIndex(series.getBar(4).getEndTime()));
+        assertEquals(0, view.ceilingIndex(series.getBar(0).getEndTime()));
+        assertEquals(4, view.floorIndex(series.getLastBar().getEndTime()));
+        assertEquals(-1, view.ceilingIndex(series.getBar(10).getEndTime()));
+    }
+}
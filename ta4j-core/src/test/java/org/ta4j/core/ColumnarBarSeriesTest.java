@@ -0,0 +1,300 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertIndicatorEquals;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.Test;
+import org.ta4j.core.bars.TimeBarBuilder;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class ColumnarBarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Duration PERIOD = Duration.ofMinutes(1);
+
+    public ColumnarBarSeriesTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    private static void addBars(BarSeries series, int from, int to) {
+        for (int i = from; i < to; i++) {
+            series.barBuilder()
+                    .timePeriod(PERIOD)
+                    .endTime(START.plus(PERIOD.multipliedBy(i + 1L)))
+                    .openPrice(i)
+                    .highPrice(i + 2)
+                    .lowPrice(i - 1)
+                    .closePrice(i + 1)
+                    .volume(10 * i)
+                    .amount(100 * i)
+                    .trades(i)
+                    .add();
+        }
+    }
+
+    @Test
+    public void addBarAndGetBar() {
+        var series = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).withName("columnar").build();
+        assertTrue(series.isEmpty());
+        assertEquals(-1, series.getBeginIndex());
+        assertEquals(-1, series.getEndIndex());
+
+        addBars(series, 0, 100);
+
+        assertEquals("columnar", series.getName());
+        assertEquals(100, series.getBarCount());
+        assertEquals(0, series.getBeginIndex());
+        assertEquals(99, series.getEndIndex());
+        assertEquals(100, series.getBarData().size());
+
+        var bar = series.getBar(42);
+        assertNumEquals(42, bar.getOpenPrice());
+        assertNumEquals(44, bar.getHighPrice());
+        assertNumEquals(41, bar.getLowPrice());
+        assertNumEquals(43, bar.getClosePrice());
+        assertNumEquals(420, bar.getVolume());
+        assertNumEquals(4200, bar.getAmount());
+        assertEquals(42, bar.getTrades());
+        assertEquals(PERIOD, bar.getTimePeriod());
+        assertEquals(START.plus(PERIOD.multipliedBy(43)), bar.getEndTime());
+        assertEquals(START.plus(PERIOD.multipliedBy(42)), bar.getBeginTime());
+        assertEquals(numFactory.one().getClass(), bar.getClosePrice().getClass());
+        assertEquals(43d, series.getClosePriceAsDouble(42), 0d);
+        assertEquals(bar, series.getBarData().get(42));
+    }
+
+    @Test
+    public void addPrimitiveBar() {
+        var series = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).build();
+        var endTime = Instant.parse("2024-01-01T00:00:00.123456789Z");
+        series.addBar(PERIOD, endTime, 1, 3, 0.5, 2, 100, 200, 7);
+
+        var bar = series.getBar(0);
+        assertEquals(endTime, bar.getEndTime());
+        assertNumEquals(1, bar.getOpenPrice());
+        assertNumEquals(3, bar.getHighPrice());
+        assertNumEquals(0.5, bar.getLowPrice());
+        assertNumEquals(2, bar.getClosePrice());
+        assertNumEquals(100, bar.getVolume());
+        assertNumEquals(200, bar.getAmount());
+        assertEquals(7, bar.getTrades());
+
+        assertThrows(IllegalArgumentException.class, () -> series.addBar(PERIOD, endTime, 1, 1, 1, 1, 1, 1, 1));
+    }
+
+    @Test
+    public void addBarWithSameEndTimeFails() {
+        var series = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).build();
+        addBars(series, 0, 2);
+        var bar = series.barBuilder()
+                .timePeriod(PERIOD)
+                .endTime(series.getLastBar().getEndTime())
+                .closePrice(1)
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> series.addBar(bar));
+    }
+
+    @Test
+    public void addBarOfAnotherNumTypeFails() {
+        var series = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).build();
+        var otherNumFactory = numFactory instanceof DoubleNumFactory ? DecimalNumFactory.getInstance()
+                : DoubleNumFactory.getInstance();
+        var bar = new TimeBarBuilder(otherNumFactory).timePeriod(PERIOD).endTime(START).closePrice(1).build();
+        assertThrows(IllegalArgumentException.class, () -> series.addBar(bar));
+    }
+
+    @Test
+    public void replaceLastBar() {
+        var series = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).build();
+        addBars(series, 0, 3);
+        var replacement = series.barBuilder()
+                .timePeriod(PERIOD)
+                .endTime(series.getLastBar().getEndTime())
+                .openPrice(7)
+                .highPrice(9)
+                .lowPrice(6)
+                .closePrice(8)
+                .volume(1)
+                .amount(8)
+                .trades(1)
+                .build();
+        series.addBar(replacement, true);
+
+        assertEquals(3, series.getBarCount());
+        assertNumEquals(8, series.getLastBar().getClosePrice());
+    }
+
+    @Test
+    public void maximumBarCountActsAsRingBuffer() {
+        var columnar = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).withMaxBarCount(10).build();
+        var base = new BaseBarSeriesBuilder().withNumFactory(numFactory).withMaxBarCount(10).build();
+        addBars(columnar, 0, 35);
+        addBars(base, 0, 35);
+
+        assertEquals(10, columnar.getBarCount());
+        assertEquals(25, columnar.getRemovedBarsCount());
+        assertEquals(25, columnar.getBeginIndex());
+        assertEquals(34, columnar.getEndIndex());
+        assertEquals(10, columnar.getBarData().size());
+        for (int i = 0; i <= columnar.getEndIndex(); i++) {
+            assertEquals(base.getBar(i).getEndTime(), columnar.getBar(i).getEndTime());
+            assertNumEquals(base.getBar(i).getClosePrice(), columnar.getBar(i).getClosePrice());
+        }
+        assertIndicatorEquals(new SMAIndicator(new ClosePriceIndicator(base), 3),
+                new SMAIndicator(new ClosePriceIndicator(columnar), 3));
+    }
+
+    @Test
+    public void setMaximumBarCount() {
+        var series = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).build();
+        addBars(series, 0, 20);
+        series.setMaximumBarCount(5);
+
+        assertEquals(5, series.getBarCount());
+        assertEquals(15, series.getRemovedBarsCount());
+        assertNumEquals(16, series.getBar(15).getClosePrice());
+        // removed bars return the first available bar
+        assertNumEquals(16, series.getBar(3).getClosePrice());
+
+        addBars(series, 20, 23);
+        assertEquals(18, series.getRemovedBarsCount());
+        assertNumEquals(19, series.getFirstBar().getClosePrice());
+        assertNumEquals(23, series.getLastBar().getClosePrice());
+
+        series.setMaximumBarCount(8);
+        addBars(series, 23, 26);
+        assertEquals(8, series.getBarCount());
+        assertNumEquals(19, series.getFirstBar().getClosePrice());
+        assertNumEquals(26, series.getLastBar().getClosePrice());
+
+        assertThrows(IllegalArgumentException.class, () -> series.setMaximumBarCount(0));
+    }
+
+    @Test
+    public void barViewWritesThrough() {
+        var series = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).build();
+        addBars(series, 0, 3);
+
+        series.addPrice(numFactory.numOf(10));
+        series.addTrade(numFactory.numOf(2), numFactory.numOf(1));
+
+        var bar = series.getLastBar();
+        assertNumEquals(2, bar.getOpenPrice());
+        assertNumEquals(10, bar.getHighPrice());
+        assertNumEquals(1, bar.getLowPrice());
+        assertNumEquals(1, bar.getClosePrice());
+        assertNumEquals(22, bar.getVolume());
+        assertNumEquals(202, bar.getAmount());
+        assertEquals(3, bar.getTrades());
+    }
+
+    @Test
+    public void removedBarViewFails() {
+        var series = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).withMaxBarCount(2).build();
+        addBars(series, 0, 2);
+        var first = series.getFirstBar();
+        addBars(series, 2, 3);
+        assertThrows(IllegalStateException.class, first::getClosePrice);
+    }
+
+    @Test
+    public void setBarData() {
+        var series = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).build();
+        addBars(series, 0, 3);
+        var newBar = series.barBuilder()
+                .timePeriod(PERIOD)
+                .endTime(series.getBar(1).getEndTime())
+                .openPrice(5)
+                .highPrice(5)
+                .lowPrice(5)
+                .closePrice(5)
+                .volume(5)
+                .amount(5)
+                .trades(5)
+                .build();
+
+        var previous = series.getBarData().set(1, newBar);
+
+        assertNumEquals(2, previous.getClosePrice());
+        assertNumEquals(5, series.getBar(1).getClosePrice());
+    }
+
+    @Test
+    public void getSubSeries() {
+        var series = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).withMaxBarCount(10).build();
+        addBars(series, 0, 25);
+
+        // the retained bars wrap around the end of the columns
+        var subSeries = series.getSubSeries(17, 22);
+
+        assertEquals(5, subSeries.getBarCount());
+        assertEquals(0, subSeries.getBeginIndex());
+        assertEquals(4, subSeries.getEndIndex());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(series.getBar(17 + i), subSeries.getBar(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> series.getSubSeries(5, 5));
+        assertThrows(IllegalArgumentException.class, () -> series.getSubSeries(-1, 5));
+    }
+
+    @Test
+    public void sameIndicatorValuesAsBaseBarSeries() {
+        var columnar = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).withInitialCapacity(1).build();
+        var base = new BaseBarSeriesBuilder().withNumFactory(numFactory).build();
+        addBars(columnar, 0, 500);
+        addBars(base, 0, 500);
+
+        assertIndicatorEquals(new SMAIndicator(new ClosePriceIndicator(base), 20),
+                new SMAIndicator(new ClosePriceIndicator(columnar), 20));
+    }
+
+    @Test
+    public void floorAndCeilingIndex() {
+        var columnar = new ColumnarBarSeriesBuilder().withNumFactory(numFactory).withMaxBarCount(10).build();
+        addBars(columnar, 0, 35);
+
+        assertEquals(30, columnar.indexOf(START.plus(PERIOD.multipliedBy(31))));
+        assertEquals(-1, columnar.indexOf(START.plus(PERIOD.multipliedBy(5))));
+        assertEquals(-1, columnar.floorIndex(START.plus(PERIOD.multipliedBy(5))));
+        assertEquals(25, columnar.ceilingIndex(START.plus(PERIOD.multipliedBy(5))));
+        assertEquals(30, columnar.floorIndex(START.plus(PERIOD.multipliedBy(31)).plusSeconds(30)));
+        assertEquals(31, columnar.ceilingIndex(START.plus(PERIOD.multipliedBy(31)).plusSeconds(30)));
+        assertEquals(34, columnar.floorIndex(START.plus(PERIOD.multipliedBy(100))));
+        assertEquals(-1, columnar.ceilingIndex(START.plus(PERIOD.multipliedBy(100))));
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.aggregator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class AggregatedBarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    public AggregatedBarSeriesTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    private BarSeries emptySeries() {
+        return new BaseBarSeriesBuilder().withNumFactory(numFactory).withName("source").build();
+    }
+
+    private static void addMinuteBar(BarSeries series, int minute) {
+        double price = 100 + (minute * 7) % 11;
+        series.barBuilder()
+                .timePeriod(Duration.ofMinutes(1))
+                .endTime(START.plus(Duration.ofMinutes(minute + 1)))
+                .openPrice(price)
+                .highPrice(price + 2)
+                .lowPrice(price - 1 - minute % 3)
+                .closePrice(price + 1)
+                .volume(minute)
+                .amount(10)
+                .trades(1)
+                .add();
+    }
+
+    @Test
+    public void sameBarsAsDurationBarAggregator() {
+        var source = emptySeries();
+        for (int i = 0; i < 100; i++) {
+            addMinuteBar(source, i);
+        }
+        var expected = new DurationBarAggregator(Duration.ofMinutes(5)).aggregate(source.getBarData());
+        var aggregated = new AggregatedBarSeries(source, Duration.ofMinutes(5));
+
+        assertEquals("source_PT5M", aggregated.getName());
+        assertEquals(20, aggregated.getBarCount());
+        for (int i = 0; i < 20; i++) {
+            var bar = aggregated.getBar(i);
+            assertEquals(expected.get(i).getEndTime(), bar.getEndTime());
+            assertEquals(Duration.ofMinutes(5), bar.getTimePeriod());
+            assertEquals(expected.get(i).getOpenPrice(), bar.getOpenPrice());
+            assertEquals(expected.get(i).getHighPrice(), bar.getHighPrice());
+            assertEquals(expected.get(i).getLowPrice(), bar.getLowPrice());
+            assertEquals(expected.get(i).getClosePrice(), bar.getClosePrice());
+            assertEquals(expected.get(i).getVolume(), bar.getVolume());
+            assertEquals(expected.get(i).getAmount(), bar.getAmount());
+            assertEquals(5, bar.getTrades());
+        }
+    }
+
+    @Test
+    public void followsTheSourceSeries() {
+        var source = emptySeries();
+        var aggregated = new AggregatedBarSeries(source, Duration.ofMinutes(5));
+        var sma = new SMAIndicator(new ClosePriceIndicator(aggregated), 2);
+        assertEquals(0, aggregated.getBarCount());
+
+        addMinuteBar(source, 0);
+        assertEquals(1, aggregated.getBarCount());
+        assertEquals(START.plus(Duration.ofMinutes(5)), aggregated.getLastBar().getEndTime());
+        assertNumEquals(0, aggregated.getLastBar().getVolume());
+
+        for (int i = 1; i < 5; i++) {
+            addMinuteBar(source, i);
+            // the bar in progress is replaced
+            assertEquals(1, aggregated.getBarCount());
+            assertNumEquals(source.getBar(i).getClosePrice(), sma.getValue(0));
+        }
+        assertNumEquals(10, aggregated.getLastBar().getVolume());
+
+        var firstBar = aggregated.getBar(0);
+        var firstValue = sma.getValue(0);
+        addMinuteBar(source, 5);
+        assertEquals(2, aggregated.getBarCount());
+        assertSame(firstBar, aggregated.getBar(0));
+        assertNumEquals(firstValue, sma.getValue(0));
+        assertEquals(START.plus(Duration.ofMinutes(10)), aggregated.getLastBar().getEndTime());
+        assertNumEquals(firstValue.plus(source.getBar(5).getClosePrice()).dividedBy(numOf(2)), sma.getValue(1));
+    }
+
+    @Test
+    public void followsChangesOfTheLastSourceBar() {
+        var source = emptySeries();
+        for (int i = 0; i < 7; i++) {
+            addMinuteBar(source, i);
+        }
+        var aggregated = new AggregatedBarSeries(source, Duration.ofMinutes(5));
+        assertNumEquals(11, aggregated.getLastBar().getVolume());
+
+        source.addTrade(numOf(4), numOf(200));
+        assertNumEquals(15, aggregated.getLastBar().getVolume());
+        assertNumEquals(200, aggregated.getLastBar().getHighPrice());
+        assertNumEquals(200, aggregated.getLastBar().getClosePrice());
+
+        // a change of the pending bar before a new bar is added is not lost
+        source.addPrice(numOf(50));
+        addMinuteBar(source, 7);
+        assertNumEquals(50, aggregated.getLastBar().getLowPrice());
+        assertNumEquals(22, aggregated.getLastBar().getVolume());
+        assertEquals(2, aggregated.getBarCount());
+    }
+
+    @Test
+    public void chainsTimeframes() {
+        var source = emptySeries();
+        var fiveMinutes = new AggregatedBarSeries(source, Duration.ofMinutes(5));
+        var hourly = new AggregatedBarSeries(fiveMinutes, Duration.ofHours(1));
+        var daily = new AggregatedBarSeries(source, Duration.ofDays(1));
+
+        int volume = 0;
+        for (int i = 0; i < 150; i++) {
+            addMinuteBar(source, i);
+            volume += i;
+            if (i % 13 == 0) {
+                assertNumEquals(volume, daily.getLastBar().getVolume());
+            }
+        }
+        assertEquals(30, fiveMinutes.getBarCount());
+        assertEquals(3, hourly.getBarCount());
+        assertEquals(START.plus(Duration.ofHours(3)), hourly.getLastBar().getEndTime());
+        assertEquals(30, hourly.getLastBar().getTrades());
+        assertEquals(1, daily.getBarCount());
+        assertNumEquals(volume, daily.getLastBar().getVolume());
+    }
+
+    @Test
+    public void sourceBarsSpanningTwoPeriods() {
+        var source = emptySeries();
+        source.barBuilder()
+                .timePeriod(Duration.ofMinutes(10))
+                .endTime(START.plus(Duration.ofMinutes(10)))
+                .closePrice(1)
+                .add();
+        var aggregated = new AggregatedBarSeries(source, Duration.ofMinutes(5));
+        assertThrows(IllegalStateException.class, aggregated::getBarCount);
+    }
+
+    @Test
+    public void concurrentReadsAggregateOnce() throws Exception {
+        var source = emptySeries();
+        for (int i = 0; i < 1000; i++) {
+            addMinuteBar(source, i);
+        }
+        var expected = new DurationBarAggregator(Duration.ofMinutes(5)).aggregate(source.getBarData());
+        var aggregated = new AggregatedBarSeries(source, Duration.ofMinutes(5));
+
+        var tasks = new ArrayList<Callable<Integer>>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(() -> aggregated.getBarCount());
+        }
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            for (var result : executor.invokeAll(tasks)) {
+                assertEquals(200, (int) result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        for (int i = 0; i < 200; i++) {
+            assertEquals(expected.get(i).getEndTime(), aggregated.getBar(i).getEndTime());
+            assertEquals(expected.get(i).getVolume(), aggregated.getBar(i).getVolume());
+        }
+    }
+
+    @Test
+    public void readOnly() {
+        var aggregated = new AggregatedBarSeries(emptySeries(), Duration.ofMinutes(5));
+        assertThrows(UnsupportedOperationException.class, aggregated::barBuilder);
+        assertThrows(UnsupportedOperationException.class, () -> aggregated.addPrice(numOf(1)));
+        assertThrows(IllegalArgumentException.class, () -> new AggregatedBarSeries(emptySeries(), Duration.ZERO));
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.aggregator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.bars.VolumeBarBuilderFactory;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class ParallelBarAggregatorTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    /** Enough bars for several chunks. */
+    private static final int BAR_COUNT = 40_000;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    public ParallelBarAggregatorTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @AfterClass
+    public static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    private BarSeries minuteSeries(int barCount) {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).build();
+        for (int i = 0; i < barCount; i++) {
+            double price = 100 + (i * 7) % 11;
+            series.barBuilder()
+                    .timePeriod(Duration.ofMinutes(1))
+                    .endTime(START.plus(Duration.ofMinutes(i + 1)))
+                    .openPrice(price)
+                    .highPrice(price + 2 + i % 5)
+                    .lowPrice(price - 1 - i % 3)
+                    .closePrice(price + 1)
+                    .volume(i % 13)
+                    .amount(i % 7)
+                    .trades(1)
+                    .add();
+        }
+        return series;
+    }
+
+    private static void assertBarEquals(Bar expected, Bar actual) {
+        assertEquals(expected.getEndTime(), actual.getEndTime());
+        assertEquals(expected.getTimePeriod(), actual.getTimePeriod());
+        assertNumEquals(expected.getOpenPrice(), actual.getOpenPrice());
+        assertNumEquals(expected.getHighPrice(), actual.getHighPrice());
+        assertNumEquals(expected.getLowPrice(), actual.getLowPrice());
+        assertNumEquals(expected.getClosePrice(), actual.getClosePrice());
+        assertNumEquals(expected.getVolume(), actual.getVolume());
+        assertNumEquals(expected.getAmount(), actual.getAmount());
+        assertEquals(expected.getTrades(), actual.getTrades());
+    }
+
+    @Test
+    public void sameTimeBarsAsAggregatedBarSeries() {
+        var series = minuteSeries(BAR_COUNT);
+        for (var timePeriod : List.of(Duration.ofMinutes(5), Duration.ofMinutes(7), Duration.ofHours(1),
+                Duration.ofDays(1))) {
+            var expected = new AggregatedBarSeries(series, timePeriod);
+            var aggregated = ParallelBarAggregator.byTimePeriod(timePeriod)
+                    .withOnlyFinalBars(false)
+                    .withPool(POOL)
+                    .aggregate(series.getBarData());
+
+            assertEquals(expected.getBarCount(), aggregated.size());
+            for (int i = 0; i < aggregated.size(); i++) {
+                assertBarEquals(expected.getBar(i), aggregated.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void onlyFinalBars() {
+        var series = minuteSeries(BAR_COUNT);
+        // 40000 minutes are 27 days and 18h40
+        assertEquals(27, ParallelBarAggregator.byTimePeriod(Duration.ofDays(1)).aggregate(series.getBarData()).size());
+        assertEquals(8000,
+                ParallelBarAggregator.byTimePeriod(Duration.ofMinutes(5)).aggregate(series.getBarData()).size());
+        assertEquals(13333, ParallelBarAggregator.byTickCount(3).aggregate(series.getBarData()).size());
+        assertEquals(13334,
+                ParallelBarAggregator.byTickCount(3).withOnlyFinalBars(false).aggregate(series.getBarData()).size());
+    }
+
+    @Test
+    public void tickBars() {
+        var series = minuteSeries(BAR_COUNT);
+        var aggregated = ParallelBarAggregator.byTickCount(100).withPool(POOL).aggregate(series.getBarData());
+
+        assertEquals(400, aggregated.size());
+        for (int i = 0; i < aggregated.size(); i++) {
+            var bar = aggregated.get(i);
+            var first = series.getBar(100 * i);
+            var last = series.getBar(100 * i + 99);
+            assertEquals(last.getEndTime(), bar.getEndTime());
+            assertEquals(Duration.ofMinutes(100), bar.getTimePeriod());
+            assertNumEquals(first.getOpenPrice(), bar.getOpenPrice());
+            assertNumEquals(last.getClosePrice(), bar.getClosePrice());
+            assertEquals(100, bar.getTrades());
+        }
+    }
+
+    @Test
+    public void volumeAndAmountBars() {
+        var series = minuteSeries(BAR_COUNT);
+        var threshold = numOf(1000);
+        assertThresholdBars(series, ParallelBarAggregator.byVolume(threshold).withPool(POOL), threshold, true);
+        assertThresholdBars(series, ParallelBarAggregator.byAmount(threshold).withPool(POOL), threshold, false);
+    }
+
+    /** Compares the bars with a sequential aggregation. */
+    private void assertThresholdBars(BarSeries series, ParallelBarAggregator aggregator, Num threshold,
+            boolean byVolume) {
+        var aggregated = aggregator.withOnlyFinalBars(false).aggregate(series.getBarData());
+
+        int index = 0;
+        Num total = numOf(0);
+        Num barTotal = numOf(0);
+        Num nextBoundary = threshold;
+        int firstIndex = 0;
+        for (int i = 0; i < series.getBarCount(); i++) {
+            var bar = series.getBar(i);
+            var value = byVolume ? bar.getVolume() : bar.getAmount();
+            total = total.plus(value);
+            barTotal = barTotal.plus(value);
+            if (total.isGreaterThanOrEqual(nextBoundary) || i == series.getEndIndex()) {
+                var aggregatedBar = aggregated.get(index++);
+                assertEquals(bar.getEndTime(), aggregatedBar.getEndTime());
+                assertNumEquals(series.getBar(firstIndex).getOpenPrice(), aggregatedBar.getOpenPrice());
+                assertNumEquals(barTotal, byVolume ? aggregatedBar.getVolume() : aggregatedBar.getAmount());
+                assertEquals(i - firstIndex + 1, aggregatedBar.getTrades());
+                while (total.isGreaterThanOrEqual(nextBoundary)) {
+                    nextBoundary = nextBoundary.plus(threshold);
+                }
+                barTotal = numOf(0);
+                firstIndex = i + 1;
+            }
+        }
+        assertEquals(index, aggregated.size());
+        assertTrue(aggregated.size() > 100);
+    }
+
+    @Test
+    public void volumeBarsEndLikeTheVolumeBarBuilderBars() {
+        var series = minuteSeries(BAR_COUNT);
+        int threshold = 100;
+        var built = new BaseBarSeriesBuilder().withNumFactory(numFactory)
+                .withBarBuilderFactory(new VolumeBarBuilderFactory(threshold))
+                .build();
+        for (Bar bar : series.getBarData()) {
+            built.barBuilder()
+                    .timePeriod(bar.getTimePeriod())
+                    .endTime(bar.getEndTime())
+                    .closePrice(bar.getClosePrice())
+                    .volume(bar.getVolume())
+                    .add();
+        }
+
+        var aggregated = ParallelBarAggregator.byVolume(numOf(threshold)).withPool(POOL).aggregate(series.getBarData());
+        assertEquals(built.getBarCount(), aggregated.size());
+        Num total = numOf(0);
+        for (int i = 0; i < aggregated.size(); i++) {
+            var builtBar = built.getBar(i);
+            var aggregatedBar = aggregated.get(i);
+            assertEquals(builtBar.getEndTime(), aggregatedBar.getEndTime());
+            assertEquals(builtBar.getTimePeriod(), aggregatedBar.getTimePeriod());
+            assertNumEquals(builtBar.getClosePrice(), aggregatedBar.getClosePrice());
+            // the builder caps the volume at the threshold and carries the excess over
+            assertNumEquals(threshold, builtBar.getVolume());
+            // here the bar keeps the whole volume of its source bars
+            total = total.plus(aggregatedBar.getVolume());
+            assertTrue(total.isGreaterThanOrEqual(numOf(threshold * (i + 1))));
+            assertTrue(total.minus(series.getBar(series.indexOf(aggregatedBar.getEndTime())).getVolume())
+                    .isLessThan(numOf(threshold * (i + 1))));
+        }
+    }
+
+    @Test
+    public void rejectsSourceBarsSpanningTwoPeriods() {
+        var series = minuteSeries(BAR_COUNT);
+        var aggregator = ParallelBarAggregator.byTimePeriod(Duration.ofSeconds(30)).withPool(POOL);
+        assertThrows(IllegalArgumentException.class, () -> aggregator.aggregate(series.getBarData()));
+        assertThrows(IllegalArgumentException.class, () -> ParallelBarAggregator.byVolume(numOf(0)));
+        assertTrue(aggregator.aggregate(List.of()).isEmpty());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.criteria.ExpectedShortfallCriterion;
+import org.ta4j.core.criteria.MaximumDrawdownCriterion;
+import org.ta4j.core.criteria.ReturnOverMaxDrawdownCriterion;
+import org.ta4j.core.criteria.SqnCriterion;
+import org.ta4j.core.criteria.ValueAtRiskCriterion;
+import org.ta4j.core.criteria.helpers.StandardDeviationCriterion;
+import org.ta4j.core.criteria.pnl.LossCriterion;
+import org.ta4j.core.criteria.pnl.ProfitCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.criteria.pnl.ReturnCriterion;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class AnalysisContextTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries series;
+    private TradingRecord tradingRecord;
+
+    public AnalysisContextTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(100, 105, 110, 100, 95, 105, 90, 95, 100, 80)
+                .build();
+        tradingRecord = new BaseTradingRecord(Trade.buyAt(0, series), Trade.sellAt(2, series), Trade.buyAt(3, series),
+                Trade.sellAt(4, series), Trade.sellAt(5, series), Trade.buyAt(6, series), Trade.buyAt(7, series),
+                Trade.sellAt(9, series));
+    }
+
+    @Test
+    public void sharedValuesAreCalculatedOnce() {
+        var context = new AnalysisContext(series, tradingRecord);
+
+        assertSame(context.getCashFlow(), context.getCashFlow());
+        assertSame(context.getReturns(Returns.ReturnType.LOG), context.getReturns(Returns.ReturnType.LOG));
+        assertSame(context.getPositionProfits(), context.getPositionProfits());
+
+        var criterion = new ProfitLossCriterion();
+        assertSame(context.getValue(criterion), context.getValue(criterion));
+        assertSame(context.getPositionValues(criterion), context.getPositionValues(criterion));
+    }
+
+    @Test
+    public void positionProfits() {
+        var context = new AnalysisContext(series, tradingRecord);
+        List<Num> profits = context.getPositionProfits();
+
+        assertEquals(4, profits.size());
+        assertNumEquals(10, profits.get(0));
+        assertNumEquals(-5, profits.get(1));
+        assertNumEquals(15, profits.get(2));
+        assertNumEquals(-15, profits.get(3));
+    }
+
+    @Test
+    public void batchMatchesSeparateCalculations() {
+        List<AnalysisCriterion> criteria = List.of(new ProfitLossCriterion(), new ProfitCriterion(),
+                new LossCriterion(), new ReturnCriterion(), new MaximumDrawdownCriterion(),
+                new ReturnOverMaxDrawdownCriterion(), new SqnCriterion(),
+                new StandardDeviationCriterion(new ProfitLossCriterion()), new ValueAtRiskCriterion(0.9),
+                new ExpectedShortfallCriterion(0.9));
+
+        List<Num> values = new AnalysisContext(series, tradingRecord).calculate(criteria);
+
+        assertEquals(criteria.size(), values.size());
+        for (int i = 0; i < criteria.size(); i++) {
+            assertEquals(criteria.get(i).toString(), criteria.get(i).calculate(series, tradingRecord), values.get(i));
+        }
+    }
+
+    @Test
+    public void sharedReturnsAreNotReordered() {
+        var context = new AnalysisContext(series, tradingRecord);
+        var returns = context.getReturns(Returns.ReturnType.LOG);
+        List<Num> before = List.copyOf(returns.getValues());
+
+        context.getValue(new ValueAtRiskCriterion(0.9));
+        context.getValue(new ExpectedShortfallCriterion(0.9));
+
+        assertEquals(before, returns.getValues());
+    }
+}
@@ -214,4 +214,14 @@ public class BarSeriesManagerTest extends AbstractIndicatorTest<BarSeries, Num>
         positions = manager.run(aStrategy, 9, 9).getPositions();
         assertTrue(positions.isEmpty());
     }
+
+    @Test
+    public void runIsAbandonedWhenConditionIsMet() {
+        TradingRecord tradingRecord = manager.run(strategy, TradeType.BUY, numOf(1), seriesForRun.getBeginIndex(),
+                seriesForRun.getEndIndex(), record -> record.getPositionCount() == 1);
+
+        assertEquals(1, tradingRecord.getPositionCount());
+        assertEquals(4, tradingRecord.getLastExit().getIndex());
+        assertTrue(tradingRecord.isClosed());
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.criteria.MaximumDrawdownCriterion;
+import org.ta4j.core.criteria.NumberOfPositionsCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+import org.ta4j.core.rules.BooleanRule;
+import org.ta4j.core.rules.FixedRule;
+
+public class BestStrategySearchTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private BarSeries series;
+    private BarSeriesManager manager;
+    private List<Strategy> strategies;
+
+    public BestStrategySearchTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(IntStream.range(0, 60).mapToDouble(i -> 100 + 10 * Math.sin(i * 0.7) + i % 5).toArray())
+                .build();
+        manager = new BarSeriesManager(series, new TradeOnCurrentCloseModel());
+        strategies = new ArrayList<>();
+        for (int o = 0; o < 10; o++) {
+            final int offset = o;
+            for (int h = 1; h <= 12; h++) {
+                final int holding = h;
+                int[] entries = IntStream.iterate(offset, i -> i < 60, i -> i + holding + 3).toArray();
+                int[] exits = IntStream.of(entries).map(i -> i + holding).toArray();
+                strategies.add(new BaseStrategy("offset " + offset + ", holding " + holding, new FixedRule(entries),
+                        new FixedRule(exits)));
+            }
+        }
+    }
+
+    @Test
+    public void bestStrategiesOfProfitLoss() {
+        assertSequentialRanking(new ProfitLossCriterion(), TradeType.BUY, 5);
+        assertSequentialRanking(new ProfitLossCriterion(), TradeType.SELL, 5);
+    }
+
+    @Test
+    public void bestStrategiesOfMaximumDrawdown() {
+        assertSequentialRanking(new MaximumDrawdownCriterion(), TradeType.BUY, 1);
+        assertSequentialRanking(new MaximumDrawdownCriterion(), TradeType.BUY, 7);
+    }
+
+    @Test
+    public void bestStrategiesOfNumberOfPositions() {
+        assertSequentialRanking(new NumberOfPositionsCriterion(), TradeType.BUY, 3);
+        assertSequentialRanking(new NumberOfPositionsCriterion(false), TradeType.BUY, 3);
+    }
+
+    @Test
+    public void countGreaterThanTheNumberOfStrategies() {
+        var criterion = new ProfitLossCriterion();
+        List<Strategy> best = criterion.chooseBest(manager, TradeType.BUY, strategies, strategies.size() + 10);
+        assertEquals(strategies.size(), best.size());
+    }
+
+    @Test
+    public void chooseBestRunsAllStrategiesWithTheTradeType() {
+        series = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(10, 8, 6, 4).build();
+        manager = new BarSeriesManager(series, new TradeOnCurrentCloseModel());
+        var shortOnce = new BaseStrategy(new FixedRule(0), new FixedRule(3));
+        var neverTrade = new BaseStrategy(BooleanRule.FALSE, BooleanRule.FALSE);
+
+        Strategy best = new ProfitLossCriterion().chooseBest(manager, TradeType.SELL, List.of(shortOnce, neverTrade));
+        assertEquals(shortOnce, best);
+    }
+
+    @Test
+    public void rankReturnsTheCriterionValues() {
+        var criterion = new ProfitLossCriterion();
+        var ranked = new BestStrategySearch(manager, criterion).rank(TradeType.BUY, strategies, 4, 5, 50);
+        List<Strategy> best = new BestStrategySearch(manager, criterion).search(TradeType.BUY, strategies, 4, 5, 50);
+
+        assertEquals(4, ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            var candidate = ranked.get(i);
+            assertEquals(best.get(i), candidate.getStrategy());
+            assertEquals(strategies.get(candidate.getIndex()), candidate.getStrategy());
+            assertEquals(criterion.calculate(series, manager.run(candidate.getStrategy(), TradeType.BUY, 5, 50)),
+                    candidate.getCriterionValue());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void countMustBePositive() {
+        new BestStrategySearch(manager, new ProfitLossCriterion()).search(TradeType.BUY, strategies, 0);
+    }
+
+    private void assertSequentialRanking(AnalysisCriterion criterion, TradeType tradeType, int count) {
+        List<Num> values = strategies.stream()
+                .map(strategy -> criterion.calculate(series, manager.run(strategy, tradeType)))
+                .collect(Collectors.toList());
+        List<Strategy> expected = IntStream.range(0, strategies.size()).boxed().sorted((i, j) -> {
+            if (criterion.betterThan(values.get(i), values.get(j))) {
+                return -1;
+            }
+            return criterion.betterThan(values.get(j), values.get(i)) ? 1 : Integer.compare(i, j);
+        }).limit(count).map(strategies::get).collect(Collectors.toList());
+
+        assertEquals(expected, criterion.chooseBest(manager, tradeType, strategies, count));
+        assertEquals(expected.get(0), criterion.chooseBest(manager, tradeType, strategies));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class ParameterGridTest {
+
+    @Test
+    public void cartesianProduct() {
+        var grid = new ParameterGrid().withRange("a", 1, 5, 2).withValues("b", 0.5, 1.5);
+
+        assertEquals(6, grid.getCombinationCount());
+        assertEquals(List.of("a=1, b=0.5", "a=1, b=1.5", "a=3, b=0.5", "a=3, b=1.5", "a=5, b=0.5", "a=5, b=1.5"),
+                grid.stream().map(Object::toString).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void constraint() {
+        var grid = new ParameterGrid().withRange("short", 1, 4, 1)
+                .withRange("long", 1, 4, 1)
+                .withConstraint(p -> p.getInt("short") < p.getInt("long"));
+
+        assertEquals(16, grid.getCombinationCount());
+        assertEquals(6, grid.stream().count());
+        grid.forEach(p -> assertFalse(p.getInt("short") >= p.getInt("long")));
+    }
+
+    @Test
+    public void parameterValues() {
+        var parameters = new ParameterGrid().withValues("a", 3).withValues("b", 0.25).iterator().next();
+
+        assertEquals(3, parameters.getInt("a"));
+        assertEquals(0.25, parameters.getDouble("b"), 0d);
+        assertEquals(new ParameterGrid().withValues("a", 3).withValues("b", 0.25).iterator().next(), parameters);
+    }
+
+    @Test
+    public void emptyGrid() {
+        assertFalse(new ParameterGrid().iterator().hasNext());
+        assertEquals(0, new ParameterGrid().getCombinationCount());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void unknownParameter() {
+        new ParameterGrid().withValues("a", 3).iterator().next().get("b");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateParameter() {
+        new ParameterGrid().withValues("a", 3).withValues("a", 4);
+    }
+}
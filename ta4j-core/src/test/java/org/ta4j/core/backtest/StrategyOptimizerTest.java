@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+
+public class StrategyOptimizerTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    public StrategyOptimizerTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @Test
+    public void findsTheBestCrossoverWithSharedIndicators() {
+        BarSeries series = new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(IntStream.range(0, 200).mapToDouble(i -> 100 + 10 * Math.sin(i / 8d) + i % 7).toArray())
+                .build();
+        var grid = new ParameterGrid().withRange("short", 2, 20, 2)
+                .withRange("long", 10, 60, 5)
+                .withConstraint(p -> p.getInt("short") < p.getInt("long"));
+        Set<Indicator<?>> indicators = Collections.newSetFromMap(new IdentityHashMap<>());
+        StrategyFactory factory = (registry, parameters) -> {
+            var close = registry.get(ClosePriceIndicator.class, registry.getBarSeries());
+            var shortSma = registry.get(SMAIndicator.class, close, parameters.getInt("short"));
+            var longSma = registry.get(SMAIndicator.class, close, parameters.getInt("long"));
+            indicators.add(close);
+            indicators.add(shortSma);
+            indicators.add(longSma);
+            return new BaseStrategy(parameters.toString(), new CrossedUpIndicatorRule(shortSma, longSma),
+                    new CrossedDownIndicatorRule(shortSma, longSma));
+        };
+
+        var criterion = new ProfitLossCriterion();
+        var results = new StrategyOptimizer(series).optimize(factory, grid, criterion, 3);
+
+        // one close price, 10 short and 11 long averages, SMA(10) and SMA(20) are both
+        assertEquals(1 + 10 + 11 - 2, indicators.size());
+
+        var manager = new BarSeriesManager(series);
+        Num best = grid.stream()
+                .map(p -> criterion.calculate(series, manager.run(new BaseStrategy(
+                        new CrossedUpIndicatorRule(new SMAIndicator(new ClosePriceIndicator(series), p.getInt("short")),
+                                new SMAIndicator(new ClosePriceIndicator(series), p.getInt("long"))),
+                        new CrossedDownIndicatorRule(
+                                new SMAIndicator(new ClosePriceIndicator(series), p.getInt("short")),
+                                new SMAIndicator(new ClosePriceIndicator(series), p.getInt("long")))))))
+                .reduce(Num::max)
+                .orElseThrow();
+
+        assertEquals(3, results.size());
+        assertEquals(best, results.get(0).getCriterionValue());
+        assertEquals(results.get(0).getParameters().toString(), results.get(0).getStrategy().getName());
+        assertTrue(results.get(1).getCriterionValue().isLessThanOrEqual(best));
+        assertTrue(results.get(2).getCriterionValue().isLessThanOrEqual(results.get(1).getCriterionValue()));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+import org.ta4j.core.reports.TradingStatement;
+import org.ta4j.core.rules.BooleanRule;
+import org.ta4j.core.rules.FixedRule;
+
+public class StreamingBacktestTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private BarSeries series;
+    private List<Strategy> strategies;
+    private ExecutorService executor;
+
+    public StreamingBacktestTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(IntStream.range(0, 50).mapToDouble(i -> 100 + 10 * Math.sin(i * 0.5)).toArray())
+                .build();
+        strategies = new ArrayList<>();
+        for (int entry = 0; entry < 20; entry++) {
+            for (int holding = 1; holding <= 10; holding++) {
+                strategies.add(
+                        new BaseStrategy(entry + "/" + holding, new FixedRule(entry), new FixedRule(entry + holding)));
+            }
+        }
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void keepsTheBestStatements() {
+        var criterion = new ProfitLossCriterion();
+        var manager = new BarSeriesManager(series);
+        List<Num> values = strategies.stream()
+                .map(strategy -> criterion.calculate(series, manager.run(strategy)))
+                .collect(Collectors.toList());
+        List<String> expected = IntStream.range(0, strategies.size())
+                .boxed()
+                .sorted((i, j) -> values.get(j).compareTo(values.get(i)))
+                .limit(5)
+                .map(i -> strategies.get(i).getName())
+                .collect(Collectors.toList());
+
+        List<TradingStatement> best = new BacktestExecutor(series).streaming()
+                .withExecutor(executor)
+                .keepBest(5, criterion)
+                .execute(strategies.iterator());
+
+        assertEquals(expected, best.stream().map(s -> s.getStrategy().getName()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void keepsNoStatementsByDefault() {
+        var consumed = new AtomicInteger();
+        List<TradingStatement> best = new BacktestExecutor(series).streaming()
+                .withExecutor(executor)
+                .onStatement(statement -> consumed.incrementAndGet())
+                .execute(strategies.spliterator());
+
+        assertTrue(best.isEmpty());
+        assertEquals(strategies.size(), consumed.get());
+    }
+
+    @Test
+    public void boundsThePendingRuns() {
+        var completed = new AtomicInteger();
+        var maxPending = new AtomicInteger();
+        Iterator<Strategy> iterator = new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < strategies.size();
+            }
+
+            @Override
+            public Strategy next() {
+                maxPending.accumulateAndGet(next - completed.get(), Math::max);
+                return strategies.get(next++);
+            }
+        };
+
+        new BacktestExecutor(series).streaming()
+                .withExecutor(executor)
+                .withMaxPendingRuns(3)
+                .onStatement(statement -> completed.incrementAndGet())
+                .execute(iterator);
+
+        assertEquals(strategies.size(), completed.get());
+        assertTrue(maxPending.get() <= 3);
+    }
+
+    @Test
+    public void reportsProgress() {
+        List<BacktestProgress> reports = new ArrayList<>();
+        new BacktestExecutor(series).streaming()
+                .withExecutor(executor)
+                .onProgress(60, reports::add)
+                .execute(strategies.iterator());
+
+        assertEquals(List.of(60L, 120L, 180L, 200L),
+                reports.stream().map(BacktestProgress::getCompletedCount).collect(Collectors.toList()));
+        assertTrue(reports.get(3).getThroughput() > 0);
+    }
+
+    @Test
+    public void rethrowsTheFailureOfARun() {
+        var failing = new BaseStrategy(new FixedRule(0), new BooleanRule(false) {
+            @Override
+            public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+                throw new IllegalStateException("failing rule");
+            }
+        });
+        strategies.add(10, failing);
+        try {
+            new BacktestExecutor(series).streaming().withExecutor(executor).execute(strategies.iterator());
+            fail("the failure of the run should be rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals("failing rule", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class WalkForwardFoldTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    public WalkForwardFoldTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    private BarSeries series(int barCount) {
+        return new MockBarSeriesBuilder().withNumFactory(numFactory).withData(new double[barCount]).build();
+    }
+
+    /** @return hourly bars, without bars from 10:00 to 20:00 of the first day */
+    private BarSeries hourlySeriesWithGap() {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(numFactory).build();
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        for (int hour = 0; hour < 48; hour++) {
+            if (hour >= 10 && hour < 20) {
+                continue;
+            }
+            series.barBuilder()
+                    .timePeriod(Duration.ofHours(1))
+                    .endTime(start.plus(Duration.ofHours(hour + 1)))
+                    .closePrice(hour)
+                    .add();
+        }
+        return series;
+    }
+
+    private static void assertFold(WalkForwardFold fold, int index, int inSampleBegin, int inSampleEnd,
+            int outOfSampleBegin, int outOfSampleEnd) {
+        assertEquals(index, fold.getIndex());
+        assertEquals(inSampleBegin, fold.getInSampleBeginIndex());
+        assertEquals(inSampleEnd, fold.getInSampleEndIndex());
+        assertEquals(outOfSampleBegin, fold.getOutOfSampleBeginIndex());
+        assertEquals(outOfSampleEnd, fold.getOutOfSampleEndIndex());
+    }
+
+    @Test
+    public void anchoredFolds() {
+        List<WalkForwardFold> folds = WalkForwardFold.anchored(series(25), 10, 6);
+
+        assertEquals(3, folds.size());
+        assertFold(folds.get(0), 0, 0, 9, 10, 15);
+        assertFold(folds.get(1), 1, 0, 15, 16, 21);
+        assertFold(folds.get(2), 2, 0, 21, 22, 24);
+    }
+
+    @Test
+    public void rollingFolds() {
+        List<WalkForwardFold> folds = WalkForwardFold.rolling(series(25), 10, 6);
+
+        assertEquals(3, folds.size());
+        assertFold(folds.get(0), 0, 0, 9, 10, 15);
+        assertFold(folds.get(1), 1, 6, 15, 16, 21);
+        assertFold(folds.get(2), 2, 12, 21, 22, 24);
+    }
+
+    @Test
+    public void noFoldIfTheSeriesIsTooShort() {
+        assertTrue(WalkForwardFold.rolling(series(10), 10, 5).isEmpty());
+        assertTrue(
+                WalkForwardFold
+                        .anchored(new BaseBarSeriesBuilder().withNumFactory(numFactory).build(), Duration.ofDays(1),
+                                Duration.ofDays(1))
+                        .isEmpty());
+    }
+
+    @Test
+    public void rollingFoldsOfDurations() {
+        // the bars 0 to 9 end from 01:00 to 10:00, the bars 10 to 37 from 21:00
+        List<WalkForwardFold> folds = WalkForwardFold.rolling(hourlySeriesWithGap(), Duration.ofHours(12),
+                Duration.ofHours(6));
+
+        // the first out-of-sample window ]12:00, 18:00] has no bar and is skipped
+        assertEquals(5, folds.size());
+        assertFold(folds.get(0), 0, 6, 9, 10, 13);
+        assertFold(folds.get(1), 1, 10, 13, 14, 19);
+        assertFold(folds.get(2), 2, 10, 19, 20, 25);
+        assertFold(folds.get(3), 3, 14, 25, 26, 31);
+        assertFold(folds.get(4), 4, 20, 31, 32, 37);
+    }
+
+    @Test
+    public void anchoredFoldsOfDurations() {
+        List<WalkForwardFold> folds = WalkForwardFold.anchored(hourlySeriesWithGap(), Duration.ofHours(12),
+                Duration.ofHours(12));
+
+        // out-of-sample windows: ]12:00, 24:00], ]24:00, 36:00], ]36:00, 48:00]
+        assertEquals(3, folds.size());
+        assertFold(folds.get(0), 0, 0, 9, 10, 13);
+        assertFold(folds.get(1), 1, 0, 13, 14, 25);
+        assertFold(folds.get(2), 2, 0, 25, 26, 37);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void barCountsMustBePositive() {
+        WalkForwardFold.rolling(series(10), 5, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void outOfSampleRangeMustFollowInSampleRange() {
+        new WalkForwardFold(0, 0, 10, 10, 20);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+
+public class WalkForwardOptimizerTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private static final StrategyFactory SMA_CROSSOVER = (registry, parameters) -> {
+        var close = registry.get(ClosePriceIndicator.class, registry.getBarSeries());
+        var shortSma = registry.get(SMAIndicator.class, close, parameters.getInt("short"));
+        var longSma = registry.get(SMAIndicator.class, close, parameters.getInt("long"));
+        return new BaseStrategy(parameters.toString(), new CrossedUpIndicatorRule(shortSma, longSma),
+                new CrossedDownIndicatorRule(shortSma, longSma));
+    };
+
+    public WalkForwardOptimizerTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    private BarSeries series() {
+        return new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(IntStream.range(0, 400)
+                        .mapToDouble(i -> 100 + 10 * Math.sin(i / (6d + i / 50)) + i % 5)
+                        .toArray())
+                .build();
+    }
+
+    private static ParameterGrid grid() {
+        return new ParameterGrid().withRange("short", 2, 10, 2)
+                .withRange("long", 10, 40, 10)
+                .withConstraint(p -> p.getInt("short") < p.getInt("long"));
+    }
+
+    @Test
+    public void optimizesEachFoldInSampleAndEvaluatesItOutOfSample() {
+        BarSeries series = series();
+        var criterion = new ProfitLossCriterion();
+        List<WalkForwardFold> folds = WalkForwardFold.rolling(series, 150, 50);
+        List<WalkForwardResult> results = new WalkForwardOptimizer(series).run(SMA_CROSSOVER, grid(), criterion, folds);
+
+        assertEquals(folds.size(), results.size());
+        var optimizer = new StrategyOptimizer(series);
+        var manager = new BarSeriesManager(series);
+        for (int i = 0; i < folds.size(); i++) {
+            WalkForwardFold fold = folds.get(i);
+            WalkForwardResult result = results.get(i);
+            assertSame(fold, result.getFold());
+
+            OptimizationResult expected = optimizer
+                    .optimize(SMA_CROSSOVER, grid(), criterion, TradeType.BUY, 1, fold.getInSampleBeginIndex(),
+                            fold.getInSampleEndIndex())
+                    .get(0);
+            assertEquals(expected.getParameters(), result.getInSampleResult().getParameters());
+            assertEquals(expected.getCriterionValue(), result.getInSampleResult().getCriterionValue());
+
+            var tradingRecord = manager.run(
+                    SMA_CROSSOVER.create(series.getIndicatorRegistry(), expected.getParameters()),
+                    fold.getOutOfSampleBeginIndex(), fold.getOutOfSampleEndIndex());
+            assertEquals(criterion.calculate(series, tradingRecord), result.getOutOfSampleCriterionValue());
+            assertEquals(tradingRecord.getPositionCount(), result.getOutOfSampleTradingRecord().getPositionCount());
+            assertEquals(fold.getOutOfSampleBeginIndex(), (int) result.getOutOfSampleTradingRecord().getStartIndex());
+        }
+    }
+
+    @Test
+    public void anchoredFoldsStartAtTheBeginOfTheSeries() {
+        BarSeries series = series();
+        List<WalkForwardResult> results = new WalkForwardOptimizer(series).run(SMA_CROSSOVER, grid(),
+                new ProfitLossCriterion(), WalkForwardFold.anchored(series, 100, 100));
+
+        assertEquals(3, results.size());
+        for (WalkForwardResult result : results) {
+            assertEquals(0, result.getFold().getInSampleBeginIndex());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void gridMustNotBeEmpty() {
+        BarSeries series = series();
+        var grid = new ParameterGrid().withValues("short", 5).withValues("long", 2).withConstraint(p -> false);
+        new WalkForwardOptimizer(series).run(SMA_CROSSOVER, grid, new ProfitLossCriterion(),
+                WalkForwardFold.rolling(series, 100, 100));
+    }
+}
@@ -62,7 +62,8 @@ public class AverageReturnPerBarCriterionTest extends AbstractCriterionTest {
                 .build();
         TradingRecord tradingRecord = new BaseTradingRecord(Trade.buyAt(0, series), Trade.sellAt(2, series));
         AnalysisCriterion averageProfit = getCriterion();
-        assertNumEquals(numOf(110d / 100).pow(numOf(1d / 3)), averageProfit.calculate(series, tradingRecord));
+        assertNumEquals(numOf(110d / 100).pow(numOf(1).dividedBy(numOf(3))),
+                averageProfit.calculate(series, tradingRecord));
     }
 
     @Test
@@ -71,7 +72,7 @@ public class AverageReturnPerBarCriterionTest extends AbstractCriterionTest {
         TradingRecord tradingRecord = new BaseTradingRecord(Trade.buyAt(0, series), Trade.sellAt(1, series),
                 Trade.buyAt(2, series), Trade.sellAt(5, series));
         AnalysisCriterion averageProfit = getCriterion();
-        assertNumEquals(numOf(95d / 100 * 70d / 100).pow(numOf(1d / 6)),
+        assertNumEquals(numOf(95d / 100 * 70d / 100).pow(numOf(1).dividedBy(numOf(6))),
                 averageProfit.calculate(series, tradingRecord));
     }
 
@@ -82,7 +83,8 @@ public class AverageReturnPerBarCriterionTest extends AbstractCriterionTest {
                 .build();
         TradingRecord tradingRecord = new BaseTradingRecord(Trade.sellAt(0, series), Trade.buyAt(2, series));
         AnalysisCriterion averageProfit = getCriterion();
-        assertNumEquals(numOf(90d / 100).pow(numOf(1d / 3)), averageProfit.calculate(series, tradingRecord));
+        assertNumEquals(numOf(90d / 100).pow(numOf(1).dividedBy(numOf(3))),
+                averageProfit.calculate(series, tradingRecord));
     }
 
     @Test
@@ -23,15 +23,19 @@
  */
 package org.ta4j.core.criteria;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
+import java.util.Random;
+
 import org.junit.Test;
 import org.ta4j.core.AnalysisCriterion;
 import org.ta4j.core.BaseTradingRecord;
 import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.Trade.TradeType;
 import org.ta4j.core.mocks.MockBarSeriesBuilder;
 import org.ta4j.core.num.NumFactory;
 
@@ -101,4 +105,32 @@ public class MaximumDrawdownCriterionTest extends AbstractCriterionTest {
         assertTrue(criterion.betterThan(numOf(0.9), numOf(1.5)));
         assertFalse(criterion.betterThan(numOf(1.2), numOf(0.4)));
     }
+
+    @Test
+    public void bestPossibleValueTrackerMatchesTheWholeTradingRecord() {
+        var random = new Random(3);
+        double[] closes = new double[400];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 50 + random.nextInt(100);
+        }
+        var series = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(closes).build();
+        AnalysisCriterion mdd = getCriterion();
+
+        for (TradeType tradeType : TradeType.values()) {
+            TradingRecord tradingRecord = new BaseTradingRecord(tradeType);
+            var tracker = mdd.bestPossibleValueTracker(series);
+            int index = 0;
+            while (index < series.getEndIndex()) {
+                int exitIndex = Math.min(index + 1 + random.nextInt(10), series.getEndIndex());
+                tradingRecord.enter(index, series.getBar(index).getClosePrice(), numOf(1));
+                tradingRecord.exit(exitIndex, series.getBar(exitIndex).getClosePrice(), numOf(1));
+                // the tracker may skip some positions between two calls
+                if (random.nextBoolean()) {
+                    assertEquals(mdd.calculateBestPossibleValue(series, tradingRecord), tracker.apply(tradingRecord));
+                }
+                index = exitIndex + random.nextInt(5);
+            }
+            assertEquals(mdd.calculateBestPossibleValue(series, tradingRecord), tracker.apply(tradingRecord));
+        }
+    }
 }
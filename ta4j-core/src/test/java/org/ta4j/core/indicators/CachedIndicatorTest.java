@@ -30,7 +30,11 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -39,6 +43,7 @@ import org.ta4j.core.BaseBarSeriesBuilder;
 import org.ta4j.core.BaseStrategy;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Strategy;
+import org.ta4j.core.indicators.averages.EMAIndicator;
 import org.ta4j.core.indicators.averages.SMAIndicator;
 import org.ta4j.core.indicators.averages.ZLEMAIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
@@ -192,4 +197,60 @@ public class CachedIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, N
 
     }
 
+    @Test
+    public void computeRangeMatchesGetValue() {
+        BarSeries barSeries = new MockBarSeriesBuilder().withNumFactory(numFactory).withDefaultData().build();
+        var expected = new SMAIndicator(new ClosePriceIndicator(barSeries), 3);
+        var sma = new SMAIndicator(new ClosePriceIndicator(barSeries), 3);
+
+        List<Num> values = sma.computeRange(2, barSeries.getEndIndex());
+        assertEquals(barSeries.getEndIndex() - 1, values.size());
+        for (int i = 2; i <= barSeries.getEndIndex(); i++) {
+            assertEquals(expected.getValue(i), values.get(i - 2));
+            assertEquals(expected.getValue(i), sma.getValue(i));
+        }
+        assertTrue(sma.computeRange(5, 4).isEmpty());
+    }
+
+    @Test
+    public void computeRangeOfLongRecursiveIndicator() {
+        double[] data = new double[100_000];
+        Arrays.fill(data, 5);
+        BarSeries barSeries = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(data).build();
+        var ema = new EMAIndicator(new ClosePriceIndicator(barSeries), 10);
+
+        List<Num> values = ema.computeRange(0, barSeries.getEndIndex());
+        assertNumEquals(5, values.get(values.size() - 1));
+    }
+
+    @Test
+    public void concurrentReadsReturnTheCalculatedResults() throws Exception {
+        double[] data = new double[2000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i % 17;
+        }
+        BarSeries barSeries = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(data).build();
+        var expected = new SMAIndicator(new ClosePriceIndicator(barSeries), 10);
+        var shared = new SMAIndicator(new ClosePriceIndicator(barSeries), 10);
+
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < data.length; i++) {
+                        int index = (i * 7 + offset * 250) % data.length;
+                        assertEquals(expected.getValue(index), shared.getValue(index));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,221 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertIndicatorEquals;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class DoubleCachedIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public DoubleCachedIndicatorTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    /** Sum of the close prices of the last {@code barCount} bars. */
+    private static class DoubleSumIndicator extends DoubleCachedIndicator {
+
+        private final ClosePriceIndicator closePrice;
+        private final int barCount;
+        private final List<Integer> calculatedIndices = new ArrayList<>();
+
+        DoubleSumIndicator(ClosePriceIndicator closePrice, int barCount, boolean synchronizedAccess) {
+            super(closePrice.getBarSeries(), synchronizedAccess);
+            this.closePrice = closePrice;
+            this.barCount = barCount;
+        }
+
+        @Override
+        protected double calculateDouble(int index) {
+            calculatedIndices.add(index);
+            double sum = 0;
+            for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
+                sum += closePrice.getValue(i).doubleValue();
+            }
+            return sum;
+        }
+
+        @Override
+        public int getCountOfUnstableBars() {
+            return barCount;
+        }
+    }
+
+    /** Recursive indicator: the running total of the close prices. */
+    private static class DoubleRunningTotalIndicator extends DoubleCachedIndicator {
+
+        private final ClosePriceIndicator closePrice;
+
+        DoubleRunningTotalIndicator(ClosePriceIndicator closePrice) {
+            super(closePrice);
+            this.closePrice = closePrice;
+        }
+
+        @Override
+        protected double calculateDouble(int index) {
+            final double value = closePrice.getValue(index).doubleValue();
+            return index == 0 ? value : getDouble(index - 1) + value;
+        }
+
+        @Override
+        public int getCountOfUnstableBars() {
+            return 0;
+        }
+    }
+
+    private BarSeries series(int barCount) {
+        return new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(IntStream.range(1, barCount + 1).asDoubleStream().toArray())
+                .build();
+    }
+
+    @Test
+    public void cachesResults() {
+        var indicator = new DoubleSumIndicator(new ClosePriceIndicator(series(10)), 3, true);
+
+        assertEquals(12d, indicator.getDouble(4), 0d);
+        assertEquals(12d, indicator.getDouble(4), 0d);
+        assertNumEquals(12, indicator.getValue(4));
+        assertEquals(List.of(4), indicator.calculatedIndices);
+    }
+
+    @Test
+    public void lastBarIsNotCached() {
+        var indicator = new DoubleSumIndicator(new ClosePriceIndicator(series(10)), 3, false);
+
+        assertEquals(27d, indicator.getDouble(9), 0d);
+        assertEquals(27d, indicator.getDouble(9), 0d);
+        assertEquals(List.of(9, 9), indicator.calculatedIndices);
+    }
+
+    @Test
+    public void getDoublesFillsTheCacheInOnePass() {
+        var indicator = new DoubleSumIndicator(new ClosePriceIndicator(series(10)), 3, true);
+
+        double[] values = indicator.getDoubles(2, 5);
+        assertEquals(4, values.length);
+        assertEquals(15d, values[3], 0d);
+        assertEquals(15d, indicator.getDouble(5), 0d);
+        assertEquals(List.of(2, 3, 4, 5), indicator.calculatedIndices);
+        assertEquals(0, indicator.getDoubles(5, 4).length);
+    }
+
+    @Test
+    public void sameValuesAsCachedIndicator() {
+        var series = series(500);
+        var closePrice = new ClosePriceIndicator(series);
+        var sma = new SMAIndicator(closePrice, 5);
+        var sum = new DoubleSumIndicator(closePrice, 5, false);
+
+        for (int i = series.getEndIndex(); i >= 0; i -= 7) {
+            assertEquals(sma.getValue(i).doubleValue() * Math.min(5, i + 1), sum.getDouble(i), 1e-9);
+        }
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(sma.getValue(i).doubleValue() * Math.min(5, i + 1), sum.getDouble(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void ringBufferWithMaximumBarCount() {
+        var series = series(100);
+        var expected = new DoubleSumIndicator(new ClosePriceIndicator(series(100)), 4, false);
+        var indicator = new DoubleSumIndicator(new ClosePriceIndicator(series), 4, false);
+        series.setMaximumBarCount(10);
+
+        // skip the first bars, whose windows reach into the removed bars
+        for (int i = series.getBeginIndex() + 3; i <= series.getEndIndex(); i++) {
+            assertEquals(expected.getDouble(i), indicator.getDouble(i), 0d);
+        }
+        indicator.calculatedIndices.clear();
+        for (int i = series.getBeginIndex() + 3; i < series.getEndIndex(); i++) {
+            indicator.getDouble(i);
+        }
+        assertTrue(indicator.calculatedIndices.isEmpty());
+
+        // new bars evict the oldest results
+        var lastEndTime = series.getLastBar().getEndTime();
+        for (int i = 1; i <= 25; i++) {
+            series.barBuilder().endTime(lastEndTime.plusSeconds(60L * i)).closePrice(100 + i).openPrice(0).add();
+        }
+        indicator.calculatedIndices.clear();
+        assertEquals(118 + 119 + 120 + 121, indicator.getDouble(120), 0d);
+        assertEquals(118 + 119 + 120 + 121, indicator.getDouble(120), 0d);
+        assertEquals(List.of(120), indicator.calculatedIndices);
+        assertEquals(10, series.getBarCount());
+    }
+
+    @Test
+    public void recursiveIndicatorWithRemovedBars() {
+        var series = series(30);
+        var runningTotal = new DoubleRunningTotalIndicator(new ClosePriceIndicator(series));
+        assertEquals(465d, runningTotal.getDouble(29), 0d);
+
+        var limitedSeries = series(30);
+        limitedSeries.setMaximumBarCount(10);
+        var limitedRunningTotal = new DoubleRunningTotalIndicator(new ClosePriceIndicator(limitedSeries));
+        // the removed bars are replaced by the first available bar
+        assertEquals(21 + IntStream.rangeClosed(21, 30).sum(), limitedRunningTotal.getDouble(29), 0d);
+    }
+
+    @Test
+    public void naNValues() {
+        var indicator = new DoubleCachedIndicator(series(5)) {
+            @Override
+            protected double calculateDouble(int index) {
+                return Double.NaN;
+            }
+
+            @Override
+            public int getCountOfUnstableBars() {
+                return 0;
+            }
+        };
+
+        assertTrue(Double.isNaN(indicator.getDouble(2)));
+        assertEquals(NaN.NaN, indicator.getValue(2));
+    }
+
+    @Test
+    public void valuesAreCreatedByTheNumFactory() {
+        var series = series(5);
+        var indicator = new DoubleSumIndicator(new ClosePriceIndicator(series), 2, true);
+        assertIndicatorEquals(indicator, indicator);
+        assertEquals(numFactory.one().getClass(), indicator.getValue(3).getClass());
+    }
+}
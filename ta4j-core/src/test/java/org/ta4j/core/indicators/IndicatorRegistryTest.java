@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.averages.EMAIndicator;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandFacade;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.ConstantIndicator;
+import org.ta4j.core.indicators.keltner.KeltnerChannelFacade;
+import org.ta4j.core.indicators.numeric.NumericIndicator;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class IndicatorRegistryTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries series;
+    private IndicatorRegistry registry;
+
+    public IndicatorRegistryTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeriesBuilder().withNumFactory(numFactory).withDefaultData().build();
+        registry = new IndicatorRegistry(series);
+    }
+
+    @Test
+    public void internsEqualIndicators() {
+        var close = registry.get(ClosePriceIndicator.class, series);
+        var sma = registry.get(SMAIndicator.class, close, 3);
+
+        assertSame(close, registry.get(ClosePriceIndicator.class, series));
+        assertSame(sma, registry.get(SMAIndicator.class, registry.get(ClosePriceIndicator.class, series), 3));
+        var otherSma = registry.get(SMAIndicator.class, close, 4);
+        assertNotSame(sma, otherSma);
+        assertEquals(3, registry.size());
+    }
+
+    @Test
+    public void typeIsPartOfTheKey() {
+        var close = registry.get(ClosePriceIndicator.class, series);
+        var sma = registry.get(SMAIndicator.class, close, 3);
+        var ema = registry.get(EMAIndicator.class, close, 3);
+
+        assertNotSame(sma, ema);
+        assertEquals(new SMAIndicator(close, 3).getValue(5), sma.getValue(5));
+        assertEquals(new EMAIndicator(close, 3).getValue(5), ema.getValue(5));
+    }
+
+    @Test
+    public void argumentsAreComparedByValue() {
+        var constant = registry.get(ConstantIndicator.class, series, numOf(5));
+        assertSame(constant, registry.get(ConstantIndicator.class, series, numOf(5)));
+        assertNotSame(constant, registry.get(ConstantIndicator.class, series, numOf(6)));
+    }
+
+    @Test
+    public void factoryIsCalledOnce() {
+        var close = registry.get(ClosePriceIndicator.class, series);
+        var first = registry.get(SMAIndicator.class, List.of(close, 3), () -> new SMAIndicator(close, 3));
+        var second = registry.get(SMAIndicator.class, List.of(close, 3), () -> {
+            throw new AssertionError("the indicator is registered");
+        });
+        assertSame(first, second);
+        assertSame(first, registry.get(SMAIndicator.class, close, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noMatchingConstructor() {
+        registry.get(SMAIndicator.class, series, "3");
+    }
+
+    @Test
+    public void barSeriesHasOneRegistry() {
+        assertSame(series.getIndicatorRegistry(), series.getIndicatorRegistry());
+        var close = IndicatorRegistry.intern(series, ClosePriceIndicator.class, List.of(series),
+                () -> new ClosePriceIndicator(series));
+        assertSame(close, series.getIndicatorRegistry().get(ClosePriceIndicator.class, series));
+    }
+
+    @Test
+    public void holderCreatesTheRegistryOnce() throws Exception {
+        var holder = new IndicatorRegistry.Holder();
+        var registry = holder.get(series);
+        assertSame(series, registry.getBarSeries());
+        assertSame(registry, holder.get(series));
+        registry.get(ClosePriceIndicator.class, series);
+
+        final byte[] array;
+        try (var bytes = new ByteArrayOutputStream(); var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(holder);
+            out.flush();
+            array = bytes.toByteArray();
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(array))) {
+            // the registry is not serialized
+            var deserialized = (IndicatorRegistry.Holder) in.readObject();
+            var deserializedRegistry = deserialized.get(series);
+            assertNotSame(registry, deserializedRegistry);
+            assertEquals(0, deserializedRegistry.size());
+        }
+    }
+
+    @Test
+    public void macdsShareTheirMovingAverages() {
+        var close = series.getIndicatorRegistry().get(ClosePriceIndicator.class, series);
+        var macd = new MACDIndicator(close, 12, 26);
+        var otherMacd = new MACDIndicator(close, 12, 50);
+
+        assertNotSame(macd, otherMacd);
+        assertSame(macd.getShortTermEma(), otherMacd.getShortTermEma());
+        assertNotSame(macd.getLongTermEma(), otherMacd.getLongTermEma());
+        assertSame(macd.getShortTermEma(), series.getIndicatorRegistry().get(EMAIndicator.class, close, 12));
+        assertSame(macd.getSignalLine(9), macd.getSignalLine(9));
+        assertEquals(new MACDIndicator(new ClosePriceIndicator(series), 12, 26).getValue(30), macd.getValue(30));
+    }
+
+    @Test
+    public void facadesShareTheirIndicators() {
+        var bollinger = new BollingerBandFacade(series, 5, 2);
+        var keltner = new KeltnerChannelFacade(series, 5, 5, 2);
+        var close = NumericIndicator.closePrice(series);
+
+        assertSame(close.delegate(), NumericIndicator.closePrice(series).delegate());
+        assertSame(close.sma(5).delegate(), bollinger.middle().delegate());
+        assertSame(close.ema(5).delegate(), keltner.middle().delegate());
+        assertEquals(new EMAIndicator(new ClosePriceIndicator(series), 5).getValue(10), keltner.middle().getValue(10));
+    }
+}
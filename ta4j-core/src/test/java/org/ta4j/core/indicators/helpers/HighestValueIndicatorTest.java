@@ -29,6 +29,8 @@ import static org.ta4j.core.num.NaN.NaN;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.ta4j.core.BarSeries;
@@ -127,4 +129,38 @@ public class HighestValueIndicatorTest extends AbstractIndicatorTest<Indicator<N
                 assertEquals(series.getBar(i).getClosePrice().toString(), highestValue.getValue(i).toString());
         }
     }
+
+    @Test
+    public void serialAndRandomAccessMatchScan() {
+        var random = new Random(42);
+        double[] closes = new double[500];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = random.nextInt(100);
+        }
+        var series = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(closes).build();
+        var closePrice = new ClosePriceIndicator(series);
+        var serial = new HighestValueIndicator(closePrice, 50);
+        var randomAccess = new HighestValueIndicator(closePrice, 50);
+        for (int i = 0; i < closes.length; i++) {
+            Num expected = closePrice.getValue(i);
+            for (int j = Math.max(0, i - 49); j < i; j++) {
+                if (closePrice.getValue(j).isGreaterThan(expected)) {
+                    expected = closePrice.getValue(j);
+                }
+            }
+            assertNumEquals(expected, serial.getValue(i));
+        }
+        for (int i = closes.length - 1; i >= 0; i--) {
+            assertNumEquals(serial.getValue(i), randomAccess.getValue(i));
+        }
+    }
+
+    @Test
+    public void lastBarUpdateIsReflected() {
+        var closePrice = new ClosePriceIndicator(data);
+        var highestValue = new HighestValueIndicator(closePrice, 3);
+        assertNumEquals(4, highestValue.getValue(data.getEndIndex()));
+        data.getLastBar().addPrice(numOf(10));
+        assertNumEquals(10, highestValue.getValue(data.getEndIndex()));
+    }
 }
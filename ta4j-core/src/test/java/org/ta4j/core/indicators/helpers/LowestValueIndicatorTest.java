@@ -27,6 +27,8 @@ import static junit.framework.TestCase.assertEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 import static org.ta4j.core.num.NaN.NaN;
 
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.ta4j.core.BarSeries;
@@ -110,4 +112,38 @@ public class LowestValueIndicatorTest extends AbstractIndicatorTest<Indicator<Nu
                         lowestValue.getValue(i).toString());
         }
     }
+
+    @Test
+    public void serialAndRandomAccessMatchScan() {
+        var random = new Random(42);
+        double[] closes = new double[500];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = random.nextInt(100);
+        }
+        var series = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(closes).build();
+        var closePrice = new ClosePriceIndicator(series);
+        var serial = new LowestValueIndicator(closePrice, 50);
+        var randomAccess = new LowestValueIndicator(closePrice, 50);
+        for (int i = 0; i < closes.length; i++) {
+            Num expected = closePrice.getValue(i);
+            for (int j = Math.max(0, i - 49); j < i; j++) {
+                if (closePrice.getValue(j).isLessThan(expected)) {
+                    expected = closePrice.getValue(j);
+                }
+            }
+            assertNumEquals(expected, serial.getValue(i));
+        }
+        for (int i = closes.length - 1; i >= 0; i--) {
+            assertNumEquals(serial.getValue(i), randomAccess.getValue(i));
+        }
+    }
+
+    @Test
+    public void lastBarUpdateIsReflected() {
+        var closePrice = new ClosePriceIndicator(data);
+        var lowestValue = new LowestValueIndicator(closePrice, 3);
+        assertNumEquals(1, lowestValue.getValue(data.getEndIndex()));
+        data.getLastBar().addPrice(numOf(0));
+        assertNumEquals(0, lowestValue.getValue(data.getEndIndex()));
+    }
 }
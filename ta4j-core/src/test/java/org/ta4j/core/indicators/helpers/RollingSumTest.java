@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class RollingSumTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public RollingSumTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @Test
+    public void serialAndRandomAccessMatchScan() {
+        var random = new Random(42);
+        double[] closes = new double[300];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = random.nextInt(1000) / 8.0;
+        }
+        var series = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(closes).build();
+        var closePrice = new ClosePriceIndicator(series);
+        var serial = RollingSum.ofSquares(closePrice, 20);
+        var randomAccess = RollingSum.ofSquares(closePrice, 20);
+        for (int i = 0; i < closes.length; i++) {
+            double expected = 0;
+            for (int j = Math.max(0, i - 19); j <= i; j++) {
+                expected += closes[j] * closes[j];
+            }
+            assertNumEquals(expected, serial.getValue(i));
+        }
+        for (int i = closes.length - 1; i >= 0; i -= 7) {
+            assertNumEquals(serial.getValue(i), randomAccess.getValue(i));
+        }
+    }
+
+    @Test
+    public void naNTermsOnlyAffectTheirWindow() {
+        BarSeries series = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(1, 2, 3, 4, 5).build();
+        var x = new FixedIndicator<>(series, numOf(1), NaN.NaN, numOf(3), numOf(4), numOf(5));
+        var sum = RollingSum.of(x, 2);
+
+        assertNumEquals(1, sum.getValue(0));
+        assertTrue(sum.getValue(1).isNaN());
+        assertTrue(sum.getValue(2).isNaN());
+        assertNumEquals(7, sum.getValue(3));
+        assertNumEquals(9, sum.getValue(4));
+    }
+
+    @Test
+    public void lastBarUpdateIsReflected() {
+        BarSeries series = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(1, 2, 3, 4, 5).build();
+        var sum = RollingSum.ofProducts(new ClosePriceIndicator(series), new ConstantIndicator<>(series, numOf(2)), 3);
+
+        assertNumEquals(24, sum.getValue(4));
+        series.getLastBar().addPrice(numOf(10));
+        assertNumEquals(34, sum.getValue(4));
+    }
+
+    @Test
+    public void serialAccessReadsEachTermAConstantNumberOfTimes() {
+        var series = new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(IntStream.range(0, 5000).asDoubleStream().toArray())
+                .build();
+        var closePrice = new ClosePriceIndicator(series);
+        for (int barCount : new int[] { 10, 100, 1000 }) {
+            var reads = new AtomicInteger();
+            var sum = new RollingSum(series, barCount, i -> {
+                reads.incrementAndGet();
+                return closePrice.getValue(i);
+            });
+            for (int i = 0; i <= series.getEndIndex(); i++) {
+                sum.getValue(i);
+            }
+            // one add, one remove and the current term, plus the amortized rebuild
+            assertTrue("reads per bar at barCount " + barCount, reads.get() <= 5 * series.getBarCount());
+        }
+    }
+}
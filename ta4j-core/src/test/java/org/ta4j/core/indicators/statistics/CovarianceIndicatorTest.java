@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
 import java.time.Instant;
@@ -33,8 +34,10 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicatorTest;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.FixedIndicator;
 import org.ta4j.core.indicators.helpers.VolumeIndicator;
 import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.num.NumFactory;
 
@@ -114,4 +117,19 @@ public class CovarianceIndicatorTest extends AbstractIndicatorTest<Indicator<Num
         assertNumEquals(0, covar.getValue(3));
         assertNumEquals(0, covar.getValue(8));
     }
+
+    @Test
+    public void naNValuesOnlyAffectTheirWindow() {
+        BarSeries series = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(1, 2, 3, 4, 5, 6).build();
+        var x = new FixedIndicator<>(series, numOf(1), numOf(2), NaN.NaN, numOf(4), numOf(5), numOf(6));
+        var y = new FixedIndicator<>(series, numOf(2), numOf(4), numOf(6), numOf(8), numOf(10), numOf(12));
+        var covariance = new CovarianceIndicator(x, y, 2);
+
+        assertNumEquals(0, covariance.getValue(0));
+        assertNumEquals(0.5, covariance.getValue(1));
+        assertTrue(covariance.getValue(2).isNaN());
+        assertTrue(covariance.getValue(3).isNaN());
+        assertNumEquals(0.5, covariance.getValue(4));
+        assertNumEquals(0.5, covariance.getValue(5));
+    }
 }
@@ -108,6 +108,22 @@ public class SimpleLinearRegressionIndicatorTest extends AbstractIndicatorTest<I
         assertNumEquals(origReg.predict(4), reg.getValue(4));
     }
 
+    @Test
+    public void slopeAndInterceptAreRelativeToTheSeries() {
+        var slope = new SimpleLinearRegressionIndicator(closePrice, 4,
+                SimpleLinearRegressionIndicator.SimpleLinearRegressionType.SLOPE);
+        var intercept = new SimpleLinearRegressionIndicator(closePrice, 4,
+                SimpleLinearRegressionIndicator.SimpleLinearRegressionType.INTERCEPT);
+
+        SimpleRegression origReg = new SimpleRegression();
+        double[] window = { 30, 20, 30, 50 };
+        for (int i = 0; i < window.length; i++) {
+            origReg.addData(6 + i, window[i]);
+        }
+        assertNumEquals(origReg.getSlope(), slope.getValue(9));
+        assertNumEquals(origReg.getIntercept(), intercept.getValue(9));
+    }
+
     /**
      * @param values values
      * @return a simple linear regression based on provided values
@@ -23,12 +23,18 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicator;
 import org.ta4j.core.indicators.AbstractIndicatorTest;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.mocks.MockBarSeriesBuilder;
@@ -88,4 +94,73 @@ public class VarianceIndicatorTest extends AbstractIndicatorTest<Indicator<Num>,
         assertNumEquals(2.25, variance.getValue(9));
         assertNumEquals(20.25, variance.getValue(10));
     }
+
+    @Test
+    public void rollingVarianceMatchesTwoPassVariance() {
+        var random = new Random(42);
+        double[] closes = new double[500];
+        for (int i = 0; i < closes.length; i++) {
+            // large offset to expose cancellation of the naive sum of squares
+            closes[i] = 1_000_000 + random.nextInt(100) / 4.0;
+        }
+        var series = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(closes).build();
+        var closePrice = new ClosePriceIndicator(series);
+        var serial = new VarianceIndicator(closePrice, 30);
+        var randomAccess = new VarianceIndicator(closePrice, 30);
+        for (int i = 0; i < closes.length; i++) {
+            int start = Math.max(0, i - 29);
+            double mean = 0;
+            for (int j = start; j <= i; j++) {
+                mean += closes[j];
+            }
+            mean /= i - start + 1;
+            double expected = 0;
+            for (int j = start; j <= i; j++) {
+                expected += (closes[j] - mean) * (closes[j] - mean);
+            }
+            expected /= i - start + 1;
+            assertNumEquals(expected, serial.getValue(i));
+        }
+        for (int i = closes.length - 1; i >= 0; i--) {
+            assertNumEquals(serial.getValue(i).doubleValue(), randomAccess.getValue(i));
+        }
+    }
+
+    @Test
+    public void lastBarUpdateIsReflected() {
+        var variance = new VarianceIndicator(new ClosePriceIndicator(data), 2);
+        assertNumEquals(20.25, variance.getValue(data.getEndIndex()));
+        data.getLastBar().addPrice(numOf(2));
+        assertNumEquals(1, variance.getValue(data.getEndIndex()));
+    }
+
+    @Test
+    public void serialAccessReadsEachValueAConstantNumberOfTimes() {
+        var series = new MockBarSeriesBuilder().withNumFactory(numFactory)
+                .withData(IntStream.range(0, 5000).map(i -> i % 97).asDoubleStream().toArray())
+                .build();
+        var closePrice = new ClosePriceIndicator(series);
+        var reads = new AtomicInteger();
+        var counting = new AbstractIndicator<Num>(series) {
+            @Override
+            public Num getValue(int index) {
+                reads.incrementAndGet();
+                return closePrice.getValue(index);
+            }
+
+            @Override
+            public int getCountOfUnstableBars() {
+                return 0;
+            }
+        };
+        for (int barCount : new int[] { 10, 100, 1000 }) {
+            reads.set(0);
+            var variance = new VarianceIndicator(counting, barCount);
+            for (int i = 0; i <= series.getEndIndex(); i++) {
+                variance.getValue(i);
+            }
+            // add and remove read both indicators, plus the amortized rebuild
+            assertTrue("reads per bar at barCount " + barCount, reads.get() <= 10 * series.getBarCount());
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.FixedPointNumFactory;
+import org.ta4j.core.num.NumFactory;
+
+public class BarFileWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static BarSeries series(int barCount, Instant start) {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(DecimalNumFactory.getInstance()).build();
+        for (int i = 0; i < barCount; i++) {
+            series.barBuilder()
+                    .timePeriod(Duration.ofMinutes(1))
+                    .endTime(start.plus(Duration.ofMinutes(i + 1)))
+                    .openPrice(100 + i)
+                    .highPrice(101.25 + i)
+                    .lowPrice(99.5 + i)
+                    .closePrice(100.125 + i)
+                    .volume(10 * i)
+                    .amount(1000 * i)
+                    .trades(i)
+                    .add();
+        }
+        return series;
+    }
+
+    @Test
+    public void appendsToAnExistingFile() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("bars.bin");
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        BarSeries series = series(3000, start);
+
+        try (var writer = BarFileWriter.create(path, Duration.ofMinutes(1), 4)) {
+            for (int i = 0; i < 2000; i++) {
+                writer.write(series.getBar(i));
+            }
+            assertEquals(2000, writer.getBarCount());
+        }
+        try (var writer = BarFileWriter.append(path)) {
+            assertEquals(2000, writer.getBarCount());
+            assertEquals(Duration.ofMinutes(1), writer.getBarPeriod());
+            assertThrows(IllegalArgumentException.class, () -> writer.write(series.getBar(1999)));
+            for (int i = 2000; i < 3000; i++) {
+                writer.write(series.getBar(i));
+            }
+        }
+
+        assertEquals(64 + 3000 * 64, Files.size(path));
+        MappedBarSeries mapped = MappedBarSeries.open(path);
+        assertEquals(3000, mapped.getBarCount());
+        assertEquals(FixedPointNumFactory.getInstance(4), mapped.numFactory());
+        assertEquals(series.getBar(2999).getEndTime(), mapped.getBar(2999).getEndTime());
+        assertEquals(series.getBar(2500).getClosePrice().doubleValue(), mapped.getClosePriceAsDouble(2500), 0d);
+    }
+
+    @Test
+    public void flushMakesTheBarsVisible() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("bars.bin");
+        BarSeries series = series(10, Instant.parse("2024-01-01T00:00:00Z"));
+
+        try (var writer = BarFileWriter.create(path, Duration.ofMinutes(1), series.numFactory(), 4)) {
+            writer.write(series);
+            assertEquals(0, MappedBarSeries.open(path).getBarCount());
+            writer.flush();
+            assertEquals(10, MappedBarSeries.open(path).getBarCount());
+        }
+    }
+
+    @Test
+    public void recordsTheNumType() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("bars.bin");
+        BarSeries series = series(10, Instant.parse("2024-01-01T00:00:00Z"));
+        NumFactory decimalFactory = DecimalNumFactory.getInstance(20);
+
+        // DecimalNum values need an explicit scale
+        assertThrows(IllegalArgumentException.class,
+                () -> BarFileWriter.create(path, Duration.ofMinutes(1), decimalFactory));
+        try (var writer = BarFileWriter.create(path, Duration.ofMinutes(1), decimalFactory, 3)) {
+            writer.write(series);
+        }
+        MappedBarSeries mapped = MappedBarSeries.open(path);
+        assertEquals(decimalFactory, mapped.numFactory());
+        assertEquals(series.getBar(7).getClosePrice(), mapped.getBar(7).getClosePrice());
+
+        try (var writer = BarFileWriter.create(path, Duration.ofMinutes(1), DoubleNumFactory.getInstance())) {
+            writer.write(series.getBar(0));
+        }
+        assertEquals(DoubleNumFactory.getInstance(), MappedBarSeries.open(path).numFactory());
+
+        try (var writer = BarFileWriter.create(path, Duration.ofMinutes(1), FixedPointNumFactory.getInstance(6))) {
+            writer.write(series.getBar(0));
+        }
+        assertEquals(FixedPointNumFactory.getInstance(6), MappedBarSeries.open(path).numFactory());
+    }
+
+    @Test
+    public void rejectsInvalidBars() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("bars.bin");
+        BarSeries series = series(2, Instant.parse("2024-01-01T00:00:00Z"));
+
+        try (var writer = BarFileWriter.create(path, Duration.ofHours(1), 2)) {
+            assertThrows(IllegalArgumentException.class, () -> writer.write(series.getBar(0)));
+        }
+        try (var writer = BarFileWriter.create(path, Duration.ofMinutes(1), 18)) {
+            // 100 * 10^18 does not fit a long
+            assertThrows(IllegalArgumentException.class, () -> writer.write(series.getBar(0)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> BarFileWriter.create(path, Duration.ofMinutes(1), 19));
+    }
+
+    @Test
+    public void rejectsOtherFiles() throws IOException {
+        Path path = folder.newFile("other.bin").toPath();
+        Files.write(path, new byte[100]);
+
+        IOException exception = assertThrows(IOException.class, () -> BarFileWriter.append(path));
+        assertTrue(exception.getMessage().contains("magic"));
+        assertThrows(IOException.class, () -> MappedBarSeries.open(folder.newFile("empty.bin").toPath()));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Test;
+
+public class CsvTickReaderTest {
+
+    @Test
+    public void readsTicks() throws IOException {
+        var csv = "timestamp,price,amount\n1385395200,812.5,0.1\r\n\n1385395201.25,\"813\",2.5e-3\n";
+        try (var reader = new CsvTickReader(new StringReader(csv)).withTimeUnit(ChronoUnit.SECONDS).skipLines(1)) {
+            assertTrue(reader.next());
+            assertEquals(Instant.ofEpochSecond(1385395200), reader.getTime());
+            assertEquals(812.5, reader.getPrice(), 0);
+            assertEquals(0.1, reader.getVolume(), 0);
+            assertEquals(2, reader.getLineNumber());
+
+            assertTrue(reader.next());
+            assertEquals(Instant.ofEpochSecond(1385395201, 250_000_000), reader.getTime());
+            assertEquals(813, reader.getPrice(), 0);
+            assertEquals(0.0025, reader.getVolume(), 0);
+            assertEquals(4, reader.getLineNumber());
+
+            assertFalse(reader.next());
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    public void readsConfiguredColumns() throws IOException {
+        var csv = "BTC; 0.5 ;1700000000123;37000.01\nBTC;1;1700000000456;-1";
+        try (var reader = new CsvTickReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))
+                .withDelimiter(';')
+                .withColumns(2, 3, 1)) {
+            assertTrue(reader.next());
+            assertEquals(Instant.ofEpochMilli(1700000000123L), reader.getTime());
+            assertEquals(37000.01, reader.getPrice(), 0);
+            assertEquals(0.5, reader.getVolume(), 0);
+
+            assertTrue(reader.next());
+            assertEquals(1700000000456L * 1_000_000, reader.getEpochNanos());
+            assertEquals(-1, reader.getPrice(), 0);
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    public void readsLinesAcrossTheBuffer() throws IOException {
+        var csv = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            csv.append(i).append(',').append(i).append(".123456789,").append("1".repeat(i % 40 + 1)).append('\n');
+        }
+        var in = new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8));
+        try (var reader = new CsvTickReader(Channels.newChannel(in))) {
+            for (int i = 0; i < 10_000; i++) {
+                assertTrue(reader.next());
+                assertEquals(i * 1_000_000L, reader.getEpochNanos());
+                assertEquals(Double.parseDouble(i + ".123456789"), reader.getPrice(), 0);
+                assertEquals(Double.parseDouble("1".repeat(i % 40 + 1)), reader.getVolume(), 0);
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    public void rejectsMalformedLines() throws IOException {
+        try (var reader = new CsvTickReader(new StringReader("1,2,3\n2,abc,3\n"))) {
+            assertTrue(reader.next());
+            var exception = assertThrows(IOException.class, reader::next);
+            assertEquals("Malformed tick at line 2: invalid price 'abc'", exception.getMessage());
+        }
+        try (var reader = new CsvTickReader(new StringReader("1,2"))) {
+            assertThrows(IOException.class, reader::next);
+        }
+        try (var reader = new CsvTickReader(new StringReader("2024-01-01,2,3"))) {
+            assertThrows(IOException.class, reader::next);
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new CsvTickReader(new StringReader("")).withTimeUnit(ChronoUnit.MONTHS));
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.num.DecimalNumFactory;
+import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.FixedPointNum;
+import org.ta4j.core.num.FixedPointNumFactory;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class MappedBarSeriesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static BarSeries series(int barCount) {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(DoubleNumFactory.getInstance())
+                .withName("series")
+                .build();
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < barCount; i++) {
+            series.barBuilder()
+                    .timePeriod(Duration.ofMinutes(5))
+                    .endTime(start.plus(Duration.ofMinutes(5L * (i + 1))))
+                    .openPrice(10 + i)
+                    .highPrice(12 + i)
+                    .lowPrice(9 + i)
+                    .closePrice(11 + i)
+                    .volume(i)
+                    .trades(2 * i)
+                    .add();
+        }
+        return series;
+    }
+
+    private Path write(BarSeries series) throws IOException {
+        Path path = folder.getRoot().toPath().resolve("bars.bin");
+        try (var writer = BarFileWriter.create(path, Duration.ofMinutes(5), series.numFactory())) {
+            writer.write(series);
+        }
+        return path;
+    }
+
+    @Test
+    public void readsTheWrittenBars() throws IOException {
+        BarSeries series = series(100);
+        MappedBarSeries mapped = MappedBarSeries.open(write(series));
+
+        assertEquals("bars.bin", mapped.getName());
+        assertEquals(DoubleNumFactory.getInstance(), mapped.numFactory());
+        assertEquals(Duration.ofMinutes(5), mapped.getBarPeriod());
+        assertEquals(100, mapped.getBarCount());
+        assertEquals(0, mapped.getBeginIndex());
+        assertEquals(99, mapped.getEndIndex());
+        for (int i = 0; i < series.getBarCount(); i++) {
+            Bar expected = series.getBar(i);
+            Bar bar = mapped.getBar(i);
+            assertEquals(expected.getTimePeriod(), bar.getTimePeriod());
+            assertEquals(expected.getBeginTime(), bar.getBeginTime());
+            assertEquals(expected.getEndTime(), bar.getEndTime());
+            assertEquals(expected.getOpenPrice(), bar.getOpenPrice());
+            assertEquals(expected.getHighPrice(), bar.getHighPrice());
+            assertEquals(expected.getLowPrice(), bar.getLowPrice());
+            assertEquals(expected.getClosePrice(), bar.getClosePrice());
+            assertEquals(expected.getVolume(), bar.getVolume());
+            assertEquals(expected.getTrades(), bar.getTrades());
+            assertEquals(expected.getClosePrice().doubleValue(), mapped.getClosePriceAsDouble(i), 0d);
+        }
+        assertEquals(100, mapped.getBarData().size());
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.getBar(100));
+    }
+
+    @Test
+    public void missingValuesAreNaN() throws IOException {
+        BarSeries series = series(3);
+        MappedBarSeries mapped = MappedBarSeries.open(write(series));
+        // the amount of the bars was not set
+        assertEquals(NaN.NaN, mapped.getBar(1).getAmount());
+    }
+
+    @Test
+    public void indicatorsOnTheMappedSeries() throws IOException {
+        BarSeries series = series(50);
+        MappedBarSeries mapped = MappedBarSeries.open(write(series), DecimalNumFactory.getInstance());
+
+        var expected = new SMAIndicator(new ClosePriceIndicator(series), 5);
+        var sma = new SMAIndicator(new ClosePriceIndicator(mapped), 5);
+        for (int i = 0; i < 50; i++) {
+            assertNumEquals(expected.getValue(i).doubleValue(), sma.getValue(i));
+        }
+    }
+
+    @Test
+    public void subSeriesIsACopy() throws IOException {
+        MappedBarSeries mapped = MappedBarSeries.open(write(series(20)));
+        BaseBarSeries subSeries = mapped.getSubSeries(5, 10);
+
+        assertEquals(5, subSeries.getBarCount());
+        assertEquals(mapped.getBar(5).getEndTime(), subSeries.getFirstBar().getEndTime());
+        subSeries.barBuilder().timePeriod(Duration.ofMinutes(5)).endTime(Instant.now()).closePrice(1).add();
+        assertEquals(6, subSeries.getBarCount());
+    }
+
+    @Test
+    public void fixedPointValuesAreReadUnscaled() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("bars.bin");
+        try (var writer = BarFileWriter.create(path, Duration.ofMinutes(5), FixedPointNumFactory.getInstance(4))) {
+            writer.write(series(10));
+        }
+
+        Num closePrice = MappedBarSeries.open(path).getBar(3).getClosePrice();
+        assertTrue(closePrice instanceof FixedPointNum);
+        assertEquals(140_000L, ((FixedPointNum) closePrice).getUnscaledValue());
+
+        // another scale is converted
+        NumFactory cents = FixedPointNumFactory.getInstance(2);
+        assertEquals(cents.numOf(14), MappedBarSeries.open(path, cents).getBar(3).getClosePrice());
+    }
+
+    @Test
+    public void cannotBeSerialized() throws IOException {
+        MappedBarSeries mapped = MappedBarSeries.open(write(series(3)));
+        var out = new ObjectOutputStream(new ByteArrayOutputStream());
+        var exception = assertThrows(NotSerializableException.class, () -> out.writeObject(mapped));
+        assertEquals("A mapped bar series cannot be serialized, open its file instead", exception.getMessage());
+    }
+
+    @Test
+    public void isReadOnly() throws IOException {
+        MappedBarSeries mapped = MappedBarSeries.open(write(series(10)));
+
+        assertThrows(UnsupportedOperationException.class, () -> mapped.addPrice(DoubleNumFactory.getInstance().one()));
+        assertThrows(UnsupportedOperationException.class, () -> mapped.setMaximumBarCount(5));
+        assertThrows(UnsupportedOperationException.class, mapped::barBuilder);
+    }
+
+    @Test
+    public void floorAndCeilingIndex() throws IOException {
+        BarSeries series = series(100);
+        MappedBarSeries mapped = MappedBarSeries.open(write(series));
+        Instant between = series.getBar(41).getEndTime().plusSeconds(10);
+
+        assertEquals(41, mapped.indexOf(series.getBar(41).getEndTime()));
+        assertEquals(-1, mapped.indexOf(between));
+        assertEquals(41, mapped.floorIndex(between));
+        assertEquals(42, mapped.ceilingIndex(between));
+        assertEquals(-1, mapped.floorIndex(series.getFirstBar().getBeginTime()));
+        assertEquals(-1, mapped.ceilingIndex(series.getLastBar().getEndTime().plusSeconds(1)));
+    }
+}
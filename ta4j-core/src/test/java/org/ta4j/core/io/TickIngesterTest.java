@@ -0,0 +1,180 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.bars.TickBarBuilderFactory;
+import org.ta4j.core.bars.VolumeBarBuilderFactory;
+import org.ta4j.core.num.DecimalNumFactory;
+
+public class TickIngesterTest {
+
+    private static final String TICKS = "time,price,volume\n" //
+            + "60000,10,1\n" //
+            + "61000,12,2\n" //
+            + "119999,9,1\n" //
+            + "120000,11,3\n" //
+            + "300000,13,1\n";
+
+    private static CsvTickReader ticks() {
+        return new CsvTickReader(new StringReader(TICKS)).skipLines(1);
+    }
+
+    @Test
+    public void aggregatesTimeBars() throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(DecimalNumFactory.getInstance()).build();
+        assertEquals(5, new TickIngester(series, Duration.ofMinutes(1)).ingest(ticks()));
+
+        assertEquals(3, series.getBarCount());
+        var bar = series.getBar(0);
+        assertEquals(Instant.ofEpochSecond(60), bar.getBeginTime());
+        assertEquals(Instant.ofEpochSecond(120), bar.getEndTime());
+        assertNumEquals(10, bar.getOpenPrice());
+        assertNumEquals(12, bar.getHighPrice());
+        assertNumEquals(9, bar.getLowPrice());
+        assertNumEquals(9, bar.getClosePrice());
+        assertNumEquals(4, bar.getVolume());
+        assertNumEquals(43, bar.getAmount());
+        assertEquals(3, bar.getTrades());
+
+        assertEquals(Instant.ofEpochSecond(180), series.getBar(1).getEndTime());
+        assertNumEquals(11, series.getBar(1).getClosePrice());
+        // the minutes without ticks have no bar
+        assertEquals(Instant.ofEpochSecond(360), series.getBar(2).getEndTime());
+        assertEquals(1, series.getBar(2).getTrades());
+    }
+
+    @Test
+    public void aggregatesTicksInReverseChronologicalOrder() throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().withNumFactory(DecimalNumFactory.getInstance()).build();
+        BarSeries reversed = new BaseBarSeriesBuilder().withNumFactory(DecimalNumFactory.getInstance()).build();
+        new TickIngester(series, Duration.ofMinutes(1)).ingest(ticks());
+        var lines = TICKS.lines().skip(1).collect(Collectors.toList());
+        Collections.reverse(lines);
+        var reader = new CsvTickReader(new StringReader(String.join("\n", lines)));
+        assertEquals(5,
+                new TickIngester(reversed, Duration.ofMinutes(1)).withReverseChronologicalOrder().ingest(reader));
+
+        assertEquals(series.getBarCount(), reversed.getBarCount());
+        for (int i = 0; i < series.getBarCount(); i++) {
+            var expected = series.getBar(i);
+            var bar = reversed.getBar(i);
+            assertEquals(expected.getEndTime(), bar.getEndTime());
+            assertNumEquals(expected.getOpenPrice(), bar.getOpenPrice());
+            assertNumEquals(expected.getHighPrice(), bar.getHighPrice());
+            assertNumEquals(expected.getLowPrice(), bar.getLowPrice());
+            assertNumEquals(expected.getClosePrice(), bar.getClosePrice());
+            assertNumEquals(expected.getVolume(), bar.getVolume());
+            assertNumEquals(expected.getAmount(), bar.getAmount());
+            assertEquals(expected.getTrades(), bar.getTrades());
+        }
+
+        var ingester = new TickIngester(reversed, Duration.ofMinutes(1)).withReverseChronologicalOrder();
+        var one = reversed.numFactory().one();
+        ingester.accept(Instant.ofEpochSecond(130), one, one);
+        ingester.accept(Instant.ofEpochSecond(179), one, one);
+        assertThrows(IllegalArgumentException.class, () -> ingester.accept(Instant.ofEpochSecond(180), one, one));
+        assertThrows(IllegalStateException.class, ingester::withReverseChronologicalOrder);
+        assertThrows(IllegalStateException.class,
+                () -> new TickIngester(
+                        new BaseBarSeriesBuilder().withBarBuilderFactory(new TickBarBuilderFactory(5)).build())
+                        .withReverseChronologicalOrder());
+    }
+
+    @Test
+    public void boundedSeries() throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().withMaxBarCount(2).build();
+        var csv = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i * 1000).append(',').append(i).append(",1\n");
+        }
+        new TickIngester(series, Duration.ofSeconds(10)).ingest(new CsvTickReader(new StringReader(csv.toString())));
+
+        assertEquals(2, series.getBarCount());
+        assertEquals(99, series.getEndIndex());
+        assertNumEquals(990, series.getLastBar().getOpenPrice());
+        assertNumEquals(999, series.getLastBar().getClosePrice());
+    }
+
+    @Test
+    public void feedsTickBars() throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().withBarBuilderFactory(new TickBarBuilderFactory(2)).build();
+        new TickIngester(series).ingest(ticks());
+
+        // the fifth tick is in the bar in progress of the bar builder
+        assertEquals(2, series.getBarCount());
+        var bar = series.getBar(0);
+        assertEquals(Instant.ofEpochSecond(61), bar.getEndTime());
+        assertEquals(Duration.ofSeconds(1), bar.getTimePeriod());
+        assertNumEquals(10, bar.getOpenPrice());
+        assertNumEquals(12, bar.getClosePrice());
+        assertNumEquals(3, bar.getVolume());
+        assertEquals(Instant.ofEpochSecond(120), series.getBar(1).getEndTime());
+        assertNumEquals(9, series.getBar(1).getLowPrice());
+    }
+
+    @Test
+    public void feedsVolumeBars() throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().withBarBuilderFactory(new VolumeBarBuilderFactory(3)).build();
+        new TickIngester(series).ingest(ticks());
+
+        assertEquals(2, series.getBarCount());
+        assertNumEquals(12, series.getBar(0).getHighPrice());
+        assertNumEquals(3, series.getBar(0).getVolume());
+        assertEquals(Instant.ofEpochSecond(120), series.getBar(1).getEndTime());
+    }
+
+    @Test
+    public void rejectsUnorderedTicks() {
+        BarSeries series = new BaseBarSeriesBuilder().build();
+        var ingester = new TickIngester(series, Duration.ofMinutes(1));
+        var one = series.numFactory().one();
+        ingester.accept(Instant.ofEpochSecond(130), one, one);
+        ingester.accept(Instant.ofEpochSecond(120), one, one);
+        assertThrows(IllegalArgumentException.class, () -> ingester.accept(Instant.ofEpochSecond(119), one, one));
+
+        var reader = new CsvTickReader(new StringReader("2000,1,1\n1000,1,1\n"));
+        var exception = assertThrows(IOException.class,
+                () -> new TickIngester(
+                        new BaseBarSeriesBuilder().withBarBuilderFactory(new TickBarBuilderFactory(5)).build())
+                        .ingest(reader));
+        assertEquals("Invalid tick at line 2: The tick is before the previous tick", exception.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> new TickIngester(series));
+        assertThrows(IllegalArgumentException.class, () -> new TickIngester(series, Duration.ZERO));
+    }
+}
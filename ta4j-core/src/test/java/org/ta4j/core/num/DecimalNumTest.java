@@ -25,11 +25,14 @@ package org.ta4j.core.num;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertIndicatorEquals;
 import static org.ta4j.core.TestUtils.assertIndicatorNotEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.time.Duration;
 import java.time.Instant;
 
@@ -112,6 +115,55 @@ public class DecimalNumTest {
         assertEquals(120, ((DecimalNum) result).getMathContext().getPrecision());
     }
 
+    @Test
+    public void testPowFractionalExponent() {
+        final Num x = DecimalNum.valueOf(2, new MathContext(40));
+        assertNumEquals("1.414213562373095048801688724209698078570", x.pow(DecimalNum.valueOf("0.5")));
+        assertNumEquals("0.7071067811865475244008443621048490392848", x.pow(DecimalNum.valueOf("-0.5")));
+        assertNumEquals("0", DecimalNum.valueOf(0).pow(DecimalNum.valueOf("0.5")));
+        assertTrue(DecimalNum.valueOf(-2).pow(DecimalNum.valueOf("0.5")).isNaN());
+    }
+
+    @Test
+    public void testLog() {
+        final MathContext mathContext = new MathContext(40);
+        assertNumEquals("0.6931471805599453094172321214581765680755", DecimalNum.valueOf(2, mathContext).log());
+        assertNumEquals("2.302585092994045684017991454684364207601", DecimalNum.valueOf(10, mathContext).log());
+        assertNumEquals("-2.302585092994045684017991454684364207601", DecimalNum.valueOf("0.1", mathContext).log());
+        // close to 1, log(1 + x) = x - x^2/2 + x^3/3 - ...
+        assertNumEquals("9.999999999500000000033333333330833333334E-11",
+                DecimalNum.valueOf("1.0000000001", mathContext).log());
+        assertNumEquals("0", DecimalNum.valueOf(1).log());
+        assertTrue(DecimalNum.valueOf(0).log().isNaN());
+        assertTrue(DecimalNum.valueOf(-1).log().isNaN());
+    }
+
+    @Test
+    public void testLogOutOfDoubleRange() {
+        final MathContext mathContext = new MathContext(32);
+        // log(10^1000) = 1000 * log(10)
+        assertNumEquals("2302.5850929940456840179914546844",
+                DecimalNum.valueOf(BigDecimal.ONE.movePointRight(1000), mathContext).log());
+        assertNumEquals("-2302.5850929940456840179914546844",
+                DecimalNum.valueOf(BigDecimal.ONE.movePointLeft(1000), mathContext).log());
+    }
+
+    @Test
+    public void testLogScalesWithPrecision() {
+        // log(3) to 120 digits
+        final String log3 = "1.09861228866810969139524523692252570464749055782274945173469433363749429321860896687361575481373208878797002906595786574";
+        assertNumEquals(log3, DecimalNum.valueOf(3, new MathContext(120)).log());
+        assertNumEquals("1.0986122886681096913952452369225", DecimalNum.valueOf(3, new MathContext(32)).log());
+    }
+
+    @Test
+    public void factoriesAreSharedPerPrecision() {
+        assertSame(DecimalNumFactory.getInstance(), DecimalNumFactory.getInstance(32));
+        assertSame(DecimalNumFactory.getInstance(), DecimalNum.valueOf(1).getNumFactory());
+        // cached integers keep the precision of the factory
+        assertEquals(DecimalNum.valueOf("1.02E+3"), DecimalNumFactory.getInstance(3).numOf(1024));
+    }
+
     @Test
     public void decimalNumTest() {
         init();
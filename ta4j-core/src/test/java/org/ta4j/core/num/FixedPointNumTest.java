@@ -0,0 +1,245 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+
+import org.junit.Test;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+
+public class FixedPointNumTest {
+
+    private final NumFactory numFactory = FixedPointNumFactory.getInstance();
+
+    private Num numOf(String value) {
+        return numFactory.numOf(value);
+    }
+
+    @Test
+    public void additionIsExact() {
+        Num sum = numOf("0.1").plus(numOf("0.2"));
+        assertEquals(numOf("0.3"), sum);
+        assertEquals("0.30000000", sum.toString());
+        assertEquals(30_000_000L, ((FixedPointNum) sum).getUnscaledValue());
+        assertEquals(numOf("-0.1"), numOf("0.1").minus(numOf("0.2")));
+    }
+
+    @Test
+    public void multiplicationIsRoundedHalfUp() {
+        assertEquals(numOf("2.46913578"), numOf("1.23456789").multipliedBy(numFactory.two()));
+        assertEquals(numOf("0.00000001"), numOf("0.00000001").multipliedBy(numOf("0.5")));
+        assertEquals(numOf("-0.00000001"), numOf("-0.00000001").multipliedBy(numOf("0.5")));
+        assertEquals(numOf("0"), numOf("0.00000001").multipliedBy(numOf("0.49")));
+    }
+
+    @Test
+    public void divisionIsRoundedHalfUp() {
+        assertEquals(numOf("0.33333333"), numFactory.one().dividedBy(numFactory.three()));
+        assertEquals(numOf("0.66666667"), numFactory.two().dividedBy(numFactory.three()));
+        assertEquals(numOf("-0.66666667"), numFactory.two().dividedBy(numOf("-3")));
+        assertEquals(numOf("20000.04115226"), numOf("60000.12345678").dividedBy(numFactory.three()));
+        assertEquals(numOf("0.00001667"), numFactory.one().dividedBy(numOf("60000")));
+        // the fractional part overflows when scaled and is divided as BigDecimal
+        assertEquals(numOf("1.66666667"), numOf("50000000000").dividedBy(numOf("30000000000")));
+        assertTrue(numFactory.one().dividedBy(numFactory.zero()).isNaN());
+    }
+
+    @Test
+    public void overflowFallsBackToDecimalNum() {
+        Num large = numOf("90000000000");
+        assertTrue(large instanceof FixedPointNum);
+
+        Num sum = large.plus(large);
+        assertTrue(sum instanceof DecimalNum);
+        assertEquals(0, new BigDecimal("180000000000").compareTo(sum.bigDecimalValue()));
+
+        Num product = large.multipliedBy(large);
+        assertTrue(product instanceof DecimalNum);
+        assertEquals(0, new BigDecimal("8.1E21").compareTo(product.bigDecimalValue()));
+
+        // the results can be mixed with the fixed-point values
+        assertTrue(sum.minus(large) instanceof DecimalNum);
+        assertTrue(sum.minus(large).isEqual(large));
+        assertTrue(large.minus(sum) instanceof FixedPointNum);
+        assertTrue(large.isLessThan(sum));
+        assertTrue(numFactory.produces(sum));
+    }
+
+    @Test
+    public void overflowingPricesCanBeAddedToASeries() {
+        var series = new BaseBarSeriesBuilder().withNumFactory(numFactory).build();
+        Num large = numOf("90000000000").multipliedBy(numOf("1000000000"));
+        assertTrue(large instanceof DecimalNum);
+        series.barBuilder()
+                .timePeriod(Duration.ofDays(1))
+                .endTime(Instant.EPOCH)
+                .openPrice(large)
+                .highPrice(large)
+                .lowPrice(large)
+                .closePrice(large)
+                .volume(numFactory.one())
+                .add();
+        assertEquals(0, large.bigDecimalValue().compareTo(series.getBar(0).getClosePrice().bigDecimalValue()));
+    }
+
+    @Test
+    public void valuesOutOfRangeAreDecimalNums() {
+        assertTrue(numFactory.numOf(Long.MAX_VALUE) instanceof DecimalNum);
+        assertTrue(FixedPointNumFactory.getInstance(0).numOf(Long.MAX_VALUE) instanceof FixedPointNum);
+    }
+
+    @Test
+    public void roundingToScale() {
+        NumFactory cents = FixedPointNumFactory.getInstance(2);
+        assertEquals(cents.numOf("1.24"), cents.numOf(1.235));
+        assertEquals(cents.numOf("-1.24"), cents.numOf("-1.235"));
+        assertEquals(cents.numOf("0.33"), cents.one().dividedBy(cents.three()));
+        assertEquals("1.00", cents.one().toString());
+    }
+
+    @Test
+    public void transcendentalFunctionsAreRoundedToScale() {
+        assertEquals(numOf("1.41421356"), numFactory.two().sqrt());
+        assertEquals(numOf("0.69314718"), numFactory.two().log());
+        assertEquals(numOf("1.18920712"), numFactory.two().pow(numOf("0.25")));
+        assertEquals(numOf("1024"), numFactory.two().pow(10));
+        assertEquals(numOf("0.25"), numFactory.two().pow(-2));
+        assertTrue(numFactory.minusOne().sqrt().isNaN());
+        assertTrue(numFactory.zero().log().isNaN());
+    }
+
+    @Test
+    public void floorCeilAndRemainder() {
+        assertEquals(numOf("-2"), numOf("-1.5").floor());
+        assertEquals(numOf("-1"), numOf("-1.5").ceil());
+        assertEquals(numOf("1"), numOf("1.5").floor());
+        assertEquals(numOf("2"), numOf("1.5").ceil());
+        assertEquals(numOf("1.5"), numOf("7.5").remainder(numFactory.two()));
+        assertEquals(numOf("-1.5"), numOf("-7.5").remainder(numFactory.two()));
+    }
+
+    @Test
+    public void comparisons() {
+        Num a = numOf("1.00000001");
+        Num b = numOf("1");
+        assertTrue(a.isGreaterThan(b));
+        assertFalse(a.isEqual(b));
+        assertSame(b, a.min(b));
+        assertSame(a, a.max(b));
+        assertEquals(numOf("1.00000001"), a.abs());
+        assertEquals(numOf("-1.00000001"), a.negate());
+        assertEquals(numOf("1.00000001"), a.negate().abs());
+        assertFalse(a.isGreaterThan(NaN.NaN));
+        assertTrue(a.plus(NaN.NaN).isNaN());
+        assertEquals(1.00000001, a.doubleValue(), 0);
+        assertEquals(1, a.intValue());
+    }
+
+    @Test
+    public void factory() {
+        assertSame(FixedPointNumFactory.getInstance(), FixedPointNumFactory.getInstance(8));
+        assertSame(numFactory, numOf("1.5").getNumFactory());
+        assertTrue(numFactory.produces(numOf("1.5")));
+        assertNumEquals(100, numFactory.hundred());
+        assertNumEquals(1000, numFactory.thousand());
+        assertNumEquals(-1, numFactory.minusOne());
+        assertEquals(numOf("12.5"), numFactory.numOf(new BigDecimal("12.5")));
+        assertEquals(numOf("12"), numFactory.numOf((short) 12));
+        assertEquals(numOf("1.5"), ((FixedPointNumFactory) numFactory).numOfUnscaled(150_000_000L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void scaleOutOfRange() {
+        FixedPointNumFactory.getInstance(19);
+    }
+
+    @Test
+    public void naNAndInfiniteDoublesAreNaN() {
+        assertSame(NaN.NaN, numFactory.numOf(Double.NaN));
+        assertSame(NaN.NaN, numFactory.numOf(Double.POSITIVE_INFINITY));
+        assertSame(NaN.NaN, numFactory.numOf(Float.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    public void indicatorOnFixedPointSeries() {
+        var series = new MockBarSeriesBuilder().withNumFactory(numFactory).withData(1.1, 2.2, 3.3, 4.4).build();
+        var sma = new SMAIndicator(new ClosePriceIndicator(series), 3);
+        assertEquals(numOf("3.3"), sma.getValue(3));
+        assertEquals(numOf("0.55"), sma.getValue(0).dividedBy(numFactory.two()));
+        assertTrue(sma.getValue(3) instanceof FixedPointNum);
+    }
+
+    @Test
+    public void realisticMagnitudesStayOnTheLongPath() {
+        final long powerOfTen = 100_000_000L;
+        // price * volume and price * price at the default scale of 8
+        long price = ((FixedPointNum) numOf("64123.45678901")).getUnscaledValue();
+        long volume = ((FixedPointNum) numOf("1523.75")).getUnscaledValue();
+        assertNotEquals(FixedPointNum.OVERFLOW, FixedPointNum.multiplyDivideHalfUp(price, volume, powerOfTen));
+        assertNotEquals(FixedPointNum.OVERFLOW, FixedPointNum.multiplyDivideHalfUp(price, price, powerOfTen));
+        // division by values above 922
+        assertNotEquals(FixedPointNum.OVERFLOW, FixedPointNum.multiplyDivideHalfUp(price, powerOfTen, volume));
+
+        assertEquals(numOf("97708117.28225399"), numOf("64123.45678901").multipliedBy(numOf("1523.75")));
+        assertEquals(numOf("42.08266237"), numOf("64123.45678901").dividedBy(numOf("1523.75")));
+        // the result does not fit into a long
+        assertEquals(FixedPointNum.OVERFLOW, FixedPointNum.multiplyDivideHalfUp(Long.MAX_VALUE, 10, 3));
+    }
+
+    @Test
+    public void multiplyDivideHalfUpMatchesBigInteger() {
+        var random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            long x = random.nextLong() >> random.nextInt(64);
+            long y = random.nextLong() >> random.nextInt(64);
+            long divisor = random.nextLong() >> random.nextInt(64);
+            if (divisor == 0 || divisor == Long.MIN_VALUE) {
+                continue;
+            }
+            BigDecimal expected = new BigDecimal(BigInteger.valueOf(x).multiply(BigInteger.valueOf(y)))
+                    .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP);
+            long actual = FixedPointNum.multiplyDivideHalfUp(x, y, divisor);
+            if (expected.toBigIntegerExact().bitLength() < Long.SIZE && expected.longValue() != Long.MIN_VALUE) {
+                assertEquals(x + " * " + y + " / " + divisor, expected.longValueExact(), actual);
+            } else {
+                assertEquals(FixedPointNum.OVERFLOW, actual);
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
@@ -317,6 +318,15 @@ public class NumTest extends AbstractIndicatorTest<Object, Num> {
         assertNumEquals("547722.55750516611345696978280080", sqrt);
     }
 
+    @Test
+    public void smallIntegersAreCached() {
+        assertSame(this.numFactory.numOf(14), this.numFactory.numOf(14));
+        assertSame(this.numFactory.numOf(-3), this.numFactory.numOf(Integer.valueOf(-3)));
+        assertEquals(this.numFactory.numOf("14"), this.numFactory.numOf(14));
+        assertEquals(this.numFactory.numOf("100000"), this.numFactory.numOf(100000));
+        assertNotSame(this.numFactory.numOf(100000), this.numFactory.numOf(100000));
+    }
+
     @Test
     public void testSerialization() throws Exception {
         final Num numVal = this.numFactory.numOf(1.3);
@@ -174,4 +174,30 @@ public class TrailingStopLossRuleTest extends AbstractIndicatorTest<Object, Obje
         assertFalse(rule.isSatisfied(7, tradingRecord));
         assertTrue(rule.isSatisfied(8, tradingRecord));
     }
+
+    @Test
+    public void highestPriceResetsWithNewPosition() {
+        BaseTradingRecord tradingRecord = new BaseTradingRecord(TradeType.BUY);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(
+                new MockBarSeriesBuilder().withNumFactory(numFactory).withData(100, 200, 150, 140, 130).build());
+
+        // 10% trailing-stop-loss
+        TrailingStopLossRule rule = new TrailingStopLossRule(closePrice, numOf(10));
+
+        tradingRecord.enter(0, numOf(100), numOf(1));
+        assertFalse(rule.isSatisfied(1, tradingRecord));
+        assertTrue(rule.isSatisfied(2, tradingRecord));
+        tradingRecord.exit(2);
+
+        // the 200 peak of the previous position must not be used anymore
+        tradingRecord.enter(2, numOf(150), numOf(1));
+        assertFalse(rule.isSatisfied(3, tradingRecord));
+        assertTrue(rule.isSatisfied(4, tradingRecord));
+
+        // another record evaluated with the same rule
+        BaseTradingRecord otherRecord = new BaseTradingRecord(TradeType.BUY);
+        otherRecord.enter(0, numOf(100), numOf(1));
+        assertTrue(rule.isSatisfied(3, otherRecord));
+        assertFalse(rule.isSatisfied(1, otherRecord));
+    }
 }
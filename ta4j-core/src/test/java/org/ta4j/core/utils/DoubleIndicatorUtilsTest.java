@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2024 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.averages.EMAIndicator;
+import org.ta4j.core.indicators.averages.LWMAIndicator;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.averages.WMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.GainIndicator;
+import org.ta4j.core.indicators.helpers.LossIndicator;
+import org.ta4j.core.indicators.helpers.RunningTotalIndicator;
+import org.ta4j.core.indicators.helpers.TRIndicator;
+import org.ta4j.core.mocks.MockBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
+
+public class DoubleIndicatorUtilsTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private static final double DELTA = 1e-6;
+
+    private BarSeries series;
+    private double[] close;
+
+    public DoubleIndicatorUtilsTest(NumFactory numFactory) {
+        super(numFactory);
+    }
+
+    @Before
+    public void setUp() {
+        var random = new Random(7);
+        series = new MockBarSeriesBuilder().withNumFactory(numFactory).build();
+        double price = 100;
+        for (int i = 0; i < 300; i++) {
+            double open = price;
+            price += random.nextInt(41) / 10.0 - 2;
+            series.barBuilder()
+                    .openPrice(open)
+                    .closePrice(price)
+                    .highPrice(Math.max(open, price) + random.nextInt(10) / 10.0)
+                    .lowPrice(Math.min(open, price) - random.nextInt(10) / 10.0)
+                    .volume(1 + random.nextInt(100))
+                    .add();
+        }
+        close = DoubleIndicatorUtils.closePrices(series);
+    }
+
+    @Test
+    public void columns() {
+        assertEquals(series.getBarCount(), close.length);
+        assertEquals(series.getBar(42).getClosePrice().doubleValue(), close[42], 0);
+        assertEquals(series.getBar(42).getHighPrice().doubleValue(), DoubleIndicatorUtils.highPrices(series)[42], 0);
+        assertEquals(series.getBar(42).getLowPrice().doubleValue(), DoubleIndicatorUtils.lowPrices(series)[42], 0);
+        assertEquals(series.getBar(42).getVolume().doubleValue(), DoubleIndicatorUtils.volumes(series)[42], 0);
+    }
+
+    @Test
+    public void averages() {
+        var closePrice = new ClosePriceIndicator(series);
+        for (int barCount : new int[] { 1, 5, 30 }) {
+            assertValues(new RunningTotalIndicator(closePrice, barCount), DoubleIndicatorUtils.sum(close, barCount));
+            assertValues(new SMAIndicator(closePrice, barCount), DoubleIndicatorUtils.sma(close, barCount));
+            assertValues(new EMAIndicator(closePrice, barCount), DoubleIndicatorUtils.ema(close, barCount));
+            assertValues(new WMAIndicator(closePrice, barCount), DoubleIndicatorUtils.wma(close, barCount));
+            assertValues(new LWMAIndicator(closePrice, barCount), DoubleIndicatorUtils.lwma(close, barCount));
+        }
+    }
+
+    @Test
+    public void trueRangeGainsAndLosses() {
+        var closePrice = new ClosePriceIndicator(series);
+        assertValues(new TRIndicator(series), DoubleIndicatorUtils.trueRange(DoubleIndicatorUtils.highPrices(series),
+                DoubleIndicatorUtils.lowPrices(series), close));
+        assertValues(new GainIndicator(closePrice), DoubleIndicatorUtils.gains(close));
+        assertValues(new LossIndicator(closePrice), DoubleIndicatorUtils.losses(close));
+    }
+
+    @Test
+    public void emptyValues() {
+        assertArrayEquals(new double[0], DoubleIndicatorUtils.ema(new double[0], 3), 0);
+        assertArrayEquals(new double[0], DoubleIndicatorUtils.lwma(new double[0], 3), 0);
+        assertArrayEquals(new double[0], DoubleIndicatorUtils.trueRange(new double[0], new double[0], new double[0]),
+                0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void barCountMustBePositive() {
+        DoubleIndicatorUtils.sma(close, 0);
+    }
+
+    private void assertValues(Indicator<Num> expected, double[] actual) {
+        assertEquals(series.getBarCount(), actual.length);
+        for (int i = 0; i < actual.length; i++) {
+            assertEquals(expected + " at " + i, expected.getValue(i).doubleValue(), actual[i], DELTA);
+        }
+    }
+}
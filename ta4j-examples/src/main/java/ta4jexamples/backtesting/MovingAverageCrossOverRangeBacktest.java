@@ -28,23 +28,23 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.BaseStrategy;
-import org.ta4j.core.Indicator;
-import org.ta4j.core.Rule;
 import org.ta4j.core.Strategy;
 import org.ta4j.core.Trade;
 import org.ta4j.core.backtest.BacktestExecutor;
+import org.ta4j.core.backtest.ParameterGrid;
+import org.ta4j.core.backtest.ParameterSet;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.averages.SMAIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.num.DecimalNum;
-import org.ta4j.core.num.Num;
 import org.ta4j.core.reports.PerformanceReport;
 import org.ta4j.core.reports.PositionStatsReport;
 import org.ta4j.core.reports.TradingStatement;
@@ -71,16 +71,14 @@ public class MovingAverageCrossOverRangeBacktest {
         int barCountStop = 200;
         int barCountStep = 3;
 
-        final List<Strategy> strategies = new ArrayList<>();
-        for (int shortBarCount = barCountStart; shortBarCount <= barCountStop; shortBarCount += barCountStep) {
-            for (int longBarCount = shortBarCount
-                    + barCountStep; longBarCount <= barCountStop; longBarCount += barCountStep) {
-                String strategyName = String.format("Sma(%d) CrossOver Sma(%d)", shortBarCount, longBarCount);
-                strategies.add(
-                        new BaseStrategy(strategyName, createSmaCrossEntryRule(series, shortBarCount, longBarCount),
-                                createSmaCrossExitRule(series, shortBarCount, longBarCount)));
-            }
-        }
+        // strategies sharing a moving average share one SMAIndicator instance
+        IndicatorRegistry registry = new IndicatorRegistry(series);
+        ParameterGrid grid = new ParameterGrid().withRange("short", barCountStart, barCountStop, barCountStep)
+                .withRange("long", barCountStart, barCountStop, barCountStep)
+                .withConstraint(parameters -> parameters.getInt("short") < parameters.getInt("long"));
+        final List<Strategy> strategies = grid.stream()
+                .map(parameters -> createSmaCrossStrategy(registry, parameters))
+                .collect(Collectors.toList());
 
         Instant startInstant = Instant.now();
         BacktestExecutor backtestExecutor = new BacktestExecutor(series);
@@ -92,20 +90,16 @@ public class MovingAverageCrossOverRangeBacktest {
         LOG.info(printReport(tradingStatements));
     }
 
-    private static Rule createSmaCrossEntryRule(BarSeries series, int shortBarCount, int longBarCount) {
-        Indicator<Num> closePrice = new ClosePriceIndicator(series);
-        SMAIndicator smaShort = new SMAIndicator(closePrice, shortBarCount);
-        SMAIndicator smaLong = new SMAIndicator(closePrice, longBarCount);
-
-        return new CrossedUpIndicatorRule(smaShort, smaLong);
-    }
-
-    private static Rule createSmaCrossExitRule(BarSeries series, int shortBarCount, int longBarCount) {
-        Indicator<Num> closePrice = new ClosePriceIndicator(series);
-        SMAIndicator smaShort = new SMAIndicator(closePrice, shortBarCount);
-        SMAIndicator smaLong = new SMAIndicator(closePrice, longBarCount);
+    private static Strategy createSmaCrossStrategy(IndicatorRegistry registry, ParameterSet parameters) {
+        int shortBarCount = parameters.getInt("short");
+        int longBarCount = parameters.getInt("long");
+        ClosePriceIndicator closePrice = registry.get(ClosePriceIndicator.class, registry.getBarSeries());
+        SMAIndicator smaShort = registry.get(SMAIndicator.class, closePrice, shortBarCount);
+        SMAIndicator smaLong = registry.get(SMAIndicator.class, closePrice, longBarCount);
 
-        return new CrossedDownIndicatorRule(smaShort, smaLong);
+        String strategyName = String.format("Sma(%d) CrossOver Sma(%d)", shortBarCount, longBarCount);
+        return new BaseStrategy(strategyName, new CrossedUpIndicatorRule(smaShort, smaLong),
+                new CrossedDownIndicatorRule(smaShort, smaLong));
     }
 
     private static String printReport(List<TradingStatement> tradingStatements) {
@@ -35,6 +35,7 @@ import org.ta4j.core.Rule;
 import org.ta4j.core.Strategy;
 import org.ta4j.core.Trade;
 import org.ta4j.core.backtest.BacktestExecutor;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.averages.SMAIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.num.DecimalNum;
@@ -58,10 +59,12 @@ public class SimpleMovingAverageRangeBacktest {
         int stop = 50;
         int step = 5;
 
+        // the strategies share one ClosePriceIndicator
+        IndicatorRegistry registry = new IndicatorRegistry(series);
         final List<Strategy> strategies = new ArrayList<>();
         for (int i = start; i <= stop; i += step) {
-            Strategy strategy = new BaseStrategy("Sma(" + i + ")", createEntryRule(series, i),
-                    createExitRule(series, i));
+            Strategy strategy = new BaseStrategy("Sma(" + i + ")", createEntryRule(registry, i),
+                    createExitRule(registry, i));
             strategies.add(strategy);
         }
         BacktestExecutor backtestExecutor = new BacktestExecutor(series);
@@ -71,15 +74,15 @@ public class SimpleMovingAverageRangeBacktest {
         LOG.info(printReport(tradingStatements));
     }
 
-    private static Rule createEntryRule(BarSeries series, int barCount) {
-        Indicator<Num> closePrice = new ClosePriceIndicator(series);
-        SMAIndicator sma = new SMAIndicator(closePrice, barCount);
+    private static Rule createEntryRule(IndicatorRegistry registry, int barCount) {
+        Indicator<Num> closePrice = registry.get(ClosePriceIndicator.class, registry.getBarSeries());
+        SMAIndicator sma = registry.get(SMAIndicator.class, closePrice, barCount);
         return new UnderIndicatorRule(sma, closePrice);
     }
 
-    private static Rule createExitRule(BarSeries series, int barCount) {
-        Indicator<Num> closePrice = new ClosePriceIndicator(series);
-        SMAIndicator sma = new SMAIndicator(closePrice, barCount);
+    private static Rule createExitRule(IndicatorRegistry registry, int barCount) {
+        Indicator<Num> closePrice = registry.get(ClosePriceIndicator.class, registry.getBarSeries());
+        SMAIndicator sma = registry.get(SMAIndicator.class, closePrice, barCount);
         return new OverIndicatorRule(sma, closePrice);
     }
 
@@ -27,10 +27,13 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.ATRIndicator;
 import org.ta4j.core.indicators.PPOIndicator;
 import org.ta4j.core.indicators.ROCIndicator;
@@ -42,6 +45,7 @@ import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceRatioIndicator;
 import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.num.Num;
 
 import ta4jexamples.loaders.CsvTradesLoader;
 
@@ -95,35 +99,19 @@ public class IndicatorsToCsv {
          * Adding indicators values
          */
         final int nbBars = series.getBarCount();
+        final List<Indicator<Num>> indicators = List.of(closePrice, typicalPrice, closePriceRatioIndicator, shortSma,
+                longSma, shortEma, longEma, ppo, roc, rsi, williamsR, atr, sd);
+        // Each indicator is calculated in one forward pass over the series
+        final List<List<Num>> columns = new ArrayList<>(indicators.size());
+        for (Indicator<Num> indicator : indicators) {
+            columns.add(indicator.computeRange(0, nbBars - 1));
+        }
         for (int i = 0; i < nbBars; i++) {
-            sb.append(series.getBar(i).getEndTime())
-                    .append(',')
-                    .append(closePrice.getValue(i))
-                    .append(',')
-                    .append(typicalPrice.getValue(i))
-                    .append(',')
-                    .append(closePriceRatioIndicator.getValue(i))
-                    .append(',')
-                    .append(shortSma.getValue(i))
-                    .append(',')
-                    .append(longSma.getValue(i))
-                    .append(',')
-                    .append(shortEma.getValue(i))
-                    .append(',')
-                    .append(longEma.getValue(i))
-                    .append(',')
-                    .append(ppo.getValue(i))
-                    .append(',')
-                    .append(roc.getValue(i))
-                    .append(',')
-                    .append(rsi.getValue(i))
-                    .append(',')
-                    .append(williamsR.getValue(i))
-                    .append(',')
-                    .append(atr.getValue(i))
-                    .append(',')
-                    .append(sd.getValue(i))
-                    .append('\n');
+            sb.append(series.getBar(i).getEndTime());
+            for (List<Num> column : columns) {
+                sb.append(',').append(column.get(i));
+            }
+            sb.append('\n');
         }
 
         /*
@@ -23,104 +23,92 @@
  */
 package ta4jexamples.loaders;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Collections;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.io.CsvTickReader;
+import org.ta4j.core.io.TickIngester;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.num.NumFactory;
 
 /**
  * This class builds a Ta4j bar series from a CSV file containing trades.
+ *
+ * <p>
+ * The trades are streamed into 5-minute bars by a {@link TickIngester} as they
+ * are read, so that the size of the file does not matter. Trades in reverse
+ * chronological order (the Bitstamp file has the most recent trades at the top)
+ * are aggregated the same way, and the bars are added to the series once the
+ * whole file has been read.
  */
 public class CsvTradesLoader {
 
+    /** The maximum number of trades read to find the order of the trades. */
+    private static final int MAX_ORDER_TRADES = 10_000;
+
     /**
      * @return the bar series from Bitstamp (bitcoin exchange) trades
      */
     public static BarSeries loadBitstampSeries() {
-
-        // Reading all lines of the CSV file
         InputStream stream = CsvTradesLoader.class.getClassLoader()
                 .getResourceAsStream("bitstamp_trades_from_20131125_usd.csv");
-        List<String[]> lines = null;
         assert stream != null;
-        try (final var csvReader = new com.opencsv.CSVReader(new InputStreamReader(stream))) {
-            lines = csvReader.readAll();
-            lines.remove(0); // Removing header line
-        } catch (Exception ioe) {
-            Logger.getLogger(CsvTradesLoader.class.getName()).log(Level.SEVERE, "Unable to load trades from CSV", ioe);
-        }
 
         var series = new BaseBarSeriesBuilder().build();
-        if ((lines != null) && !lines.isEmpty()) {
-
-            // Getting the first and last trades timestamps
-            Instant beginTime = Instant.ofEpochMilli(Long.parseLong(lines.get(0)[0]) * 1000);
-            Instant endTime = Instant.ofEpochMilli(Long.parseLong(lines.get(lines.size() - 1)[0]) * 1000);
-            if (beginTime.isAfter(endTime)) {
-                beginTime = endTime;
-                // Since the CSV file has the most recent trades at the top of the file, we'll
-                // reverse the list to feed
-                // the List<Bar> correctly.
-                Collections.reverse(lines);
-            }
-            // build the list of populated bars
-            buildSeries(series, beginTime, endTime, 300, lines);
+        // timestamp (in seconds), price, amount
+        try (var trades = new CsvTickReader(stream).withTimeUnit(ChronoUnit.SECONDS).skipLines(1)) {
+            addTrades(series, trades, Duration.ofMinutes(5));
+        } catch (IOException ioe) {
+            Logger.getLogger(CsvTradesLoader.class.getName()).log(Level.SEVERE, "Unable to load trades from CSV", ioe);
         }
-
         return series;
     }
 
     /**
-     * Builds a list of populated bars from csv data.
+     * Adds trades to a series as bars of a time period. The order of the trades
+     * (chronological or reverse chronological) is given by their first two distinct
+     * times. If the first {@value #MAX_ORDER_TRADES} trades have the same time, the
+     * trades are taken as chronological.
      *
-     * @param beginTime the begin time of the whole period
-     * @param endTime   the end time of the whole period
-     * @param duration  the bar duration (in seconds)
-     * @param lines     the csv data returned by CSVReader.readAll()
+     * @param series the bar series
+     * @param trades the trades
+     * @param period the time period of the bars
+     * @throws IOException if the trades cannot be read or are not ordered
      */
-    private static void buildSeries(BarSeries series, Instant beginTime, Instant endTime, int duration,
-            List<String[]> lines) {
-
-        Duration barDuration = Duration.ofSeconds(duration);
-        Instant barEndTime = beginTime;
-        ListIterator<String[]> iterator = lines.listIterator();
-        // line number of trade data
-        do {
-            // build a bar
-            barEndTime = barEndTime.plus(barDuration);
-            var bar = series.barBuilder().timePeriod(barDuration).endTime(barEndTime).volume(0).amount(0).build();
-            do {
-                // get a trade
-                String[] tradeLine = iterator.next();
-                Instant tradeTimeStamp = Instant.ofEpochMilli(Long.parseLong(tradeLine[0]) * 1000);
-                // if the trade happened during the bar
-                if (bar.inPeriod(tradeTimeStamp)) {
-                    // add the trade to the bar
-                    Num tradePrice = series.numFactory().numOf(Double.parseDouble(tradeLine[1]));
-                    Num tradeVolume = series.numFactory().numOf(Double.parseDouble(tradeLine[2]));
-                    bar.addTrade(tradeVolume, tradePrice);
-                } else {
-                    // the trade happened after the end of the bar
-                    // go to the next bar but stay with the same trade (don't increment i)
-                    // this break will drop us after the inner "while", skipping the increment
-                    break;
-                }
-            } while (iterator.hasNext());
-            // if the bar has any trades add it to the bars list
-            // this is where the break drops to
-            if (bar.getTrades() > 0) {
-                series.addBar(bar);
+    static void addTrades(BarSeries series, CsvTickReader trades, Duration period) throws IOException {
+        final NumFactory numFactory = series.numFactory();
+        // the first trades, until their order is known
+        final List<Instant> times = new ArrayList<>();
+        final List<Num> prices = new ArrayList<>();
+        final List<Num> volumes = new ArrayList<>();
+        boolean descending = false;
+        while (times.size() < MAX_ORDER_TRADES && trades.next()) {
+            times.add(trades.getTime());
+            prices.add(numFactory.numOf(trades.getPrice()));
+            volumes.add(numFactory.numOf(trades.getVolume()));
+            if (!times.get(0).equals(trades.getTime())) {
+                descending = trades.getTime().isBefore(times.get(0));
+                break;
             }
-        } while (barEndTime.isBefore(endTime));
+        }
+
+        var ingester = new TickIngester(series, period);
+        if (descending) {
+            ingester.withReverseChronologicalOrder();
+        }
+        for (int i = 0; i < times.size(); i++) {
+            ingester.accept(times.get(i), prices.get(i), volumes.get(i));
+        }
+        ingester.ingest(trades);
     }
 
     public static void main(String[] args) {
@@ -46,6 +46,7 @@ import org.ta4j.core.indicators.helpers.LowPriceIndicator;
 import org.ta4j.core.num.DecimalNum;
 import org.ta4j.core.num.DecimalNumFactory;
 import org.ta4j.core.num.DoubleNumFactory;
+import org.ta4j.core.num.FixedPointNumFactory;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.rules.IsEqualRule;
 import org.ta4j.core.rules.UnderIndicatorRule;
@@ -62,6 +63,9 @@ public class CompareNumTypes {
         BarSeries seriesP = barSeriesBuilder.withName("Sample Series DecimalNum 32")
                 .withNumFactory(DecimalNumFactory.getInstance())
                 .build();
+        BarSeries seriesF = barSeriesBuilder.withName("Sample Series FixedPointNum 8")
+                .withNumFactory(FixedPointNumFactory.getInstance(8))
+                .build();
         BarSeries seriesPH = barSeriesBuilder.withName("Sample Series DecimalNum 256")
                 .withNumFactory(DecimalNumFactory.getInstance(256))
                 .build();
@@ -86,6 +90,14 @@ public class CompareNumTypes {
                     .highPrice(randoms[i] - 21)
                     .lowPrice(randoms[i] - 5)
                     .add();
+            seriesF.barBuilder()
+                    .timePeriod(Duration.ofDays(1))
+                    .endTime(date)
+                    .openPrice(randoms[i])
+                    .closePrice(randoms[i] + 21)
+                    .highPrice(randoms[i] - 21)
+                    .lowPrice(randoms[i] - 5)
+                    .add();
             seriesPH.barBuilder()
                     .timePeriod(Duration.ofDays(1))
                     .endTime(date)
@@ -97,11 +109,14 @@ public class CompareNumTypes {
         }
         Num D = DecimalNum.valueOf(test(seriesD).toString(), new MathContext(256));
         Num P = DecimalNum.valueOf(test(seriesP).toString(), new MathContext(256));
+        Num F = DecimalNum.valueOf(test(seriesF).toString(), new MathContext(256));
         Num standard = DecimalNum.valueOf(test(seriesPH).toString(), new MathContext(256));
         System.out.println(seriesD.getName() + " error: "
                 + D.minus(standard).dividedBy(standard).multipliedBy(DecimalNum.valueOf(100)));
         System.out.println(seriesP.getName() + " error: "
                 + P.minus(standard).dividedBy(standard).multipliedBy(DecimalNum.valueOf(100)));
+        System.out.println(seriesF.getName() + " error: "
+                + F.minus(standard).dividedBy(standard).multipliedBy(DecimalNum.valueOf(100)));
     }
 
     public static Num test(BarSeries series) {
@@ -48,6 +48,12 @@ import ta4jexamples.strategies.RSI2Strategy;
 /**
  * Walk-forward optimization example.
  *
+ * <p>
+ * The slices of this example are views of the series, evaluated one after the
+ * other. See {@link org.ta4j.core.backtest.WalkForwardOptimizer} for parameter
+ * optimization over in-sample and out-of-sample index ranges of one shared
+ * series, with the folds run in parallel.
+ *
  * @see <a href="http://en.wikipedia.org/wiki/Walk_forward_optimization">
  *      http://en.wikipedia.org/wiki/Walk_forward_optimization</a>
  */
@@ -63,40 +69,27 @@ public class WalkForward {
     public static List<Integer> getSplitBeginIndexes(BarSeries series, Duration splitDuration) {
         ArrayList<Integer> beginIndexes = new ArrayList<>();
 
-        int beginIndex = series.getBeginIndex();
-        int endIndex = series.getEndIndex();
-
         // Adding the first begin index
-        beginIndexes.add(beginIndex);
+        beginIndexes.add(series.getBeginIndex());
 
         // Building the first interval before next split
-        Instant beginInterval = series.getFirstBar().getEndTime();
-        Instant endInterval = beginInterval.plus(splitDuration);
-
-        for (int i = beginIndex; i <= endIndex; i++) {
-            // For each bar...
-            Instant barTime = series.getBar(i).getEndTime();
-            if (barTime.isBefore(beginInterval) || !barTime.isBefore(endInterval)) {
-                // Bar out of the interval
-                if (!endInterval.isAfter(barTime)) {
-                    // Bar after the interval
-                    // --> Adding a new begin index
-                    beginIndexes.add(i);
-                }
-
-                // Building the new interval before next split
-                beginInterval = endInterval.isBefore(barTime) ? barTime : endInterval;
-                endInterval = beginInterval.plus(splitDuration);
-            }
+        Instant endInterval = series.getFirstBar().getEndTime().plus(splitDuration);
+
+        // The first bar after each interval begins a new split
+        int index;
+        while ((index = series.ceilingIndex(endInterval)) >= 0) {
+            beginIndexes.add(index);
+
+            // Building the new interval before next split
+            Instant barTime = series.getBar(index).getEndTime();
+            endInterval = (endInterval.isBefore(barTime) ? barTime : endInterval).plus(splitDuration);
         }
         return beginIndexes;
     }
 
     /**
-     * Returns a new bar series which is a copy from a subset of the current series.
+     * Returns a view of a subset of the current series.
      *
-     * The new series has begin and end indexes which correspond to the bounds of
-     * the sub-set into the full series.<br>
      * The bars of the series are shared between the original bar series and the
      * returned one (i.e. no copy).
      *
@@ -109,25 +102,14 @@ public class WalkForward {
     public static BarSeries subseries(BarSeries series, int beginIndex, Duration duration) {
 
         // Calculating the sub-series interval
-        Instant beginInterval = series.getBar(beginIndex).getEndTime();
-        Instant endInterval = beginInterval.plus(duration);
-
-        // Checking bars belonging to the sub-series (starting at the provided index)
-        int subseriesNbBars = 0;
-        int endIndex = series.getEndIndex();
-        for (int i = beginIndex; i <= endIndex; i++) {
-            // For each bar...
-            Instant barTime = series.getBar(i).getEndTime();
-            if (barTime.isBefore(beginInterval) || !barTime.isBefore(endInterval)) {
-                // Bar out of the interval
-                break;
-            }
-            // Bar in the interval
-            // --> Incrementing the number of bars in the subseries
-            subseriesNbBars++;
-        }
+        Instant endInterval = series.getBar(beginIndex).getEndTime().plus(duration);
 
-        return series.getSubSeries(beginIndex, beginIndex + subseriesNbBars);
+        // The sub-series ends before the first bar after the interval
+        int endIndex = series.ceilingIndex(endInterval);
+        if (endIndex < 0) {
+            endIndex = series.getEndIndex() + 1;
+        }
+        return series.getSubSeriesView(beginIndex, endIndex);
     }
 
     /**
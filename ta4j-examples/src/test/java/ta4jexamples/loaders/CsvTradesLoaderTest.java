@@ -23,7 +23,22 @@
  */
 package ta4jexamples.loaders;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.io.CsvTickReader;
 
 public class CsvTradesLoaderTest {
 
@@ -31,4 +46,57 @@ public class CsvTradesLoaderTest {
     public void test() {
         CsvTradesLoader.main(null);
     }
+
+    @Test
+    public void tradesInReverseChronologicalOrder() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            lines.add((1385337600 + 37L * i) + "," + (800 + i % 13) + "," + (1 + i % 3));
+        }
+        BarSeries ascending = load(lines);
+        Collections.reverse(lines);
+        BarSeries descending = load(lines);
+
+        assertEquals(13, ascending.getBarCount());
+        assertEquals(ascending.getBarCount(), descending.getBarCount());
+        for (int i = 0; i < ascending.getBarCount(); i++) {
+            Bar expected = ascending.getBar(i);
+            Bar bar = descending.getBar(i);
+            assertEquals(expected.getEndTime(), bar.getEndTime());
+            assertEquals(expected.getOpenPrice(), bar.getOpenPrice());
+            assertEquals(expected.getHighPrice(), bar.getHighPrice());
+            assertEquals(expected.getLowPrice(), bar.getLowPrice());
+            assertEquals(expected.getClosePrice(), bar.getClosePrice());
+            assertEquals(expected.getVolume(), bar.getVolume());
+            assertEquals(expected.getAmount(), bar.getAmount());
+            assertEquals(expected.getTrades(), bar.getTrades());
+        }
+    }
+
+    @Test
+    public void tradesWithTheSameTimeAreTakenAsChronological() throws IOException {
+        List<String> lines = new ArrayList<>(Collections.nCopies(20_000, "1385337600,800,1"));
+        lines.add("1385337900,801,1");
+        BarSeries series = load(lines);
+
+        assertEquals(2, series.getBarCount());
+        assertEquals(20_000, series.getBar(0).getTrades());
+        assertEquals(1, series.getBar(1).getTrades());
+    }
+
+    @Test
+    public void unorderedTradesAreRejected() {
+        List<String> lines = List.of("1385337900,800,1", "1385337600,801,1", "1385338200,802,1");
+        IOException exception = assertThrows(IOException.class, () -> load(lines));
+        assertEquals("Invalid tick at line 3: The tick is after the last bar", exception.getMessage());
+    }
+
+    private static BarSeries load(List<String> lines) throws IOException {
+        BarSeries series = new BaseBarSeriesBuilder().build();
+        try (var trades = new CsvTickReader(new StringReader(String.join("\n", lines)))
+                .withTimeUnit(ChronoUnit.SECONDS)) {
+            CsvTradesLoader.addTrades(series, trades, Duration.ofMinutes(5));
+        }
+        return series;
+    }
 }